@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.fact.data.api.audit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
@@ -14,9 +15,11 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.UserRole;
 import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtPhotoRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtTranslationRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.PageTotal;
 import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
@@ -24,6 +27,9 @@ import uk.gov.hmcts.reform.fact.data.api.services.AuditService;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -40,6 +46,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -53,6 +60,7 @@ class AuditingTest {
     private static final String TEST_COURT_NAME = "Test Court";
     // start of yesterday, just in case we get run at exactly the wrong nanosecond.
     private static final LocalDate CREATED_AFTER = LocalDate.now().minusDays(1);
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
 
     @Autowired
     private RegionRepository regionRepository;
@@ -81,6 +89,9 @@ class AuditingTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     private UUID currentAuditUserId;
 
     @BeforeEach
@@ -127,6 +138,25 @@ class AuditingTest {
         assertEquals(0L, auditRepository.count());
     }
 
+    @Test
+    @DisplayName("Removing expired audit records should drop the monthly partitions that have fully expired")
+    void removingExpiredAuditRecordsShouldDropExpiredPartitions() {
+        jdbcTemplate.queryForObject("SELECT create_audit_partition(DATE '2020-01-01')", Boolean.class);
+        jdbcTemplate.update(
+            "INSERT INTO audit (id, subject_id, subject_type, user_id, action_type, created_at) "
+                + "VALUES (?, ?, 'COURT', ?, 'INSERT', TIMESTAMP '2020-01-15 12:00:00')",
+            UUID.randomUUID(), UUID.randomUUID(), currentAuditUserId
+        );
+        assertEquals(1L, auditRepository.count());
+
+        auditService.removeExpiredAuditEntries();
+
+        assertEquals(0L, auditRepository.count());
+        assertNull(partition("audit_2020_01"));
+        assertNotNull(partition("audit_" + YearMonth.now(ZoneOffset.UTC).format(PARTITION_MONTH)));
+        assertNotNull(partition("audit_" + YearMonth.now(ZoneOffset.UTC).plusMonths(3).format(PARTITION_MONTH)));
+    }
+
     @Test
     @DisplayName("Creating and updating a ServiceCentre should create Audit records")
     void creatingAndUpdatingAServiceCentreShouldCreateAuditRecords() {
@@ -140,11 +170,11 @@ class AuditingTest {
         serviceCentre.setOpen(Boolean.TRUE);
         serviceCentreRepository.save(serviceCentre);
 
-        Page<Audit> audits = auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-            serviceCentre.getId(),
-            SubjectType.SERVICE_CENTRE,
-            CREATED_AFTER.atStartOfDay().atZone(java.time.ZoneOffset.UTC),
-            org.springframework.data.domain.PageRequest.of(0, 1000)
+        Page<Audit> audits = auditRepository.search(
+            AuditSearch.createdAfter(CREATED_AFTER.atStartOfDay().atZone(ZoneOffset.UTC))
+                .withSubject(SubjectType.SERVICE_CENTRE, serviceCentre.getId()),
+            org.springframework.data.domain.PageRequest.of(0, 1000),
+            PageTotal.EXACT
         );
 
         List<Audit> content = audits.getContent().stream().filter(audit -> Objects.equals(
@@ -404,4 +434,8 @@ class AuditingTest {
             .regionId(regionId)
             .build();
     }
+
+    private String partition(String name) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, name);
+    }
 }
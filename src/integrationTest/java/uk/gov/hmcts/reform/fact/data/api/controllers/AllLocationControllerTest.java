@@ -7,24 +7,34 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import uk.gov.hmcts.reform.fact.data.api.dto.AllLocation;
 import uk.gov.hmcts.reform.fact.data.api.dto.AllLocationDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.services.AllLocationDetailsExportService;
 import uk.gov.hmcts.reform.fact.data.api.services.AllLocationService;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("All Location Controller")
@@ -41,6 +51,9 @@ class AllLocationControllerTest {
     @MockitoBean
     private AllLocationService allLocationService;
 
+    @MockitoBean
+    private AllLocationDetailsExportService allLocationDetailsExportService;
+
     @Test
     @DisplayName("GET /all/v1 returns combined paginated locations")
     void getAllLocationsReturnsCombinedPaginatedLocations() throws Exception {
@@ -117,6 +130,25 @@ class AllLocationControllerTest {
             .andExpect(jsonPath("$[0].locationType").value("SERVICE_CENTRE"));
     }
 
+    @Test
+    @DisplayName("GET /all/details.ndjson streams location details as newline delimited JSON")
+    void streamAllLocationDetailsReturnsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"locationType\":\"COURT\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(allLocationDetailsExportService).writeAllLocationDetails(any());
+
+        MvcResult result = mockMvc.perform(get("/all/details.ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"locationType\":\"COURT\"}\n"));
+    }
+
     private Page<AllLocation> page(AllLocation location) {
         return new PageImpl<>(List.of(location));
     }
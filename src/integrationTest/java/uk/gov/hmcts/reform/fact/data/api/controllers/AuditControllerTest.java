@@ -1,8 +1,13 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
@@ -40,8 +45,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @Feature("Audit Controller")
 @DisplayName("Audit Controller")
@@ -132,6 +140,41 @@ class AuditControllerTest {
 
     }
 
+    @Test
+    @DisplayName("GET /audits/v1 estimates or skips the total when asked")
+    void getFilteredAndPaginatedAuditsEstimatesOrSkipsTheTotal() throws Exception {
+        createTestCourts(13);
+
+        // the estimate for so few audits is small, so it is replaced with an exact count
+        mvc.perform(get("/audits/v1")
+                        .param("pageNumber", "0")
+                        .param("pageSize", "5")
+                        .param("fromDate", LocalDate.now().toString())
+                        .param("total", "ESTIMATED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(5))
+            .andExpect(jsonPath("$.page.totalElements").value(13));
+
+        mvc.perform(get("/audits/v1")
+                        .param("pageNumber", "1")
+                        .param("pageSize", "5")
+                        .param("fromDate", LocalDate.now().toString())
+                        .param("total", "NONE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(5))
+            .andExpect(jsonPath("$.page.totalElements").value(11))
+            .andExpect(jsonPath("$.page.totalPages").value(3));
+
+        mvc.perform(get("/audits/v1")
+                        .param("pageNumber", "2")
+                        .param("pageSize", "5")
+                        .param("fromDate", LocalDate.now().toString())
+                        .param("total", "NONE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(3))
+            .andExpect(jsonPath("$.page.totalElements").value(13));
+    }
+
     @Test
     @DisplayName("GET /audits/v1 returns correctly filtered results")
     void getFilteredAndPaginatedAuditsReturnsFilteredResults() throws Exception {
@@ -262,6 +305,41 @@ class AuditControllerTest {
             .andExpect(jsonPath("$.page.totalElements").value(6));
     }
 
+    @Test
+    @DisplayName("GET /audits/export/v1 streams every matching audit")
+    void exportAuditsStreamsEveryMatchingAudit() throws Exception {
+        Court court = createTestCourts(1).getFirst();
+        court.setName("Court " + RandomStringUtils.insecure().next(10, true, false));
+        courtRepository.save(court);
+        createTestCourts(2);
+
+        MvcResult csv = mvc.perform(get("/audits/export/v1")
+                                        .param("format", "CSV")
+                                        .param("fromDate", LocalDate.now().toString())
+                                        .param("courtId", court.getId().toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String csvContent = mvc.perform(asyncDispatch(csv))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audits.csv\""))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(csvContent.lines().toList())
+            .hasSize(3)
+            .first().asString().startsWith("id,createdAt,subjectType");
+        List<String> rows = csvContent.lines().skip(1).toList();
+        assertThat(rows).allSatisfy(row -> assertThat(row).contains(",COURT," + court.getId() + ","));
+        assertThat(rows.getFirst()).contains(",UPDATE,");
+
+        MvcResult ndjson = mvc.perform(get("/audits/export/v1")
+                                           .param("fromDate", LocalDate.now().toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mvc.perform(asyncDispatch(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(result -> assertThat(result.getResponse().getContentAsString().lines()).hasSize(4));
+    }
+
     @Test
     @DisplayName("GET /audits/v1 returns returns 400 when fromDate missing")
     void getFilteredAndPaginatedAuditsReturnsBadRequestForMissingFromDate() throws Exception {
@@ -2,11 +2,13 @@ package uk.gov.hmcts.reform.fact.data.api.controllers;
 
 import tools.jackson.databind.ObjectMapper;
 import io.qameta.allure.Feature;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -16,8 +18,12 @@ import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.validation.ValidationConstants;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentWriter;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtService;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +43,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Feature("Court Controller")
 @DisplayName("Court Controller")
 @WebMvcTest(CourtController.class)
+@Import(CourtDetailsDocumentService.class)
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class CourtControllerTest {
@@ -48,6 +55,8 @@ class CourtControllerTest {
     private static final String UNKNOWN_COURT_SLUG = "missing-court";
     private static final String COURT_NAME_WITH_SPECIAL_CHARACTER = "King's Lynn Crown Court";
 
+    private static final long REFERENCE_DATA_VERSION = 3;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,6 +69,22 @@ class CourtControllerTest {
     @MockitoBean
     private CourtDetailsViewService courtDetailsViewService;
 
+    @MockitoBean
+    private CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+
+    @MockitoBean
+    private CourtDetailsDocumentWriter courtDetailsDocumentWriter;
+
+    @MockitoBean
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(referenceDataRegistry.getSnapshot()).thenReturn(new ReferenceDataRegistry.Snapshot(
+            REFERENCE_DATA_VERSION, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        ));
+    }
+
     @Test
     @DisplayName("GET /courts/{courtId}/v1 returns court details")
     void getCourtByIdReturnsCourt() throws Exception {
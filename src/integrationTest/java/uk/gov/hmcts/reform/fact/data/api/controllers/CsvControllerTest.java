@@ -15,6 +15,7 @@ import uk.gov.hmcts.reform.fact.data.api.services.AzureBlobService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtService;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collections;
 
 import static org.mockito.Mockito.times;
@@ -51,20 +52,19 @@ class CsvControllerTest {
     @Test
     @DisplayName("POST /csv/ returns 200 when CSV is created and uploaded successfully")
     void createAndUploadCsvReturns200() throws Exception {
-        when(courtService.getAllCourtDetails()).thenReturn(Collections.emptyList());
-        when(azureBlobService.uploadFile(anyString(), any())).thenReturn("http://example.com/blob");
+        when(courtService.getAllCourtLastUpdatedAts()).thenReturn(Collections.emptyList());
+        streamUploads();
 
         mvc.perform(post("/csv/"))
             .andExpect(status().isOk());
 
-        verify(azureBlobService, times(1)).uploadFile(anyString(), any());
+        verify(azureBlobService, times(1)).uploadStream(anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("POST /csv/ returns 502 when Azure upload fails (e.g. container missing)")
     void createAndUploadCsvReturns502OnAzureUploadException() throws Exception {
-        when(courtService.getAllCourtDetails()).thenReturn(Collections.emptyList());
-        when(azureBlobService.uploadFile(anyString(), any())).thenThrow(
+        when(azureBlobService.uploadStream(anyString(), anyString(), any())).thenThrow(
             new AzureUploadException("Container not found"));
 
         mvc.perform(post("/csv/"))
@@ -75,10 +75,19 @@ class CsvControllerTest {
     @Test
     @DisplayName("POST /csv/ returns 500 when CSV creation fails")
     void createAndUploadCsvReturns500OnCsvCreationException() throws Exception {
-        when(courtService.getAllCourtDetails()).thenThrow(new RuntimeException("DB error"));
+        when(courtService.getAllCourtLastUpdatedAts()).thenThrow(new RuntimeException("DB error"));
+        streamUploads();
 
         mvc.perform(post("/csv/"))
             .andExpect(status().isInternalServerError())
             .andExpect(jsonPath("$.message").value("Failed to create CSV file"));
     }
+
+    private void streamUploads() throws Exception {
+        when(azureBlobService.uploadStream(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            AzureBlobService.BlobContentWriter csvWriter = invocation.getArgument(2);
+            csvWriter.write(new ByteArrayOutputStream());
+            return "http://example.com/blob";
+        });
+    }
 }
@@ -7,13 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
 import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
+import uk.gov.hmcts.reform.fact.data.api.services.LockEventService;
 import uk.gov.hmcts.reform.fact.data.api.services.LockService;
 
 import java.util.List;
@@ -25,6 +28,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,6 +47,9 @@ class LockControllerTest {
     @MockitoBean
     private LockService lockService;
 
+    @MockitoBean
+    private LockEventService lockEventService;
+
     private final UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
     private final UUID courtId = UUID.fromString("222e4567-e89b-12d3-a456-426614174000");
     private final UUID nonExistentCourtId = UUID.fromString("11111111-1111-1111-1111-111111111111");
@@ -122,6 +129,29 @@ class LockControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("PUT /locks/{subjectType}/{subjectId}/v1/{page}/heartbeat renews lock successfully")
+    void renewCourtLockSuccessfully() throws Exception {
+        mockMvc.perform(put("/locks/{subjectType}/{subjectId}/v1/{page}/heartbeat", SubjectType.COURT, courtId,
+                            testPage)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userId)))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("PUT /locks/{subjectType}/{subjectId}/v1/{page}/heartbeat returns 409 if lock not held")
+    void renewCourtLockNotHeldReturnsConflict() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Page lock not held by this user"))
+            .when(lockService).renewLock(SubjectType.COURT, courtId, testPage, userId);
+
+        mockMvc.perform(put("/locks/{subjectType}/{subjectId}/v1/{page}/heartbeat", SubjectType.COURT, courtId,
+                            testPage)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userId)))
+            .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("DELETE /locks/{subjectType}/{subjectId}/v1/{page} deletes lock successfully")
     void deleteCourtLockSuccessfully() throws Exception {
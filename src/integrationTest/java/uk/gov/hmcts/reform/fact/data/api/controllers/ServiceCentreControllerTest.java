@@ -1,11 +1,13 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
 import io.qameta.allure.Feature;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,10 +22,15 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreContactDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.CatchmentType;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentWriter;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +45,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Feature("Service Centre Controller")
 @DisplayName("Service Centre Controller")
 @WebMvcTest(ServiceCentreController.class)
+@Import(CourtDetailsDocumentService.class)
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class ServiceCentreControllerTest {
@@ -48,6 +56,8 @@ class ServiceCentreControllerTest {
     private static final UUID SERVICE_AREA_ID = UUID.fromString("423e4567-e89b-12d3-a456-426614174000");
     private static final String SERVICE_CENTRE_NAME = "Test Service Centre";
 
+    private static final long REFERENCE_DATA_VERSION = 3;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,6 +70,22 @@ class ServiceCentreControllerTest {
     @MockitoBean
     private ServiceCentreDetailsViewService serviceCentreDetailsViewService;
 
+    @MockitoBean
+    private CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+
+    @MockitoBean
+    private CourtDetailsDocumentWriter courtDetailsDocumentWriter;
+
+    @MockitoBean
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(referenceDataRegistry.getSnapshot()).thenReturn(new ReferenceDataRegistry.Snapshot(
+            REFERENCE_DATA_VERSION, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        ));
+    }
+
     @Test
     @DisplayName("GET /service-centres/{serviceCentreId}/v1 returns service centre details")
     void getServiceCentreDetailsByIdReturnsServiceCentreDetails() throws Exception {
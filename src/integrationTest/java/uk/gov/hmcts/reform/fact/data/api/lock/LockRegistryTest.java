@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.fact.data.api.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
+import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+import uk.gov.hmcts.reform.fact.data.api.entities.Region;
+import uk.gov.hmcts.reform.fact.data.api.entities.User;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.UserRole;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository.LockHolder;
+import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.LockRegistry;
+import uk.gov.hmcts.reform.fact.data.api.services.LockService;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Lock Registry")
+@SpringBootTest
+@ActiveProfiles("test")
+class LockRegistryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private LockRepository lockRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LockService lockService;
+
+    @Autowired
+    private LockRegistry lockRegistry;
+
+    @Autowired
+    private AuditUserContext auditUserContext;
+
+    private Court court;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        auditUserContext.clear();
+        auditUserContext.setUserId(UUID.randomUUID());
+        Region region = regionRepository.save(Region.builder()
+                                                  .name("Lock Registry Region " + UUID.randomUUID())
+                                                  .build());
+        court = courtRepository.save(Court.builder()
+                                         .name("Lock Registry Court " + UUID.randomUUID())
+                                         .open(Boolean.FALSE)
+                                         .regionId(region.getId())
+                                         .build());
+        user = userRepository.save(User.builder()
+                                       .email("lock-registry-" + UUID.randomUUID() + "@justice.gov.uk")
+                                       .ssoId(UUID.randomUUID())
+                                       .role(UserRole.ADMIN)
+                                       .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockRepository.deleteAll();
+        auditUserContext.clear();
+    }
+
+    @Test
+    @DisplayName("Locks taken and released through the database replace what the registry holds")
+    void locksTakenAndReleasedAreSeenThroughNotifications() {
+        assertThat(await(lockRegistry::isListening)).isTrue();
+        assertThat(holder()).isEmpty();
+
+        lockService.createOrUpdateLock(SubjectType.COURT, court.getId(), Page.GENERAL, user.getId());
+
+        assertThat(await(() -> holder().map(LockHolder::userId).filter(user.getId()::equals).isPresent()))
+            .isTrue();
+
+        lockService.deleteLock(SubjectType.COURT, court.getId(), Page.GENERAL);
+
+        assertThat(await(() -> holder().isEmpty())).isTrue();
+    }
+
+    private Optional<LockHolder> holder() {
+        return lockRegistry.getHolder(SubjectType.COURT, court.getId(), Page.GENERAL);
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import io.qameta.allure.Feature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("Audit Repository")
+@DisplayName("Audit Repository")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AuditRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void createAuditPartitionMovesAuditsOutOfTheDefaultPartition() {
+        UUID stranded = insertAudit(LocalDateTime.of(2099, 1, 15, 9, 30));
+        assertThat(countIn("audit_default", stranded)).isEqualTo(1);
+
+        Object created = entityManager.createNativeQuery("SELECT create_audit_partition(CAST('2099-01-01' AS DATE))")
+            .getSingleResult();
+
+        assertThat(created).isEqualTo(true);
+        assertThat(countIn("audit_2099_01", stranded)).isEqualTo(1);
+        assertThat(countIn("audit_default", stranded)).isZero();
+
+        UUID later = insertAudit(LocalDateTime.of(2099, 2, 15, 9, 30));
+        assertThat(countIn("audit_default", later)).isEqualTo(1);
+    }
+
+    private UUID insertAudit(LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        entityManager.createNativeQuery("""
+                INSERT INTO audit (id, subject_id, subject_type, user_id, action_type, created_at)
+                VALUES (:id, :subjectId, 'COURT', :userId, 'INSERT', :createdAt)
+                """)
+            .setParameter("id", id)
+            .setParameter("subjectId", UUID.randomUUID())
+            .setParameter("userId", UUID.randomUUID())
+            .setParameter("createdAt", createdAt)
+            .executeUpdate();
+        return id;
+    }
+
+    private long countIn(String table, UUID id) {
+        return ((Number) entityManager.createNativeQuery("SELECT count(*) FROM " + table + " WHERE id = :id")
+            .setParameter("id", id)
+            .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import io.qameta.allure.Feature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetailsDocument;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Feature("Court Details Document Repository")
+@DisplayName("Court Details Document Repository")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CourtDetailsDocumentRepositoryTest {
+
+    private static final LocalDateTime LATER = LocalDateTime.of(2026, 1, 1, 10, 0);
+    private static final LocalDateTime EARLIER = LATER.minusSeconds(5);
+
+    @Autowired
+    private CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void upsertReplacesTheDocumentForAnEarlierVersionOfTheLocation() {
+        UUID locationId = UUID.randomUUID();
+        courtDetailsDocumentRepository.upsertDocument(locationId, "COURT", LATER, 1, new byte[] {1});
+
+        courtDetailsDocumentRepository.upsertDocument(locationId, "COURT", EARLIER, 1, new byte[] {2});
+
+        CourtDetailsDocument stored = find(locationId);
+        assertThat(stored.getDocument()).containsExactly(2);
+        assertThat(stored.getLastUpdatedAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime()).isEqualTo(EARLIER);
+    }
+
+    @Test
+    void upsertKeepsTheDocumentBuiltFromLaterReferenceData() {
+        UUID locationId = UUID.randomUUID();
+        courtDetailsDocumentRepository.upsertDocument(locationId, "COURT", LATER, 2, new byte[] {1});
+
+        courtDetailsDocumentRepository.upsertDocument(locationId, "COURT", LATER, 1, new byte[] {2});
+        assertThat(find(locationId).getDocument()).containsExactly(1);
+
+        courtDetailsDocumentRepository.upsertDocument(locationId, "COURT", LATER, 3, new byte[] {3});
+        assertThat(find(locationId).getDocument()).containsExactly(3);
+    }
+
+    private CourtDetailsDocument find(UUID locationId) {
+        entityManager.clear();
+        return courtDetailsDocumentRepository.findById(locationId).orElseThrow();
+    }
+}
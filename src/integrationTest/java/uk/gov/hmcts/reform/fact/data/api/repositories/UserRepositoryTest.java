@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.fact.data.api.repositories;
 
 import io.qameta.allure.Feature;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,9 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.UserRole;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository.FavouriteLocationReference;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -48,6 +52,9 @@ class UserRepositoryTest {
     @Autowired
     private AuditUserContext auditUserContext;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User user;
     private UUID regionId;
 
@@ -141,8 +148,9 @@ class UserRepositoryTest {
         add(otherUser.getId(), court.getId(), SubjectType.COURT);
         add(otherUser.getId(), serviceCentre.getId(), SubjectType.SERVICE_CENTRE);
 
-        userRepository.removeCourtFromAllFavourites(court.getId());
-        userRepository.removeServiceCentreFromAllFavourites(serviceCentre.getId());
+        assertThat(userRepository.removeCourtsFromAllFavourites(List.of(court.getId()))).isEqualTo(2);
+        assertThat(userRepository.removeServiceCentresFromAllFavourites(List.of(serviceCentre.getId())))
+            .isEqualTo(2);
 
         assertThat(userRepository.findExistingFavouriteReferences(
             user.getId(),
@@ -154,6 +162,114 @@ class UserRepositoryTest {
         )).isEmpty();
     }
 
+    @Test
+    void cleanupKeepsTheOrderOfTheRemainingFavourites() {
+        Court first = saveCourt("First Kept Favourite Court", true);
+        Court removed = saveCourt("Removed Favourite Court", true);
+        Court last = saveCourt("Last Kept Favourite Court", true);
+        add(user.getId(), first.getId(), SubjectType.COURT);
+        add(user.getId(), removed.getId(), SubjectType.COURT);
+        add(user.getId(), last.getId(), SubjectType.COURT);
+
+        userRepository.removeCourtsFromAllFavourites(List.of(removed.getId(), UUID.randomUUID()));
+        entityManager.clear();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getFavouriteCourts())
+            .containsExactly(first.getId(), last.getId());
+    }
+
+    @Test
+    void upsertLoginCreatesAUserWhoDoesNotExist() {
+        String email = "login." + UUID.randomUUID() + "@justice.gov.uk";
+        UUID ssoId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        User created = userRepository.upsertLogin(UUID.randomUUID(), null, email, ssoId, "VIEWER", now,
+                                                  now.minusMinutes(15)).orElseThrow();
+
+        assertThat(created.getEmail()).isEqualTo(email);
+        assertThat(created.getSsoId()).isEqualTo(ssoId);
+        assertThat(created.getRole()).isEqualTo(UserRole.VIEWER);
+        assertThat(created.getFavouriteCourts()).isEmpty();
+        assertThat(created.getLastLogin()).isNotNull();
+    }
+
+    @Test
+    void upsertLoginMatchesAnExistingUserBySsoIdAndKeepsTheirDetails() {
+        Court court = saveCourt("Login Favourite Court", true);
+        add(user.getId(), court.getId(), SubjectType.COURT);
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        User updated = userRepository.upsertLogin(UUID.randomUUID(), null, "changed@justice.gov.uk",
+                                                  user.getSsoId(), "SUPER_ADMIN", now, now.minusMinutes(15))
+            .orElseThrow();
+
+        assertThat(updated.getId()).isEqualTo(user.getId());
+        assertThat(updated.getEmail()).isEqualTo(user.getEmail());
+        assertThat(updated.getRole()).isEqualTo(UserRole.SUPER_ADMIN);
+        assertThat(updated.getFavouriteCourts()).containsExactly(court.getId());
+        assertThat(updated.getLastLogin()).isNotNull();
+    }
+
+    @Test
+    void upsertLoginOnlyRewritesTheLastLoginOnceTheDebouncePeriodHasPassed() {
+        userRepository.flush();
+        entityManager.clear();
+        LocalDateTime firstLogin = LocalDateTime.now(ZoneOffset.UTC).withNano(0).minusMinutes(5);
+        userRepository.upsertLogin(UUID.randomUUID(), user.getId(), user.getEmail(), user.getSsoId(), null,
+                                   firstLogin, firstLogin.minusMinutes(15));
+        entityManager.clear();
+
+        LocalDateTime secondLogin = firstLogin.plusMinutes(5);
+        User debounced = userRepository.upsertLogin(UUID.randomUUID(), user.getId(), user.getEmail(),
+                                                    user.getSsoId(), null, secondLogin,
+                                                    secondLogin.minusMinutes(15)).orElseThrow();
+        entityManager.clear();
+
+        LocalDateTime laterLogin = firstLogin.plusMinutes(20);
+        User rewritten = userRepository.upsertLogin(UUID.randomUUID(), user.getId(), user.getEmail(),
+                                                    user.getSsoId(), null, laterLogin,
+                                                    laterLogin.minusMinutes(15)).orElseThrow();
+
+        assertThat(utc(debounced.getLastLogin())).isEqualTo(firstLogin);
+        assertThat(debounced.getRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(utc(rewritten.getLastLogin())).isEqualTo(laterLogin);
+    }
+
+    @Test
+    void deletesUsersWhoLastLoggedInBeforeTheCutoffUpToTheLimit() {
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minusYears(50);
+        for (int i = 0; i < 3; i++) {
+            userRepository.save(User.builder()
+                .email("inactive." + UUID.randomUUID() + "@justice.gov.uk")
+                .ssoId(UUID.randomUUID())
+                .role(UserRole.VIEWER)
+                .lastLogin(ZonedDateTime.now().minusYears(51))
+                .build());
+        }
+        userRepository.flush();
+
+        assertThat(userRepository.deleteBatchByLastLoginBefore(cutoff, 2)).isEqualTo(2);
+        assertThat(userRepository.deleteBatchByLastLoginBefore(cutoff, 2)).isEqualTo(1);
+        assertThat(userRepository.deleteBatchByLastLoginBefore(cutoff, 2)).isZero();
+        assertThat(userRepository.existsById(user.getId())).isTrue();
+    }
+
+    @Test
+    void findsIdsOfUsersWhoseEmailContainsTheTermIgnoringCase() {
+        String term = UUID.randomUUID().toString();
+        final User matchingUser = userRepository.save(User.builder()
+            .email("Search." + term.toUpperCase() + "@justice.gov.uk")
+            .ssoId(UUID.randomUUID())
+            .role(UserRole.VIEWER)
+            .build());
+
+        assertThat(userRepository.findIdsByEmailContainingIgnoreCase(term))
+            .containsExactly(matchingUser.getId());
+        assertThat(userRepository.findIdsByEmailContainingIgnoreCase(UUID.randomUUID().toString())).isEmpty();
+    }
+
     @Test
     void rejectsDuplicateEmail() {
         User duplicate = User.builder()
@@ -178,6 +294,10 @@ class UserRepositoryTest {
             .isInstanceOf(DataIntegrityViolationException.class);
     }
 
+    private static LocalDateTime utc(ZonedDateTime time) {
+        return time.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
     private void add(UUID userId, UUID subjectId, SubjectType subjectType) {
         switch (subjectType) {
             case COURT -> userRepository.addFavouriteCourtIfAbsent(userId, subjectId);
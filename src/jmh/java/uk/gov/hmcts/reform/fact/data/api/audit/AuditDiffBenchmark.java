@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.reform.fact.data.api.entities.AuditableEntity;
+import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the audit listener's original diff, which serialises both entities to JSON and parses them back into
+ * maps, with the {@link AuditDiffGenerator}, for an inserted court and for a one field update of a court address.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuditDiffBenchmark {
+
+    private static final TypeReference<Map<String, Serializable>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final AuditDiffGenerator auditDiffGenerator = new AuditDiffGenerator(objectMapper);
+    private Court court;
+    private CourtAddress previousAddress;
+    private CourtAddress currentAddress;
+
+    @Setup
+    public void createEntities() {
+        court = Court.builder()
+            .id(UUID.randomUUID())
+            .name("Benchmark Court")
+            .slug("benchmark-court")
+            .open(true)
+            .regionId(UUID.randomUUID())
+            .createdAt(ZonedDateTime.now())
+            .lastUpdatedAt(ZonedDateTime.now())
+            .build();
+        previousAddress = address("1 High Street");
+        currentAddress = address("2 High Street");
+        currentAddress.setId(previousAddress.getId());
+        currentAddress.setAreasOfLaw(previousAddress.getAreasOfLaw());
+        currentAddress.setCourtTypes(previousAddress.getCourtTypes());
+    }
+
+    @Benchmark
+    public void jsonInsert(Blackhole blackhole) {
+        blackhole.consume(jsonDiffs(null, court));
+    }
+
+    @Benchmark
+    public void generatorInsert(Blackhole blackhole) {
+        blackhole.consume(auditDiffGenerator.generateDiffs(null, court));
+    }
+
+    @Benchmark
+    public void jsonUpdate(Blackhole blackhole) {
+        blackhole.consume(jsonDiffs(previousAddress, currentAddress));
+    }
+
+    @Benchmark
+    public void generatorUpdate(Blackhole blackhole) {
+        blackhole.consume(auditDiffGenerator.generateDiffs(previousAddress, currentAddress));
+    }
+
+    private List<Change> jsonDiffs(AuditableEntity previous, AuditableEntity current) {
+        Map<String, Serializable> previousMap = objectMapper.readValue(
+            previous != null ? objectMapper.writeValueAsString(previous) : "{}", MAP_TYPE);
+        Map<String, Serializable> currentMap = objectMapper.readValue(
+            objectMapper.writeValueAsString(current), MAP_TYPE);
+        List<Change> diffs = new ArrayList<>();
+        currentMap.forEach((key, value) -> {
+            if (!previousMap.containsKey(key)) {
+                diffs.add(new Change(key, null, value));
+            } else if (!Objects.equals(previousMap.get(key), value)) {
+                diffs.add(new Change(key, previousMap.get(key), value));
+            }
+        });
+        return diffs;
+    }
+
+    private static CourtAddress address(String addressLine1) {
+        return CourtAddress.builder()
+            .id(UUID.randomUUID())
+            .courtId(UUID.randomUUID())
+            .addressLine1(addressLine1)
+            .addressLine2("Floor 2")
+            .townCity("Town")
+            .county("County")
+            .postcode("AB1 2CD")
+            .epimId("100001")
+            .lat(new BigDecimal("51.5072"))
+            .lon(new BigDecimal("-0.1276"))
+            .addressType(AddressType.VISIT_US)
+            .areasOfLaw(IntStream.range(0, 6).mapToObj(i -> UUID.randomUUID()).toList())
+            .courtTypes(IntStream.range(0, 2).mapToObj(i -> UUID.randomUUID()).toList())
+            .build();
+    }
+}
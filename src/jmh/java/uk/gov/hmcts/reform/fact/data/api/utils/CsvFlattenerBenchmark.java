@@ -0,0 +1,167 @@
+package uk.gov.hmcts.reform.fact.data.api.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
+import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtCodes;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDxCode;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the CSV export's original {@code JsonNode} flattening path, which serialised every location and wrote
+ * the flattened nodes in one go, with the typed {@link CsvRowFlattener} rows the export now renders, over a
+ * synthetic estate of courts and service centres shaped like the enriched details views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvFlattenerBenchmark {
+
+    @Param({"3000"})
+    private int locationCount;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final CsvUtil csvUtil = new CsvUtil();
+    private final CsvMapper csvMapper = CsvMapper.builder().build();
+    private final CsvSchema schema = csvSchema();
+    private List<Object> locations;
+
+    @Setup
+    public void createEstate() {
+        Random random = new Random(42);
+        List<AreaOfLawType> areasOfLaw = IntStream.range(0, 40)
+            .mapToObj(i -> AreaOfLawType.builder()
+                .id(UUID.randomUUID())
+                .name("Area of law " + i)
+                .externalLink("https://www.gov.uk/area-of-law-" + i)
+                .displayName("Area " + i)
+                .build())
+            .toList();
+        List<CourtType> courtTypes = IntStream.range(0, 6)
+            .mapToObj(i -> CourtType.builder().id(UUID.randomUUID()).name("Court type " + i).build())
+            .toList();
+        List<ServiceArea> serviceAreas = IntStream.range(0, 20)
+            .mapToObj(i -> ServiceArea.builder().id(UUID.randomUUID()).name("Service area " + i).build())
+            .toList();
+
+        locations = new ArrayList<>(locationCount);
+        int serviceCentreCount = locationCount / 10;
+        for (int i = 0; i < locationCount - serviceCentreCount; i++) {
+            locations.add(court(i, random, areasOfLaw, courtTypes));
+        }
+        for (int i = 0; i < serviceCentreCount; i++) {
+            locations.add(serviceCentre(i, random, areasOfLaw, serviceAreas));
+        }
+    }
+
+    @Benchmark
+    public void jsonNodePath(Blackhole blackhole) {
+        List<Map<String, Object>> rows = new ArrayList<>(locations.size());
+        for (JsonNode location : objectMapper.valueToTree(locations)) {
+            rows.add(csvUtil.flattenCourtNode(location));
+        }
+        blackhole.consume(csvMapper.writer(schema).writeValueAsString(rows));
+    }
+
+    @Benchmark
+    public void typedPath(Blackhole blackhole) {
+        blackhole.consume(csvUtil.renderHeader() + String.join("", csvUtil.renderRows(locations)));
+    }
+
+    private static CourtDetails court(int index, Random random, List<AreaOfLawType> areasOfLaw,
+                                      List<CourtType> courtTypes) {
+        List<CourtAddress> addresses = IntStream.range(0, 1 + random.nextInt(2))
+            .mapToObj(i -> CourtAddress.builder()
+                .addressLine1(index + " High Street")
+                .addressLine2(i == 0 ? "Floor " + (1 + random.nextInt(4)) : null)
+                .townCity("Town " + index)
+                .county("County " + (index % 50))
+                .postcode("AB" + (index % 99) + " " + i + "CD")
+                .epimId(String.valueOf(100000 + index))
+                .lat(BigDecimal.valueOf(50 + random.nextDouble() * 5))
+                .lon(BigDecimal.valueOf(-5 + random.nextDouble() * 6))
+                .addressType(i == 0 ? AddressType.VISIT_US : AddressType.WRITE_TO_US)
+                .areasOfLawDetails(sample(areasOfLaw, random, 3))
+                .courtTypeDetails(sample(courtTypes, random, 2))
+                .build())
+            .toList();
+
+        return CourtDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Court " + index)
+            .slug("court-" + index)
+            .open(random.nextInt(10) > 0)
+            .courtAddresses(addresses)
+            .courtCodes(List.of(CourtCodes.builder()
+                .crownCourtCode(random.nextInt(900))
+                .countyCourtCode(random.nextInt(900))
+                .magistrateCourtCode(random.nextInt(9000))
+                .build()))
+            .courtDxCodes(List.of(CourtDxCode.builder().dxCode("DX " + index + " Town").build()))
+            .courtAreasOfLaw(List.of(
+                CourtAreasOfLaw.builder().areasOfLawDetails(sample(areasOfLaw, random, 6)).build()
+            ))
+            .build();
+    }
+
+    private static ServiceCentreDetails serviceCentre(int index, Random random, List<AreaOfLawType> areasOfLaw,
+                                                      List<ServiceArea> serviceAreas) {
+        return ServiceCentreDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Service centre " + index)
+            .slug("service-centre-" + index)
+            .open(true)
+            .serviceAreaDetails(sample(serviceAreas, random, 4))
+            .serviceCentreAddresses(List.of(ServiceCentreAddress.builder()
+                .addressLine1("PO Box " + index)
+                .townCity("City " + index)
+                .postcode("XY" + (index % 99) + " 1ZZ")
+                .addressType(AddressType.WRITE_TO_US)
+                .build()))
+            .serviceCentreAreasOfLaw(List.of(
+                ServiceCentreAreasOfLaw.builder().areasOfLawDetails(sample(areasOfLaw, random, 2)).build()
+            ))
+            .build();
+    }
+
+    private static CsvSchema csvSchema() {
+        CsvSchema.Builder schema = CsvSchema.builder();
+        CsvUtil.COLUMNS.forEach(schema::addColumn);
+        return schema.build().withHeader();
+    }
+
+    private static <T> List<T> sample(List<T> values, Random random, int max) {
+        int from = random.nextInt(values.size());
+        int count = 1 + random.nextInt(max);
+        return IntStream.range(0, count).mapToObj(i -> values.get((from + i) % values.size())).toList();
+    }
+}
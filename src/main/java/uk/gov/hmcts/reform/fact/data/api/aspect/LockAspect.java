@@ -1,7 +1,6 @@
 package uk.gov.hmcts.reform.fact.data.api.aspect;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -9,15 +8,11 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
-import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
-import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
-import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
-import uk.gov.hmcts.reform.fact.data.api.services.LockService;
+import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository.LockHolder;
+import uk.gov.hmcts.reform.fact.data.api.services.LockRegistry;
 
-import java.lang.reflect.Parameter;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -28,39 +23,46 @@ import java.util.UUID;
  * Aspect that intercepts methods annotated with @LockTimeoutCheck.
  * Validates lock timeout before allowing the method to execute.
  */
-@Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class LockAspect {
 
-    private final LockService lockService;
+    private final LockRegistry lockRegistry;
+    private final LockParameterBindings lockParameterBindings;
+    private final AuditUserContext auditUserContext;
 
     @Value("${courtLock.timeout-minutes}")
     private long lockTimeoutMinutes;
 
     /**
      * Executes BEFORE any method annotated with @LockTimeoutCheck.
-     * Extracts subjectType, subjectId, page, and userId from method parameters and validates lock.
+     * Reads subjectType, subjectId, page, and userId from the method arguments, at the positions found when the
+     * method was first bound by {@link LockParameterBindings}, and validates lock.
+     * A method without a userId parameter is checked for the admin user making the request.
+     * The lock is read from the {@link LockRegistry}, so the usual case of no lock, or the caller's own lock,
+     * is decided without a database round trip. The subject is not loaded here: a subject that does not exist has
+     * no lock, and the method being called returns its 404.
      */
     @Before("@annotation(uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockTimeoutCheck)")
     public void validateLockTimeout(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Parameter[] parameters = signature.getMethod().getParameters();
         Object[] args = joinPoint.getArgs();
-
-        SubjectType subjectType = extractSubjectType(parameters, args, "subjectType");
-        UUID subjectId = extractUuid(parameters, args, "subjectId");
-        Page page = extractPage(parameters, args, "page");
-        UUID userId = extractUuid(parameters, args, "userId");
-
-        Optional<Lock> lock = lockService.getPageLock(subjectType, subjectId, page);
-        if (lock.isEmpty() || lock.get().getUserId().equals(userId)) {
+        LockParameters parameters = lockParameterBindings.get(((MethodSignature) joinPoint.getSignature()).getMethod());
+
+        UUID userId = parameters.userId() != null
+            ? parameters.userId().from(args)
+            : auditUserContext.getUserId().orElse(null);
+        Optional<LockHolder> lock = lockRegistry.getHolder(
+            parameters.subjectType().from(args),
+            parameters.subjectId().from(args),
+            parameters.page().from(args)
+        );
+        if (lock.isEmpty() || lock.get().userId().equals(userId)) {
             return; // No lock or same user owns it
         }
 
         long minutesLocked = Duration.between(
-            lock.get().getLockAcquired(),
+            lock.get().lockAcquired(),
             ZonedDateTime.now(ZoneOffset.UTC)
         ).toMinutes();
 
@@ -68,81 +70,6 @@ public class LockAspect {
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                 String.format("Page locked by another user (%d/%d min)", minutesLocked, lockTimeoutMinutes));
         }
-
-        lockService.deleteLock(subjectType, subjectId, page);
-    }
-
-    /**
-     * Executes BEFORE any method annotated with @LockCleanupCheck.
-     */
-    @Before("@annotation(uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockCleanupCheck)")
-    public void lockCleanup(JoinPoint joinPoint) {
-        try {
-            this.lockService.deleteExpiredLocks();
-        } catch (Exception ex) {
-            log.error(ex.getMessage(), ex);
-        }
-    }
-
-    /**
-     * Extracts SubjectType parameter by name from method arguments.
-     */
-    private SubjectType extractSubjectType(Parameter[] parameters, Object[] args, String paramName) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (isNamedParameter(parameters[i], paramName)) {
-                Object value = args[i];
-                return value instanceof String valueStr
-                    ? SubjectType.valueOf(valueStr.toUpperCase())
-                    : (SubjectType) value;
-            }
-        }
-        throw new IllegalArgumentException("Required parameter not found: " + paramName);
-    }
-
-    /**
-     * Extracts UUID parameter by name from method arguments.
-     */
-    private UUID extractUuid(Parameter[] parameters, Object[] args, String paramName) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (isNamedParameter(parameters[i], paramName)) {
-                Object value = args[i];
-                return value instanceof String valueStr
-                    ? UUID.fromString(valueStr)
-                    : (UUID) value;
-            }
-        }
-        throw new IllegalArgumentException("Required parameter not found: " + paramName);
-    }
-
-    /**
-     * Extracts Page enum parameter by name from method arguments.
-     */
-    private Page extractPage(Parameter[] parameters, Object[] args, String paramName) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (isNamedParameter(parameters[i], paramName)) {
-                Object value = args[i];
-                return value instanceof String valueStr
-                    ? Page.valueOf(valueStr.toUpperCase())
-                    : (Page) value;
-            }
-        }
-        throw new IllegalArgumentException("Required parameter not found: " + paramName);
-    }
-
-    /**
-     * Checks if a parameter matches the given name by checking annotations.
-     */
-    private boolean isNamedParameter(Parameter parameter, String name) {
-        PathVariable pathVar = parameter.getAnnotation(PathVariable.class);
-        if (pathVar != null && (pathVar.value().equals(name) || pathVar.name().equals(name))) {
-            return true;
-        }
-
-        RequestParam reqParam = parameter.getAnnotation(RequestParam.class);
-        if (reqParam != null && (reqParam.value().equals(name) || reqParam.name().equals(name))) {
-            return true;
-        }
-
-        return parameter.getName().equals(name);
+        // An expired lock holds no one back, and is removed by the expired locks job rather than here
     }
 }
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.fact.data.api.aspect;
+
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockTimeoutCheck;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link LockParameters} of each method checked by the {@link LockAspect}, found once per method rather than
+ * on every call.
+ *
+ * <p>Every bean is scanned as it is created, so a {@link LockTimeoutCheck} method whose lock parameters cannot
+ * be found fails startup instead of its first request.</p>
+ */
+@Component
+public class LockParameterBindings implements BeanPostProcessor {
+
+    private final Map<Method, LockParameters> bindings = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        ReflectionUtils.doWithMethods(
+            ClassUtils.getUserClass(bean),
+            method -> {
+                try {
+                    get(method);
+                } catch (IllegalArgumentException ex) {
+                    throw new BeanInitializationException(
+                        "Cannot check the page lock of " + beanName + "." + method.getName() + ": " + ex.getMessage(),
+                        ex);
+                }
+            },
+            method -> method.isAnnotationPresent(LockTimeoutCheck.class)
+        );
+        return bean;
+    }
+
+    /**
+     * Get the lock parameters of a method, binding them on first use.
+     *
+     * @param method the checked method.
+     * @return the lock parameters of the method.
+     * @throws IllegalArgumentException if a lock parameter is missing or cannot be read.
+     */
+    LockParameters get(Method method) {
+        return bindings.computeIfAbsent(method, LockParameters::of);
+    }
+}
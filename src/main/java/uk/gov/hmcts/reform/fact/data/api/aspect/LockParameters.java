@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.fact.data.api.aspect;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockTimeoutCheck;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Where a method checked by the {@link LockAspect} takes the subjectType, subjectId, page and userId of the lock,
+ * and how each argument is converted.
+ *
+ * @param userId where the method takes the user, or {@code null} if the user is the admin user making the request.
+ */
+record LockParameters(Binding<SubjectType> subjectType, Binding<UUID> subjectId, Binding<Page> page,
+                      Binding<UUID> userId) {
+
+    /**
+     * Find the lock parameters of a method, by their {@code @PathVariable} or {@code @RequestParam} name, or
+     * their own name. Each may be declared as its own type or as a String to be parsed. A subject type or page
+     * given by the method's {@link LockTimeoutCheck} is used instead of a parameter.
+     *
+     * @param method the method to bind.
+     * @return the lock parameters of the method.
+     * @throws IllegalArgumentException if a parameter is missing, or declared as a type it cannot be read from.
+     */
+    static LockParameters of(Method method) {
+        Parameter[] parameters = method.getParameters();
+        LockTimeoutCheck check = method.getAnnotation(LockTimeoutCheck.class);
+        return new LockParameters(
+            check != null && check.subjectType().length > 0
+                ? Binding.constant(single("subjectType", check.subjectType()))
+                : bind(parameters, "subjectType", SubjectType.class,
+                       value -> SubjectType.valueOf(value.toUpperCase())),
+            bind(parameters, check != null ? check.subjectId() : "subjectId", UUID.class, UUID::fromString),
+            check != null && check.page().length > 0
+                ? Binding.constant(single("page", check.page()))
+                : bind(parameters, "page", Page.class, value -> Page.valueOf(value.toUpperCase())),
+            hasNamedParameter(parameters, "userId")
+                ? bind(parameters, "userId", UUID.class, UUID::fromString)
+                : null
+        );
+    }
+
+    private static <T> T single(String name, T[] values) {
+        if (values.length != 1) {
+            throw new IllegalArgumentException("Only one " + name + " may be given");
+        }
+        return values[0];
+    }
+
+    private static boolean hasNamedParameter(Parameter[] parameters, String name) {
+        for (Parameter parameter : parameters) {
+            if (isNamedParameter(parameter, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> Binding<T> bind(Parameter[] parameters, String name, Class<T> type,
+                                       Function<String, T> parser) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (isNamedParameter(parameters[i], name)) {
+                Class<?> parameterType = parameters[i].getType();
+                if (parameterType == String.class) {
+                    return new Binding<>(i, value -> value == null ? null : parser.apply((String) value));
+                }
+                if (type.isAssignableFrom(parameterType)) {
+                    return new Binding<>(i, type::cast);
+                }
+                throw new IllegalArgumentException(String.format(
+                    "Parameter %s must be a %s or a String, not a %s",
+                    name, type.getSimpleName(), parameterType.getSimpleName()));
+            }
+        }
+        throw new IllegalArgumentException("Required parameter not found: " + name);
+    }
+
+    /**
+     * Checks if a parameter matches the given name by checking annotations.
+     */
+    private static boolean isNamedParameter(Parameter parameter, String name) {
+        PathVariable pathVar = parameter.getAnnotation(PathVariable.class);
+        if (pathVar != null && (pathVar.value().equals(name) || pathVar.name().equals(name))) {
+            return true;
+        }
+
+        RequestParam reqParam = parameter.getAnnotation(RequestParam.class);
+        if (reqParam != null && (reqParam.value().equals(name) || reqParam.name().equals(name))) {
+            return true;
+        }
+
+        return parameter.getName().equals(name);
+    }
+
+    /**
+     * The position of a lock parameter, and how to convert its argument. A binding with no position always gives
+     * the same value.
+     */
+    record Binding<T>(int index, Function<Object, T> converter) {
+
+        static <T> Binding<T> constant(T value) {
+            return new Binding<>(-1, ignored -> value);
+        }
+
+        T from(Object[] args) {
+            return converter.apply(index < 0 ? null : args[index]);
+        }
+    }
+}
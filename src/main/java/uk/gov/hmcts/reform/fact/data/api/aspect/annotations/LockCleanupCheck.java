@@ -1,14 +0,0 @@
-package uk.gov.hmcts.reform.fact.data.api.aspect.annotations;
-
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
-
-/**
- * When applied to a method, forces the lock cleanup to occur before moving on.
- */
-@Target(ElementType.METHOD)
-@Retention(RetentionPolicy.RUNTIME)
-public @interface LockCleanupCheck {
-}
@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.fact.data.api.aspect.annotations;
 
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -8,8 +11,27 @@ import java.lang.annotation.Target;
 /**
  * Validates if a court page lock has exceeded timeout before allowing operation.
  * Applied to controller methods that modify locked resources.
+ *
+ * <p>The subject type and page are taken from the annotation when given, otherwise from the method's
+ * {@code subjectType} and {@code page} parameters. The user is taken from a {@code userId} parameter when the
+ * method has one, otherwise it is the admin user making the request.</p>
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LockTimeoutCheck {
+
+    /**
+     * The type of the locked subject, or empty to read it from the {@code subjectType} parameter.
+     */
+    SubjectType[] subjectType() default {};
+
+    /**
+     * The name of the parameter holding the id of the locked subject.
+     */
+    String subjectId() default "subjectId";
+
+    /**
+     * The locked page, or empty to read it from the {@code page} parameter.
+     */
+    Page[] page() default {};
 }
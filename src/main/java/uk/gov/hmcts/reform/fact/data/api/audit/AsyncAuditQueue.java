@@ -0,0 +1,228 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.config.properties.AuditConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded queue of committed audit records, written in batches by a single background writer.
+ *
+ * <p>A batch the writer fails to store is kept and retried with a growing delay until it is stored, unless the
+ * database rejects its contents, which no retry would change. While the writer retries, the queue fills up; once
+ * it is full the caller waits up to the configured offer timeout for space, and if there is still none the records
+ * are written on the calling thread instead, so a slow database slows requests down rather than growing the
+ * queue.</p>
+ *
+ * <p>The queue is held in memory. The queue and any batch being retried are written when the application shuts
+ * down, but records are lost if the application stops abruptly first, if a write on the calling thread or at
+ * shutdown fails, or if the database rejects them. Such records are counted as failed writes. The queue depth,
+ * batch write times, retries, overflows and failed writes are published as metrics.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "fact.data-api.audit.async", name = "enabled", havingValue = "true")
+@Slf4j
+public class AsyncAuditQueue {
+
+    static final String QUEUE_SIZE_METRIC = "fact.audit.queue.size";
+    static final String OVERFLOW_METRIC = "fact.audit.queue.overflow";
+    static final String FAILED_METRIC = "fact.audit.write.failures";
+    static final String RETRY_METRIC = "fact.audit.write.retries";
+    static final String WRITE_METRIC = "fact.audit.batch.write";
+
+    static final long INITIAL_RETRY_DELAY_MILLIS = 200;
+    static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private static final long POLL_MILLIS = 500;
+
+    /**
+     * SQLSTATE classes of data exceptions, integrity constraint violations, and syntax errors or access rule
+     * violations. A batch rejected with one of these would be rejected again however often it was retried.
+     */
+    private static final Set<String> PERMANENT_SQL_STATE_CLASSES = Set.of("22", "23", "42");
+
+    private final AuditBatchWriter auditBatchWriter;
+    private final DataSource dataSource;
+    private final AuditConfigurationProperties.Async configuration;
+    private final BlockingQueue<Audit> queue;
+    private final Counter overflows;
+    private final Counter failures;
+    private final Counter retries;
+    private final Timer writes;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    /**
+     * The batch the writer has taken off the queue but not yet stored, written at shutdown if the writer stops
+     * while retrying it.
+     */
+    private volatile List<Audit> pending;
+
+    public AsyncAuditQueue(AuditBatchWriter auditBatchWriter,
+                           DataSource dataSource,
+                           AuditConfigurationProperties auditConfiguration,
+                           MeterRegistry meterRegistry) {
+        this.auditBatchWriter = auditBatchWriter;
+        this.dataSource = dataSource;
+        this.configuration = auditConfiguration.getAsync();
+        this.queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+        Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+            .description("Audit records waiting to be written")
+            .register(meterRegistry);
+        this.overflows = Counter.builder(OVERFLOW_METRIC)
+            .description("Audit records written on the calling thread because the queue was full")
+            .register(meterRegistry);
+        this.failures = Counter.builder(FAILED_METRIC)
+            .description("Audit records that could not be written")
+            .register(meterRegistry);
+        this.retries = Counter.builder(RETRY_METRIC)
+            .description("Background audit batch writes retried after a failure")
+            .register(meterRegistry);
+        this.writes = Timer.builder(WRITE_METRIC)
+            .description("Duration of background audit batch writes")
+            .register(meterRegistry);
+        this.writer = new Thread(this::drain, "AsyncAuditWriter");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Queue the audit records of a committed transaction to be written.
+     *
+     * @param audits the audit records.
+     */
+    public void enqueue(List<Audit> audits) {
+        long timeout = configuration.getOfferTimeout().toMillis();
+        int queued = 0;
+        try {
+            while (queued < audits.size() && queue.offer(audits.get(queued), timeout, TimeUnit.MILLISECONDS)) {
+                queued++;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (queued < audits.size()) {
+            List<Audit> overflow = audits.subList(queued, audits.size());
+            log.warn("Audit queue is full, writing {} audit records on the calling thread", overflow.size());
+            overflows.increment(overflow.size());
+            writeOnce(overflow);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        List<Audit> remaining = new ArrayList<>();
+        List<Audit> unfinished = pending;
+        if (unfinished != null) {
+            if (writer.isAlive()) {
+                // The writer is still part way through storing the batch, so writing it here could store it twice.
+                log.warn("Audit writer did not stop, {} audit records it is writing may be lost", unfinished.size());
+            } else {
+                remaining.addAll(unfinished);
+            }
+        }
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeOnce(remaining);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                Audit first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<Audit> batch = new ArrayList<>(configuration.getBatchSize());
+                    batch.add(first);
+                    queue.drainTo(batch, configuration.getBatchSize() - 1);
+                    pending = batch;
+                    writeUntilDone(batch);
+                    pending = null;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeUntilDone(List<Audit> batch) throws InterruptedException {
+        long delay = INITIAL_RETRY_DELAY_MILLIS;
+        while (!write(batch)) {
+            retries.increment();
+            TimeUnit.MILLISECONDS.sleep(delay);
+            delay = Math.min(delay * 2, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    private void writeOnce(List<Audit> audits) {
+        if (!write(audits)) {
+            failures.increment(audits.size());
+            log.error("Failed to write {} audit records, they have been lost", audits.size());
+        }
+    }
+
+    /**
+     * Write the audit records on their own connection. Failures are logged rather than thrown, so a bad batch
+     * never stops the writer thread. A batch the database rejects is counted as failed, as retrying could not
+     * store it.
+     *
+     * @return false if the write failed and may succeed if retried, otherwise true.
+     */
+    private boolean write(List<Audit> audits) {
+        Timer.Sample sample = Timer.start();
+        try (Connection connection = dataSource.getConnection()) {
+            auditBatchWriter.insert(connection, audits);
+            return true;
+        } catch (SQLException ex) {
+            if (isRetryable(ex)) {
+                log.warn("Failed to write {} audit records", audits.size(), ex);
+                return false;
+            }
+            reject(audits, ex);
+            return true;
+        } catch (RuntimeException ex) {
+            reject(audits, ex);
+            return true;
+        } finally {
+            sample.stop(writes);
+        }
+    }
+
+    private void reject(List<Audit> audits, Exception ex) {
+        failures.increment(audits.size());
+        log.error("Audit records rejected, {} audit records have been lost", audits.size(), ex);
+    }
+
+    static boolean isRetryable(SQLException ex) {
+        String sqlState = ex.getSQLState();
+        return sqlState == null || sqlState.length() < 2
+            || !PERMANENT_SQL_STATE_CLASSES.contains(sqlState.substring(0, 2));
+    }
+}
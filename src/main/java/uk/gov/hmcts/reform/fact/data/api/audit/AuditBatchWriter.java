@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import tools.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts audit records with a single JDBC batch, rather than persisting and flushing them one entity at a time.
+ * The insert mirrors the {@link Audit} mapping: ids are generated here, and the creation time is stored as UTC.
+ */
+@Component
+public class AuditBatchWriter {
+
+    static final String BATCH_SIZE_METRIC = "fact.audit.batch.size";
+
+    private static final String INSERT_AUDIT = "insert into audit (id, subject_id, subject_type, user_id, "
+        + "action_type, action_entity, action_data_diff, created_at) "
+        + "values (?, ?, ?, ?, ?, ?, cast(? as jsonb), ?)";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary batchSizes;
+
+    public AuditBatchWriter(EntityManager entityManager, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .description("Number of audit records written per batch")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Insert the audit records on the connection of the current transaction, so they commit or roll back with
+     * the changes they describe.
+     *
+     * @param audits the audit records to insert.
+     */
+    public void insertInCurrentTransaction(List<Audit> audits) {
+        if (!audits.isEmpty()) {
+            entityManager.unwrap(Session.class).doWork(connection -> insert(connection, audits));
+        }
+    }
+
+    /**
+     * Insert the audit records on the given connection.
+     *
+     * @param connection the connection to insert with.
+     * @param audits the audit records to insert.
+     * @throws SQLException if the insert fails.
+     */
+    public void insert(Connection connection, List<Audit> audits) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_AUDIT)) {
+            for (Audit audit : audits) {
+                statement.setObject(1, audit.getId() != null ? audit.getId() : UUID.randomUUID());
+                statement.setObject(2, audit.getSubjectId());
+                statement.setString(3, audit.getSubjectType().name());
+                statement.setObject(4, audit.getUserId());
+                statement.setString(5, audit.getActionType() != null ? audit.getActionType().name() : null);
+                statement.setString(6, audit.getActionEntity());
+                statement.setString(7, audit.getActionDataDiff() != null
+                    ? objectMapper.writeValueAsString(audit.getActionDataDiff())
+                    : null);
+                statement.setObject(8, toUtc(audit.getCreatedAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        batchSizes.record(audits.size());
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime createdAt) {
+        ZonedDateTime time = createdAt != null ? createdAt : ZonedDateTime.now();
+        return time.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.AuditableEntity;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the changes recorded against an audit by comparing two versions of an entity property by property.
+ *
+ * <p>The properties of each entity class, and the accessors they are read through, are taken once from the
+ * serializer the configured {@link ObjectMapper} builds for the class, and read through cached
+ * {@link MethodHandle}s. Only the values that differ are converted to their JSON form, so the changes match those
+ * found by comparing the two entities' JSON, without serialising and parsing both entities on every audited
+ * write.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditDiffGenerator {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final ClassValue<List<Property>> properties = new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    /**
+     * Find the properties that differ between two versions of an entity.
+     *
+     * @param previous the entity before the change, or null to record every property of a new entity.
+     * @param current the entity after the change.
+     * @return the changed properties, or an empty list if they could not be read.
+     */
+    public List<Change> generateDiffs(AuditableEntity previous, AuditableEntity current) {
+        List<Change> diffs = new ArrayList<>();
+        try {
+            for (Property property : properties.get(current.getClass())) {
+                Object value = property.read(current);
+                if (value == null && property.omitNull()) {
+                    continue;
+                }
+                Object previousValue = previous != null ? property.read(previous) : null;
+                if (previous != null && Objects.deepEquals(previousValue, value)) {
+                    continue;
+                }
+                // Values that differ as objects can still be equal once serialised, such as a BigDecimal at a
+                // different scale or a reloaded collection with the same elements.
+                Serializable previousJson = toJsonValue(previousValue);
+                Serializable currentJson = toJsonValue(value);
+                if (previous == null || !Objects.equals(previousJson, currentJson)) {
+                    diffs.add(new Change(property.name(), previousJson, currentJson));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to extract diffs for an entity during auditing", e);
+            return new ArrayList<>();
+        }
+        return diffs;
+    }
+
+    /**
+     * Convert a value to the form it takes in the entity's parsed JSON. Common scalar values are converted
+     * directly rather than through the mapper.
+     */
+    private Serializable toJsonValue(Object value) {
+        return switch (value) {
+            case null -> null;
+            case String text -> text;
+            case Boolean flag -> flag;
+            case Integer number -> number;
+            case UUID id -> id.toString();
+            default -> objectMapper.readValue(objectMapper.writeValueAsBytes(value), Serializable.class);
+        };
+    }
+
+    /**
+     * List the properties the mapper writes for the type, in the order it writes them, by visiting the type's
+     * serializer.
+     */
+    private List<Property> introspect(Class<?> type) {
+        List<Property> found = new ArrayList<>();
+        JsonObjectFormatVisitor propertyVisitor = new JsonObjectFormatVisitor.Base() {
+            @Override
+            public void property(BeanProperty property) {
+                found.add(toProperty(property, type));
+            }
+
+            @Override
+            public void optionalProperty(BeanProperty property) {
+                found.add(toProperty(property, type));
+            }
+        };
+        objectMapper.acceptJsonFormatVisitor(type, new JsonFormatVisitorWrapper.Base() {
+            @Override
+            public JsonObjectFormatVisitor expectObjectFormat(JavaType javaType) {
+                return propertyVisitor;
+            }
+        });
+        return List.copyOf(found);
+    }
+
+    private static Property toProperty(BeanProperty property, Class<?> type) {
+        AnnotatedMember accessor = property.getMember();
+        if (!(property instanceof BeanPropertyWriter writer) || accessor == null) {
+            throw new IllegalStateException("Cannot read " + property.getName() + " of " + type.getName());
+        }
+        accessor.fixAccess(true);
+        try {
+            MethodHandle handle = switch (accessor.getMember()) {
+                case Method getter -> MethodHandles.lookup().unreflect(getter);
+                case Field field -> MethodHandles.lookup().unreflectGetter(field);
+                default -> throw new IllegalStateException(
+                    "Cannot read " + property.getName() + " of " + type.getName());
+            };
+            return new Property(writer.getName(), handle.asType(GETTER_TYPE), writer.willSuppressNulls());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + property.getName() + " of " + type.getName(), e);
+        }
+    }
+
+    private record Property(String name, MethodHandle getter, boolean omitNull) {
+
+        Object read(Object entity) {
+            try {
+                return (Object) getter.invokeExact(entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read " + name, e);
+            }
+        }
+    }
+}
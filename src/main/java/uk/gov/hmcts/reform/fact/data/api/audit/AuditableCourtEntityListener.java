@@ -3,179 +3,191 @@ package uk.gov.hmcts.reform.fact.data.api.audit;
 import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
 import uk.gov.hmcts.reform.fact.data.api.entities.AuditableEntity;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
-import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
 
-import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicReference;
-
-import tools.jackson.core.JacksonException;
-import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreRemove;
-import jakarta.persistence.PreUpdate;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeansException;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Entity listener implementation for all {@link AuditableEntity} derived entities.
+ * Hibernate event listener that audits every change to an {@link AuditableEntity}.
+ *
+ * <p>The diff for an update is built by the {@link AuditDiffGenerator} from the previous state Hibernate already
+ * holds for the entity, so no extra query is needed to find what changed. Audit records are collected for the
+ * current transaction and inserted together in one batch just before it commits, as new entities cannot safely
+ * be persisted while Hibernate is part way through executing a flush. When the {@link AsyncAuditQueue} is enabled
+ * the records are instead handed to it once the transaction has committed, taking the audit insert off the
+ * request path.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class AuditableCourtEntityListener implements ApplicationContextAware {
-
-    private final ObjectMapper objectMapper;
-
-    private ApplicationContext applicationContext;
-    private final AtomicReference<EntityManager> entityManagerRef = new AtomicReference<>();
-    private final AtomicReference<AuditUserContext> auditUserContextRef = new AtomicReference<>();
-
-    private final ExecutorService executor = Executors.newSingleThreadExecutor((ThreadFactory) r -> new Thread(
-        r,
-        "AuditableCourtEntityListener"
-    ));
+public class AuditableCourtEntityListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final AuditDiffGenerator auditDiffGenerator;
+    private final AuditUserContext auditUserContext;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditBatchWriter auditBatchWriter;
+    private final ObjectProvider<AsyncAuditQueue> asyncAuditQueue;
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry =
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class).getEventListenerRegistry();
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
 
     @Override
-    public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
-        this.applicationContext = applicationContext;
-        // Though we have the application context, we don't want to perform
-        // lookups at this point as the objects we require are almost certainly
-        // still in construction.
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof AuditableEntity entity) {
+            writeAudit(entity, null, AuditActionType.INSERT);
+        }
     }
 
-    @PrePersist
-    public void beforePersist(AuditableEntity entity) {
-        writeAudit(entity, AuditActionType.INSERT);
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof AuditableEntity entity) {
+            writeAudit(entity, previousEntity(event), AuditActionType.UPDATE);
+        }
     }
 
-    @PreUpdate
-    public void beforeUpdate(AuditableEntity entity) {
-        writeAudit(entity, AuditActionType.UPDATE);
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof AuditableEntity entity) {
+            writeAudit(entity, null, AuditActionType.DELETE);
+        }
     }
 
-    @PreRemove
-    public void beforeRemove(AuditableEntity entity) {
-        writeAudit(entity, AuditActionType.DELETE);
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
     }
 
-    private boolean ensureEntityManager() {
-        synchronized (entityManagerRef) {
-            if (entityManagerRef.get() == null && applicationContext != null) {
-                entityManagerRef.set(applicationContext.getBean(EntityManager.class));
-            }
+    /**
+     * Rebuild the entity as it was before the update from the state Hibernate loaded it with.
+     *
+     * @return the previous entity, or null if Hibernate holds no previous state, such as for an update of a
+     *     detached entity.
+     */
+    private AuditableEntity previousEntity(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            log.debug("No previous state for {} {}, auditing against an empty entity",
+                      event.getEntity().getClass().getSimpleName(), event.getId());
+            return null;
         }
-        return entityManagerRef.get() != null;
+        EntityPersister persister = event.getPersister();
+        Object previous = persister.instantiate(event.getId(), event.getSession());
+        persister.setValues(previous, oldState);
+        return (AuditableEntity) previous;
     }
 
-    private boolean ensureAuditUserContext() {
-        synchronized (auditUserContextRef) {
-            if (auditUserContextRef.get() == null && applicationContext != null) {
-                auditUserContextRef.set(applicationContext.getBean(AuditUserContext.class));
-            }
+    private void writeAudit(AuditableEntity entity, AuditableEntity previous, AuditActionType operationType) {
+        if (auditUserContext.isAuditSuppressed()) {
+            return;
+        }
+
+        Audit.AuditBuilder audit = Audit.builder()
+            .subjectId(entity.getAuditSubjectId())
+            .subjectType(entity.getAuditSubjectType())
+            .actionType(operationType)
+            .actionEntity(entity.getClass().getSimpleName())
+            .createdAt(ZonedDateTime.now())
+            .userId(auditUserContext.requireUserId());
+        if (operationType != AuditActionType.DELETE) {
+            audit.actionDataDiff(auditDiffGenerator.generateDiffs(previous, entity));
         }
-        return auditUserContextRef.get() != null;
+        pendingAudits().add(audit.build());
     }
 
-    private void writeAudit(AuditableEntity entity, AuditActionType auditActionType) {
-        if (ensureAuditUserContext() && auditUserContextRef.get().isAuditSuppressed()) {
-            return;
+    /**
+     * Get the audits waiting to be persisted for the current transaction, registering them to be persisted
+     * before it commits if these are the first.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Audit> pendingAudits() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.error("No transaction available during an audit operation");
+            throw new IllegalStateException("No transaction available during an audit operation");
         }
 
-        if (ensureEntityManager()) {
-            AuditableEntity previousEntity = auditActionType == AuditActionType.INSERT
-                ? null
-                : findPreviousEntity(entity);
-            writeAuditRecord(entity, previousEntity, auditActionType);
-        } else {
-            log.error("No entity manager available during an audit operation");
-            throw new IllegalStateException("No entity manager available during an audit operation");
+        List<Audit> pending = (List<Audit>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingAuditWriter(pending));
         }
+        return pending;
     }
 
-    private AuditableEntity findPreviousEntity(final AuditableEntity entity) {
+    /**
+     * Writes a transaction's audits when it commits, and keeps them bound to their own transaction while another
+     * is suspended around it.
+     */
+    private final class PendingAuditWriter implements TransactionSynchronization {
 
-        // Need to run our lookup for the previous entity on a different
-        // thread. If we don't, JPA/Hibernate will intercept and return the
-        // data that's about to be persisted as part of the event we're
-        // listening to.
+        private final List<Audit> pending;
 
-        Future<AuditableEntity> future = executor.submit(
-            () -> entityManagerRef.get().find(
-                entity.getClass(),
-                entity.getId()
-            )
-        );
+        private PendingAuditWriter(List<Audit> pending) {
+            this.pending = pending;
+        }
 
-        try {
-            return future.get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
-        } catch (ExecutionException e) {
-            throw new IllegalStateException(
-                "Unexpected error while looking up previous entity during an audit operation",
-                e
-            );
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(AuditableCourtEntityListener.this);
         }
-    }
 
-    private void writeAuditRecord(AuditableEntity entity, AuditableEntity previous,
-                                  AuditActionType operationType) {
-        if (auditUserContextRef.get() == null && !ensureAuditUserContext()) {
-            log.error("No audit user context available during an audit operation");
-            throw new IllegalStateException("No audit user context available during an audit operation");
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AuditableCourtEntityListener.this, pending);
         }
 
-        Audit.AuditBuilder audit = Audit.builder()
-            .subjectId(entity.getAuditSubjectId())
-            .subjectType(entity.getAuditSubjectType())
-            .actionType(operationType)
-            .actionEntity(entity.getClass().getSimpleName())
-            .createdAt(ZonedDateTime.now())
-            .userId(auditUserContextRef.get().requireUserId());
-        if (operationType != AuditActionType.DELETE) {
-            audit.actionDataDiff(generateDiffs(previous, entity));
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Flush first, so changes still waiting for the commit flush raise their events and join the pending
+            // audits. Audits are not auditable themselves, so inserting them raises no further audits.
+            entityManager.flush();
+            if (asyncAuditQueue.getIfAvailable() == null) {
+                auditBatchWriter.insertInCurrentTransaction(List.copyOf(pending));
+                pending.clear();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            AsyncAuditQueue queue = asyncAuditQueue.getIfAvailable();
+            if (queue != null && !pending.isEmpty()) {
+                queue.enqueue(List.copyOf(pending));
+                pending.clear();
+            }
         }
-        entityManagerRef.get().persist(audit.build());
-    }
 
-    private List<Change> generateDiffs(AuditableEntity previous, AuditableEntity current) {
-        List<Change> diffs = new ArrayList<>();
-        try {
-            // convert the entities into maps
-            String previousString = previous != null ? objectMapper.writeValueAsString(previous) : "{}";
-            String currentString = objectMapper.writeValueAsString(current);
-            Map<String, Serializable> previousMap = objectMapper.readValue(
-                previousString, new TypeReference<Map<String,Serializable>>(){});
-            Map<String, Serializable> currentMap = objectMapper.readValue(
-                currentString, new TypeReference<Map<String,Serializable>>(){});
-            // diff the maps
-            currentMap.forEach((key, value) -> {
-                if (!previousMap.containsKey(key)) {
-                    diffs.add(new Change(key, null, value));
-                } else if (!Objects.equals(previousMap.get(key), value)) {
-                    diffs.add(new Change(key, previousMap.get(key), value));
-                }
-            });
-        } catch (JacksonException e) {
-            log.warn("Failed to extract diffs for an entity during auditing", e);
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditableCourtEntityListener.this);
         }
-        return diffs;
     }
 }
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.fact.data.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduling for the housekeeping jobs, each of which is only registered when its own flag allows it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -1,11 +1,14 @@
 package uk.gov.hmcts.reform.fact.data.api.config.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "fact.data-api.audit", ignoreUnknownFields = false)
 @Getter
@@ -16,4 +19,53 @@ public class AuditConfigurationProperties {
      */
     @Min(7)
     private int retentionDays = 365;
+
+    /**
+     * Writing audit records off the request thread, after the audited transaction commits.
+     */
+    @Valid
+    private Async async = new Async();
+
+    /**
+     * Streaming audit exports.
+     */
+    @Valid
+    private Export export = new Export();
+
+    @Getter
+    @Setter
+    public static class Async {
+        /**
+         * Whether audit records are queued and written by a background writer rather than inside the audited
+         * transaction. Queued records are lost if the application stops abruptly before they are written.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of audit records waiting to be written.
+         */
+        @Min(1)
+        private int queueCapacity = 10000;
+
+        /**
+         * Maximum number of audit records written in one batch.
+         */
+        @Min(1)
+        private int batchSize = 500;
+
+        /**
+         * How long to wait for space in a full queue before writing the records on the calling thread instead.
+         */
+        private Duration offerTimeout = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+        /**
+         * Number of audit records read, each page in its own short transaction, while an export streams.
+         */
+        @Min(1)
+        private int pageSize = 500;
+    }
 }
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.fact.data.api.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "fact.data-api.scheduling", ignoreUnknownFields = false)
+@Getter
+@Setter
+public class SchedulingConfigurationProperties {
+    /**
+     * Whether the built-in housekeeping jobs run. Off by default, as the jobs delete data and upload the CSV, so
+     * each environment opts in. Each scheduled run is taken by a single replica.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cron expression for generating and uploading the locations CSV, or "-" to disable.
+     */
+    private String csvExportCron = "0 0 2 * * *";
+
+    /**
+     * Cron expression for removing audit entries past their retention period, or "-" to disable.
+     */
+    private String auditRetentionCron = "0 30 2 * * *";
+
+    /**
+     * Cron expression for creating the coming months' audit partitions, or "-" to disable. Partitions are also
+     * created at startup.
+     */
+    private String auditPartitionsCron = "0 45 1 * * *";
+
+    /**
+     * Whether expired page locks are removed. On by default and independent of {@link #enabled}, as the job only
+     * removes locks that are no longer held.
+     */
+    private boolean expiredLocksEnabled = true;
+
+    /**
+     * Cron expression for removing expired page locks, or "-" to disable. Expired locks are ignored wherever
+     * locks are read, so this only decides how long they are kept.
+     */
+    private String expiredLocksCron = "0 * * * * *";
+
+    /**
+     * Cron expression for removing users who have not logged in within the retention period, or "-" to disable.
+     */
+    private String inactiveUsersCron = "0 0 3 * * *";
+
+    /**
+     * Cron expression for removing location tombstones past their retention period, or "-" to disable.
+     */
+    private String tombstoneRetentionCron = "0 15 3 * * *";
+}
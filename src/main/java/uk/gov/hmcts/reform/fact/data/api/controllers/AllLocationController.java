@@ -9,12 +9,15 @@ import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.fact.data.api.dto.AllLocation;
 import uk.gov.hmcts.reform.fact.data.api.dto.AllLocationDetails;
 import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.AllLocationDetailsExportService;
 import uk.gov.hmcts.reform.fact.data.api.services.AllLocationService;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidUUID;
 
@@ -29,6 +32,7 @@ import java.util.List;
 public class AllLocationController {
 
     private final AllLocationService allLocationService;
+    private final AllLocationDetailsExportService allLocationDetailsExportService;
 
     @GetMapping("/all/v1")
     @Operation(summary = "Get filtered and paginated courts and service centres")
@@ -75,4 +79,19 @@ public class AllLocationController {
         return ResponseEntity.ok(allLocationService.getAllLocationDetails());
     }
 
+    @GetMapping(value = "/all/details.ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all court and service centre details",
+        description = "Streams the same details as /all/details.json as newline delimited JSON, one location per "
+            + "line, courts then service centres, each in name order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streaming location details")
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllLocationDetails() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(allLocationDetailsExportService::writeAllLocationDetails);
+    }
+
 }
@@ -5,7 +5,10 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidDateRangeException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+import uk.gov.hmcts.reform.fact.data.api.repositories.PageTotal;
 import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.AuditExportService;
 import uk.gov.hmcts.reform.fact.data.api.services.AuditService;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidUUID;
 
@@ -23,12 +26,16 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @SecuredFactRestController(
@@ -42,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class AuditController {
 
     private final AuditService auditService;
+    private final AuditExportService auditExportService;
 
     @GetMapping("/v1")
     @Operation(
@@ -72,14 +80,13 @@ public class AuditController {
         @Parameter(name = "fromDate", required = true, description = "'From' date (start of day) for result filtering")
         LocalDate fromDate,
         @Parameter(name = "toDate", description = "'To' date (end of day) for result filtering")
-        @RequestParam(name = "toDate", required = false) LocalDate toDate) {
+        @RequestParam(name = "toDate", required = false) LocalDate toDate,
+        @RequestParam(name = "total", defaultValue = "EXACT")
+        @Parameter(name = "total", description = "How the total is worked out: EXACT counts every match, ESTIMATED"
+            + " uses the database's estimate for broad searches, and NONE only shows whether there is a next page")
+        PageTotal total) {
 
-        if (toDate != null && toDate.isBefore(fromDate)) {
-            throw new InvalidDateRangeException("toDate must not be before fromDate");
-        }
-        if (courtId != null && serviceCentreId != null) {
-            throw new InvalidParameterCombinationException("Only one of courtId or serviceCentreId can be provided");
-        }
+        validateFilters(fromDate, toDate, courtId, serviceCentreId);
 
         return ResponseEntity.ok(
             auditService.getFilteredAndPaginatedAudits(
@@ -90,11 +97,58 @@ public class AuditController {
                 subjectType,
                 courtId,
                 serviceCentreId,
-                emailMatch
+                emailMatch,
+                total
             )
         );
     }
 
+    @GetMapping("/export/v1")
+    @Operation(
+        summary = "Export filtered audits",
+        description = "Streams every audit matching the same filters as /audits/v1, newest first, as CSV or"
+            + " newline delimited JSON, read from the database a batch at a time rather than page by page"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streaming matching audits"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters supplied")
+    })
+    public ResponseEntity<StreamingResponseBody> exportAudits(
+        @RequestParam(name = "format", defaultValue = "NDJSON")
+        @Parameter(name = "format", description = "CSV or NDJSON")
+        AuditExportService.Format format,
+        @RequestParam(name = "subjectType", required = false) SubjectType subjectType,
+        @RequestParam(name = "courtId", required = false) @ValidUUID(allowNull = true) String courtId,
+        @RequestParam(name = "serviceCentreId", required = false) @ValidUUID(allowNull = true) String serviceCentreId,
+        @RequestParam(name = "email", required = false)
+        @Pattern(
+            regexp = "^[A-Za-z0-9._+-]*(|@[A-Za-z0-9._+-]*)$",
+            message = "email match may only contain letters, hyphens, periods, plus/minus signs, "
+                + "underscores, and a single 'at' (@) symbol")
+        @Parameter(name = "email", description = "Full or partial email for result filtering")
+        String emailMatch,
+        @RequestParam(name = "fromDate")
+        @Parameter(name = "fromDate", required = true, description = "'From' date (start of day) for result filtering")
+        LocalDate fromDate,
+        @Parameter(name = "toDate", description = "'To' date (end of day) for result filtering")
+        @RequestParam(name = "toDate", required = false) LocalDate toDate) {
+
+        validateFilters(fromDate, toDate, courtId, serviceCentreId);
+
+        // Build the search before streaming starts, so invalid filters are still reported as errors
+        AuditSearch search = auditService
+            .buildSearch(fromDate, toDate, subjectType, courtId, serviceCentreId, emailMatch)
+            .orElse(null);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("audits." + format.getExtension())
+                .build()
+                .toString())
+            .body(outputStream -> auditExportService.writeAudits(search, format, outputStream));
+    }
+
     @GetMapping("/{auditId}/v1")
     @Operation(
         summary = "Retrieve a single audit record",
@@ -134,4 +188,14 @@ public class AuditController {
     public ResponseEntity<Map<SubjectType, List<NameAndId>>> getSubjectNameAndIdMap() {
         return ResponseEntity.ok(this.auditService.getSubjectNameAndIdMap());
     }
+
+    private static void validateFilters(LocalDate fromDate, LocalDate toDate, String courtId,
+                                        String serviceCentreId) {
+        if (toDate != null && toDate.isBefore(fromDate)) {
+            throw new InvalidDateRangeException("toDate must not be before fromDate");
+        }
+        if (courtId != null && serviceCentreId != null) {
+            throw new InvalidParameterCombinationException("Only one of courtId or serviceCentreId can be provided");
+        }
+    }
 }
@@ -4,9 +4,13 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtService;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
+import uk.gov.hmcts.reform.fact.data.api.utils.ConditionalRequestUtil;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidCourtSlug;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidUUID;
 
@@ -14,9 +18,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
@@ -33,6 +38,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @SecuredFactRestController(
     name = "Court",
@@ -52,6 +58,8 @@ public class CourtController {
 
     private final CourtService courtService;
     private final CourtDetailsViewService courtDetailsViewService;
+    private final CourtDetailsDocumentService courtDetailsDocumentService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @GetMapping(value = {"/{courtId}/v1", "/{courtId}.json"})
     @Operation(
@@ -60,13 +68,21 @@ public class CourtController {
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved court details"),
+        @ApiResponse(responseCode = "304", description = "Court details not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid court ID supplied"),
         @ApiResponse(responseCode = "404", description = "Court not found")
     })
     public ResponseEntity<CourtDetails> getCourtDetailsById(
         @Parameter(description = "UUID of the court", required = true)
-        @ValidUUID @PathVariable String courtId) {
-        return ResponseEntity.ok(courtService.getCourtDetailsById(UUID.fromString(courtId)));
+        @ValidUUID @PathVariable String courtId,
+        WebRequest webRequest) {
+        UUID id = UUID.fromString(courtId);
+        return ConditionalRequestUtil.okIfModified(
+            webRequest,
+            courtService.getCourtLastUpdatedAtById(id),
+            referenceDataRegistry.getSnapshot().version(),
+            () -> courtService.getCourtDetailsById(id)
+        );
     }
 
     @GetMapping(value = "/{courtId}/entity/v1")
@@ -103,23 +119,35 @@ public class CourtController {
         return ResponseEntity.ok(courtService.getCourtByName(name));
     }
 
-    @GetMapping(value = {"/slug/{courtSlug}/v1", "/slug/{courtSlug}.json"})
-    @JsonView(CourtDetailsView.class)
+    @GetMapping(
+        value = {"/slug/{courtSlug}/v1", "/slug/{courtSlug}.json"},
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
     @Operation(
         summary = "Get court details by slug",
         description = "Fetch detailed court information for a given court slug."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved court details"),
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved court details",
+            content = @Content(schema = @Schema(implementation = CourtDetails.class))),
+        @ApiResponse(responseCode = "304", description = "Court details not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid court slug supplied"),
         @ApiResponse(responseCode = "404", description = "Court not found")
     })
-    public ResponseEntity<CourtDetails> getCourtDetailsBySlug(
+    public ResponseEntity<byte[]> getCourtDetailsBySlug(
         @Parameter(description = "Slug of the court", required = true)
         @ValidCourtSlug
-        @PathVariable String courtSlug) {
-        return ResponseEntity.ok(
-            courtDetailsViewService.prepareDetailsView(courtService.getCourtDetailsBySlug(courtSlug))
+        @PathVariable String courtSlug,
+        WebRequest webRequest) {
+        IdAndLastUpdatedAt version = courtService.getCourtLastUpdatedAtBySlug(courtSlug);
+        return ConditionalRequestUtil.okIfModified(
+            webRequest,
+            version,
+            referenceDataRegistry.getSnapshot().version(),
+            () -> courtDetailsDocumentService.getCourtDetailsDocument(
+                version,
+                () -> courtDetailsViewService.prepareDetailsView(courtService.getCourtDetailsBySlug(courtSlug))
+            )
         );
     }
 
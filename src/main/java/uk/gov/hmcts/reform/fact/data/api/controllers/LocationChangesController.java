@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.fact.data.api.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChanges;
+import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.LocationChangesService;
+
+@SecuredFactRestController(
+    name = "Changes",
+    description = "Operations for incrementally syncing courts and service centres"
+)
+@RequiredArgsConstructor
+@SuppressWarnings("java:S4684")
+public class LocationChangesController {
+
+    private final LocationChangesService locationChangesService;
+
+    @GetMapping("/changes/v1")
+    @Operation(
+        summary = "Get changed and deleted courts and service centres",
+        description = "Returns the locations that changed after 'since', in the order the changes were made, with "
+            + "tombstones for deleted locations. Keep calling with the returned nextCursor to page through, and "
+            + "later to pick up new changes. Tombstones are kept for a limited time, so a consumer that has not "
+            + "synced for longer should start again from the beginning."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved changes"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters supplied")
+    })
+    public ResponseEntity<LocationChanges> getChanges(
+        @Parameter(description = "ISO-8601 timestamp (e.g. 2025-01-01T00:00:00Z) or a cursor from a previous "
+            + "response. Omit to start from the beginning.")
+        @RequestParam(name = "since", required = false)
+        @Size(max = 100, message = "since must be less than 100 characters") String since,
+        @RequestParam(name = "limit", defaultValue = "500")
+        @Positive(message = "limit must be greater than 0")
+        @Max(value = 1000, message = "limit must be 1000 or less") int limit) {
+        return ResponseEntity.ok(locationChangesService.getChangesSince(since, limit));
+    }
+}
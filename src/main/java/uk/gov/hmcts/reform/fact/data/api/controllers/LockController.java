@@ -1,10 +1,10 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
-import uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockCleanupCheck;
 import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
 import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.LockEventService;
 import uk.gov.hmcts.reform.fact.data.api.services.LockService;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidUUID;
 
@@ -17,14 +17,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @SecuredFactRestController(
@@ -36,12 +39,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class LockController {
 
     private final LockService lockService;
+    private final LockEventService lockEventService;
 
-    public LockController(LockService lockService) {
+    public LockController(LockService lockService, LockEventService lockEventService) {
         this.lockService = lockService;
+        this.lockEventService = lockEventService;
     }
 
-    @LockCleanupCheck
     @GetMapping("/{subjectType}/{subjectId}/v1")
     @Operation(summary = "Get all active locks for a subject")
     @ApiResponses(value = {
@@ -55,7 +59,22 @@ public class LockController {
         return ResponseEntity.ok(lockService.getAllSubjectLocks(subjectType, UUID.fromString(subjectId)));
     }
 
-    @LockCleanupCheck
+    @GetMapping(value = "/{subjectType}/{subjectId}/v1/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream lock events for a subject",
+        description = "Sends the active locks as a 'locks' event, then a 'lock' event each time a lock on the "
+            + "subject is acquired, renewed, released or expired")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully started streaming subject lock events"),
+        @ApiResponse(responseCode = "400", description = "Invalid subject ID supplied"),
+        @ApiResponse(responseCode = "404", description = "Subject not found")
+    })
+    public SseEmitter streamSubjectLockEvents(
+        @Parameter(description = "The subject type", required = true) @PathVariable SubjectType subjectType,
+        @Parameter(description = "UUID of the subject", required = true) @ValidUUID @PathVariable String subjectId) {
+        UUID id = UUID.fromString(subjectId);
+        return lockEventService.subscribe(subjectType, id, () -> lockService.getAllSubjectLocks(subjectType, id));
+    }
+
     @GetMapping("/{subjectType}/{subjectId}/v1/{page}")
     @Operation(summary = "Get lock status for a specific page of a subject")
     @ApiResponses(value = {
@@ -73,7 +92,6 @@ public class LockController {
             .orElse(ResponseEntity.noContent().build());
     }
 
-    @LockCleanupCheck
     @PostMapping("/{subjectType}/{subjectId}/v1/{page}")
     @Operation(summary = "Create or update subject lock for a specific page")
     @ApiResponses(value = {
@@ -92,6 +110,23 @@ public class LockController {
             .body(lockService.createOrUpdateLock(subjectType, UUID.fromString(subjectId), page, userId));
     }
 
+    @PutMapping("/{subjectType}/{subjectId}/v1/{page}/heartbeat")
+    @Operation(summary = "Renew a subject lock held by the user for a specific page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Successfully renewed subject lock"),
+        @ApiResponse(responseCode = "400", description = "Invalid subject ID, page or user ID supplied"),
+        @ApiResponse(responseCode = "409", description = "Subject lock not held by the user, or expired")
+    })
+    @PreAuthorize("@authService.isAdmin()")
+    public ResponseEntity<Void> renewSubjectLock(
+        @Parameter(description = "The subject type", required = true) @PathVariable SubjectType subjectType,
+        @Parameter(description = "UUID of the subject", required = true) @ValidUUID @PathVariable String subjectId,
+        @Parameter(description = "Page to renew lock", required = true) @PathVariable Page page,
+        @Parameter(description = "User ID holding the lock", required = true) @Valid @RequestBody UUID userId) {
+        lockService.renewLock(subjectType, UUID.fromString(subjectId), page, userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{subjectType}/{subjectId}/v1/{page}")
     @Operation(summary = "Delete a subject lock for a specific page")
     @ApiResponses(value = {
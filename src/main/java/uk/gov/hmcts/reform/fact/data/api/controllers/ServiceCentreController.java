@@ -1,8 +1,9 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
-import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
@@ -20,11 +21,16 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.security.SecuredFactRestController;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreService;
+import uk.gov.hmcts.reform.fact.data.api.utils.ConditionalRequestUtil;
 import uk.gov.hmcts.reform.fact.data.api.validation.annotations.ValidUUID;
 
 import java.util.UUID;
@@ -46,47 +52,68 @@ public class ServiceCentreController {
 
     private final ServiceCentreService serviceCentreService;
     private final ServiceCentreDetailsViewService serviceCentreDetailsViewService;
+    private final CourtDetailsDocumentService courtDetailsDocumentService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    @GetMapping("/{serviceCentreId}/v1")
-    @JsonView(ServiceCentreDetailsView.class)
+    @GetMapping(value = "/{serviceCentreId}/v1", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
         summary = "Get service centre details by ID",
         description = "Fetch detailed service centre information for a given service centre ID."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved service centre details"),
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved service centre details",
+            content = @Content(schema = @Schema(implementation = ServiceCentreDetails.class))),
+        @ApiResponse(responseCode = "304", description = "Service centre details not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid service centre ID supplied"),
         @ApiResponse(responseCode = "404", description = "Service centre not found")
     })
-    public ResponseEntity<ServiceCentreDetails> getServiceCentreDetailsById(
+    public ResponseEntity<byte[]> getServiceCentreDetailsById(
         @Parameter(description = "UUID of the service centre", required = true)
-        @ValidUUID @PathVariable String serviceCentreId) {
-        return ResponseEntity.ok(
-            serviceCentreDetailsViewService.prepareDetailsView(
-                serviceCentreService.getServiceCentreDetailsById(UUID.fromString(serviceCentreId))
+        @ValidUUID @PathVariable String serviceCentreId,
+        WebRequest webRequest) {
+        UUID id = UUID.fromString(serviceCentreId);
+        IdAndLastUpdatedAt version = serviceCentreService.getServiceCentreLastUpdatedAtById(id);
+        return ConditionalRequestUtil.okIfModified(
+            webRequest,
+            version,
+            referenceDataRegistry.getSnapshot().version(),
+            () -> courtDetailsDocumentService.getServiceCentreDetailsDocument(
+                version,
+                () -> serviceCentreDetailsViewService.prepareDetailsView(
+                    serviceCentreService.getServiceCentreDetailsById(id)
+                )
             )
         );
     }
 
-    @GetMapping("/slug/{serviceCentreSlug}/v1")
-    @JsonView(ServiceCentreDetailsView.class)
+    @GetMapping(value = "/slug/{serviceCentreSlug}/v1", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
         summary = "Get service centre details by slug",
         description = "Fetch detailed service centre information for a given service centre slug."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved service centre details"),
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved service centre details",
+            content = @Content(schema = @Schema(implementation = ServiceCentreDetails.class))),
+        @ApiResponse(responseCode = "304", description = "Service centre details not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid service centre slug supplied"),
         @ApiResponse(responseCode = "404", description = "Service centre not found")
     })
-    public ResponseEntity<ServiceCentreDetails> getServiceCentreDetailsBySlug(
+    public ResponseEntity<byte[]> getServiceCentreDetailsBySlug(
         @Parameter(description = "Slug of the service centre", required = true)
         @NotBlank(message = "serviceCentreSlug must not be blank")
         @Size(max = 250, message = "serviceCentreSlug must be less than 250 characters")
-        @PathVariable String serviceCentreSlug) {
-        return ResponseEntity.ok(
-            serviceCentreDetailsViewService.prepareDetailsView(
-                serviceCentreService.getServiceCentreDetailsBySlug(serviceCentreSlug)
+        @PathVariable String serviceCentreSlug,
+        WebRequest webRequest) {
+        IdAndLastUpdatedAt version = serviceCentreService.getServiceCentreLastUpdatedAtBySlug(serviceCentreSlug);
+        return ConditionalRequestUtil.okIfModified(
+            webRequest,
+            version,
+            referenceDataRegistry.getSnapshot().version(),
+            () -> courtDetailsDocumentService.getServiceCentreDetailsDocument(
+                version,
+                () -> serviceCentreDetailsViewService.prepareDetailsView(
+                    serviceCentreService.getServiceCentreDetailsBySlug(serviceCentreSlug)
+                )
             )
         );
     }
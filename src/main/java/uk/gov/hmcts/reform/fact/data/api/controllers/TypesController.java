@@ -16,7 +16,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 @SecuredFactRestController(
@@ -123,4 +125,18 @@ public class TypesController {
     public ResponseEntity<List<LocalAuthorityType>> getLocalAuthorities() {
         return ResponseEntity.ok(typesService.getLocalAuthorities());
     }
+
+    @PostMapping("/v1/reload")
+    @Operation(
+        summary = "Reload reference data",
+        description = "Reloads the in-memory reference data on the instance handling the request."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Successfully reloaded reference data"),
+    })
+    @PreAuthorize("@authService.isAdmin()")
+    public ResponseEntity<Void> reloadReferenceData() {
+        typesService.reloadReferenceData();
+        return ResponseEntity.noContent().build();
+    }
 }
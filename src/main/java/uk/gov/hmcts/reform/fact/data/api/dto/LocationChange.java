@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.fact.data.api.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PUBLIC)
+public class LocationChange {
+
+    private UUID id;
+    private String locationType;
+    private String name;
+    private String slug;
+    private Boolean deleted;
+    private ZonedDateTime changedAt;
+
+    public static LocationChange fromRow(LocationChangeRow row) {
+        return LocationChange.builder()
+            .id(row.getId())
+            .locationType(row.getLocationType())
+            .name(row.getName())
+            .slug(row.getSlug())
+            .deleted(Boolean.TRUE.equals(row.getDeleted()))
+            .changedAt(row.getChangedAt() == null ? null : row.getChangedAt().atZone(ZoneOffset.UTC))
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.fact.data.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A changed or deleted court or service centre, as read for the changes feed.
+ */
+public interface LocationChangeRow {
+
+    UUID getId();
+
+    String getLocationType();
+
+    String getName();
+
+    String getSlug();
+
+    Boolean getDeleted();
+
+    LocalDateTime getChangedAt();
+
+    Long getChangeXid();
+}
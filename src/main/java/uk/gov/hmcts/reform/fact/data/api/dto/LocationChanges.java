@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.fact.data.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PUBLIC)
+public class LocationChanges {
+
+    @Schema(description = "Changed and deleted locations, in the order the changes were made")
+    private List<LocationChange> changes;
+
+    @Schema(description = "Pass as 'since' on the next request to resume after the last change returned")
+    private String nextCursor;
+
+    @Schema(description = "Whether more changes are available beyond this page")
+    private Boolean hasMore;
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.fact.data.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor(access = AccessLevel.PUBLIC)
+@NoArgsConstructor
+@Builder
+public class LockEvent {
+
+    /**
+     * What happened to a lock.
+     */
+    public enum Type {
+        ACQUIRED,
+        RENEWED,
+        RELEASED,
+        EXPIRED
+    }
+
+    @Schema(description = "The type of the locked subject")
+    private SubjectType subjectType;
+
+    @Schema(description = "The id of the locked subject")
+    private UUID subjectId;
+
+    @Schema(description = "The locked page")
+    private Page page;
+
+    @Schema(description = "What happened to the lock")
+    private Type type;
+
+    @Schema(description = "The user holding the lock, or who held it when it was released or expired")
+    private UUID userId;
+}
@@ -1,12 +1,9 @@
 package uk.gov.hmcts.reform.fact.data.api.entities;
 
-import uk.gov.hmcts.reform.fact.data.api.audit.AuditableCourtEntityListener;
-
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -18,7 +15,6 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
-@EntityListeners(AuditableCourtEntityListener.class)
 @Table(name = "court")
 public class Court extends AbstractCourtEntity implements AuditableCourtEntity {
     /**
@@ -1,10 +1,8 @@
 package uk.gov.hmcts.reform.fact.data.api.entities;
 
-import jakarta.persistence.EntityListeners;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
-import uk.gov.hmcts.reform.fact.data.api.audit.AuditableCourtEntityListener;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
 
 import java.math.BigDecimal;
@@ -46,7 +44,6 @@ import uk.gov.hmcts.reform.fact.data.api.controllers.CourtController.CourtDetail
 @Jacksonized
 @Builder
 @Entity
-@EntityListeners(AuditableCourtEntityListener.class)
 @JsonView(CourtDetailsView.class)
 @Table(name = "court_address")
 public class CourtAddress implements AuditableCourtEntity {
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.fact.data.api.entities;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+/**
+ * The serialised details response for a court or service centre, as of the location's {@code last_updated_at} and
+ * the reference data version it embeds.
+ */
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "court_details_document")
+public class CourtDetailsDocument {
+
+    @Id
+    @Column(name = "location_id")
+    private UUID locationId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private SubjectType locationType;
+
+    @NotNull
+    @TimeZoneStorage(TimeZoneStorageType.NORMALIZE_UTC)
+    private ZonedDateTime lastUpdatedAt;
+
+    private long referenceDataVersion;
+
+    @NotNull
+    private byte[] document;
+}
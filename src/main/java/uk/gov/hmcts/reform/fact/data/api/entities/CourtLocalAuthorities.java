@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.fact.data.api.entities;
 
-import uk.gov.hmcts.reform.fact.data.api.audit.AuditableCourtEntityListener;
-
 import java.util.List;
 import java.util.UUID;
 
@@ -9,7 +7,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -31,7 +28,6 @@ import org.hibernate.type.SqlTypes;
 @NoArgsConstructor
 @Builder
 @Entity
-@EntityListeners(AuditableCourtEntityListener.class)
 @Table(name = "court_local_authorities")
 public class CourtLocalAuthorities implements AuditableCourtEntity {
 
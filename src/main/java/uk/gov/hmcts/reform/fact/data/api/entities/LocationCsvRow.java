@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.fact.data.api.entities;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+/**
+ * The rendered CSV row for a court or service centre, as of the location's {@code last_updated_at} and the
+ * reference data version it embeds.
+ */
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "location_csv_row")
+public class LocationCsvRow {
+
+    @Id
+    @Column(name = "location_id")
+    private UUID locationId;
+
+    @NotNull
+    @TimeZoneStorage(TimeZoneStorageType.NORMALIZE_UTC)
+    private ZonedDateTime lastUpdatedAt;
+
+    private long referenceDataVersion;
+
+    @NotNull
+    private String csvRow;
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.fact.data.api.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row counting changes to the reference data tables, moved by a trigger on each of them.
+ */
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "reference_data_version")
+public class ReferenceDataVersion {
+
+    @Id
+    private Boolean id;
+
+    private long version;
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.fact.data.api.entities.types;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * re-usable Id and last updated pair object for use in repository results.
+ *
+ * <p>Used as a cheap version marker for an aggregate, as the {@code last_updated_at} column is maintained by
+ * database triggers whenever any child row changes.
+ *
+ * @param id the entity Id
+ * @param lastUpdatedAt the entity last updated date/time
+ */
+public record IdAndLastUpdatedAt(UUID id, ZonedDateTime lastUpdatedAt) {}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.fact.data.api.entities.types;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * The versions a stored CSV row was rendered from, read without the row itself.
+ *
+ * @param locationId the id of the court or service centre
+ * @param lastUpdatedAt the last updated date/time of the location when the row was rendered
+ * @param referenceDataVersion the reference data version the row was rendered with
+ */
+public record LocationCsvRowVersion(UUID locationId, ZonedDateTime lastUpdatedAt, long referenceDataVersion) {}
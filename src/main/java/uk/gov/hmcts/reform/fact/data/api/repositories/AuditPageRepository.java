@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Paged audit searches whose total can be estimated or skipped, for searches over too many audits to count on
+ * every page.
+ */
+public interface AuditPageRepository {
+
+    /**
+     * Finds a page of audits matching the given search.
+     *
+     * @param search the filters to apply
+     * @param pageable the page to return
+     * @param total how the total number of matching audits is worked out
+     * @return the page of matching audits, with their users
+     */
+    Page<Audit> search(AuditSearch search, Pageable pageable, PageTotal total);
+}
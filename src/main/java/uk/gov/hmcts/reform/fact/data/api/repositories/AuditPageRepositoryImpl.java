@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Pages through audits by reading one row more than the page holds, to tell whether there is a next page
+ * without counting.
+ *
+ * <p>The total is only looked up when it is not already known from the page itself, which it is for the last
+ * page and for a search whose results fit on one page. When it is needed, it is counted, estimated from the
+ * plan Postgres makes for the search, or not worked out at all, as the {@link PageTotal} asks. Estimates below
+ * {@value #EXACT_COUNT_BELOW} rows are replaced with an exact count, since counting that few rows through the
+ * audit indexes is cheap, and the total shown for a small, narrowly filtered search should be exact.</p>
+ */
+@RequiredArgsConstructor
+class AuditPageRepositoryImpl implements AuditPageRepository {
+
+    static final long EXACT_COUNT_BELOW = 10_000;
+
+    // The plan of the whole query comes first, ahead of the plans of its children
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Audit> search(AuditSearch search, Pageable pageable, PageTotal total) {
+        int pageSize = pageable.getPageSize();
+        List<Audit> rows = findRows(search, pageable, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Audit> content = hasNext ? rows.subList(0, pageSize) : rows;
+        long seen = pageable.getOffset() + content.size();
+
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            // This is the last page, so everything up to it is everything there is
+            return new PageImpl<>(content, pageable, seen);
+        }
+
+        long atLeast = hasNext ? seen + 1 : seen;
+        long totalElements = switch (total) {
+            case EXACT -> count(search);
+            case ESTIMATED -> estimate(search, atLeast);
+            case NONE -> atLeast;
+        };
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+
+    private List<Audit> findRows(AuditSearch search, Pageable pageable, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Audit> query = criteriaBuilder.createQuery(Audit.class);
+        Root<Audit> root = query.from(Audit.class);
+        root.fetch("user", JoinType.LEFT);
+        query.where(search.toSpecification().toPredicate(root, query, criteriaBuilder));
+        query.orderBy(pageable.getSort().stream()
+                          .map(order -> order.isAscending()
+                              ? criteriaBuilder.asc(root.get(order.getProperty()))
+                              : criteriaBuilder.desc(root.get(order.getProperty())))
+                          .toArray(Order[]::new));
+        return entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private long count(AuditSearch search) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Audit> root = query.from(Audit.class);
+        query.select(criteriaBuilder.count(root));
+        query.where(search.toSpecification().toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private long estimate(AuditSearch search, long atLeast) {
+        long plannedRows = plannedRows(search);
+        if (plannedRows < EXACT_COUNT_BELOW) {
+            return count(search);
+        }
+        // The planner can underestimate, but never below the rows already seen
+        return Math.max(plannedRows, atLeast);
+    }
+
+    /**
+     * Asks Postgres how many rows it expects the search to match, from its table statistics, without running it.
+     *
+     * @return the planned number of rows, or zero if the plan could not be read.
+     */
+    private long plannedRows(AuditSearch search) {
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM audit WHERE ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("createdAfter", toUtc(search.createdAfter()));
+        if (search.createdBefore() != null) {
+            sql.append("created_at BETWEEN :createdAfter AND :createdBefore");
+            parameters.put("createdBefore", toUtc(search.createdBefore()));
+        } else {
+            sql.append("created_at > :createdAfter");
+        }
+        if (search.subjectType() != null) {
+            sql.append(" AND subject_type = :subjectType");
+            parameters.put("subjectType", search.subjectType().name());
+        }
+        if (search.subjectId() != null) {
+            sql.append(" AND subject_id = :subjectId");
+            parameters.put("subjectId", search.subjectId());
+        }
+        if (search.userIds() != null) {
+            sql.append(" AND user_id IN (:userIds)");
+            parameters.put("userIds", search.userIds());
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(query::setParameter);
+        Matcher planRows = PLAN_ROWS.matcher(String.valueOf(query.getSingleResult()));
+        return planRows.find() ? Long.parseLong(planRows.group(1)) : 0;
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime time) {
+        return time.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
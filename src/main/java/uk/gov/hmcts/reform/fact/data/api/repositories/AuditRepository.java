@@ -1,141 +1,22 @@
 package uk.gov.hmcts.reform.fact.data.api.repositories;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
-import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 
-import java.time.ZonedDateTime;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface AuditRepository extends JpaRepository<Audit, UUID> {
-
-    // ----------------------------------------------------
-    // Standard paged queries
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findByCreatedAtAfter(
-        ZonedDateTime createdAt,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findByCreatedAtBetween(
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findBySubjectTypeAndCreatedAtAfter(
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-        UUID subjectId,
-        SubjectType subjectType,
-        ZonedDateTime createdAt,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findBySubjectTypeAndCreatedAtBetween(
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<Audit> findBySubjectIdAndSubjectTypeAndCreatedAtBetween(
-        UUID subjectId,
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        Pageable pageable);
-
-
-    // ----------------------------------------------------
-    // Complex paged queries
-
-    String SELECT_WITH_USER_JOIN = """
-        select a
-        from Audit a
-        join User u on a.userId = u.id
-        """;
-
-    String WHERE_EMAIL_LIKE_AND_CREATED_AT_AFTER = """
-        where
-            a.createdAt > :createdAtAfter
-            and lower(u.email) like concat('%', lower(:email), '%')
-        """;
-
-    String WHERE_EMAIL_LIKE_AND_CREATED_AT_BETWEEN = """
-        where
-            a.createdAt between :createdAtAfter and :createdAtBefore
-            and lower(u.email) like concat('%', lower(:email), '%')
-        """;
-
-    String AND_SUBJECT_EQUALS = " and a.subjectId = :subjectId and a.subjectType = :subjectType";
-    String AND_SUBJECT_TYPE_EQUALS = " and a.subjectType = :subjectType";
-
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_AFTER)
-    Page<Audit> findByCreatedAtAfterAndEmailAddressLike(
-        ZonedDateTime createdAtAfter,
-        String email,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_BETWEEN)
-    Page<Audit> findByCreatedAtBetweenAndEmailAddressLike(
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        String email,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_AFTER + AND_SUBJECT_EQUALS)
-    Page<Audit> findBySubjectIdAndSubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-        UUID subjectId,
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        String email,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_BETWEEN + AND_SUBJECT_EQUALS)
-    Page<Audit> findBySubjectIdAndSubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-        UUID subjectId,
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        String email,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_AFTER + AND_SUBJECT_TYPE_EQUALS)
-    Page<Audit> findBySubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        String email,
-        Pageable pageable);
-
-    @EntityGraph(attributePaths = {"user"})
-    @Query(value = SELECT_WITH_USER_JOIN + WHERE_EMAIL_LIKE_AND_CREATED_AT_BETWEEN + AND_SUBJECT_TYPE_EQUALS)
-    Page<Audit> findBySubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-        SubjectType subjectType,
-        ZonedDateTime createdAtAfter,
-        ZonedDateTime createdAtBefore,
-        String email,
-        Pageable pageable);
+public interface AuditRepository extends JpaRepository<Audit, UUID>, AuditPageRepository {
 
     @EntityGraph(attributePaths = {"user"})
     Optional<Audit> findWithUserById(UUID id);
@@ -143,12 +24,58 @@ public interface AuditRepository extends JpaRepository<Audit, UUID> {
     // ----------------------------------------------------
     // Housekeeping queries
 
-    void deleteAllByCreatedAtBefore(ZonedDateTime createdAtBefore);
+    /**
+     * Deletes up to {@code limit} of the audits created before the given time with a single statement, without
+     * loading them.
+     *
+     * @param createdAtBefore the UTC time before which audits are deleted
+     * @param limit the most audits to delete
+     * @return the number of audits deleted
+     */
+    @Modifying
+    @Query(
+        value = """
+            DELETE FROM audit
+            WHERE (id, created_at) IN (
+                SELECT id, created_at
+                FROM audit
+                WHERE created_at < :createdAtBefore
+                LIMIT :limit
+            )
+            """,
+        nativeQuery = true
+    )
+    int deleteBatchCreatedBefore(@Param("createdAtBefore") LocalDateTime createdAtBefore, @Param("limit") int limit);
+
+    /**
+     * Detaches and drops the monthly audit partitions holding only audits created before the cutoff.
+     *
+     * @param cutoff the UTC time before which audits have expired
+     * @return the number of partitions dropped
+     */
+    @Transactional
+    @Query(value = "SELECT drop_audit_partitions_before(:cutoff)", nativeQuery = true)
+    int dropAuditPartitionsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Creates any missing monthly audit partitions, from the current month to the given number of months ahead,
+     * and for any earlier month with audits in the default partition. Audits in the default partition are moved
+     * into the partitions created for their months.
+     *
+     * @param monthsAhead the number of months after the current one to create partitions for
+     * @return the number of partitions created
+     */
+    @Transactional
+    @Query(value = "SELECT create_audit_partitions(:monthsAhead)", nativeQuery = true)
+    int createAuditPartitions(@Param("monthsAhead") int monthsAhead);
 
     /**
-     * removes all audits where the subject id is in the given list.
+     * Deletes all audits of the given subjects with a single statement, without loading them.
      *
-     * @param auditSubjectIds the list of audit subject ids to delete
+     * @param subjectIds the ids of the subjects whose audits are deleted
+     * @return the number of audits deleted
      */
-    void deleteBySubjectIdIn(List<UUID> auditSubjectIds);
+    @Modifying
+    @Query(value = "DELETE FROM audit WHERE subject_id IN (:subjectIds)", nativeQuery = true)
+    int deleteAllBySubjectIdIn(@Param("subjectIds") Collection<UUID> subjectIds);
 }
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.NonNull;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The filters of an audit search, combined into a single query.
+ *
+ * <p>Every search is bounded by creation time, and the optional filters are plain equality or membership
+ * conditions on audit columns, so each combination can be served by the audit indexes on
+ * {@code (subject_type, subject_id, created_at)} and {@code (created_at)}. Filtering by user email is done by
+ * resolving the matching users first and searching by their ids.</p>
+ *
+ * @param createdAfter  audits created after this time.
+ * @param createdBefore audits created up to and including this time. can be {@code null}.
+ * @param subjectType   the type of subject audited. can be {@code null}.
+ * @param subjectId     the id of the subject audited. can be {@code null}.
+ * @param userIds       the ids of the users who made the changes. can be {@code null} for any user.
+ */
+public record AuditSearch(@NonNull ZonedDateTime createdAfter, ZonedDateTime createdBefore, SubjectType subjectType,
+                          UUID subjectId, Collection<UUID> userIds) {
+
+    /**
+     * Create a search over everything created after the given time.
+     *
+     * @param createdAfter audits created after this time.
+     * @return the search.
+     */
+    public static AuditSearch createdAfter(ZonedDateTime createdAfter) {
+        return new AuditSearch(createdAfter, null, null, null, null);
+    }
+
+    public AuditSearch withCreatedBefore(ZonedDateTime createdBefore) {
+        return new AuditSearch(createdAfter, createdBefore, subjectType, subjectId, userIds);
+    }
+
+    public AuditSearch withSubject(SubjectType subjectType, UUID subjectId) {
+        return new AuditSearch(createdAfter, createdBefore, subjectType, subjectId, userIds);
+    }
+
+    public AuditSearch withUserIds(Collection<UUID> userIds) {
+        return new AuditSearch(createdAfter, createdBefore, subjectType, subjectId, userIds);
+    }
+
+    /**
+     * Build the query conditions for this search.
+     *
+     * @return a {@link Specification} matching the audits this search selects.
+     */
+    public Specification<Audit> toSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<ZonedDateTime> createdAt = root.get("createdAt");
+            if (createdBefore != null) {
+                predicates.add(criteriaBuilder.between(createdAt, createdAfter, createdBefore));
+            } else {
+                predicates.add(criteriaBuilder.greaterThan(createdAt, createdAfter));
+            }
+            if (subjectType != null) {
+                predicates.add(criteriaBuilder.equal(root.get("subjectType"), subjectType));
+            }
+            if (subjectId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("subjectId"), subjectId));
+            }
+            if (userIds != null) {
+                predicates.add(root.get("userId").in(userIds));
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetailsDocument;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourtDetailsDocumentRepository extends JpaRepository<CourtDetailsDocument, UUID> {
+
+    /**
+     * Retrieve the document for a location, only if it was built from the given version of the location.
+     *
+     * @param locationId the ID of the court or service centre.
+     * @param lastUpdatedAt the current last updated time of the location.
+     * @return the matching document, if one exists.
+     */
+    Optional<CourtDetailsDocument> findByLocationIdAndLastUpdatedAt(UUID locationId, ZonedDateTime lastUpdatedAt);
+
+    /**
+     * Insert or replace the document for a location. An existing document is replaced by one built from any other
+     * version of the location, as {@code last_updated_at} is the start time of the writing transaction and can go
+     * backwards when overlapping writes commit out of order; a document from a version that is not current is
+     * simply not matched by the next read, which builds and stores it again. For the same version, only later
+     * reference data replaces the document, as the reference data version only ever increases, so an instance
+     * holding older reference data cannot overwrite a newer document.
+     *
+     * @param locationId the ID of the court or service centre.
+     * @param locationType the location type, {@code COURT} or {@code SERVICE_CENTRE}.
+     * @param lastUpdatedAt the last updated time (UTC) the document was built from.
+     * @param referenceDataVersion the reference data version the document was built from.
+     * @param document the serialised details response.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO court_details_document AS d
+            (location_id, location_type, last_updated_at, reference_data_version, document)
+        VALUES (:locationId, :locationType, :lastUpdatedAt, :referenceDataVersion, :document)
+        ON CONFLICT (location_id)
+        DO UPDATE SET
+            location_type = EXCLUDED.location_type,
+            last_updated_at = EXCLUDED.last_updated_at,
+            reference_data_version = EXCLUDED.reference_data_version,
+            document = EXCLUDED.document
+        WHERE d.last_updated_at <> EXCLUDED.last_updated_at
+            OR d.reference_data_version < EXCLUDED.reference_data_version
+        """, nativeQuery = true)
+    void upsertDocument(
+        @Param("locationId") UUID locationId,
+        @Param("locationType") String locationType,
+        @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+        @Param("referenceDataVersion") long referenceDataVersion,
+        @Param("document") byte[] document
+    );
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 
 import java.util.List;
@@ -140,6 +141,29 @@ public interface CourtRepository extends JpaRepository<Court, UUID> {
      */
     Optional<NameAndSlug> findNameAndSlugById(UUID id);
 
+    /**
+     * Retrieve just the id and last updated time for a court by its ID.
+     *
+     * @param id the ID of the court.
+     * @return the IdAndLastUpdatedAt object
+     */
+    Optional<IdAndLastUpdatedAt> findIdAndLastUpdatedAtById(UUID id);
+
+    /**
+     * Retrieve just the id and last updated time for a court by its slug.
+     *
+     * @param slug the slug of the court.
+     * @return the IdAndLastUpdatedAt object
+     */
+    Optional<IdAndLastUpdatedAt> findIdAndLastUpdatedAtBySlug(String slug);
+
+    /**
+     * Retrieve the id and last updated time of every court, ordered by name.
+     *
+     * @return the {@link List} of {@link IdAndLastUpdatedAt} objects
+     */
+    List<IdAndLastUpdatedAt> findAllIdAndLastUpdatedAtByOrderByNameAsc();
+
     /**
      * Retrieve all court names mapped to their IDs.
      *
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChangeRow;
+import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the courts and service centres that changed, or were deleted, after a given point in the changes feed.
+ */
+public interface LocationChangesRepository extends Repository<Court, UUID> {
+
+    /**
+     * Find changes ordered by the id of the transaction that made them then location id, strictly after the given
+     * position.
+     *
+     * <p>Only changes made by transactions older than every transaction still running are returned. Transaction
+     * ids are handed out in order, so any change committed later has a higher id than every change returned, and
+     * can never land behind a cursor that has already been handed out. A long running transaction delays the feed
+     * until it ends, but no change is skipped.</p>
+     *
+     * @param changedSince the UTC time before which changes are left out
+     * @param afterXid the transaction id of the last change already seen
+     * @param afterId the location id of the last change already seen
+     * @param limit the maximum number of changes to return
+     * @return the changes in feed order
+     */
+    @Query(
+        value = """
+            SELECT lc.location_id AS id, lc.location_type AS "locationType",
+                   COALESCE(c.name, sc.name) AS name, COALESCE(c.slug, sc.slug) AS slug, lc.deleted,
+                   lc.changed_at AS "changedAt", lc.change_xid AS "changeXid"
+            FROM location_change lc
+            LEFT JOIN court c ON lc.location_type = 'COURT' AND c.id = lc.location_id
+            LEFT JOIN service_centre sc ON lc.location_type = 'SERVICE_CENTRE' AND sc.id = lc.location_id
+            WHERE (lc.change_xid, lc.location_id) > (:afterXid, :afterId)
+              AND lc.change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+              AND lc.changed_at >= :changedSince
+            ORDER BY lc.change_xid, lc.location_id
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<LocationChangeRow> findChangesAfter(
+        @Param("changedSince") LocalDateTime changedSince,
+        @Param("afterXid") long afterXid,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Deletes up to {@code limit} of the tombstones of locations deleted before the given time.
+     *
+     * @param deletedBefore the UTC time before which tombstones are deleted
+     * @param limit the most tombstones to delete
+     * @return the number of tombstones deleted
+     */
+    @Modifying
+    @Query(
+        value = """
+            DELETE FROM location_change
+            WHERE location_id IN (
+                SELECT location_id
+                FROM location_change
+                WHERE deleted AND changed_at < :deletedBefore
+                LIMIT :limit
+            )
+            """,
+        nativeQuery = true
+    )
+    int deleteBatchOfTombstonesBefore(@Param("deletedBefore") LocalDateTime deletedBefore,
+                                      @Param("limit") int limit);
+}
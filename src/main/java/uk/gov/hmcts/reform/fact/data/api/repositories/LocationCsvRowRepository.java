@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.LocationCsvRow;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.LocationCsvRowVersion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LocationCsvRowRepository extends JpaRepository<LocationCsvRow, UUID> {
+
+    /**
+     * Retrieve the versions every stored row was rendered from, without the rows themselves.
+     *
+     * @return the {@link List} of {@link LocationCsvRowVersion} objects
+     */
+    List<LocationCsvRowVersion> findAllVersionsBy();
+
+    /**
+     * Insert or replace the rendered row for a location.
+     *
+     * @param locationId the ID of the court or service centre.
+     * @param lastUpdatedAt the last updated time (UTC) the row was rendered from.
+     * @param referenceDataVersion the reference data version the row was rendered with.
+     * @param csvRow the rendered row, including its line separator.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO location_csv_row (location_id, last_updated_at, reference_data_version, csv_row)
+        VALUES (:locationId, :lastUpdatedAt, :referenceDataVersion, :csvRow)
+        ON CONFLICT (location_id)
+        DO UPDATE SET
+            last_updated_at = EXCLUDED.last_updated_at,
+            reference_data_version = EXCLUDED.reference_data_version,
+            csv_row = EXCLUDED.csv_row
+        """, nativeQuery = true)
+    void upsertRow(
+        @Param("locationId") UUID locationId,
+        @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+        @Param("referenceDataVersion") long referenceDataVersion,
+        @Param("csvRow") String csvRow
+    );
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.fact.data.api.repositories;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
 
+import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
@@ -20,12 +22,25 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
 @Repository
 public interface LockRepository extends JpaRepository<Lock, UUID> {
 
+    record LockHolder(UUID userId, ZonedDateTime lockAcquired) {}
+
     @EntityGraph(attributePaths = {"user"})
     List<Lock> findAllBySubjectTypeAndSubjectId(SubjectType subjectType, UUID subjectId);
 
     @EntityGraph(attributePaths = {"user"})
     Optional<Lock> findBySubjectTypeAndSubjectIdAndPage(SubjectType subjectType, UUID subjectId, Page page);
 
+    /**
+     * Retrieve just who holds the lock on a page, and since when, without loading the lock or its user.
+     *
+     * @param subjectType the type of the locked subject.
+     * @param subjectId the id of the locked subject.
+     * @param page the locked page.
+     * @return the LockHolder, or empty if the page is not locked.
+     */
+    Optional<LockHolder> findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType subjectType, UUID subjectId,
+                                                                   Page page);
+
     @Modifying
     @Query(value = """
         DELETE FROM
@@ -43,15 +58,52 @@ public interface LockRepository extends JpaRepository<Lock, UUID> {
         @Param("page") String page
     );
 
+    /**
+     * Deletes the locks acquired, or last renewed, before the cutoff, announcing each as expired rather than
+     * released.
+     *
+     * @param cutoff the UTC time before which locks have expired
+     * @return the number of locks deleted
+     */
+    @Transactional
+    @Query(value = "SELECT delete_expired_locks(:cutoff)", nativeQuery = true)
+    int deleteExpiredLocks(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Renews a lock still held by the given user with a single update, without loading it.
+     *
+     * @param subjectType the type of the locked subject.
+     * @param subjectId the id of the locked subject.
+     * @param page the locked page.
+     * @param userId the user expected to hold the lock.
+     * @param lockAcquired the time the lock is renewed from.
+     * @param expiryThreshold the time before which the lock has expired and can no longer be renewed.
+     * @return 1 if the lock was renewed, 0 if the user does not hold an active lock on the page.
+     */
     @Modifying
     @Query(value = """
-        DELETE FROM
+        UPDATE
             "lock"
+        SET
+            lock_acquired = :lockAcquired
         WHERE
-            lock_acquired < :lockAcquired
+            subject_type = :subjectType
+        AND
+            subject_id = :subjectId
+        AND
+            page = :page
+        AND
+            user_id = :userId
+        AND
+            lock_acquired >= :expiryThreshold
         """, nativeQuery = true)
-    void deleteByLockAcquiredBefore(
-        @Param("lockAcquired") ZonedDateTime lockAcquired
+    int renewLock(
+        @Param("subjectType") String subjectType,
+        @Param("subjectId") UUID subjectId,
+        @Param("page") String page,
+        @Param("userId") UUID userId,
+        @Param("lockAcquired") ZonedDateTime lockAcquired,
+        @Param("expiryThreshold") ZonedDateTime expiryThreshold
     );
 
     @Modifying
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+/**
+ * How the total number of results is worked out for a page of a search.
+ */
+public enum PageTotal {
+
+    /**
+     * Count every matching row.
+     */
+    EXACT,
+
+    /**
+     * Use the query planner's estimate of the matching rows, counting exactly when the estimate is small enough
+     * for a count to be cheap.
+     */
+    ESTIMATED,
+
+    /**
+     * Do not count. The total only covers the rows up to this page and, if there are more, one more, so it shows
+     * whether there is a next page.
+     */
+    NONE
+}
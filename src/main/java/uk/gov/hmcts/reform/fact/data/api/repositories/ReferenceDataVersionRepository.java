@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.ReferenceDataVersion;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReferenceDataVersionRepository extends JpaRepository<ReferenceDataVersion, Boolean> {
+
+    /**
+     * Get the current reference data version, which moves whenever any reference data table changes.
+     *
+     * @return the current reference data version.
+     */
+    @Query(value = "SELECT version FROM reference_data_version", nativeQuery = true)
+    long findCurrentVersion();
+}
@@ -1,13 +1,35 @@
 package uk.gov.hmcts.reform.fact.data.api.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ServiceCentreDetailsRepository extends JpaRepository<ServiceCentreDetails, UUID> {
     Optional<ServiceCentreDetails> findBySlug(String slug);
+
+    /**
+     * Find the names and ids of the service centres that follow the given name and id in name then id order.
+     *
+     * @param name the name of the last service centre already read, or an empty string to start from the first.
+     * @param id the id of the last service centre already read, breaking ties between service centres with the
+     *     same name.
+     * @param limit the maximum number of service centres to return.
+     * @return the names and ids, in name then id order.
+     */
+    @Query("""
+        select new uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId(l.name, l.id)
+        from ServiceCentreDetails l
+        where l.name > :name or (l.name = :name and l.id > :id)
+        order by l.name, l.id
+        """)
+    List<NameAndId> findNamesAndIdsAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.fact.data.api.dto.ServiceCentreWithDistance;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.CatchmentType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 
 import java.util.List;
@@ -20,6 +21,29 @@ public interface ServiceCentreRepository extends JpaRepository<ServiceCentre, UU
 
     boolean existsBySlug(String slug);
 
+    /**
+     * Retrieve just the id and last updated time for a service centre by its ID.
+     *
+     * @param id the ID of the service centre.
+     * @return the IdAndLastUpdatedAt object
+     */
+    Optional<IdAndLastUpdatedAt> findIdAndLastUpdatedAtById(UUID id);
+
+    /**
+     * Retrieve just the id and last updated time for a service centre by its slug.
+     *
+     * @param slug the slug of the service centre.
+     * @return the IdAndLastUpdatedAt object
+     */
+    Optional<IdAndLastUpdatedAt> findIdAndLastUpdatedAtBySlug(String slug);
+
+    /**
+     * Retrieve the id and last updated time of every service centre, ordered by name.
+     *
+     * @return the {@link List} of {@link IdAndLastUpdatedAt} objects
+     */
+    List<IdAndLastUpdatedAt> findAllIdAndLastUpdatedAtByOrderByNameAsc();
+
     List<ServiceCentre> findByNameStartingWithIgnoreCase(String namePrefix);
 
     List<ServiceCentre> findByNameStartingWithIgnoreCaseAndOpenOrderByNameAsc(String namePrefix, boolean open);
@@ -2,7 +2,8 @@ package uk.gov.hmcts.reform.fact.data.api.repositories;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.User;
 
-import java.time.ZonedDateTime;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,12 +18,81 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
-    List<User> deleteAllByLastLoginBefore(ZonedDateTime lastLoginBefore);
 
     Optional<User> findByEmail(String email);
 
     Optional<User> findBySsoId(UUID ssoId);
 
+    /**
+     * Records a login with a single statement, creating the user if they do not exist. An existing user is
+     * matched by id, then email, then SSO id, and keeps their id, email, SSO id and favourites. They are only
+     * written when their role changes or they last logged in before {@code lastLoginBefore}; otherwise they are
+     * returned as stored, so repeated logins do not each rewrite the row.
+     *
+     * @param newId the id to give the user if they do not exist
+     * @param id the id of the user, if known
+     * @param email the email of the user
+     * @param ssoId the SSO id of the user
+     * @param role the role of the user, or {@code null} to keep an existing user's role
+     * @param lastLogin the UTC time of the login
+     * @param lastLoginBefore the UTC time before which an existing user's last login is updated
+     * @return the user as stored, or empty only if the matched user was deleted while logging in
+     */
+    @Query(
+        value = """
+            WITH existing AS (
+                SELECT id
+                FROM users
+                WHERE id = CAST(:id AS UUID) OR email = :email OR sso_id = :ssoId
+                ORDER BY (id = CAST(:id AS UUID)) IS TRUE DESC, (email = :email) IS TRUE DESC
+                LIMIT 1
+            ), upserted AS (
+                INSERT INTO users AS u (id, email, sso_id, role, last_login)
+                VALUES (
+                    COALESCE((SELECT id FROM existing), :newId),
+                    :email,
+                    :ssoId,
+                    COALESCE(CAST(:role AS VARCHAR), 'ADMIN'),
+                    :lastLogin
+                )
+                ON CONFLICT (id) DO UPDATE
+                SET role = COALESCE(CAST(:role AS VARCHAR), u.role),
+                    last_login = EXCLUDED.last_login
+                WHERE u.role <> COALESCE(CAST(:role AS VARCHAR), u.role)
+                   OR u.last_login IS NULL
+                   OR u.last_login < :lastLoginBefore
+                RETURNING u.*
+            )
+            SELECT * FROM upserted
+            UNION ALL
+            SELECT users.*
+            FROM users
+            INNER JOIN existing ON existing.id = users.id
+            WHERE NOT EXISTS (SELECT 1 FROM upserted)
+            """,
+        nativeQuery = true
+    )
+    Optional<User> upsertLogin(@Param("newId") UUID newId,
+                               @Param("id") UUID id,
+                               @Param("email") String email,
+                               @Param("ssoId") UUID ssoId,
+                               @Param("role") String role,
+                               @Param("lastLogin") LocalDateTime lastLogin,
+                               @Param("lastLoginBefore") LocalDateTime lastLoginBefore);
+
+    /**
+     * Finds the ids of users whose email contains the given text, ignoring case. Served by the trigram index on
+     * {@code lower(email)}, so the text can match anywhere in the address.
+     *
+     * @param email the text to look for
+     * @return the ids of the matching users
+     */
+    @Query(
+        value = "SELECT id FROM users WHERE lower(email) LIKE '%' || lower(:email) || '%'",
+        nativeQuery = true
+    )
+    List<UUID> findIdsByEmailContainingIgnoreCase(@Param("email") String email);
+
     @Query(
         value = """
             SELECT
@@ -146,27 +216,75 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     )
     int removeFavouriteServiceCentre(@Param("userId") UUID userId, @Param("subjectId") UUID subjectId);
 
+    /**
+     * Removes the given courts from every user's favourites with a single statement, keeping the order of the
+     * favourites that remain. Only users holding one of the courts are updated.
+     *
+     * @param subjectIds the ids of the courts to remove
+     * @return the number of users updated
+     */
     @Modifying
     @Query(
         value = """
             UPDATE users
-            SET favourite_courts = array_remove(favourite_courts, :subjectId)
-            WHERE favourite_courts @> ARRAY[:subjectId]::UUID[]
+            SET favourite_courts = ARRAY(
+                SELECT favourite.subject_id
+                FROM unnest(favourite_courts) WITH ORDINALITY AS favourite(subject_id, position)
+                WHERE favourite.subject_id <> ALL (ARRAY[:subjectIds]::UUID[])
+                ORDER BY favourite.position
+            )
+            WHERE favourite_courts && ARRAY[:subjectIds]::UUID[]
             """,
         nativeQuery = true
     )
-    int removeCourtFromAllFavourites(@Param("subjectId") UUID subjectId);
+    int removeCourtsFromAllFavourites(@Param("subjectIds") Collection<UUID> subjectIds);
 
+    /**
+     * Removes the given service centres from every user's favourites with a single statement, keeping the order
+     * of the favourites that remain. Only users holding one of the service centres are updated.
+     *
+     * @param subjectIds the ids of the service centres to remove
+     * @return the number of users updated
+     */
     @Modifying
     @Query(
         value = """
             UPDATE users
-            SET favourite_service_centres = array_remove(favourite_service_centres, :subjectId)
-            WHERE favourite_service_centres @> ARRAY[:subjectId]::UUID[]
+            SET favourite_service_centres = ARRAY(
+                SELECT favourite.subject_id
+                FROM unnest(favourite_service_centres) WITH ORDINALITY AS favourite(subject_id, position)
+                WHERE favourite.subject_id <> ALL (ARRAY[:subjectIds]::UUID[])
+                ORDER BY favourite.position
+            )
+            WHERE favourite_service_centres && ARRAY[:subjectIds]::UUID[]
+            """,
+        nativeQuery = true
+    )
+    int removeServiceCentresFromAllFavourites(@Param("subjectIds") Collection<UUID> subjectIds);
+
+    /**
+     * Deletes up to {@code limit} of the users who last logged in before the given time with a single statement,
+     * without loading them. Their locks and approvals are removed by the database's cascading foreign keys.
+     *
+     * @param lastLoginBefore the UTC time before which users are deleted
+     * @param limit the most users to delete
+     * @return the number of users deleted
+     */
+    @Modifying
+    @Query(
+        value = """
+            DELETE FROM users
+            WHERE id IN (
+                SELECT id
+                FROM users
+                WHERE last_login < :lastLoginBefore
+                LIMIT :limit
+            )
             """,
         nativeQuery = true
     )
-    int removeServiceCentreFromAllFavourites(@Param("subjectId") UUID subjectId);
+    int deleteBatchByLastLoginBefore(@Param("lastLoginBefore") LocalDateTime lastLoginBefore,
+                                     @Param("limit") int limit);
 
     interface FavouriteLocationReference {
         UUID getSubjectId();
@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Runs each scheduled run of a job on exactly one replica, coordinated through Postgres.
+ *
+ * <p>A Postgres session level advisory lock is taken with {@code pg_try_advisory_lock} on a connection held for
+ * the duration of the job, so a replica that finds the job already running elsewhere skips that run rather than
+ * queueing behind it. Because the lock belongs to the database session, it is released by Postgres if the replica
+ * holding it dies.</p>
+ *
+ * <p>The lock only stops runs overlapping, so while holding it the replica also claims the run's scheduled fire
+ * time in {@code scheduled_job_run}. The claim only succeeds if it moves the job's fire time forward, so a replica
+ * whose clock or scheduler runs late skips a run another replica has already finished.</p>
+ *
+ * <p>Each run is timed as {@value #RUN_METRIC}, tagged with the job name and an outcome of {@code success},
+ * {@code failure} or {@code skipped}.</p>
+ */
+@Component
+@Slf4j
+public class ClusterJobRunner {
+
+    static final String RUN_METRIC = "fact.scheduled.job";
+
+    /**
+     * First key of the two-part advisory lock key, reserving a key space for scheduled jobs so they cannot
+     * collide with any other use of advisory locks. The second key is the job name's hash.
+     */
+    static final int LOCK_NAMESPACE = 0x46414354;
+
+    private static final String TRY_LOCK = "select pg_try_advisory_lock(?, ?)";
+    private static final String UNLOCK = "select pg_advisory_unlock(?, ?)";
+    private static final String CLAIM = """
+        insert into scheduled_job_run (job_name, fire_time, claimed_at) values (?, ?, now())
+        on conflict (job_name) do update set fire_time = excluded.fire_time, claimed_at = excluded.claimed_at
+        where scheduled_job_run.fire_time < excluded.fire_time""";
+
+    /**
+     * How far ahead of its fire time the scheduler may start a run and still have it attributed to that fire time.
+     */
+    private static final Duration EARLY_START_TOLERANCE = Duration.ofSeconds(1);
+
+    /**
+     * Increasing windows searched for the latest fire time, so frequent schedules are resolved without stepping
+     * through a long window of fire times.
+     */
+    private static final List<Duration> FIRE_TIME_WINDOWS = List.of(
+        Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofDays(1), Duration.ofDays(32), Duration.ofDays(366)
+    );
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    public ClusterJobRunner(DataSource dataSource, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Run the job for its current scheduled fire time, unless another replica is running it or has already run it
+     * for that fire time. Failures of the job are logged and recorded in the run metric rather than thrown, as there
+     * is no caller to report them to.
+     *
+     * @param jobName the name of the job, which identifies its lock and its runs across replicas.
+     * @param cron the cron expression the job is scheduled with.
+     * @param job the job to run.
+     * @return true if this replica ran the job, false if it was skipped.
+     */
+    public boolean runScheduled(String jobName, String cron, Runnable job) {
+        ZonedDateTime fireTime = scheduledFireTime(CronExpression.parse(cron), ZonedDateTime.now());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (Connection connection = dataSource.getConnection()) {
+            if (!execute(connection, TRY_LOCK, jobName)) {
+                log.debug("Skipping {}, it is running on another replica", jobName);
+                sample.stop(timer(jobName, "skipped"));
+                return false;
+            }
+            try {
+                if (!claim(connection, jobName, fireTime)) {
+                    log.debug("Skipping {} for {}, another replica has already run it", jobName, fireTime);
+                    sample.stop(timer(jobName, "skipped"));
+                    return false;
+                }
+                run(jobName, job, sample);
+            } finally {
+                unlock(connection, jobName);
+            }
+            return true;
+        } catch (SQLException ex) {
+            sample.stop(timer(jobName, "failure"));
+            log.error("Unable to claim scheduled job {}", jobName, ex);
+            return false;
+        }
+    }
+
+    /**
+     * The latest fire time of the schedule at or before now, allowing for the scheduler starting a run slightly
+     * early. Replicas whose clocks differ by less than the schedule's interval agree on it.
+     */
+    static ZonedDateTime scheduledFireTime(CronExpression cron, ZonedDateTime now) {
+        ZonedDateTime latest = now.plus(EARLY_START_TOLERANCE);
+        for (Duration window : FIRE_TIME_WINDOWS) {
+            ZonedDateTime fireTime = cron.next(latest.minus(window));
+            if (fireTime != null && !fireTime.isAfter(latest)) {
+                for (ZonedDateTime next = cron.next(fireTime); next != null && !next.isAfter(latest);
+                     next = cron.next(next)) {
+                    fireTime = next;
+                }
+                return fireTime;
+            }
+        }
+        // Only reachable for a run started by hand rather than by the schedule.
+        return now.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void run(String jobName, Runnable job, Timer.Sample sample) {
+        try {
+            job.run();
+            sample.stop(timer(jobName, "success"));
+            log.info("Completed {}", jobName);
+        } catch (RuntimeException ex) {
+            sample.stop(timer(jobName, "failure"));
+            log.error("Scheduled job {} failed", jobName, ex);
+        }
+    }
+
+    private static boolean claim(Connection connection, String jobName, ZonedDateTime fireTime) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM)) {
+            statement.setString(1, jobName);
+            statement.setObject(2, fireTime.toOffsetDateTime());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private void unlock(Connection connection, String jobName) throws SQLException {
+        try {
+            execute(connection, UNLOCK, jobName);
+        } catch (SQLException ex) {
+            // The connection goes back to the pool with its session, and so the lock, still open. Abort it
+            // instead, which ends the session and releases the lock.
+            log.warn("Unable to release the lock for scheduled job {}, discarding the connection", jobName, ex);
+            connection.abort(Runnable::run);
+        }
+    }
+
+    private static boolean execute(Connection connection, String sql, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, jobName.hashCode());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private Timer timer(String jobName, String outcome) {
+        return Timer.builder(RUN_METRIC)
+            .description("Duration of scheduled housekeeping job runs")
+            .tag("job", jobName)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
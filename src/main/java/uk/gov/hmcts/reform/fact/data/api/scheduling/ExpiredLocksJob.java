@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fact.data.api.config.properties.SchedulingConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.services.LockService;
+
+/**
+ * Removes expired page locks. Unlike the jobs in {@link ScheduledJobs} it only deletes locks nobody holds any
+ * more, so it runs unless it is switched off for the environment, rather than waiting for scheduling to be enabled.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "fact.data-api.scheduling", name = "expired-locks-enabled", havingValue = "true", matchIfMissing = true
+)
+public class ExpiredLocksJob {
+
+    static final String EXPIRED_LOCKS = "expired-locks";
+
+    private final ClusterJobRunner clusterJobRunner;
+    private final SchedulingConfigurationProperties properties;
+    private final LockService lockService;
+
+    public ExpiredLocksJob(ClusterJobRunner clusterJobRunner,
+                           SchedulingConfigurationProperties properties,
+                           LockService lockService) {
+        this.clusterJobRunner = clusterJobRunner;
+        this.properties = properties;
+        this.lockService = lockService;
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.expired-locks-cron}")
+    public void deleteExpiredLocks() {
+        clusterJobRunner.runScheduled(EXPIRED_LOCKS, properties.getExpiredLocksCron(), lockService::deleteExpiredLocks);
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fact.data.api.config.properties.SchedulingConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.services.AuditService;
+import uk.gov.hmcts.reform.fact.data.api.services.CsvService;
+import uk.gov.hmcts.reform.fact.data.api.services.LocationChangesService;
+import uk.gov.hmcts.reform.fact.data.api.services.UserService;
+
+/**
+ * The built-in housekeeping jobs, off unless scheduling is enabled for the environment. Every replica triggers
+ * them on the configured schedules, and {@link ClusterJobRunner} makes sure only one of them does the work for each
+ * scheduled run. Expired locks are removed separately by {@link ExpiredLocksJob}, which runs by default.
+ */
+@Component
+@ConditionalOnProperty(prefix = "fact.data-api.scheduling", name = "enabled", havingValue = "true")
+public class ScheduledJobs {
+
+    static final String CSV_EXPORT = "csv-export";
+    static final String AUDIT_RETENTION = "audit-retention";
+    static final String AUDIT_PARTITIONS = "audit-partitions";
+    static final String INACTIVE_USERS = "inactive-users";
+    static final String TOMBSTONE_RETENTION = "tombstone-retention";
+
+    private final ClusterJobRunner clusterJobRunner;
+    private final SchedulingConfigurationProperties properties;
+    private final CsvService csvService;
+    private final AuditService auditService;
+    private final UserService userService;
+    private final LocationChangesService locationChangesService;
+
+    public ScheduledJobs(ClusterJobRunner clusterJobRunner,
+                         SchedulingConfigurationProperties properties,
+                         CsvService csvService,
+                         AuditService auditService,
+                         UserService userService,
+                         LocationChangesService locationChangesService) {
+        this.clusterJobRunner = clusterJobRunner;
+        this.properties = properties;
+        this.csvService = csvService;
+        this.auditService = auditService;
+        this.userService = userService;
+        this.locationChangesService = locationChangesService;
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.csv-export-cron}")
+    public void exportCsv() {
+        clusterJobRunner.runScheduled(CSV_EXPORT, properties.getCsvExportCron(), csvService::createAndUploadCsv);
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.audit-retention-cron}")
+    public void removeExpiredAuditEntries() {
+        clusterJobRunner.runScheduled(
+            AUDIT_RETENTION, properties.getAuditRetentionCron(), auditService::removeExpiredAuditEntries
+        );
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.audit-partitions-cron}")
+    public void createAuditPartitions() {
+        clusterJobRunner.runScheduled(
+            AUDIT_PARTITIONS, properties.getAuditPartitionsCron(), auditService::createAuditPartitions
+        );
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.inactive-users-cron}")
+    public void deleteInactiveUsers() {
+        clusterJobRunner.runScheduled(
+            INACTIVE_USERS, properties.getInactiveUsersCron(), userService::deleteInactiveUsers
+        );
+    }
+
+    @Scheduled(cron = "${fact.data-api.scheduling.tombstone-retention-cron}")
+    public void deleteExpiredTombstones() {
+        clusterJobRunner.runScheduled(
+            TOMBSTONE_RETENTION, properties.getTombstoneRetentionCron(), locationChangesService::deleteExpiredTombstones
+        );
+    }
+}
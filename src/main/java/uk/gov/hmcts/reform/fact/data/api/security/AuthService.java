@@ -3,14 +3,19 @@ package uk.gov.hmcts.reform.fact.data.api.security;
 import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.UsersDeletedEvent;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,6 +32,8 @@ public class AuthService {
     static final String PREFIX = "APPROLE_";
     static final String ROLE_ADMIN = "Role.Fact.Admin";
     static final String ROLE_VIEWER = "Role.Fact.Viewer";
+    static final Duration KNOWN_USER_EXPIRY = Duration.ofMinutes(1);
+    static final long KNOWN_USERS_MAXIMUM_SIZE = 10_000;
     private static final String COURT_LINK_PATH = "/courts/v1/link";
     private static final String USER_PATH = "/user/v1";
     private static final String USER_RETENTION_PATH = "/user/v1/retention";
@@ -40,6 +47,14 @@ public class AuthService {
     private final ObjectProvider<AuditUserContext> auditUserContextProvider;
     private final ObjectProvider<UserRepository> userRepositoryProvider;
 
+    // Users confirmed to exist, so most admin requests do not need a database round trip to check their header.
+    // Only users that exist are kept, so a newly created user is never turned away. Users deleted by another
+    // replica are forgotten here once their entry expires.
+    private final Cache<UUID, Boolean> knownUserIds = Caffeine.newBuilder()
+        .maximumSize(KNOWN_USERS_MAXIMUM_SIZE)
+        .expireAfterWrite(KNOWN_USER_EXPIRY)
+        .build();
+
     public boolean canView() {
         return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
            .map(this::findViewerRole)
@@ -58,6 +73,16 @@ public class AuthService {
         return isAdmin;
     }
 
+    /**
+     * Forget every known user once a run has deleted users, so their ids are checked against the database again.
+     *
+     * @param event the deletion run.
+     */
+    @EventListener
+    public void onUsersDeleted(UsersDeletedEvent event) {
+        knownUserIds.invalidateAll();
+    }
+
     private String findViewerRole(Authentication authentication) {
         return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority)
             .filter(a -> a.equals(PREFIX + ROLE_VIEWER) || a.equals(PREFIX + ROLE_ADMIN))
@@ -83,15 +108,23 @@ public class AuthService {
             }
 
             UUID userId = parseUserId(userIdHeader);
-            UserRepository repository = userRepositoryProvider.getObject();
-            if (!repository.existsById(userId)) {
-                throw new NotFoundException("No user found for user id: " + userId);
-            }
+            verifyUserExists(userId);
 
             auditUserContextProvider.getObject().setUserId(userId);
         });
     }
 
+    private void verifyUserExists(UUID userId) {
+        if (knownUserIds.getIfPresent(userId) != null) {
+            return;
+        }
+        UserRepository repository = userRepositoryProvider.getObject();
+        if (!repository.existsById(userId)) {
+            throw new NotFoundException("No user found for user id: " + userId);
+        }
+        knownUserIds.put(userId, Boolean.TRUE);
+    }
+
     private UUID parseUserId(String userIdHeader) {
         try {
             return UUID.fromString(userIdHeader);
@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.reform.fact.data.api.dto.AllLocationDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreDetailsRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Writes the details of every court and service centre as newline delimited JSON, one
+ * {@link AllLocationDetails} per line.
+ *
+ * <p>Unlike the all details endpoint, nothing is held for the whole estate. The locations are read in pages keyed
+ * on name and id, and each page is loaded and enriched in its own short read-only transaction, then written and
+ * flushed once that transaction has ended. A slow client therefore never holds a transaction or a pooled
+ * connection open, and memory use is bounded by the page size. As pages are read in separate transactions, a
+ * location changed while the export runs may appear as it was either before or after the change.</p>
+ */
+@Service
+public class AllLocationDetailsExportService {
+
+    static final int CHUNK_SIZE = 100;
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * Sorts before every location, as no name is less than the empty string and no id is less than the nil UUID.
+     */
+    private static final NameAndId START = new NameAndId("", new UUID(0, 0));
+
+    private final CourtDetailsRepository courtDetailsRepository;
+    private final ServiceCentreDetailsRepository serviceCentreDetailsRepository;
+    private final CourtService courtService;
+    private final ServiceCentreService serviceCentreService;
+    private final CourtDetailsViewService courtDetailsViewService;
+    private final ServiceCentreDetailsViewService serviceCentreDetailsViewService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public AllLocationDetailsExportService(CourtDetailsRepository courtDetailsRepository,
+                                           ServiceCentreDetailsRepository serviceCentreDetailsRepository,
+                                           CourtService courtService,
+                                           ServiceCentreService serviceCentreService,
+                                           CourtDetailsViewService courtDetailsViewService,
+                                           ServiceCentreDetailsViewService serviceCentreDetailsViewService,
+                                           EntityManager entityManager,
+                                           ObjectMapper objectMapper,
+                                           PlatformTransactionManager transactionManager) {
+        this.courtDetailsRepository = courtDetailsRepository;
+        this.serviceCentreDetailsRepository = serviceCentreDetailsRepository;
+        this.courtService = courtService;
+        this.serviceCentreService = serviceCentreService;
+        this.courtDetailsViewService = courtDetailsViewService;
+        this.serviceCentreDetailsViewService = serviceCentreDetailsViewService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Write every court, then every service centre, each in name order, to the given stream as newline
+     * delimited JSON. The stream is flushed after each chunk but not closed.
+     *
+     * @param outputStream the stream to write to.
+     * @throws UncheckedIOException if writing to the stream fails, such as when the client disconnects.
+     */
+    public void writeAllLocationDetails(OutputStream outputStream) {
+        writeChunks(courtDetailsRepository::findNamesAndIdsAfter, ids -> courtDetailsViewService
+            .prepareDetailsViews(courtService.getCourtDetailsByIds(ids)).stream()
+            .map(AllLocationDetails::fromCourt)
+            .toList(), outputStream);
+        writeChunks(serviceCentreDetailsRepository::findNamesAndIdsAfter, ids -> serviceCentreDetailsViewService
+            .prepareDetailsViews(serviceCentreService.getServiceCentreDetailsByIds(ids)).stream()
+            .map(AllLocationDetails::fromServiceCentre)
+            .toList(), outputStream);
+    }
+
+    private void writeChunks(PageReader pageReader, Function<List<UUID>, List<AllLocationDetails>> loader,
+                             OutputStream outputStream) {
+        NameAndId after = START;
+        while (after != null) {
+            NameAndId position = after;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<NameAndId> page = pageReader.findNamesAndIdsAfter(
+                    position.name(), position.id(), Limit.of(CHUNK_SIZE)
+                );
+                List<AllLocationDetails> locations = page.isEmpty()
+                    ? List.of()
+                    : loader.apply(page.stream().map(NameAndId::id).toList());
+                // The loaded locations are mapped; drop them so the persistence context, which may outlive the
+                // transaction when it is bound to the request, does not grow with the estate.
+                entityManager.clear();
+                return new Chunk(locations, page.size() < CHUNK_SIZE ? null : page.getLast());
+            });
+            write(chunk.locations(), outputStream);
+            after = chunk.next();
+        }
+    }
+
+    private void write(List<AllLocationDetails> locations, OutputStream outputStream) {
+        try {
+            for (AllLocationDetails location : locations) {
+                outputStream.write(objectMapper.writeValueAsBytes(location));
+                outputStream.write(NEWLINE);
+            }
+            outputStream.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+        List<NameAndId> findNamesAndIdsAfter(String name, UUID id, Limit limit);
+    }
+
+    /**
+     * The locations of one page, and the position to read the next page after, or null if this was the last.
+     */
+    private record Chunk(List<AllLocationDetails> locations, NameAndId next) {}
+}
@@ -112,9 +112,8 @@ public class AllLocationService {
     }
 
     private List<AllLocationDetails> getCourtDetails() {
-        return courtDetailsRepository.findAll()
+        return courtDetailsViewService.prepareDetailsViews(courtDetailsRepository.findAll())
             .stream()
-            .map(courtDetailsViewService::prepareDetailsView)
             .map(AllLocationDetails::fromCourt)
             .toList();
     }
@@ -143,9 +142,8 @@ public class AllLocationService {
     }
 
     private List<AllLocationDetails> getServiceCentreDetails() {
-        return serviceCentreDetailsRepository.findAll()
+        return serviceCentreDetailsViewService.prepareDetailsViews(serviceCentreDetailsRepository.findAll())
             .stream()
-            .map(serviceCentreDetailsViewService::prepareDetailsView)
             .map(AllLocationDetails::fromServiceCentre)
             .toList();
     }
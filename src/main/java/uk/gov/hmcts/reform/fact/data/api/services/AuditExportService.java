@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.config.properties.AuditConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
+
+/**
+ * Writes every audit matching a search, newest first, as CSV or newline delimited JSON.
+ *
+ * <p>The audits are read in pages of the configured size, keyed on creation time and id rather than a count and an
+ * offset. Each page is read and rendered in its own short read-only transaction, and only written and flushed to
+ * the client once that transaction has ended, so a slow client never holds a transaction or a pooled connection
+ * open. A whole investigation can be exported in one request without holding it in memory.</p>
+ */
+@Service
+public class AuditExportService {
+
+    static final List<String> CSV_COLUMNS = List.of(
+        "id", "createdAt", "subjectType", "subjectId", "userId", "userEmail", "actionType", "actionEntity", "changes"
+    );
+    private static final byte NEWLINE = '\n';
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final AuditConfigurationProperties auditConfiguration;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter csvRowWriter;
+    private final byte[] csvHeader;
+
+    public AuditExportService(EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              AuditConfigurationProperties auditConfiguration,
+                              PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.auditConfiguration = auditConfiguration;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        CsvSchema.Builder schema = CsvSchema.builder();
+        CSV_COLUMNS.forEach(schema::addColumn);
+        this.csvRowWriter = CsvMapper.builder().build().writer(schema.build().withoutHeader());
+        this.csvHeader = (String.join(",", CSV_COLUMNS) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The formats audits can be exported in.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+    }
+
+    /**
+     * Write the audits matching the search to the given stream, newest first. CSV has a header row, then one row
+     * per audit with its changes as JSON; NDJSON has one audit per line, as returned by the audit list. The
+     * stream is flushed but not closed.
+     *
+     * @param search the audits to write, or {@code null} when no audit can match, such as when no user matches
+     *               the email filter.
+     * @param format the format to write.
+     * @param outputStream the stream to write to.
+     * @throws UncheckedIOException if writing to the stream fails, such as when the client disconnects.
+     */
+    public void writeAudits(AuditSearch search, Format format, OutputStream outputStream) {
+        try {
+            if (format == Format.CSV) {
+                outputStream.write(csvHeader);
+            }
+            if (search != null) {
+                writePages(search, format, outputStream);
+            }
+            outputStream.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writePages(AuditSearch search, Format format, OutputStream outputStream) throws IOException {
+        int pageSize = auditConfiguration.getExport().getPageSize();
+        Position after = null;
+        do {
+            Position position = after;
+            RenderedPage page = transactionTemplate.execute(status -> renderPage(search, position, pageSize, format));
+            outputStream.write(page.content());
+            outputStream.flush();
+            after = page.next();
+        } while (after != null);
+    }
+
+    private RenderedPage renderPage(AuditSearch search, Position after, int pageSize, Format format) {
+        List<Audit> audits = findAudits(search, after, pageSize);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try {
+            for (Audit audit : audits) {
+                write(audit, format, content);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        // The rendered audits are no longer needed; drop them so the persistence context, which may outlive the
+        // transaction when it is bound to the request, does not grow with the export.
+        entityManager.clear();
+        Position next = audits.size() < pageSize
+            ? null
+            : new Position(audits.getLast().getCreatedAt(), audits.getLast().getId());
+        return new RenderedPage(content.toByteArray(), next);
+    }
+
+    private List<Audit> findAudits(AuditSearch search, Position after, int pageSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Audit> query = criteriaBuilder.createQuery(Audit.class);
+        Root<Audit> root = query.from(Audit.class);
+        root.fetch("user", JoinType.LEFT);
+        Path<ZonedDateTime> createdAt = root.get("createdAt");
+        Path<UUID> id = root.get("id");
+        Predicate matches = search.toSpecification().toPredicate(root, query, criteriaBuilder);
+        if (after != null) {
+            matches = criteriaBuilder.and(matches, criteriaBuilder.or(
+                criteriaBuilder.lessThan(createdAt, after.createdAt()),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(createdAt, after.createdAt()),
+                    criteriaBuilder.lessThan(id, after.id())
+                )
+            ));
+        }
+        query.where(matches);
+        query.orderBy(criteriaBuilder.desc(createdAt), criteriaBuilder.desc(id));
+        return entityManager.createQuery(query)
+            .setMaxResults(pageSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+    }
+
+    private void write(Audit audit, Format format, OutputStream outputStream) throws IOException {
+        switch (format) {
+            case CSV -> outputStream.write(csvRowWriter.writeValueAsBytes(AuditCsvRow.from(audit, objectMapper)));
+            case NDJSON -> {
+                outputStream.write(objectMapper.writeValueAsBytes(audit));
+                outputStream.write(NEWLINE);
+            }
+        }
+    }
+
+    /**
+     * An audit flattened to the {@link #CSV_COLUMNS}.
+     */
+    record AuditCsvRow(UUID id, String createdAt, String subjectType, UUID subjectId, UUID userId, String userEmail,
+                       String actionType, String actionEntity, String changes) {
+
+        static AuditCsvRow from(Audit audit, ObjectMapper objectMapper) {
+            return new AuditCsvRow(
+                audit.getId(),
+                audit.getCreatedAt() != null
+                    ? audit.getCreatedAt().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+                    : null,
+                audit.getSubjectType() != null ? audit.getSubjectType().name() : null,
+                audit.getSubjectId(),
+                audit.getUserId(),
+                audit.getUser() != null ? audit.getUser().getEmail() : null,
+                audit.getActionType() != null ? audit.getActionType().name() : null,
+                audit.getActionEntity(),
+                audit.getActionDataDiff() != null ? objectMapper.writeValueAsString(audit.getActionDataDiff()) : null
+            );
+        }
+    }
+
+    /**
+     * The creation time and id of the last audit of a page, which the next page is read after.
+     */
+    private record Position(ZonedDateTime createdAt, UUID id) {}
+
+    /**
+     * A page of audits rendered in the export format, and the position to read the next page after, or null if
+     * this was the last.
+     */
+    private record RenderedPage(byte[] content, Position next) {}
+}
@@ -7,6 +7,9 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+import uk.gov.hmcts.reform.fact.data.api.repositories.PageTotal;
+import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -18,18 +21,25 @@ import java.util.UUID;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuditService {
 
+    static final int PARTITION_MONTHS_AHEAD = 3;
+
     private final AuditRepository auditRepository;
+    private final UserRepository userRepository;
+    private final HousekeepingService housekeepingService;
     private final CourtService courtService;
     private final ServiceCentreService serviceCentreService;
     private final AuditConfigurationProperties auditConfiguration;
@@ -44,14 +54,33 @@ public class AuditService {
      * @param serviceCentreId The id of the service centre. can be {@code null}.
      * @param email      The email, or partial email of the related user. can be {@code null}.
      * @param toDate     The "to" date for auditing. Filtering assumes end of day. can e {@code null}.
+     * @param total      How the total number of matching audits is worked out.
      * @return a {@link Page} of {@link Audit} results.
      */
     public Page<Audit> getFilteredAndPaginatedAudits(int pageNumber, int pageSize, @NonNull LocalDate fromDate,
                                                      LocalDate toDate, SubjectType subjectType, String courtId,
-                                                     String serviceCentreId, String email) {
+                                                     String serviceCentreId, String email,
+                                                     @NonNull PageTotal total) {
 
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by("createdAt").descending());
+        return buildSearch(fromDate, toDate, subjectType, courtId, serviceCentreId, email)
+            .map(search -> auditRepository.search(search, pageable, total))
+            .orElseGet(() -> Page.empty(pageable));
+    }
 
+    /**
+     * Build the search for a set of audit filters, shared by the paged audit list and the audit export.
+     *
+     * @param fromDate   The "from" date for filtering. Filtering assumes start of day.
+     * @param toDate     The "to" date for auditing. Filtering assumes end of day. can be {@code null}.
+     * @param subjectType The type of subject audited. can be {@code null}.
+     * @param courtId    The id of the court. can be {@code null}.
+     * @param serviceCentreId The id of the service centre. can be {@code null}.
+     * @param email      The email, or partial email of the related user. can be {@code null}.
+     * @return the {@link AuditSearch}, or empty if no user matches the email, so no audit can match.
+     */
+    public Optional<AuditSearch> buildSearch(@NonNull LocalDate fromDate, LocalDate toDate, SubjectType subjectType,
+                                             String courtId, String serviceCentreId, String email) {
         ZonedDateTime fromDateTime = ZonedDateTime.ofInstant(
             fromDate.atStartOfDay(ZoneOffset.UTC).toInstant(),
             ZoneOffset.UTC
@@ -64,90 +93,65 @@ public class AuditService {
 
         SubjectFilter subjectFilter = resolveSubjectFilter(courtId, serviceCentreId, subjectType);
 
-        return performAuditQuery(fromDateTime, toDateTime, subjectFilter, email, pageable);
+        AuditSearch search = AuditSearch.createdAfter(fromDateTime).withCreatedBefore(toDateTime);
+        if (subjectFilter != null) {
+            search = search.withSubject(subjectFilter.subjectType(), subjectFilter.subjectId());
+        }
+        if (email != null && !email.isBlank()) {
+            // resolve the email to its users first, so the audit query itself only filters on indexed columns
+            List<UUID> userIds = userRepository.findIdsByEmailContainingIgnoreCase(email);
+            if (userIds.isEmpty()) {
+                return Optional.empty();
+            }
+            search = search.withUserIds(userIds);
+        }
+        return Optional.of(search);
     }
 
     /**
      * Removes any audit entries which have exceeded the configured retention period.
      *
      * <p>
+     * The audit table is partitioned by month, so months that have fully expired are dropped as whole partitions
+     * and only the month the cutoff falls in has its expired rows deleted, in short batches.
+     *
+     * <p>
      * Expiry retention days are configured via {@link AuditConfigurationProperties}.
      */
-    @Transactional
     public void removeExpiredAuditEntries() {
-        auditRepository.deleteAllByCreatedAtBefore(
-            ZonedDateTime.now().minusDays(auditConfiguration.getRetentionDays())
-        );
-    }
-
-    private Page<Audit> performAuditQuery(ZonedDateTime fromDateTime, ZonedDateTime toDateTime,
-                                          SubjectFilter subjectFilter, String email, Pageable pageable) {
-        boolean hasToDate = toDateTime != null;
-        boolean hasEmail = email != null && !email.isBlank();
-
-        if (subjectFilter != null) {
-            if (subjectFilter.subjectId != null) {
-                return performSubjectAuditQuery(fromDateTime, toDateTime, subjectFilter, email, pageable);
-            } else {
-                return performSubjectTypeAuditQuery(
-                    fromDateTime, toDateTime, subjectFilter.subjectType(), email, pageable);
-            }
-        }
-        if (hasToDate && hasEmail) {
-            return auditRepository.findByCreatedAtBetweenAndEmailAddressLike(
-                fromDateTime, toDateTime, email, pageable);
-        }
-        if (hasToDate) {
-            return auditRepository.findByCreatedAtBetween(fromDateTime, toDateTime, pageable);
-        }
-        if (hasEmail) {
-            return auditRepository.findByCreatedAtAfterAndEmailAddressLike(fromDateTime, email, pageable);
-        }
-        return auditRepository.findByCreatedAtAfter(fromDateTime, pageable);
+        ZonedDateTime cutoff = ZonedDateTime.now(ZoneOffset.UTC).minusDays(auditConfiguration.getRetentionDays());
+        int dropped = auditRepository.dropAuditPartitionsBefore(cutoff.toLocalDateTime());
+        int deleted = housekeepingService.deleteAuditsCreatedBefore(cutoff);
+        log.info("Removed audits created before {}: dropped {} monthly partitions, deleted {} audits", cutoff,
+                 dropped, deleted);
     }
 
-    private Page<Audit> performSubjectAuditQuery(ZonedDateTime fromDateTime, ZonedDateTime toDateTime,
-                                                 SubjectFilter subjectFilter, String email, Pageable pageable) {
-        UUID subjectId = subjectFilter.subjectId();
-        SubjectType subjectType = subjectFilter.subjectType();
-        boolean hasToDate = toDateTime != null;
-        boolean hasEmail = email != null && !email.isBlank();
-
-        if (hasToDate && hasEmail) {
-            return auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-                subjectId, subjectType, fromDateTime, toDateTime, email, pageable);
-        }
-        if (hasToDate) {
-            return auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtBetween(
-                subjectId, subjectType, fromDateTime, toDateTime, pageable);
-        }
-        if (hasEmail) {
-            return auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-                subjectId, subjectType, fromDateTime, email, pageable);
+    /**
+     * Creates any missing monthly audit partitions for the current month and the coming months, ready for new
+     * audits, moving any audits that had to be stored in the default partition into the new partitions.
+     *
+     * @return the number of partitions created.
+     */
+    public int createAuditPartitions() {
+        int created = auditRepository.createAuditPartitions(PARTITION_MONTHS_AHEAD);
+        if (created > 0) {
+            log.info("Created {} monthly audit partitions", created);
         }
-        return auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-            subjectId, subjectType, fromDateTime, pageable);
+        return created;
     }
 
-    private Page<Audit> performSubjectTypeAuditQuery(ZonedDateTime fromDateTime, ZonedDateTime toDateTime,
-                                                     SubjectType subjectType, String email, Pageable pageable) {
-        boolean hasToDate = toDateTime != null;
-        boolean hasEmail = email != null && !email.isBlank();
-
-        if (hasToDate && hasEmail) {
-            return auditRepository.findBySubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-                subjectType, fromDateTime, toDateTime, email, pageable);
-        }
-        if (hasToDate) {
-            return auditRepository.findBySubjectTypeAndCreatedAtBetween(
-                subjectType, fromDateTime, toDateTime, pageable);
-        }
-        if (hasEmail) {
-            return auditRepository.findBySubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-                subjectType, fromDateTime, email, pageable);
+    /**
+     * Create any missing audit partitions once the application (and any startup migrations) are ready, so new
+     * audits have a partition even where the scheduled job does not run. A failure here is not fatal, as audits
+     * without a partition are kept in the default partition until one is created.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            createAuditPartitions();
+        } catch (RuntimeException ex) {
+            log.warn("Unable to create audit partitions at startup: {}", ex.getMessage());
         }
-        return auditRepository.findBySubjectTypeAndCreatedAtAfter(
-            subjectType, fromDateTime, pageable);
     }
 
     private static SubjectFilter resolveSubjectFilter(String courtId, String serviceCentreId,
@@ -3,15 +3,22 @@ package uk.gov.hmcts.reform.fact.data.api.services;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlockBlobOutputStreamOptions;
+import com.azure.storage.blob.specialized.BlobOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.AzureUploadException;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 @Slf4j
 public class AzureBlobService {
 
+    private static final long STREAM_BLOCK_SIZE = 4L * 1024 * 1024;
+    private static final int STREAM_MAX_CONCURRENCY = 2;
+
     private final BlobContainerClient blobContainerClient;
 
     public AzureBlobService(BlobContainerClient blobContainerClient) {
@@ -36,6 +43,36 @@ public class AzureBlobService {
         return blobClient.getBlobUrl();
     }
 
+    /**
+     * Uploads content to an Azure blob as it is written, without holding the whole file in memory.
+     * The content is staged as blocks while the writer runs and the blob is only replaced when the block list is
+     * committed after the writer completes, so readers keep seeing the previous blob until then. If the writer
+     * fails nothing is committed, and Azure discards the uncommitted blocks.
+     *
+     * @param blobName      The name of the blob to create or replace.
+     * @param contentType   The content type of the blob.
+     * @param writer        Writes the blob content to the provided stream.
+     * @return The URL of the uploaded blob.
+     * @throws IOException if the writer fails to write the content.
+     */
+    public String uploadStream(String blobName, String contentType, BlobContentWriter writer) throws IOException {
+        BlobClient blobClient = blobContainerClient.getBlobClient(blobName);
+        BlockBlobOutputStreamOptions options = new BlockBlobOutputStreamOptions()
+            .setParallelTransferOptions(new ParallelTransferOptions()
+                .setBlockSizeLong(STREAM_BLOCK_SIZE)
+                .setMaxConcurrency(STREAM_MAX_CONCURRENCY))
+            .setHeaders(new BlobHttpHeaders().setContentType(contentType));
+
+        // Not try-with-resources: closing the stream commits the block list, which must not happen on failure.
+        BlobOutputStream outputStream = blobClient.getBlockBlobClient().getBlobOutputStream(options);
+        writer.write(outputStream);
+        outputStream.close();
+
+        log.info("Streamed {} to {}", blobName, blobClient.getBlobUrl());
+
+        return blobClient.getBlobUrl();
+    }
+
     private void uploadToBlob(BlobClient blobClient, MultipartFile file) {
         try {
             blobClient.upload(file.getInputStream(), file.getSize(), true);
@@ -57,4 +94,19 @@ public class AzureBlobService {
 
         blobClient.delete();
     }
+
+    /**
+     * Writes the content of a blob to the stream it is given.
+     */
+    @FunctionalInterface
+    public interface BlobContentWriter {
+
+        /**
+         * Write the blob content. The stream must not be closed by the writer.
+         *
+         * @param outputStream the stream to write to.
+         * @throws IOException if writing to the stream fails.
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.reform.fact.data.api.controllers.CourtController.CourtDetailsView;
+import uk.gov.hmcts.reform.fact.data.api.controllers.ServiceCentreController.ServiceCentreDetailsView;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetailsDocument;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Serves the court and service centre details responses from the {@code court_details_document} read model.
+ *
+ * <p>Building a details response joins every child table and runs the reference data enrichment, yet the result
+ * only changes when the location's {@code last_updated_at} or the reference data moves. The serialised response is
+ * therefore stored against both versions it was built from, and later reads of the same versions are a single
+ * primary key lookup with no serialisation. Writes need no extra work: the {@code last_updated_at} triggers already
+ * move the version whenever a child row changes, and the stale document is replaced in the background after the
+ * next read.</p>
+ *
+ * <p>A document built from newer reference data than this instance holds means another instance has reloaded it,
+ * so this instance reloads too rather than serving or storing a document built from its older copy.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CourtDetailsDocumentService {
+
+    private final CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+    private final CourtDetailsDocumentWriter courtDetailsDocumentWriter;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Get the serialised court details response for the given version of a court.
+     *
+     * @param version the id and current last updated time of the court, may be null.
+     * @param loader builds the prepared court details, only invoked when no current document exists.
+     * @return the court details response as JSON bytes.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getCourtDetailsDocument(IdAndLastUpdatedAt version, Supplier<CourtDetails> loader) {
+        return getDocument(SubjectType.COURT, version, CourtDetailsView.class, loader);
+    }
+
+    /**
+     * Get the serialised service centre details response for the given version of a service centre.
+     *
+     * @param version the id and current last updated time of the service centre, may be null.
+     * @param loader builds the prepared service centre details, only invoked when no current document exists.
+     * @return the service centre details response as JSON bytes.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getServiceCentreDetailsDocument(IdAndLastUpdatedAt version,
+                                                  Supplier<ServiceCentreDetails> loader) {
+        return getDocument(SubjectType.SERVICE_CENTRE, version, ServiceCentreDetailsView.class, loader);
+    }
+
+    private byte[] getDocument(SubjectType locationType, IdAndLastUpdatedAt version, Class<?> view,
+                               Supplier<?> loader) {
+        if (version == null || version.lastUpdatedAt() == null) {
+            return serialise(loader.get(), view);
+        }
+
+        long referenceDataVersion = referenceDataRegistry.getSnapshot().version();
+        Optional<CourtDetailsDocument> stored =
+            courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(version.id(), version.lastUpdatedAt());
+        if (stored.isPresent()) {
+            long storedVersion = stored.get().getReferenceDataVersion();
+            if (storedVersion == referenceDataVersion) {
+                return stored.get().getDocument();
+            }
+            if (storedVersion > referenceDataVersion) {
+                referenceDataVersion = referenceDataRegistry.reloadIfOlderThan(storedVersion).version();
+            }
+        }
+
+        // The version is read before the document is built, so a reload part way through can only label the
+        // document as older than its content, which at worst means it is built once more.
+        byte[] document = serialise(loader.get(), view);
+        courtDetailsDocumentWriter.store(
+            version.id(),
+            locationType,
+            version.lastUpdatedAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+            referenceDataVersion,
+            document
+        );
+        return document;
+    }
+
+    private byte[] serialise(Object details, Class<?> view) {
+        return objectMapper.writerWithView(view).writeValueAsBytes(details);
+    }
+}
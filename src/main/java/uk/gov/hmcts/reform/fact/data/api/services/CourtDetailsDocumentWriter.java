@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores newly built details documents in the background, so a details read never waits on, or holds a
+ * connection for, a write.
+ *
+ * <p>A stored document only saves later reads the work of building it again, so when the queue is full the document
+ * is not stored and the next read of that location builds it again.</p>
+ */
+@Component
+@Slf4j
+public class CourtDetailsDocumentWriter {
+
+    static final int QUEUE_CAPACITY = 1000;
+
+    private final CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(
+        1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        Thread.ofPlatform().daemon().name("details-document-writer").factory(),
+        new ThreadPoolExecutor.DiscardPolicy()
+    );
+
+    public CourtDetailsDocumentWriter(CourtDetailsDocumentRepository courtDetailsDocumentRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.courtDetailsDocumentRepository = courtDetailsDocumentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queue a document to be stored in its own transaction.
+     *
+     * @param locationId the ID of the court or service centre.
+     * @param locationType the location type.
+     * @param lastUpdatedAt the last updated time (UTC) the document was built from.
+     * @param referenceDataVersion the reference data version the document was built from.
+     * @param document the serialised details response.
+     */
+    public void store(UUID locationId, SubjectType locationType, LocalDateTime lastUpdatedAt,
+                      long referenceDataVersion, byte[] document) {
+        writer.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> courtDetailsDocumentRepository.upsertDocument(
+                    locationId, locationType.name(), lastUpdatedAt, referenceDataVersion, document
+                ));
+            } catch (RuntimeException ex) {
+                log.warn("Unable to store the details document for location {}: {}", locationId, ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Store the documents already queued, then stop.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            writer.shutdownNow();
+        }
+    }
+}
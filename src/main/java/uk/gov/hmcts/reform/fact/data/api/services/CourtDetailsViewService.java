@@ -14,13 +14,15 @@ import uk.gov.hmcts.reform.fact.data.api.entities.CourtOpeningHours;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
 import uk.gov.hmcts.reform.fact.data.api.entities.OpeningHourType;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -44,46 +46,90 @@ public class CourtDetailsViewService {
             return null;
         }
 
-        enrichOpeningHourTypes(courtDetails.getCourtOpeningHours());
-        enrichContactDescriptions(courtDetails.getCourtContactDetails());
-        enrichAddressTypes(courtDetails.getCourtAddresses());
-        enrichCounterServiceCourtTypes(courtDetails.getCourtCounterServiceOpeningHours());
-        enrichCourtAreasOfLaw(courtDetails.getCourtAreasOfLaw());
+        prepareDetailsViews(List.of(courtDetails));
         return courtDetails;
     }
 
     /**
-     * Pull in opening hour types by ID so the details endpoint can return names without
-     * forcing a global eager fetch.
+     * Prepares the details response for a set of courts, such as the CSV export or the all locations endpoint.
      *
-     * @param openingHours the opening hours records for a court
+     * <p>Rather than looking types up court by court, the type IDs referenced anywhere in the set are collected
+     * and resolved once per type. Every court that refers to the same ID is then given the same type instance,
+     * including the stub created for an ID that could not be found.
+     *
+     * @param courtDetails the court details entities to prepare
+     * @return the same entities after enrichment, skipping any null entries
      */
-    private void enrichOpeningHourTypes(List<CourtOpeningHours> openingHours) {
-        if (openingHours == null || openingHours.isEmpty()) {
-            return;
+    public List<CourtDetails> prepareDetailsViews(Collection<CourtDetails> courtDetails) {
+        if (courtDetails == null || courtDetails.isEmpty()) {
+            return List.of();
         }
 
-        List<UUID> openingHourTypeIds = openingHours.stream()
-            .map(CourtOpeningHours::getOpeningHourTypeId)
+        List<CourtDetails> courts = courtDetails.stream()
             .filter(Objects::nonNull)
-            .distinct()
             .toList();
 
-        Map<UUID, OpeningHourType> openingHourTypesById = openingHourTypeIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getOpeningHourTypesByIds(openingHourTypeIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(OpeningHourType::getId, Function.identity()));
-
-        openingHours.forEach(openingHour -> {
-            OpeningHourType openingHourType = openingHourTypesById.get(openingHour.getOpeningHourTypeId());
-            if (openingHourType == null && openingHour.getOpeningHourTypeId() != null) {
-                OpeningHourType fallback = new OpeningHourType();
-                fallback.setId(openingHour.getOpeningHourTypeId());
-                openingHourType = fallback;
-            }
-            openingHour.setOpeningHourTypeDetails(openingHourType);
+        Map<UUID, OpeningHourType> openingHourTypesById = resolveById(
+            courts.stream()
+                .flatMap(court -> safeList(court.getCourtOpeningHours()).stream())
+                .map(CourtOpeningHours::getOpeningHourTypeId),
+            typesService::getOpeningHourTypesByIds,
+            OpeningHourType::getId,
+            this::createOpeningHourTypeStub
+        );
+        Map<UUID, ContactDescriptionType> descriptionTypesById = resolveById(
+            courts.stream()
+                .flatMap(court -> safeList(court.getCourtContactDetails()).stream())
+                .map(CourtContactDetails::getCourtContactDescriptionId),
+            typesService::getContactDescriptionTypesByIds,
+            ContactDescriptionType::getId,
+            this::createContactDescriptionTypeStub
+        );
+        Map<UUID, AreaOfLawType> areasOfLawById = resolveById(
+            courts.stream().flatMap(court -> Stream.concat(
+                safeList(court.getCourtAddresses()).stream()
+                    .flatMap(address -> safeList(address.getAreasOfLaw()).stream()),
+                safeList(court.getCourtAreasOfLaw()).stream()
+                    .flatMap(area -> safeList(area.getAreasOfLaw()).stream())
+            )),
+            typesService::getAllAreasOfLawTypesByIds,
+            AreaOfLawType::getId,
+            this::createAreaOfLawStub
+        );
+        Map<UUID, CourtType> courtTypesById = resolveById(
+            courts.stream().flatMap(court -> Stream.concat(
+                safeList(court.getCourtAddresses()).stream()
+                    .flatMap(address -> safeList(address.getCourtTypes()).stream()),
+                safeList(court.getCourtCounterServiceOpeningHours()).stream()
+                    .flatMap(openingHours -> safeList(openingHours.getCourtTypes()).stream())
+            )),
+            typesService::getAllCourtTypesByIds,
+            CourtType::getId,
+            this::createCourtTypeStub
+        );
+
+        courts.forEach(court -> {
+            enrichOpeningHourTypes(court.getCourtOpeningHours(), openingHourTypesById);
+            enrichContactDescriptions(court.getCourtContactDetails(), descriptionTypesById);
+            enrichAddressTypes(court.getCourtAddresses(), areasOfLawById, courtTypesById);
+            enrichCounterServiceCourtTypes(court.getCourtCounterServiceOpeningHours(), courtTypesById);
+            enrichCourtAreasOfLaw(court.getCourtAreasOfLaw(), areasOfLawById);
         });
+        return courts;
+    }
+
+    /**
+     * Pull in opening hour types by ID so the details endpoint can return names without
+     * forcing a global eager fetch.
+     *
+     * @param openingHours the opening hours records for a court
+     * @param openingHourTypesById the resolved opening hour types, including stubs for missing IDs
+     */
+    private void enrichOpeningHourTypes(List<CourtOpeningHours> openingHours,
+                                        Map<UUID, OpeningHourType> openingHourTypesById) {
+        safeList(openingHours).forEach(openingHour -> openingHour.setOpeningHourTypeDetails(
+            openingHourTypesById.get(openingHour.getOpeningHourTypeId())
+        ));
     }
 
     /**
@@ -91,34 +137,13 @@ public class CourtDetailsViewService {
      * altering other endpoints.
      *
      * @param contactDetails the contact details records for a court
+     * @param descriptionTypesById the resolved contact description types, including stubs for missing IDs
      */
-    private void enrichContactDescriptions(List<CourtContactDetails> contactDetails) {
-        if (contactDetails == null || contactDetails.isEmpty()) {
-            return;
-        }
-
-        List<UUID> descriptionTypeIds = contactDetails.stream()
-            .map(CourtContactDetails::getCourtContactDescriptionId)
-            .filter(Objects::nonNull)
-            .distinct()
-            .toList();
-
-        Map<UUID, ContactDescriptionType> descriptionTypesById = descriptionTypeIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getContactDescriptionTypesByIds(descriptionTypeIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(ContactDescriptionType::getId, Function.identity()));
-
-        contactDetails.forEach(contactDetail -> {
-            UUID descriptionTypeId = contactDetail.getCourtContactDescriptionId();
-            ContactDescriptionType descriptionType = descriptionTypesById.get(descriptionTypeId);
-            if (descriptionType == null && descriptionTypeId != null) {
-                ContactDescriptionType fallback = new ContactDescriptionType();
-                fallback.setId(descriptionTypeId);
-                descriptionType = fallback;
-            }
-            contactDetail.setCourtContactDescriptionDetails(descriptionType);
-        });
+    private void enrichContactDescriptions(List<CourtContactDetails> contactDetails,
+                                           Map<UUID, ContactDescriptionType> descriptionTypesById) {
+        safeList(contactDetails).forEach(contactDetail -> contactDetail.setCourtContactDescriptionDetails(
+            descriptionTypesById.get(contactDetail.getCourtContactDescriptionId())
+        ));
     }
 
     /**
@@ -126,46 +151,15 @@ public class CourtDetailsViewService {
      * objects for the details response, while preserving order and list length.
      *
      * @param addresses the addresses associated with a court
+     * @param areasOfLawById the resolved areas of law, including stubs for missing IDs
+     * @param courtTypesById the resolved court types, including stubs for missing IDs
      */
-    private void enrichAddressTypes(List<CourtAddress> addresses) {
-        if (addresses == null || addresses.isEmpty()) {
-            return;
-        }
-
-        List<UUID> areaOfLawIds = addresses.stream()
-            .flatMap(address -> safeList(address.getAreasOfLaw()).stream())
-            .distinct()
-            .toList();
-
-        List<UUID> courtTypeIds = addresses.stream()
-            .flatMap(address -> safeList(address.getCourtTypes()).stream())
-            .distinct()
-            .toList();
-
-        Map<UUID, AreaOfLawType> areasOfLawById = areaOfLawIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getAllAreasOfLawTypesByIds(areaOfLawIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(AreaOfLawType::getId, Function.identity()));
-
-        Map<UUID, CourtType> courtTypesById = courtTypeIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getAllCourtTypesByIds(courtTypeIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(CourtType::getId, Function.identity()));
-
-        addresses.forEach(address -> {
-            address.setAreasOfLawDetails(
-                safeList(address.getAreasOfLaw()).stream()
-                    .map(id -> areasOfLawById.getOrDefault(id, createAreaOfLawStub(id)))
-                    .toList()
-            );
-
-            address.setCourtTypeDetails(
-                safeList(address.getCourtTypes()).stream()
-                    .map(id -> courtTypesById.getOrDefault(id, createCourtTypeStub(id)))
-                    .toList()
-            );
+    private void enrichAddressTypes(List<CourtAddress> addresses,
+                                    Map<UUID, AreaOfLawType> areasOfLawById,
+                                    Map<UUID, CourtType> courtTypesById) {
+        safeList(addresses).forEach(address -> {
+            address.setAreasOfLawDetails(expand(address.getAreasOfLaw(), areasOfLawById));
+            address.setCourtTypeDetails(expand(address.getCourtTypes(), courtTypesById));
         });
     }
 
@@ -174,27 +168,12 @@ public class CourtDetailsViewService {
      * objects for the details response while preserving order and list length.
      *
      * @param counterServiceOpeningHours the counter service opening hours rows to expand
+     * @param courtTypesById the resolved court types, including stubs for missing IDs
      */
-    private void enrichCounterServiceCourtTypes(List<CourtCounterServiceOpeningHours> counterServiceOpeningHours) {
-        if (counterServiceOpeningHours == null || counterServiceOpeningHours.isEmpty()) {
-            return;
-        }
-
-        List<UUID> courtTypeIds = counterServiceOpeningHours.stream()
-            .flatMap(openingHours -> safeList(openingHours.getCourtTypes()).stream())
-            .distinct()
-            .toList();
-
-        Map<UUID, CourtType> courtTypesById = courtTypeIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getAllCourtTypesByIds(courtTypeIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(CourtType::getId, Function.identity()));
-
-        counterServiceOpeningHours.forEach(openingHours -> openingHours.setCourtTypeDetails(
-            safeList(openingHours.getCourtTypes()).stream()
-                .map(id -> courtTypesById.getOrDefault(id, createCourtTypeStub(id)))
-                .toList()
+    private void enrichCounterServiceCourtTypes(List<CourtCounterServiceOpeningHours> counterServiceOpeningHours,
+                                                Map<UUID, CourtType> courtTypesById) {
+        safeList(counterServiceOpeningHours).forEach(openingHours -> openingHours.setCourtTypeDetails(
+            expand(openingHours.getCourtTypes(), courtTypesById)
         ));
     }
 
@@ -203,28 +182,79 @@ public class CourtDetailsViewService {
      * response while keeping the list order stable.
      *
      * @param courtAreasOfLaw the court-level areas of law rows to expand
+     * @param areasOfLawById the resolved areas of law, including stubs for missing IDs
      */
-    private void enrichCourtAreasOfLaw(List<CourtAreasOfLaw> courtAreasOfLaw) {
-        if (courtAreasOfLaw == null || courtAreasOfLaw.isEmpty()) {
-            return;
+    private void enrichCourtAreasOfLaw(List<CourtAreasOfLaw> courtAreasOfLaw,
+                                       Map<UUID, AreaOfLawType> areasOfLawById) {
+        safeList(courtAreasOfLaw).forEach(area -> area.setAreasOfLawDetails(
+            expand(area.getAreasOfLaw(), areasOfLawById)
+        ));
+    }
+
+    /**
+     * Look up the distinct IDs in a single call, then add a stub for every ID that was not found so each
+     * missing ID maps to one shared stub rather than a new object per reference.
+     *
+     * @param ids the referenced IDs, which may contain nulls and duplicates
+     * @param lookup the bulk lookup for the type
+     * @param idExtractor gets the ID from a resolved type
+     * @param stubFactory creates a stub for a missing ID
+     * @param <T> the type being resolved
+     * @return the resolved types keyed by ID, or an empty map if nothing was referenced
+     */
+    private <T> Map<UUID, T> resolveById(Stream<UUID> ids,
+                                         Function<List<UUID>, List<T>> lookup,
+                                         Function<T, UUID> idExtractor,
+                                         Function<UUID, T> stubFactory) {
+        List<UUID> distinctIds = ids.filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        List<UUID> areaOfLawIds = courtAreasOfLaw.stream()
-            .flatMap(area -> safeList(area.getAreasOfLaw()).stream())
-            .distinct()
+        Map<UUID, T> byId = new HashMap<>();
+        lookup.apply(distinctIds).stream()
+            .filter(Objects::nonNull)
+            .forEach(value -> byId.put(idExtractor.apply(value), value));
+        distinctIds.forEach(id -> byId.computeIfAbsent(id, stubFactory));
+        return byId;
+    }
+
+    /**
+     * Expand a UUID array into the resolved objects, keeping order and list length. A null ID maps to null.
+     *
+     * @param ids the IDs to expand
+     * @param valuesById the resolved objects keyed by ID
+     * @param <T> the resolved type
+     * @return the expanded list
+     */
+    private <T> List<T> expand(List<UUID> ids, Map<UUID, T> valuesById) {
+        return safeList(ids).stream()
+            .map(valuesById::get)
             .toList();
+    }
 
-        Map<UUID, AreaOfLawType> areasOfLawById = areaOfLawIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getAllAreasOfLawTypesByIds(areaOfLawIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(AreaOfLawType::getId, Function.identity()));
+    /**
+     * Create a minimal opening hour type object so consumers still see the UUID when a lookup is missing.
+     *
+     * @param id the opening hour type UUID
+     * @return a stub opening hour type object
+     */
+    private OpeningHourType createOpeningHourTypeStub(UUID id) {
+        OpeningHourType fallback = new OpeningHourType();
+        fallback.setId(id);
+        return fallback;
+    }
 
-        courtAreasOfLaw.forEach(area -> area.setAreasOfLawDetails(
-            safeList(area.getAreasOfLaw()).stream()
-                .map(id -> areasOfLawById.getOrDefault(id, createAreaOfLawStub(id)))
-                .toList()
-        ));
+    /**
+     * Create a minimal contact description type object so consumers still see the UUID when a lookup is missing.
+     *
+     * @param id the contact description type UUID
+     * @return a stub contact description type object
+     */
+    private ContactDescriptionType createContactDescriptionTypeStub(UUID id) {
+        ContactDescriptionType fallback = new ContactDescriptionType();
+        fallback.setId(id);
+        return fallback;
     }
 
     /**
@@ -6,17 +6,19 @@ import org.apache.commons.lang3.StringUtils;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.Region;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
-import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -43,8 +45,7 @@ public class CourtService {
 
     private final CourtRepository courtRepository;
     private final CourtDetailsRepository courtDetailsRepository;
-    private final AuditRepository auditRepository;
-    private final UserRepository userRepository;
+    private final HousekeepingService housekeepingService;
     private final RegionService regionService;
     private final CathClient cathClient;
     private final SlackClient slackClient;
@@ -189,11 +190,12 @@ public class CourtService {
             return 0;
         }
 
-        courtsToDelete.forEach(court -> userRepository.removeCourtFromAllFavourites(court.getId()));
+        List<UUID> courtIds = courtsToDelete.stream().map(Court::getId).toList();
+        housekeepingService.removeCourtsFromFavourites(courtIds);
         courtRepository.deleteAllInBatch(courtsToDelete);
 
         if  (purgeAudits) {
-            auditRepository.deleteBySubjectIdIn(courtsToDelete.stream().map(Court::getId).toList());
+            housekeepingService.deleteAuditsOfSubjects(courtIds);
         }
 
         return courtsToDelete.size();
@@ -225,6 +227,39 @@ public class CourtService {
             );
     }
 
+    /**
+     * Get the id and last updated time of a court by id, without loading the court details aggregate.
+     *
+     * @param courtId The ID of the court.
+     * @return The id and last updated time of the court.
+     * @throws NotFoundException if the court is not found.
+     */
+    public IdAndLastUpdatedAt getCourtLastUpdatedAtById(UUID courtId) {
+        return courtRepository.findIdAndLastUpdatedAtById(courtId)
+            .orElseThrow(() -> new NotFoundException("Court not found, ID: " + courtId));
+    }
+
+    /**
+     * Get the id and last updated time of a court by slug, without loading the court details aggregate.
+     *
+     * @param courtSlug The slug of the court.
+     * @return The id and last updated time of the court.
+     * @throws NotFoundException if the court is not found.
+     */
+    public IdAndLastUpdatedAt getCourtLastUpdatedAtBySlug(String courtSlug) {
+        return courtRepository.findIdAndLastUpdatedAtBySlug(courtSlug)
+            .orElseThrow(() -> new NotFoundException("Court not found, slug: " + courtSlug));
+    }
+
+    /**
+     * Get the id and last updated time of every court, in name order, without loading the court details.
+     *
+     * @return The list of court ids and last updated times.
+     */
+    public List<IdAndLastUpdatedAt> getAllCourtLastUpdatedAts() {
+        return courtRepository.findAllIdAndLastUpdatedAtByOrderByNameAsc();
+    }
+
     /**
      * Get all court details.
      *
@@ -234,6 +269,18 @@ public class CourtService {
         return courtDetailsRepository.findAll();
     }
 
+    /**
+     * Get the court details for the given ids, in the order the ids are given. Unknown ids are skipped.
+     *
+     * @param courtIds The ids of the courts to get.
+     * @return The list of court details entities.
+     */
+    public List<CourtDetails> getCourtDetailsByIds(List<UUID> courtIds) {
+        Map<UUID, CourtDetails> courtsById = courtDetailsRepository.findAllById(courtIds).stream()
+            .collect(Collectors.toMap(CourtDetails::getId, Function.identity()));
+        return courtIds.stream().map(courtsById::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * get all court names mapped to their ids.
      *
@@ -1,20 +1,40 @@
 package uk.gov.hmcts.reform.fact.data.api.services;
 
-import tools.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import uk.gov.hmcts.reform.fact.data.api.clients.SlackClient;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.AzureUploadException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.CsvCreationException;
-import uk.gov.hmcts.reform.fact.data.api.models.StringMultipartFile;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.LocationCsvRow;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.LocationCsvRowVersion;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationCsvRowRepository;
 import uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -28,45 +48,67 @@ public class CsvService {
 
     private static final String CSV_FILE_NAME = "courts-and-tribunals-data.csv";
     private static final String CSV_CONTENT_TYPE = "text/csv";
+    private static final int CHUNK_SIZE = 100;
+    static final int RENDER_SLICE_SIZE = 25;
 
     private final CourtService courtService;
     private final CourtDetailsViewService courtDetailsViewService;
     private final ServiceCentreService serviceCentreService;
     private final ServiceCentreDetailsViewService serviceCentreDetailsViewService;
     private final AzureBlobService azureBlobService;
-    private final ObjectMapper objectMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final LocationCsvRowRepository locationCsvRowRepository;
+    private final TransactionTemplate transactionTemplate;
     private final SlackClient slackClient;
 
+    /**
+     * Renders rows on a pool sized to the CPUs available to the container, rather than the common pool, so a large
+     * export neither competes with other users of the common pool nor runs on the caller's thread alone.
+     */
+    private final ForkJoinPool renderPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     public CsvService(CourtService courtService,
                       CourtDetailsViewService courtDetailsViewService,
                       ServiceCentreService serviceCentreService,
                       ServiceCentreDetailsViewService serviceCentreDetailsViewService,
                       @Qualifier("csvAzureBlobService") AzureBlobService azureBlobService,
-                      ObjectMapper objectMapper,
+                      ReferenceDataRegistry referenceDataRegistry,
+                      LocationCsvRowRepository locationCsvRowRepository,
+                      PlatformTransactionManager transactionManager,
                       SlackClient slackClient) {
         this.courtService = courtService;
         this.courtDetailsViewService = courtDetailsViewService;
         this.serviceCentreService = serviceCentreService;
         this.serviceCentreDetailsViewService = serviceCentreDetailsViewService;
         this.azureBlobService = azureBlobService;
-        this.objectMapper = objectMapper;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.locationCsvRowRepository = locationCsvRowRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.slackClient = slackClient;
     }
 
     public void createAndUploadCsv() {
         List<String> actions = new ArrayList<>();
         try {
-            StringMultipartFile csvFile = createCsvFile(actions);
-            uploadCsvToAzureBlob(actions, csvFile);
+            uploadCsvToAzureBlob(actions, outputStream -> writeCsv(actions, outputStream));
         } finally {
             sendSlackSummary(actions);
         }
     }
 
-    public void uploadCsvToAzureBlob(List<String> actions, StringMultipartFile stringMultipartFile) {
+    /**
+     * Streams the CSV to Azure Blob Storage. The CSV is generated while it is uploaded, so a failure in the
+     * writer is reported as a CSV creation failure rather than an upload failure.
+     *
+     * @param actions List of action descriptions to add failures to
+     * @param csvWriter Writes the CSV content to the upload stream
+     */
+    public void uploadCsvToAzureBlob(List<String> actions, AzureBlobService.BlobContentWriter csvWriter) {
         try {
             azureBlobService
-                .uploadFile(CSV_FILE_NAME, stringMultipartFile);
+                .uploadStream(CSV_FILE_NAME, CSV_CONTENT_TYPE, csvWriter);
+        } catch (CsvCreationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while uploading CSV", e);
             actions.add("Failed to upload CSV file to Azure Blob Storage. Check App insights.");
@@ -74,27 +116,141 @@ public class CsvService {
         }
     }
 
-    public StringMultipartFile createCsvFile(List<String> actions) {
+    /**
+     * Writes the CSV for every court and service centre to the given stream, in name order.
+     *
+     * <p>Each location's rendered row is stored in {@code location_csv_row} against the {@code last_updated_at}
+     * and reference data version it was rendered from, so it is shared by whichever instance runs the export. Only
+     * locations whose stored row is missing or out of date are loaded, enriched and rendered again, a chunk at a
+     * time with each chunk's rows rendered in parallel and stored together. The CSV is then written from the
+     * stored rows, a chunk at a time, so no instance holds every row in memory.</p>
+     *
+     * @param actions List of action descriptions to add failures to
+     * @param outputStream The stream to write the CSV to
+     * @throws IOException if writing to the stream fails
+     */
+    public void writeCsv(List<String> actions, OutputStream outputStream) throws IOException {
+        List<IdAndLastUpdatedAt> locations;
+        CsvUtil csvUtil = new CsvUtil();
         try {
-            List<Object> allLocationDetails = Stream.concat(
-                courtService.getAllCourtDetails().stream().map(courtDetailsViewService::prepareDetailsView),
-                serviceCentreService.getAllServiceCentreDetails().stream()
-                    .map(serviceCentreDetailsViewService::prepareDetailsView)
-            ).toList();
-
-            return new StringMultipartFile(
-                CSV_FILE_NAME,
-                CSV_FILE_NAME,
-                CSV_CONTENT_TYPE,
-                new CsvUtil()
-                    .convertJsonToCsv(
-                        objectMapper.valueToTree(allLocationDetails))
-            );
-        } catch (Exception e) {
+            List<IdAndLastUpdatedAt> courts = courtService.getAllCourtLastUpdatedAts();
+            List<IdAndLastUpdatedAt> serviceCentres = serviceCentreService.getAllServiceCentreLastUpdatedAts();
+            long referenceDataVersion = referenceDataRegistry.getSnapshot().version();
+            Map<UUID, LocationCsvRowVersion> stored = locationCsvRowRepository.findAllVersionsBy().stream()
+                .collect(Collectors.toMap(LocationCsvRowVersion::locationId, Function.identity()));
+
+            int rendered = renderChangedRows(csvUtil, courts, stored, referenceDataVersion, this::loadCourts,
+                court -> new IdAndLastUpdatedAt(court.getId(), court.getLastUpdatedAt()));
+            rendered += renderChangedRows(csvUtil, serviceCentres, stored, referenceDataVersion,
+                this::loadServiceCentres,
+                serviceCentre -> new IdAndLastUpdatedAt(serviceCentre.getId(), serviceCentre.getLastUpdatedAt()));
+
+            locations = new ArrayList<>(courts);
+            locations.addAll(serviceCentres);
+            log.info("Rendered {} changed of {} CSV rows", rendered, locations.size());
+        } catch (RuntimeException e) {
             log.error("Error while creating CSV file", e);
             actions.add("Failed to create CSV file. Check App insights.");
             throw new CsvCreationException("Failed to create CSV file", e);
         }
+
+        // Not closed: closing the stream is left to the caller, as for blob uploads it commits the blob.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(csvUtil.renderHeader());
+        for (List<IdAndLastUpdatedAt> chunk : chunks(locations, CHUNK_SIZE).toList()) {
+            Map<UUID, String> rows = readRows(chunk);
+            for (IdAndLastUpdatedAt location : chunk) {
+                String row = rows.get(location.id());
+                if (row != null) {
+                    writer.write(row);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Render and store the rows of the given locations whose stored row is missing, or was rendered from another
+     * last updated time or reference data version.
+     *
+     * @return the number of locations that were rendered.
+     */
+    private <T> int renderChangedRows(CsvUtil csvUtil, List<IdAndLastUpdatedAt> locations,
+                                      Map<UUID, LocationCsvRowVersion> stored, long referenceDataVersion,
+                                      Function<List<UUID>, List<T>> loader,
+                                      Function<T, IdAndLastUpdatedAt> versionOf) {
+        List<UUID> changedIds = locations.stream()
+            .filter(location -> !isCurrent(stored.get(location.id()), location, referenceDataVersion))
+            .map(IdAndLastUpdatedAt::id)
+            .toList();
+
+        chunks(changedIds, CHUNK_SIZE).forEach(ids -> {
+            List<T> details = loader.apply(ids);
+            List<String> rows = renderRowsInParallel(csvUtil, details);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < details.size(); i++) {
+                    IdAndLastUpdatedAt version = versionOf.apply(details.get(i));
+                    locationCsvRowRepository.upsertRow(
+                        version.id(),
+                        version.lastUpdatedAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+                        referenceDataVersion,
+                        rows.get(i)
+                    );
+                }
+            });
+        });
+        return changedIds.size();
+    }
+
+    private Map<UUID, String> readRows(List<IdAndLastUpdatedAt> locations) {
+        return locationCsvRowRepository.findAllById(locations.stream().map(IdAndLastUpdatedAt::id).toList())
+            .stream()
+            .collect(Collectors.toMap(LocationCsvRow::getLocationId, LocationCsvRow::getCsvRow));
+    }
+
+    /**
+     * Render the rows for the given locations in slices on the render pool. The slices are collected in encounter
+     * order, so the rows come back in the same order as the locations whichever thread rendered them.
+     */
+    private <T> List<String> renderRowsInParallel(CsvUtil csvUtil, List<T> locations) {
+        if (locations.size() <= RENDER_SLICE_SIZE) {
+            return csvUtil.renderRows(locations);
+        }
+        List<List<T>> slices = chunks(locations, RENDER_SLICE_SIZE).toList();
+        return renderPool.submit(() -> slices.parallelStream()
+            .map(csvUtil::renderRows)
+            .flatMap(List::stream)
+            .toList()
+        ).join();
+    }
+
+    @PreDestroy
+    void shutdownRenderPool() {
+        renderPool.shutdown();
+    }
+
+    private List<CourtDetails> loadCourts(List<UUID> ids) {
+        return courtDetailsViewService.prepareDetailsViews(courtService.getCourtDetailsByIds(ids));
+    }
+
+    private List<ServiceCentreDetails> loadServiceCentres(List<UUID> ids) {
+        return serviceCentreDetailsViewService.prepareDetailsViews(
+            serviceCentreService.getServiceCentreDetailsByIds(ids)
+        );
+    }
+
+    private static boolean isCurrent(LocationCsvRowVersion row, IdAndLastUpdatedAt location,
+                                     long referenceDataVersion) {
+        return row != null
+            && row.referenceDataVersion() == referenceDataVersion
+            && row.lastUpdatedAt() != null
+            && location.lastUpdatedAt() != null
+            && row.lastUpdatedAt().isEqual(location.lastUpdatedAt());
+    }
+
+    private static <T> Stream<List<T>> chunks(List<T> items, int size) {
+        return IntStream.iterate(0, from -> from < items.size(), from -> from + size)
+            .mapToObj(from -> items.subList(from, Math.min(from + size, items.size())));
     }
 
     /**
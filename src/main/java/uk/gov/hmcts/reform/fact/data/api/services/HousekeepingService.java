@@ -0,0 +1,205 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationChangesRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk deletes for housekeeping, each done with set-based statements rather than loading and removing entities
+ * one at a time.
+ *
+ * <p>Work is split into chunks of at most {@value #BATCH_SIZE} rows or ids, each run in a transaction of its own
+ * when there is no surrounding transaction, so a large clean up never holds its locks for long. When called
+ * within a transaction the chunks join it, and the whole operation commits or rolls back together.</p>
+ *
+ * <p>Every operation returns the number of rows affected, which is also counted as {@value #ROWS_METRIC}, and is
+ * timed as {@value #DELETE_METRIC}, both tagged with the operation name.</p>
+ */
+@Service
+@Slf4j
+public class HousekeepingService {
+
+    static final int BATCH_SIZE = 1000;
+    static final String DELETE_METRIC = "fact.housekeeping.delete";
+    static final String ROWS_METRIC = "fact.housekeeping.rows";
+
+    static final String EXPIRED_AUDITS = "expired-audits";
+    static final String SUBJECT_AUDITS = "subject-audits";
+    static final String INACTIVE_USERS = "inactive-users";
+    static final String EXPIRED_LOCKS = "expired-locks";
+    static final String FAVOURITE_COURTS = "favourite-courts";
+    static final String FAVOURITE_SERVICE_CENTRES = "favourite-service-centres";
+    static final String EXPIRED_TOMBSTONES = "expired-tombstones";
+
+    private final AuditRepository auditRepository;
+    private final UserRepository userRepository;
+    private final LockRepository lockRepository;
+    private final LocationChangesRepository locationChangesRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public HousekeepingService(AuditRepository auditRepository,
+                               UserRepository userRepository,
+                               LockRepository lockRepository,
+                               LocationChangesRepository locationChangesRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.auditRepository = auditRepository;
+        this.userRepository = userRepository;
+        this.lockRepository = lockRepository;
+        this.locationChangesRepository = locationChangesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Delete the audits created before the given time.
+     *
+     * @param cutoff the time before which audits are deleted.
+     * @return the number of audits deleted.
+     */
+    public int deleteAuditsCreatedBefore(ZonedDateTime cutoff) {
+        LocalDateTime utcCutoff = toUtc(cutoff);
+        return deleteInBatches(EXPIRED_AUDITS, () -> auditRepository.deleteBatchCreatedBefore(utcCutoff, BATCH_SIZE));
+    }
+
+    /**
+     * Delete every audit of the given subjects.
+     *
+     * @param subjectIds the ids of the courts or service centres whose audits are deleted.
+     * @return the number of audits deleted.
+     */
+    public int deleteAuditsOfSubjects(Collection<UUID> subjectIds) {
+        return inChunks(SUBJECT_AUDITS, subjectIds, auditRepository::deleteAllBySubjectIdIn);
+    }
+
+    /**
+     * Delete the users who last logged in before the given time.
+     *
+     * @param cutoff the time before which users are deleted.
+     * @return the number of users deleted.
+     */
+    public int deleteUsersLastLoggedInBefore(ZonedDateTime cutoff) {
+        LocalDateTime utcCutoff = toUtc(cutoff);
+        return deleteInBatches(INACTIVE_USERS,
+                               () -> userRepository.deleteBatchByLastLoginBefore(utcCutoff, BATCH_SIZE));
+    }
+
+    /**
+     * Delete the page locks acquired, or last renewed, before the given time, announcing them as expired. A user
+     * holds at most one lock, so there are few enough to delete with a single statement.
+     *
+     * @param cutoff the time before which locks have expired.
+     * @return the number of locks deleted.
+     */
+    public int deleteLocksAcquiredBefore(ZonedDateTime cutoff) {
+        LocalDateTime utcCutoff = toUtc(cutoff);
+        return timed(EXPIRED_LOCKS, () -> inTransaction(() -> lockRepository.deleteExpiredLocks(utcCutoff)));
+    }
+
+    /**
+     * Delete the changes feed tombstones of locations deleted before the given time.
+     *
+     * @param cutoff the time before which tombstones are deleted.
+     * @return the number of tombstones deleted.
+     */
+    public int deleteTombstonesBefore(ZonedDateTime cutoff) {
+        LocalDateTime utcCutoff = toUtc(cutoff);
+        return deleteInBatches(EXPIRED_TOMBSTONES,
+                               () -> locationChangesRepository.deleteBatchOfTombstonesBefore(utcCutoff, BATCH_SIZE));
+    }
+
+    /**
+     * Remove the given courts from every user's favourites.
+     *
+     * @param courtIds the ids of the courts to remove.
+     * @return the number of users updated, counted once per chunk they were updated in.
+     */
+    public int removeCourtsFromFavourites(Collection<UUID> courtIds) {
+        return inChunks(FAVOURITE_COURTS, courtIds, userRepository::removeCourtsFromAllFavourites);
+    }
+
+    /**
+     * Remove the given service centres from every user's favourites.
+     *
+     * @param serviceCentreIds the ids of the service centres to remove.
+     * @return the number of users updated, counted once per chunk they were updated in.
+     */
+    public int removeServiceCentresFromFavourites(Collection<UUID> serviceCentreIds) {
+        return inChunks(FAVOURITE_SERVICE_CENTRES, serviceCentreIds,
+                        userRepository::removeServiceCentresFromAllFavourites);
+    }
+
+    /**
+     * Repeat a delete limited to {@link #BATCH_SIZE} rows until it deletes fewer than that.
+     */
+    private int deleteInBatches(String operation, IntSupplier batch) {
+        return timed(operation, () -> {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = inTransaction(batch);
+                total += deleted;
+            } while (deleted >= BATCH_SIZE);
+            return total;
+        });
+    }
+
+    /**
+     * Run a statement for each chunk of at most {@link #BATCH_SIZE} ids.
+     */
+    private int inChunks(String operation, Collection<UUID> ids, ToIntFunction<List<UUID>> statement) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        return timed(operation, () -> {
+            int total = 0;
+            for (int from = 0; from < distinctIds.size(); from += BATCH_SIZE) {
+                List<UUID> chunk = distinctIds.subList(from, Math.min(from + BATCH_SIZE, distinctIds.size()));
+                total += inTransaction(() -> statement.applyAsInt(chunk));
+            }
+            return total;
+        });
+    }
+
+    private int inTransaction(IntSupplier statement) {
+        Integer affected = transactionTemplate.execute(status -> statement.getAsInt());
+        return affected != null ? affected : 0;
+    }
+
+    private int timed(String operation, IntSupplier work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int affected = work.getAsInt();
+        sample.stop(Timer.builder(DELETE_METRIC)
+                        .description("Duration of bulk housekeeping operations")
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+        Counter.builder(ROWS_METRIC)
+            .description("Rows affected by bulk housekeeping operations")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .increment(affected);
+        log.debug("Housekeeping {} affected {} rows", operation, affected);
+        return affected;
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime time) {
+        return time.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
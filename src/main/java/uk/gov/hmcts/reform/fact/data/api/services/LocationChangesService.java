@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChange;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChangeRow;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChanges;
+import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationChangesRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the changes feed, which lets consumers keep a copy of the courts and service centres in sync by only
+ * fetching what changed since their last request.
+ *
+ * <p>Tombstones of deleted locations are kept for {@code fact.data-api.changes.tombstone-retention-days}. A
+ * consumer that has not synced for longer than that should start again from the beginning of the feed.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LocationChangesService {
+
+    private final LocationChangesRepository locationChangesRepository;
+    private final HousekeepingService housekeepingService;
+
+    @Value("${fact.data-api.changes.tombstone-retention-days}")
+    private long tombstoneRetentionDays;
+
+    /**
+     * Get the changes after the given point in the feed.
+     *
+     * @param since an ISO-8601 timestamp, a cursor returned by a previous request, or null to start from the
+     *              beginning of the feed
+     * @param limit the maximum number of changes to return
+     * @return the changes, with the cursor to resume from
+     * @throws InvalidParameterCombinationException if since is neither a timestamp nor a valid cursor
+     */
+    public LocationChanges getChangesSince(String since, int limit) {
+        Cursor from = Cursor.parse(since);
+        List<LocationChangeRow> rows =
+            locationChangesRepository.findChangesAfter(from.changedSince(), from.changeXid(), from.id(), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<LocationChangeRow> page = hasMore ? rows.subList(0, limit) : rows;
+        Cursor next = page.isEmpty()
+            ? from
+            : new Cursor(from.changedSince(), page.getLast().getChangeXid(), page.getLast().getId());
+
+        return LocationChanges.builder()
+            .changes(page.stream().map(LocationChange::fromRow).toList())
+            .nextCursor(next.encode())
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * Delete the tombstones of locations deleted longer ago than the tombstone retention period.
+     *
+     * @return the number of tombstones deleted.
+     */
+    public int deleteExpiredTombstones() {
+        ZonedDateTime cutoff = ZonedDateTime.now(ZoneOffset.UTC).minusDays(tombstoneRetentionDays);
+        int deleted = housekeepingService.deleteTombstonesBefore(cutoff);
+        log.info("Deleted {} tombstones of locations deleted before {}", deleted, cutoff);
+        return deleted;
+    }
+
+    /**
+     * A position in the changes feed: the transaction id and location id of the last change seen, and the time
+     * the feed was started from.
+     *
+     * @param changedSince the UTC time the feed was started from, changes made before it are left out.
+     * @param changeXid the id of the transaction that made the last change seen.
+     * @param id the location id of the last change seen.
+     */
+    public record Cursor(LocalDateTime changedSince, long changeXid, UUID id) {
+
+        private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+        private static final UUID MIN_ID = new UUID(0L, 0L);
+        private static final Cursor START = new Cursor(BEGINNING, 0L, MIN_ID);
+        private static final String SEPARATOR = "|";
+
+        /**
+         * Read the {@code since} request parameter. A timestamp starts the feed with the changes made at or after
+         * that time, a cursor resumes it after the change the cursor was issued for.
+         *
+         * @param since the request parameter, may be blank.
+         * @return the position to read from.
+         * @throws InvalidParameterCombinationException if since is neither a timestamp nor a valid cursor.
+         */
+        public static Cursor parse(String since) {
+            if (StringUtils.isBlank(since)) {
+                return START;
+            }
+            try {
+                if (since.contains(":")) {
+                    LocalDateTime changedSince = OffsetDateTime.parse(since.trim())
+                        .withOffsetSameInstant(ZoneOffset.UTC)
+                        .toLocalDateTime();
+                    return new Cursor(changedSince, 0L, MIN_ID);
+                }
+                String decoded = new String(Base64.getUrlDecoder().decode(since.trim()), StandardCharsets.UTF_8);
+                String[] parts = StringUtils.split(decoded, SEPARATOR);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Malformed cursor");
+                }
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), UUID.fromString(parts[2]));
+            } catch (DateTimeParseException | IllegalArgumentException ex) {
+                throw new InvalidParameterCombinationException(
+                    "since must be an ISO-8601 timestamp or a cursor returned by a previous request", ex
+                );
+            }
+        }
+
+        /**
+         * Encode this position as an opaque, URL safe cursor.
+         *
+         * @return the cursor.
+         */
+        public String encode() {
+            String position = changedSince + SEPARATOR + changeXid + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.fact.data.api.dto.LockEvent;
+import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Streams the lock events published by the {@link LockRegistry} to the editors following a subject, as
+ * server-sent events.
+ *
+ * <p>A stream starts with a {@value #LOCKS_EVENT} event holding the subject's active locks, followed by a
+ * {@value #LOCK_EVENT} event for each lock acquired, renewed, released or expired on any replica. Events are sent
+ * on a thread of their own, so a slow client never holds up the registry's listener.</p>
+ *
+ * <p>Changes made while the registry's listener was not connected are never announced, so each time it connects
+ * every stream is sent a fresh {@value #LOCKS_EVENT} event.</p>
+ */
+@Service
+@Slf4j
+public class LockEventService {
+
+    static final String LOCKS_EVENT = "locks";
+    static final String LOCK_EVENT = "lock";
+    static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+    private final Map<Subject, Subscribers> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+
+    public LockEventService() {
+        this(Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("lock-event-sender").factory()));
+    }
+
+    LockEventService(ExecutorService sender) {
+        this.sender = sender;
+    }
+
+    /**
+     * Start streaming the lock events of a subject. The stream is registered before the active locks are read,
+     * so no change made after they are read is missed.
+     *
+     * @param subjectType the type of the subject to follow.
+     * @param subjectId   the id of the subject to follow.
+     * @param activeLocks reads the subject's active locks, sent as the first event.
+     * @return the stream, to be returned from the request.
+     */
+    public SseEmitter subscribe(SubjectType subjectType, UUID subjectId, Supplier<List<Lock>> activeLocks) {
+        Subject subject = new Subject(subjectType, subjectId);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        emitter.onCompletion(() -> remove(subject, emitter));
+        emitter.onTimeout(() -> remove(subject, emitter));
+        emitter.onError(ex -> remove(subject, emitter));
+        emitters.compute(subject, (key, subscribers) -> {
+            Subscribers following = subscribers == null
+                ? new Subscribers(activeLocks, ConcurrentHashMap.newKeySet())
+                : subscribers;
+            following.emitters().add(emitter);
+            return following;
+        });
+
+        List<Lock> locks;
+        try {
+            locks = activeLocks.get();
+        } catch (RuntimeException ex) {
+            remove(subject, emitter);
+            throw ex;
+        }
+        send(subject, emitter, locksEvent(locks));
+        return emitter;
+    }
+
+    /**
+     * Send a lock event to everyone following its subject.
+     *
+     * @param event the lock event.
+     */
+    @EventListener
+    public void onLockEvent(LockEvent event) {
+        Subject subject = new Subject(event.getSubjectType(), event.getSubjectId());
+        if (!emitters.containsKey(subject)) {
+            return;
+        }
+        try {
+            sender.execute(() -> send(subject, event));
+        } catch (RejectedExecutionException ex) {
+            log.debug("Not sending lock event while shutting down: {}", event);
+        }
+    }
+
+    /**
+     * Send every stream its subject's active locks again, once the registry's listener has connected.
+     *
+     * @param event the connection of the listener.
+     */
+    @EventListener
+    public void onLockListenerConnected(LockListenerConnectedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        try {
+            sender.execute(this::resendActiveLocks);
+        } catch (RejectedExecutionException ex) {
+            log.debug("Not resending active locks while shutting down");
+        }
+    }
+
+    /**
+     * Stop sending events and end every stream.
+     */
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+        emitters.values().forEach(subscribers -> subscribers.emitters().forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    /**
+     * Count the streams following a subject.
+     *
+     * @return the number of open streams for the subject.
+     */
+    int subscribers(SubjectType subjectType, UUID subjectId) {
+        Subscribers subscribers = emitters.get(new Subject(subjectType, subjectId));
+        return subscribers == null ? 0 : subscribers.emitters().size();
+    }
+
+    private void send(Subject subject, LockEvent event) {
+        Subscribers subscribers = emitters.get(subject);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers.emitters()) {
+            send(subject, emitter, SseEmitter.event().name(LOCK_EVENT).data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void resendActiveLocks() {
+        emitters.forEach((subject, subscribers) -> {
+            List<Lock> locks;
+            try {
+                locks = subscribers.activeLocks().get();
+            } catch (RuntimeException ex) {
+                // Streams left without a snapshot could be showing stale locks, so end them for the clients to
+                // reconnect
+                log.warn("Could not read the active locks of {}, ending its streams: {}", subject, ex.getMessage());
+                for (SseEmitter emitter : subscribers.emitters()) {
+                    emitter.complete();
+                    remove(subject, emitter);
+                }
+                return;
+            }
+            for (SseEmitter emitter : subscribers.emitters()) {
+                send(subject, emitter, locksEvent(locks));
+            }
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder locksEvent(List<Lock> locks) {
+        return SseEmitter.event().name(LOCKS_EVENT).data(locks, MediaType.APPLICATION_JSON);
+    }
+
+    private void send(Subject subject, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            // The client has gone, or the stream has ended; the container completes it if it is still open
+            remove(subject, emitter);
+        }
+    }
+
+    private void remove(Subject subject, SseEmitter emitter) {
+        emitters.computeIfPresent(subject, (key, subscribers) -> {
+            subscribers.emitters().remove(emitter);
+            return subscribers.emitters().isEmpty() ? null : subscribers;
+        });
+    }
+
+    private record Subject(SubjectType subjectType, UUID subjectId) {}
+
+    /**
+     * The streams following a subject, and how to read the subject's active locks.
+     */
+    private record Subscribers(Supplier<List<Lock>> activeLocks, Set<SseEmitter> emitters) {}
+}
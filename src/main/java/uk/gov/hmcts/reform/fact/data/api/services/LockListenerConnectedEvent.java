@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+/**
+ * Published by the {@link LockRegistry} each time its listener connects, as no lock change made while it was not
+ * connected has been announced on this replica.
+ */
+public record LockListenerConnectedEvent() {
+}
@@ -0,0 +1,272 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.fact.data.api.dto.LockEvent;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository.LockHolder;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * Node-local copy of who holds the lock on each page, so checking a page lock before a write does not need a
+ * database round trip.
+ *
+ * <p>Every change to the {@code lock} table, by any replica, is announced on the {@value #CHANNEL} channel by a
+ * trigger, and a listener thread drops the matching entry when the announcement arrives. The listener holds a
+ * connection of its own, opened outside the connection pool, so it never takes a connection from requests.
+ * Entries are only kept while that listener is connected; until it connects, and whenever it loses its
+ * connection, every lookup goes to the database, so a replica never serves a lock it could have missed a change
+ * to. Taking a lock is still decided by the database alone, in {@link LockRepository#tryAcquireLock}.</p>
+ *
+ * <p>Each announcement also says what happened to the lock, and is published as a {@link LockEvent} for anyone
+ * following the subject's locks. Announcements made while the listener was not connected are lost, so a
+ * {@link LockListenerConnectedEvent} is published each time it connects.</p>
+ */
+@Service
+@Slf4j
+public class LockRegistry {
+
+    static final String CHANNEL = "lock_changed";
+
+    private static final int POLL_MILLIS = 10_000;
+    private static final int VALIDATION_SECONDS = 5;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final LockRepository lockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSource listenerDataSource;
+
+    private final Map<Key, Optional<LockHolder>> holders = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean listening;
+    private volatile Thread listener;
+
+    @Autowired
+    public LockRegistry(LockRepository lockRepository, ApplicationEventPublisher eventPublisher,
+                        @Value("${spring.datasource.driver-class-name}") String driverClassName,
+                        @Value("${spring.datasource.url}") String url,
+                        @Value("${spring.datasource.username:}") String username,
+                        @Value("${spring.datasource.password:}") String password) {
+        this(lockRepository, eventPublisher, unpooledDataSource(driverClassName, url, username, password));
+    }
+
+    LockRegistry(LockRepository lockRepository, ApplicationEventPublisher eventPublisher,
+                 DataSource listenerDataSource) {
+        this.lockRepository = lockRepository;
+        this.eventPublisher = eventPublisher;
+        this.listenerDataSource = listenerDataSource;
+    }
+
+    /**
+     * Start listening for lock changes once the application, and the migration adding the trigger, are ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        listener = Thread.ofPlatform().daemon().name("lock-registry-listener").start(this::listen);
+    }
+
+    /**
+     * Stop listening, going back to reading every lock from the database.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread current = listener;
+        listener = null;
+        if (current != null) {
+            current.interrupt();
+        }
+        listenerLost();
+    }
+
+    /**
+     * Get who holds the lock on a page, from memory when it is known and the listener is connected.
+     *
+     * @param subjectType the type of the locked subject.
+     * @param subjectId   the id of the locked subject.
+     * @param page        the page to check.
+     * @return the holder of the lock, or empty if the page is not locked.
+     */
+    public Optional<LockHolder> getHolder(SubjectType subjectType, UUID subjectId, Page page) {
+        if (!listening) {
+            return lockRepository.findHolderBySubjectTypeAndSubjectIdAndPage(subjectType, subjectId, page);
+        }
+        Key key = new Key(subjectType, subjectId, page);
+        Optional<LockHolder> known = holders.get(key);
+        if (known != null) {
+            return known;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Optional<LockHolder> loaded =
+            lockRepository.findHolderBySubjectTypeAndSubjectIdAndPage(subjectType, subjectId, page);
+        holders.put(key, loaded);
+        // A change announced while loading may have been missed by the load, so the entry cannot be trusted
+        if (!listening || invalidations.get() != invalidationsBefore) {
+            holders.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop the entry named by a lock change announcement, or every entry if it does not name one, then publish
+     * what happened to the lock.
+     *
+     * @param payload the announcement, as {@code subject_type:subject_id:page:event:user_id}.
+     */
+    void onLockChange(String payload) {
+        invalidations.incrementAndGet();
+        String[] parts = payload == null ? new String[0] : payload.split(":");
+        Key key = Key.parse(parts);
+        if (key == null) {
+            holders.clear();
+            return;
+        }
+        holders.remove(key);
+        LockEvent event = key.toEvent(parts);
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * Start keeping entries. Nothing was heard before the listener connected, so nothing from before is kept, and
+     * anyone following locks is told to read them again.
+     */
+    void listenerStarted() {
+        invalidations.incrementAndGet();
+        holders.clear();
+        listening = true;
+        eventPublisher.publishEvent(new LockListenerConnectedEvent());
+    }
+
+    /**
+     * Stop keeping entries, as changes may be missed until the listener reconnects.
+     */
+    void listenerLost() {
+        listening = false;
+        invalidations.incrementAndGet();
+        holders.clear();
+    }
+
+    /**
+     * Whether lock changes are being listened for, and so whether locks are being kept in memory.
+     *
+     * @return true if the listener is connected.
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listenerStarted();
+                log.info("Listening for lock changes on {}", CHANNEL);
+                while (!Thread.currentThread().isInterrupted()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        for (PGNotification notification : notifications) {
+                            onLockChange(notification.getParameter());
+                        }
+                    } else if (!connection.isValid(VALIDATION_SECONDS)) {
+                        throw new SQLException("Lock change listener connection is no longer valid");
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                log.warn("Lock change listener stopped, reading locks from the database until it reconnects: {}",
+                         ex.getMessage());
+            } finally {
+                listenerLost();
+            }
+            pauseBeforeReconnecting();
+        }
+    }
+
+    /**
+     * A data source opening a new connection each time it is asked, with the same settings as the pool's.
+     */
+    private static DataSource unpooledDataSource(String driverClassName, String url, String username,
+                                                 String password) {
+        Class<? extends Driver> driverClass = ClassUtils.resolveClassName(driverClassName, LockRegistry.class
+            .getClassLoader()).asSubclass(Driver.class);
+        return new SimpleDriverDataSource(
+            BeanUtils.instantiateClass(driverClass),
+            url,
+            StringUtils.hasText(username) ? username : null,
+            StringUtils.hasText(password) ? password : null
+        );
+    }
+
+    private static void pauseBeforeReconnecting() {
+        try {
+            Thread.sleep(RECONNECT_DELAY);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Key(SubjectType subjectType, UUID subjectId, Page page) {
+
+        /**
+         * Read the key from the parts of a lock change announcement.
+         *
+         * @return the key, or {@code null} if the announcement does not name a single lock.
+         */
+        static Key parse(String... parts) {
+            if (parts.length < 3) {
+                return null;
+            }
+            try {
+                return new Key(SubjectType.valueOf(parts[0]), UUID.fromString(parts[1]), Page.valueOf(parts[2]));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+
+        /**
+         * Read what happened to this lock from the rest of the announcement.
+         *
+         * @return the event, or {@code null} if the announcement does not say.
+         */
+        LockEvent toEvent(String... parts) {
+            if (parts.length != 5) {
+                return null;
+            }
+            try {
+                return new LockEvent(subjectType, subjectId, page, LockEvent.Type.valueOf(parts[3]),
+                                     UUID.fromString(parts[4]));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class LockService {
     private final UserService userService;
     private final CourtService courtService;
     private final ServiceCentreService serviceCentreService;
+    private final HousekeepingService housekeepingService;
 
     /**
      * Delete all court locks for a given user id.
@@ -54,12 +55,16 @@ public class LockService {
      */
     public List<Lock> getAllSubjectLocks(SubjectType subjectType, UUID subjectId) {
         UUID id = verifySubject(subjectType, subjectId);
+        ZonedDateTime expiryThreshold = expiryThreshold();
 
-        return lockRepository.findAllBySubjectTypeAndSubjectId(subjectType,id);
+        return lockRepository.findAllBySubjectTypeAndSubjectId(subjectType, id).stream()
+            .filter(lock -> isActive(lock, expiryThreshold))
+            .toList();
     }
 
     /**
-     * Checks if a specific page is locked for a subject.
+     * Checks if a specific page is locked for a subject. An expired lock is treated as no lock, whether or
+     * not it has been deleted yet.
      *
      * @param subjectType the subject type to get locks for
      * @param subjectId   the id of the subject
@@ -69,7 +74,8 @@ public class LockService {
     public Optional<Lock> getPageLock(SubjectType subjectType, UUID subjectId, Page page) {
         UUID id = verifySubject(subjectType, subjectId);
 
-        return lockRepository.findBySubjectTypeAndSubjectIdAndPage(subjectType, id, page);
+        return lockRepository.findBySubjectTypeAndSubjectIdAndPage(subjectType, id, page)
+            .filter(lock -> isActive(lock, expiryThreshold()));
     }
 
     /**
@@ -116,6 +122,33 @@ public class LockService {
             .build();
     }
 
+    /**
+     * Renews a lock the user still holds, restarting its timeout, with a single update. Meant to be called
+     * often by an open editor, so neither the subject nor the user is looked up first.
+     *
+     * @param subjectType the subject type of the lock
+     * @param subjectId   the id of the subject
+     * @param page        The locked page
+     * @param userId      The user's unique identifier
+     * @throws ResponseStatusException with status CONFLICT if the user does not hold an active lock on the page
+     */
+    @Transactional
+    public void renewLock(SubjectType subjectType, UUID subjectId, Page page, UUID userId) {
+        ZonedDateTime lockAcquired = ZonedDateTime.now(ZoneOffset.UTC);
+
+        int renewed = lockRepository.renewLock(
+            subjectType.name(),
+            subjectId,
+            page.name(),
+            userId,
+            lockAcquired,
+            lockAcquired.minusMinutes(lockTimeoutMinutes)
+        );
+        if (renewed == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Page lock not held by this user");
+        }
+    }
+
     /**
      * Deletes a specific subject lock.
      *
@@ -131,11 +164,21 @@ public class LockService {
     }
 
     /**
-     * Deletes all expired locks.
+     * Deletes all expired locks. Run by the expired locks job, never on a request, as expired locks are already
+     * treated as released everywhere they are read.
+     *
+     * @return the number of locks deleted.
      */
-    @Transactional
-    public void deleteExpiredLocks() {
-        lockRepository.deleteByLockAcquiredBefore(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(lockTimeoutMinutes));
+    public int deleteExpiredLocks() {
+        return housekeepingService.deleteLocksAcquiredBefore(expiryThreshold());
+    }
+
+    private ZonedDateTime expiryThreshold() {
+        return ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(lockTimeoutMinutes);
+    }
+
+    private static boolean isActive(Lock lock, ZonedDateTime expiryThreshold) {
+        return !lock.getLockAcquired().isBefore(expiryThreshold);
     }
 
     /**
@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
+import uk.gov.hmcts.reform.fact.data.api.entities.ContactDescriptionType;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
+import uk.gov.hmcts.reform.fact.data.api.entities.LocalAuthorityType;
+import uk.gov.hmcts.reform.fact.data.api.entities.OpeningHourType;
+import uk.gov.hmcts.reform.fact.data.api.entities.Region;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AreaOfLawTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ContactDescriptionTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocalAuthorityTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.OpeningHoursTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ReferenceDataVersionRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Process-wide, read-only copy of the reference data tables (area of law types, court types, opening hour types,
+ * contact description types, regions, service areas and local authorities).
+ *
+ * <p>These tables only change via migrations, so they are loaded once when the application is ready and served
+ * from memory afterwards. Each load produces a new immutable {@link Snapshot} that is swapped in atomically, so
+ * readers never observe a partially loaded registry. {@link #reload()} can be called to pick up changes without
+ * a restart.
+ *
+ * <p>Each snapshot records the {@code reference_data_version} it was loaded at, so anything built from it, such as
+ * the stored details documents, can tell whether it was built from the same reference data as another instance.
+ */
+@Service
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private final AreaOfLawTypeRepository areaOfLawTypeRepository;
+    private final CourtTypeRepository courtTypeRepository;
+    private final OpeningHoursTypeRepository openingHoursTypeRepository;
+    private final ContactDescriptionTypeRepository contactDescriptionTypeRepository;
+    private final RegionRepository regionRepository;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final LocalAuthorityTypeRepository localAuthorityTypeRepository;
+    private final ReferenceDataVersionRepository referenceDataVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataRegistry(
+        AreaOfLawTypeRepository areaOfLawTypeRepository,
+        CourtTypeRepository courtTypeRepository,
+        OpeningHoursTypeRepository openingHoursTypeRepository,
+        ContactDescriptionTypeRepository contactDescriptionTypeRepository,
+        RegionRepository regionRepository,
+        ServiceAreaRepository serviceAreaRepository,
+        LocalAuthorityTypeRepository localAuthorityTypeRepository,
+        ReferenceDataVersionRepository referenceDataVersionRepository,
+        PlatformTransactionManager transactionManager) {
+        this.areaOfLawTypeRepository = areaOfLawTypeRepository;
+        this.courtTypeRepository = courtTypeRepository;
+        this.openingHoursTypeRepository = openingHoursTypeRepository;
+        this.contactDescriptionTypeRepository = contactDescriptionTypeRepository;
+        this.regionRepository = regionRepository;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.localAuthorityTypeRepository = localAuthorityTypeRepository;
+        this.referenceDataVersionRepository = referenceDataVersionRepository;
+
+        // Load in a separate, read-only persistence context so the cached instances are detached and can never
+        // be the same managed objects that a request's own queries return and modify. Every table is read from
+        // the same database snapshot, so the recorded version always matches the data loaded with it.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Warm the registry once the application (and any startup migrations) are ready. A failure here is not
+     * fatal, as the registry is loaded lazily on first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Unable to preload reference data, it will be loaded on first use: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Get the current reference data snapshot, loading it if this is the first use.
+     *
+     * @return the current immutable snapshot.
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : reload();
+        }
+    }
+
+    /**
+     * Reload all reference data from the database and replace the current snapshot.
+     *
+     * @return the newly loaded snapshot.
+     */
+    public synchronized Snapshot reload() {
+        Snapshot loaded = transactionTemplate.execute(status -> new Snapshot(
+            referenceDataVersionRepository.findCurrentVersion(),
+            indexById(areaOfLawTypeRepository.findAll(), AreaOfLawType::getId),
+            indexById(courtTypeRepository.findAll(), CourtType::getId),
+            indexById(openingHoursTypeRepository.findAll(), OpeningHourType::getId),
+            indexById(contactDescriptionTypeRepository.findAll(), ContactDescriptionType::getId),
+            indexById(regionRepository.findAll(), Region::getId),
+            indexById(serviceAreaRepository.findAll(), ServiceArea::getId),
+            List.copyOf(localAuthorityTypeRepository.findAllParents())
+        ));
+        snapshot = loaded;
+        log.info(
+            "Loaded reference data version {}: {} areas of law, {} court types, {} opening hour types, "
+                + "{} contact description types, {} regions, {} service areas, {} local authorities",
+            loaded.version(), loaded.areasOfLaw().size(), loaded.courtTypes().size(), loaded.openingHourTypes().size(),
+            loaded.contactDescriptionTypes().size(), loaded.regions().size(), loaded.serviceAreas().size(),
+            loaded.localAuthorities().size()
+        );
+        return loaded;
+    }
+
+    /**
+     * Reload the reference data if the current snapshot is older than the given version, for example when another
+     * instance has stored a document built from newer reference data.
+     *
+     * @param version the reference data version seen elsewhere.
+     * @return the current snapshot, reloaded if it was older than the given version.
+     */
+    public synchronized Snapshot reloadIfOlderThan(long version) {
+        Snapshot current = getSnapshot();
+        return current.version() < version ? reload() : current;
+    }
+
+    private static <T> Map<UUID, T> indexById(List<T> values, Function<T, UUID> idExtractor) {
+        Map<UUID, T> byId = new LinkedHashMap<>();
+        values.stream()
+            .filter(Objects::nonNull)
+            .forEach(value -> byId.put(idExtractor.apply(value), value));
+        return Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * An immutable view of the reference data tables, keyed by id and kept in the order they were loaded.
+     *
+     * @param version the reference data version the tables were loaded at.
+     * @param areasOfLaw the area of law types.
+     * @param courtTypes the court types.
+     * @param openingHourTypes the opening hour types.
+     * @param contactDescriptionTypes the contact description types.
+     * @param regions the regions.
+     * @param serviceAreas the service areas.
+     * @param localAuthorities the parent local authorities.
+     */
+    public record Snapshot(
+        long version,
+        Map<UUID, AreaOfLawType> areasOfLaw,
+        Map<UUID, CourtType> courtTypes,
+        Map<UUID, OpeningHourType> openingHourTypes,
+        Map<UUID, ContactDescriptionType> contactDescriptionTypes,
+        Map<UUID, Region> regions,
+        Map<UUID, ServiceArea> serviceAreas,
+        List<LocalAuthorityType> localAuthorities
+    ) {
+
+        /**
+         * Look up the values for the given ids, skipping unknown or duplicate ids and preserving request order.
+         *
+         * @param values the id keyed values to read from.
+         * @param ids the ids to look up.
+         * @param <T> the value type.
+         * @return the matching values.
+         */
+        public static <T> List<T> findAllById(Map<UUID, T> values, Collection<UUID> ids) {
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            List<T> found = new ArrayList<>(ids.size());
+            ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .forEach(found::add);
+            return Collections.unmodifiableList(found);
+        }
+    }
+}
@@ -8,22 +8,22 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAreasOfLaw;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreContactDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
-import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ServiceCentreDetailsViewService {
 
     private final TypesService typesService;
-    private final ServiceAreaRepository serviceAreaRepository;
 
     /**
      * Prepares the service centre details response by expanding UUID-backed fields into reference objects.
@@ -36,79 +36,109 @@ public class ServiceCentreDetailsViewService {
             return null;
         }
 
-        enrichServiceAreas(serviceCentreDetails);
-        enrichContactDescriptions(serviceCentreDetails.getServiceCentreContactDetails());
-        enrichServiceCentreAreasOfLaw(serviceCentreDetails.getServiceCentreAreasOfLaw());
+        prepareDetailsViews(List.of(serviceCentreDetails));
         return serviceCentreDetails;
     }
 
-    private void enrichServiceAreas(ServiceCentreDetails serviceCentreDetails) {
-        List<UUID> serviceAreaIds = safeList(serviceCentreDetails.getServiceAreaIds());
-        if (serviceAreaIds.isEmpty()) {
-            return;
+    /**
+     * Prepares the details response for a set of service centres, resolving the type IDs referenced anywhere
+     * in the set once per type and sharing the resolved instances (and stubs for missing IDs) between them.
+     *
+     * @param serviceCentreDetails the service centre details entities to prepare.
+     * @return the same entities after enrichment, skipping any null entries.
+     */
+    public List<ServiceCentreDetails> prepareDetailsViews(Collection<ServiceCentreDetails> serviceCentreDetails) {
+        if (serviceCentreDetails == null || serviceCentreDetails.isEmpty()) {
+            return List.of();
         }
 
-        Map<UUID, ServiceArea> serviceAreasById = serviceAreaRepository.findAllById(serviceAreaIds).stream()
+        List<ServiceCentreDetails> serviceCentres = serviceCentreDetails.stream()
             .filter(Objects::nonNull)
-            .collect(Collectors.toMap(ServiceArea::getId, Function.identity()));
+            .toList();
 
-        serviceCentreDetails.setServiceAreaDetails(
-            serviceAreaIds.stream()
-                .map(id -> serviceAreasById.getOrDefault(id, createServiceAreaStub(id)))
-                .toList()
+        Map<UUID, ServiceArea> serviceAreasById = resolveById(
+            serviceCentres.stream()
+                .flatMap(serviceCentre -> safeList(serviceCentre.getServiceAreaIds()).stream()),
+            typesService::getServiceAreasByIds,
+            ServiceArea::getId,
+            this::createServiceAreaStub
+        );
+        Map<UUID, ContactDescriptionType> descriptionTypesById = resolveById(
+            serviceCentres.stream()
+                .flatMap(serviceCentre -> safeList(serviceCentre.getServiceCentreContactDetails()).stream())
+                .map(ServiceCentreContactDetails::getServiceCentreContactDescriptionId),
+            typesService::getContactDescriptionTypesByIds,
+            ContactDescriptionType::getId,
+            this::createContactDescriptionTypeStub
         );
+        Map<UUID, AreaOfLawType> areasOfLawById = resolveById(
+            serviceCentres.stream()
+                .flatMap(serviceCentre -> safeList(serviceCentre.getServiceCentreAreasOfLaw()).stream())
+                .flatMap(area -> safeList(area.getAreasOfLaw()).stream()),
+            typesService::getAllAreasOfLawTypesByIds,
+            AreaOfLawType::getId,
+            this::createAreaOfLawStub
+        );
+
+        serviceCentres.forEach(serviceCentre -> {
+            enrichServiceAreas(serviceCentre, serviceAreasById);
+            enrichContactDescriptions(serviceCentre.getServiceCentreContactDetails(), descriptionTypesById);
+            enrichServiceCentreAreasOfLaw(serviceCentre.getServiceCentreAreasOfLaw(), areasOfLawById);
+        });
+        return serviceCentres;
     }
 
-    private void enrichContactDescriptions(List<ServiceCentreContactDetails> contactDetails) {
-        if (contactDetails == null || contactDetails.isEmpty()) {
+    private void enrichServiceAreas(ServiceCentreDetails serviceCentreDetails,
+                                    Map<UUID, ServiceArea> serviceAreasById) {
+        List<UUID> serviceAreaIds = safeList(serviceCentreDetails.getServiceAreaIds());
+        if (serviceAreaIds.isEmpty()) {
             return;
         }
 
-        List<UUID> descriptionTypeIds = contactDetails.stream()
-            .map(ServiceCentreContactDetails::getServiceCentreContactDescriptionId)
-            .filter(Objects::nonNull)
-            .distinct()
-            .toList();
+        serviceCentreDetails.setServiceAreaDetails(expand(serviceAreaIds, serviceAreasById));
+    }
 
-        Map<UUID, ContactDescriptionType> descriptionTypesById = descriptionTypeIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getContactDescriptionTypesByIds(descriptionTypeIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(ContactDescriptionType::getId, Function.identity()));
-
-        contactDetails.forEach(contactDetail -> {
-            UUID descriptionTypeId = contactDetail.getServiceCentreContactDescriptionId();
-            ContactDescriptionType descriptionType = descriptionTypesById.get(descriptionTypeId);
-            if (descriptionType == null && descriptionTypeId != null) {
-                ContactDescriptionType fallback = new ContactDescriptionType();
-                fallback.setId(descriptionTypeId);
-                descriptionType = fallback;
-            }
-            contactDetail.setServiceCentreContactDescriptionDetails(descriptionType);
-        });
+    private void enrichContactDescriptions(List<ServiceCentreContactDetails> contactDetails,
+                                           Map<UUID, ContactDescriptionType> descriptionTypesById) {
+        safeList(contactDetails).forEach(contactDetail -> contactDetail.setServiceCentreContactDescriptionDetails(
+            descriptionTypesById.get(contactDetail.getServiceCentreContactDescriptionId())
+        ));
     }
 
-    private void enrichServiceCentreAreasOfLaw(List<ServiceCentreAreasOfLaw> serviceCentreAreasOfLaw) {
-        if (serviceCentreAreasOfLaw == null || serviceCentreAreasOfLaw.isEmpty()) {
-            return;
+    private void enrichServiceCentreAreasOfLaw(List<ServiceCentreAreasOfLaw> serviceCentreAreasOfLaw,
+                                               Map<UUID, AreaOfLawType> areasOfLawById) {
+        safeList(serviceCentreAreasOfLaw).forEach(area -> area.setAreasOfLawDetails(
+            expand(area.getAreasOfLaw(), areasOfLawById)
+        ));
+    }
+
+    private <T> Map<UUID, T> resolveById(Stream<UUID> ids,
+                                         Function<List<UUID>, List<T>> lookup,
+                                         Function<T, UUID> idExtractor,
+                                         Function<UUID, T> stubFactory) {
+        List<UUID> distinctIds = ids.filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        List<UUID> areaOfLawIds = serviceCentreAreasOfLaw.stream()
-            .flatMap(area -> safeList(area.getAreasOfLaw()).stream())
-            .distinct()
-            .toList();
+        Map<UUID, T> byId = new HashMap<>();
+        lookup.apply(distinctIds).stream()
+            .filter(Objects::nonNull)
+            .forEach(value -> byId.put(idExtractor.apply(value), value));
+        distinctIds.forEach(id -> byId.computeIfAbsent(id, stubFactory));
+        return byId;
+    }
 
-        Map<UUID, AreaOfLawType> areasOfLawById = areaOfLawIds.isEmpty()
-            ? Collections.emptyMap()
-            : typesService.getAllAreasOfLawTypesByIds(areaOfLawIds).stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(AreaOfLawType::getId, Function.identity()));
+    private <T> List<T> expand(List<UUID> ids, Map<UUID, T> valuesById) {
+        return safeList(ids).stream()
+            .map(valuesById::get)
+            .toList();
+    }
 
-        serviceCentreAreasOfLaw.forEach(area -> area.setAreasOfLawDetails(
-            safeList(area.getAreasOfLaw()).stream()
-                .map(id -> areasOfLawById.getOrDefault(id, createAreaOfLawStub(id)))
-                .toList()
-        ));
+    private ContactDescriptionType createContactDescriptionTypeStub(UUID id) {
+        ContactDescriptionType fallback = new ContactDescriptionType();
+        fallback.setId(id);
+        return fallback;
     }
 
     private AreaOfLawType createAreaOfLawStub(UUID id) {
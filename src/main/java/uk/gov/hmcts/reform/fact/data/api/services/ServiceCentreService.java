@@ -8,24 +8,26 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.CatchmentType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
-import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreDetailsRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ServiceCentreService {
 
     private final ServiceCentreRepository serviceCentreRepository;
-    private final AuditRepository auditRepository;
-    private final UserRepository userRepository;
+    private final HousekeepingService housekeepingService;
     private final ServiceCentreDetailsRepository serviceCentreDetailsRepository;
     private final ServiceAreaRepository serviceAreaRepository;
     private final RegionService regionService;
@@ -66,6 +68,30 @@ public class ServiceCentreService {
             .orElseThrow(() -> new NotFoundException("Service centre not found, slug: " + serviceCentreSlug));
     }
 
+    /**
+     * Get the id and last updated time of a service centre by id, without loading the details aggregate.
+     *
+     * @param serviceCentreId The ID of the service centre.
+     * @return The id and last updated time of the service centre.
+     * @throws NotFoundException if the service centre is not found.
+     */
+    public IdAndLastUpdatedAt getServiceCentreLastUpdatedAtById(UUID serviceCentreId) {
+        return serviceCentreRepository.findIdAndLastUpdatedAtById(serviceCentreId)
+            .orElseThrow(() -> new NotFoundException("Service centre not found, ID: " + serviceCentreId));
+    }
+
+    /**
+     * Get the id and last updated time of a service centre by slug, without loading the details aggregate.
+     *
+     * @param serviceCentreSlug The slug of the service centre.
+     * @return The id and last updated time of the service centre.
+     * @throws NotFoundException if the service centre is not found.
+     */
+    public IdAndLastUpdatedAt getServiceCentreLastUpdatedAtBySlug(String serviceCentreSlug) {
+        return serviceCentreRepository.findIdAndLastUpdatedAtBySlug(serviceCentreSlug)
+            .orElseThrow(() -> new NotFoundException("Service centre not found, slug: " + serviceCentreSlug));
+    }
+
     /**
      * Get a service centre by its exact name.
      *
@@ -136,13 +162,12 @@ public class ServiceCentreService {
             return 0;
         }
 
+        List<UUID> serviceCentreIds = serviceCentresToDelete.stream().map(ServiceCentre::getId).toList();
         if  (purgeAudits) {
-            auditRepository.deleteBySubjectIdIn(serviceCentresToDelete.stream().map(ServiceCentre::getId).toList());
+            housekeepingService.deleteAuditsOfSubjects(serviceCentreIds);
         }
 
-        serviceCentresToDelete.forEach(
-            serviceCentre -> userRepository.removeServiceCentreFromAllFavourites(serviceCentre.getId())
-        );
+        housekeepingService.removeServiceCentresFromFavourites(serviceCentreIds);
         serviceCentreRepository.deleteAllInBatch(serviceCentresToDelete);
         return serviceCentresToDelete.size();
     }
@@ -156,6 +181,15 @@ public class ServiceCentreService {
         return serviceCentreRepository.findAllNameAndId();
     }
 
+    /**
+     * Get the id and last updated time of every service centre, in name order, without loading the details.
+     *
+     * @return a {@link List} of service centre ids and last updated times.
+     */
+    public List<IdAndLastUpdatedAt> getAllServiceCentreLastUpdatedAts() {
+        return serviceCentreRepository.findAllIdAndLastUpdatedAtByOrderByNameAsc();
+    }
+
     /**
      * Get all service centre details.
      *
@@ -165,6 +199,19 @@ public class ServiceCentreService {
         return serviceCentreDetailsRepository.findAll();
     }
 
+    /**
+     * Get the service centre details for the given ids, in the order the ids are given. Unknown ids are skipped.
+     *
+     * @param serviceCentreIds The ids of the service centres to get.
+     * @return a {@link List} of service centre details.
+     */
+    public List<ServiceCentreDetails> getServiceCentreDetailsByIds(List<UUID> serviceCentreIds) {
+        Map<UUID, ServiceCentreDetails> serviceCentresById =
+            serviceCentreDetailsRepository.findAllById(serviceCentreIds).stream()
+                .collect(Collectors.toMap(ServiceCentreDetails::getId, Function.identity()));
+        return serviceCentreIds.stream().map(serviceCentresById::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Convert a service centre name into slug format.
      *
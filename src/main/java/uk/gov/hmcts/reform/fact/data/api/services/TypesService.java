@@ -9,42 +9,22 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ContactDescriptionType;
 import uk.gov.hmcts.reform.fact.data.api.entities.Region;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
-import uk.gov.hmcts.reform.fact.data.api.repositories.AreaOfLawTypeRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.CourtTypeRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.LocalAuthorityTypeRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.OpeningHoursTypeRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.ContactDescriptionTypeRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry.Snapshot;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Reference data lookups, served from the in-memory {@link ReferenceDataRegistry} rather than the database.
+ */
 @Service
 public class TypesService {
 
-    private final AreaOfLawTypeRepository areaOfLawTypeRepository;
-    private final CourtTypeRepository courtTypeRepository;
-    private final OpeningHoursTypeRepository openingHoursTypeRepository;
-    private final ContactDescriptionTypeRepository contactDescriptionTypeRepository;
-    private final RegionRepository regionRepository;
-    private final ServiceAreaRepository serviceAreaRepository;
-    private final LocalAuthorityTypeRepository localAuthorityTypeRepository;
-
-    public TypesService(
-        AreaOfLawTypeRepository areaOfLawTypeRepository,
-        CourtTypeRepository courtTypeRepository,
-        OpeningHoursTypeRepository openingHoursTypeRepository,
-        ContactDescriptionTypeRepository contactDescriptionTypeRepository,
-        RegionRepository regionRepository,
-        ServiceAreaRepository serviceAreaRepository, final LocalAuthorityTypeRepository localAuthorityTypeRepository) {
-        this.areaOfLawTypeRepository = areaOfLawTypeRepository;
-        this.courtTypeRepository = courtTypeRepository;
-        this.openingHoursTypeRepository = openingHoursTypeRepository;
-        this.contactDescriptionTypeRepository = contactDescriptionTypeRepository;
-        this.regionRepository = regionRepository;
-        this.serviceAreaRepository = serviceAreaRepository;
-        this.localAuthorityTypeRepository = localAuthorityTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    public TypesService(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     /**
@@ -53,7 +33,7 @@ public class TypesService {
      * @return The area of law types.
      */
     public List<AreaOfLawType> getAreaOfLawTypes() {
-        return areaOfLawTypeRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().areasOfLaw().values());
     }
 
     /**
@@ -63,7 +43,7 @@ public class TypesService {
      * @return List of areas of law types matching the provided IDs.
      */
     public List<AreaOfLawType> getAllAreasOfLawTypesByIds(List<UUID> areaOfLawTypeIds) {
-        return areaOfLawTypeRepository.findAllById(areaOfLawTypeIds);
+        return Snapshot.findAllById(referenceDataRegistry.getSnapshot().areasOfLaw(), areaOfLawTypeIds);
     }
 
     /**
@@ -72,7 +52,7 @@ public class TypesService {
      * @return The court types.
      */
     public List<CourtType> getCourtTypes() {
-        return courtTypeRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().courtTypes().values());
     }
 
     /**
@@ -81,9 +61,9 @@ public class TypesService {
      * @return The court type.
      */
     public CourtType getCourtTypeById(UUID courtTypeId) {
-        return courtTypeRepository.findById(courtTypeId).orElseThrow(
-            () -> new NotFoundException("Court type with ID " + courtTypeId + " not found")
-        );
+        return Optional.ofNullable(courtTypeId)
+            .map(referenceDataRegistry.getSnapshot().courtTypes()::get)
+            .orElseThrow(() -> new NotFoundException("Court type with ID " + courtTypeId + " not found"));
     }
 
     /**
@@ -93,7 +73,7 @@ public class TypesService {
      * @return List court types matching the provided IDs.
      */
     public List<CourtType> getAllCourtTypesByIds(List<UUID> courtTypeIds) {
-        return courtTypeRepository.findAllById(courtTypeIds);
+        return Snapshot.findAllById(referenceDataRegistry.getSnapshot().courtTypes(), courtTypeIds);
     }
 
     /**
@@ -102,7 +82,7 @@ public class TypesService {
      * @return The opening hours types.
      */
     public List<OpeningHourType> getOpeningHoursTypes() {
-        return openingHoursTypeRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().openingHourTypes().values());
     }
 
     /**
@@ -112,7 +92,7 @@ public class TypesService {
      * @return List of opening hours types matching the provided IDs.
      */
     public List<OpeningHourType> getOpeningHourTypesByIds(List<UUID> openingHourTypeIds) {
-        return openingHoursTypeRepository.findAllById(openingHourTypeIds);
+        return Snapshot.findAllById(referenceDataRegistry.getSnapshot().openingHourTypes(), openingHourTypeIds);
     }
 
     /**
@@ -121,7 +101,7 @@ public class TypesService {
      * @return The contact description types.
      */
     public List<ContactDescriptionType> getContactDescriptionTypes() {
-        return contactDescriptionTypeRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().contactDescriptionTypes().values());
     }
 
     /**
@@ -131,7 +111,10 @@ public class TypesService {
      * @return List of contact description types matching the provided IDs.
      */
     public List<ContactDescriptionType> getContactDescriptionTypesByIds(List<UUID> contactDescriptionTypeIds) {
-        return contactDescriptionTypeRepository.findAllById(contactDescriptionTypeIds);
+        return Snapshot.findAllById(
+            referenceDataRegistry.getSnapshot().contactDescriptionTypes(),
+            contactDescriptionTypeIds
+        );
     }
 
     /**
@@ -140,7 +123,7 @@ public class TypesService {
      * @return The regions.
      */
     public List<Region> getRegions() {
-        return regionRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().regions().values());
     }
 
     /**
@@ -149,7 +132,17 @@ public class TypesService {
      * @return The service areas.
      */
     public List<ServiceArea> getServiceAreas() {
-        return serviceAreaRepository.findAll();
+        return List.copyOf(referenceDataRegistry.getSnapshot().serviceAreas().values());
+    }
+
+    /**
+     * Get multiple service areas by their IDs.
+     *
+     * @param serviceAreaIds List of service area IDs to retrieve.
+     * @return List of service areas matching the provided IDs.
+     */
+    public List<ServiceArea> getServiceAreasByIds(List<UUID> serviceAreaIds) {
+        return Snapshot.findAllById(referenceDataRegistry.getSnapshot().serviceAreas(), serviceAreaIds);
     }
 
     /**
@@ -158,6 +151,14 @@ public class TypesService {
      * @return The local authorities.
      */
     public List<LocalAuthorityType> getLocalAuthorities() {
-        return localAuthorityTypeRepository.findAllParents();
+        return referenceDataRegistry.getSnapshot().localAuthorities();
+    }
+
+    /**
+     * Reload the reference data held in memory on this instance. Other instances reload theirs when they next read
+     * a details document built from the newer reference data.
+     */
+    public void reloadReferenceData() {
+        referenceDataRegistry.reload();
     }
 }
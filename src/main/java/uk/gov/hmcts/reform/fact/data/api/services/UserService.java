@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.fact.data.api.services;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +17,7 @@ import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.User;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.UserRole;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtRepository;
@@ -23,6 +25,8 @@ import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository.FavouriteLocationReference;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.List;
@@ -47,9 +51,14 @@ public class UserService {
     @Value("${user.retention-period}")
     private long retentionPeriod;
 
+    @Value("${user.last-login-debounce-minutes}")
+    private long lastLoginDebounceMinutes;
+
     private final UserRepository userRepository;
     private final CourtRepository courtRepository;
     private final ServiceCentreRepository serviceCentreRepository;
+    private final HousekeepingService housekeepingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get a user by their unique identifier.
@@ -137,42 +146,38 @@ public class UserService {
     }
 
     /**
-     * Creates a new user or updates an existing user's details.
-     * Updates the last login time to the current timestamp.
+     * Creates a new user or updates an existing user's details with a single statement.
+     * Updates the last login time to the current timestamp, unless the user last logged in within the
+     * last-login debounce period, so a burst of logins costs one cheap statement per user.
      *
      * @param user The user entity to create or update
      * @return The saved user entity
      */
     @Transactional
     public User createOrUpdateLastLoginUser(User user) {
-        Optional.ofNullable(user.getId()).flatMap(userRepository::findById)
-            .or(() -> Optional.ofNullable(user.getEmail()).flatMap(userRepository::findByEmail))
-            .or(() -> Optional.ofNullable(user.getSsoId()).flatMap(userRepository::findBySsoId))
-            .ifPresent(
-                existing -> {
-                    user.setId(existing.getId());
-                    user.setEmail(existing.getEmail());
-                    user.setSsoId(existing.getSsoId());
-                    user.setFavouriteCourts(existing.getFavouriteCourts());
-                    user.setFavouriteServiceCentres(existing.getFavouriteServiceCentres());
-                    user.setRole(Optional.ofNullable(user.getRole()).orElse(existing.getRole()));
-                }
-        );
-
-        user.setLastLogin(ZonedDateTime.now());
-        return userRepository.save(user);
+        LocalDateTime lastLogin = LocalDateTime.now(ZoneOffset.UTC);
+        return userRepository.upsertLogin(
+            UUID.randomUUID(),
+            user.getId(),
+            user.getEmail(),
+            user.getSsoId(),
+            Optional.ofNullable(user.getRole()).map(UserRole::name).orElse(null),
+            lastLogin,
+            lastLogin.minusMinutes(lastLoginDebounceMinutes)
+        ).orElseThrow(() -> new NotFoundException("User was deleted while logging in: " + user.getEmail()));
     }
 
     /**
      * Deletes all users who haven't logged in within the retention period.
      * Users are considered inactive if their last login was more than retentionPeriod days ago.
+     * Every run is announced with a {@link UsersDeletedEvent}.
      */
-    @Transactional
     public int deleteInactiveUsers() {
         final ZonedDateTime cutoffDate = ZonedDateTime.now().minusDays(retentionPeriod);
-        List<User> inactiveUsers = userRepository.deleteAllByLastLoginBefore(cutoffDate);
-        log.info("Deleted {} inactive users who haven't logged in since {}", inactiveUsers.size(), cutoffDate);
-        return inactiveUsers.size();
+        int deletedUsers = housekeepingService.deleteUsersLastLoggedInBefore(cutoffDate);
+        log.info("Deleted {} inactive users who haven't logged in since {}", deletedUsers, cutoffDate);
+        eventPublisher.publishEvent(new UsersDeletedEvent(deletedUsers));
+        return deletedUsers;
     }
 
     private boolean matchesSearch(User user, String searchFilter) {
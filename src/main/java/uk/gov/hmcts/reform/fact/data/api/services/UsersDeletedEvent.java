@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+/**
+ * Published after a run that deletes users, so anything holding on to user ids can let go of them.
+ *
+ * @param deletedUsers the number of users deleted by the run.
+ */
+public record UsersDeletedEvent(int deletedUsers) {
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.fact.data.api.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility class for answering conditional GET requests on the location details endpoints.
+ *
+ * <p>The {@code last_updated_at} column on court and service centre is bumped by triggers whenever any child row
+ * changes, and the reference data version moves whenever the reference data enriched into the response changes,
+ * so together they can act as the validator for the whole response. Callers look the location's up with a
+ * lightweight query and only load the aggregate when the client copy is stale.</p>
+ *
+ * <p>Only the entity tag is used to answer 304. {@code last_updated_at} is the start time of the writing
+ * transaction, so it can go backwards when overlapping writes commit out of order, and it does not move with the
+ * reference data, so {@code If-Modified-Since} alone could be answered 304 for a changed response. The
+ * {@code Last-Modified} header is still sent, but only for information.</p>
+ */
+public final class ConditionalRequestUtil {
+
+    private ConditionalRequestUtil() {
+    }
+
+    /**
+     * Answers 304 when the client already holds the current version, otherwise loads and returns the body
+     * with {@code ETag} and {@code Last-Modified} headers.
+     *
+     * @param webRequest the current request.
+     * @param version the id and last updated time of the requested aggregate, may be null.
+     * @param referenceDataVersion the version of the reference data the response is enriched with.
+     * @param bodySupplier loads the response body, only invoked when the client copy is stale.
+     * @param <T> the response body type.
+     * @return a 304 response without a body, or a 200 response with the loaded body.
+     */
+    public static <T> ResponseEntity<T> okIfModified(WebRequest webRequest, IdAndLastUpdatedAt version,
+                                                     long referenceDataVersion, Supplier<T> bodySupplier) {
+        if (version == null || version.lastUpdatedAt() == null) {
+            return ResponseEntity.ok(bodySupplier.get());
+        }
+
+        String eTag = buildETag(version, referenceDataVersion);
+        long lastModified = version.lastUpdatedAt().toInstant().toEpochMilli();
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .lastModified(lastModified)
+            .body(bodySupplier.get());
+    }
+
+    /**
+     * Builds a weak entity tag from the aggregate id, its last updated time and the reference data version.
+     *
+     * @param version the id and last updated time of the aggregate.
+     * @param referenceDataVersion the version of the reference data the response is enriched with.
+     * @return the weak entity tag.
+     */
+    public static String buildETag(IdAndLastUpdatedAt version, long referenceDataVersion) {
+        return "W/\"" + version.id() + "-" + version.lastUpdatedAt().toInstant().toEpochMilli()
+            + "-" + referenceDataVersion + "\"";
+    }
+}
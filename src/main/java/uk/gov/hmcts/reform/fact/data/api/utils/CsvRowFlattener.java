@@ -0,0 +1,356 @@
+package uk.gov.hmcts.reform.fact.data.api.utils;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtCodes;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtCounterServiceOpeningHours;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDxCode;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.ADDRESSES;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.AREAS_OF_LAW;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.AREAS_OF_LAW_LABEL;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.CCI_CODE;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.COLUMNS;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.COURTS_LABEL;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.DX_NUMBER;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.LAT;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.LON;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.MAGISTRATE_CODE;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.NAME;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.NOT_AVAILABLE;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.NO_ADDRESS_AVAILABLE;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.NO_AREAS_OF_LAW_AVAILABLE;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.NUMBER;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.OPEN;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.PIPE_SEPARATOR;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.SLUG;
+import static uk.gov.hmcts.reform.fact.data.api.utils.CsvUtil.TYPES;
+
+/**
+ * Flattens court and service centre details into CSV rows by reading the entities directly.
+ *
+ * <p>Produces the same values as {@link CsvUtil#flattenCourtNode} does for the serialised entities, so both paths
+ * write byte-identical CSV, but without building a JSON tree per location or the intermediate lists and formatted
+ * strings that walking the tree needs.</p>
+ *
+ * <p>One row map, string builder and name set are reused for every row, so the map returned by {@code flatten}
+ * is only valid until the next call. Instances are not thread safe.</p>
+ */
+public class CsvRowFlattener {
+
+    private static final String ADDRESS_LINE_SEPARATOR = ", ";
+
+    private final Map<String, Object> row = new LinkedHashMap<>();
+    private final StringBuilder buffer = new StringBuilder(1024);
+    private final Set<String> typeNames = new LinkedHashSet<>();
+
+    public CsvRowFlattener() {
+        COLUMNS.forEach(column -> row.put(column, null));
+    }
+
+    /**
+     * Flatten a court or service centre into a CSV row.
+     *
+     * @param location the {@link CourtDetails} or {@link ServiceCentreDetails} to flatten.
+     * @return the row, keyed by column name. Reused by the next call.
+     * @throws IllegalArgumentException if the location is of any other type.
+     */
+    public Map<String, Object> flatten(Object location) {
+        return switch (location) {
+            case CourtDetails court -> flatten(court);
+            case ServiceCentreDetails serviceCentre -> flatten(serviceCentre);
+            default -> throw new IllegalArgumentException("Cannot flatten " + location + " into a CSV row");
+        };
+    }
+
+    /**
+     * Flatten a court into a CSV row.
+     *
+     * @param court the court details.
+     * @return the row, keyed by column name. Reused by the next call.
+     */
+    public Map<String, Object> flatten(CourtDetails court) {
+        CourtAddress primaryAddress = first(court.getCourtAddresses());
+        CourtCodes courtCodes = first(court.getCourtCodes());
+
+        row.put(NAME, orEmpty(court.getName()));
+        row.put(LAT, primaryAddress == null ? null : toDouble(primaryAddress.getLat()));
+        row.put(LON, primaryAddress == null ? null : toDouble(primaryAddress.getLon()));
+        row.put(NUMBER, courtCodes == null ? null : courtCodes.getCrownCourtCode());
+        row.put(CCI_CODE, courtCodes == null ? null : courtCodes.getCountyCourtCode());
+        row.put(MAGISTRATE_CODE, courtCodes == null ? null : courtCodes.getMagistrateCourtCode());
+        row.put(SLUG, orEmpty(court.getSlug()));
+        row.put(TYPES, courtTypes(court));
+        row.put(OPEN, isOpen(court.getOpen(), court.getOpenOnCath()));
+        row.put(DX_NUMBER, dxCodes(court.getCourtDxCodes()));
+        row.put(AREAS_OF_LAW, areasOfLaw(court.getCourtAreasOfLaw(), CourtAreasOfLaw::getAreasOfLawForView));
+        row.put(ADDRESSES, courtAddresses(court.getCourtAddresses()));
+        return row;
+    }
+
+    /**
+     * Flatten a service centre into a CSV row.
+     *
+     * @param serviceCentre the service centre details.
+     * @return the row, keyed by column name. Reused by the next call.
+     */
+    public Map<String, Object> flatten(ServiceCentreDetails serviceCentre) {
+        ServiceCentreAddress primaryAddress = first(serviceCentre.getServiceCentreAddresses());
+
+        row.put(NAME, orEmpty(serviceCentre.getName()));
+        row.put(LAT, primaryAddress == null ? null : toDouble(primaryAddress.getLat()));
+        row.put(LON, primaryAddress == null ? null : toDouble(primaryAddress.getLon()));
+        row.put(NUMBER, null);
+        row.put(CCI_CODE, null);
+        row.put(MAGISTRATE_CODE, null);
+        row.put(SLUG, orEmpty(serviceCentre.getSlug()));
+        row.put(TYPES, serviceAreas(serviceCentre.getServiceAreasForView()));
+        row.put(OPEN, isOpen(serviceCentre.getOpen(), null));
+        row.put(DX_NUMBER, "");
+        row.put(AREAS_OF_LAW, areasOfLaw(
+            serviceCentre.getServiceCentreAreasOfLaw(),
+            ServiceCentreAreasOfLaw::getAreasOfLawForView
+        ));
+        row.put(ADDRESSES, serviceCentreAddresses(serviceCentre.getServiceCentreAddresses()));
+        return row;
+    }
+
+    private String courtTypes(CourtDetails court) {
+        typeNames.clear();
+        if (court.getCourtAddresses() != null) {
+            court.getCourtAddresses().forEach(address -> {
+                if (address != null) {
+                    addTypeNames(address.getCourtTypesForView());
+                }
+            });
+        }
+        if (typeNames.isEmpty() && court.getCourtCounterServiceOpeningHours() != null) {
+            for (CourtCounterServiceOpeningHours openingHours : court.getCourtCounterServiceOpeningHours()) {
+                if (openingHours != null) {
+                    addTypeNames(openingHours.getCourtTypesForView());
+                }
+            }
+        }
+        return String.join(PIPE_SEPARATOR, typeNames);
+    }
+
+    private void addTypeNames(List<?> courtTypes) {
+        if (courtTypes == null) {
+            return;
+        }
+        for (Object courtType : courtTypes) {
+            String name = nameOf(courtType);
+            if (!NOT_AVAILABLE.equals(name)) {
+                typeNames.add(name);
+            }
+        }
+    }
+
+    private String serviceAreas(List<?> serviceAreas) {
+        buffer.setLength(0);
+        if (serviceAreas == null) {
+            return "";
+        }
+        for (Object serviceArea : serviceAreas) {
+            String name = nameOf(serviceArea);
+            if (!NOT_AVAILABLE.equals(name)) {
+                appendSeparator(0, PIPE_SEPARATOR);
+                buffer.append(name);
+            }
+        }
+        return buffer.toString();
+    }
+
+    private String dxCodes(List<CourtDxCode> dxCodes) {
+        buffer.setLength(0);
+        if (dxCodes == null) {
+            return "";
+        }
+        for (CourtDxCode dxCode : dxCodes) {
+            if (dxCode != null && dxCode.getDxCode() != null && !NOT_AVAILABLE.equals(dxCode.getDxCode())) {
+                appendSeparator(0, PIPE_SEPARATOR);
+                buffer.append(dxCode.getDxCode());
+            }
+        }
+        return buffer.toString();
+    }
+
+    private <T> String areasOfLaw(List<T> locationAreasOfLaw, Function<T, List<?>> areasOfLawForView) {
+        buffer.setLength(0);
+        if (locationAreasOfLaw == null) {
+            return NO_AREAS_OF_LAW_AVAILABLE;
+        }
+        for (T locationAreaOfLaw : locationAreasOfLaw) {
+            List<?> areas = locationAreaOfLaw == null ? null : areasOfLawForView.apply(locationAreaOfLaw);
+            if (areas == null) {
+                continue;
+            }
+            for (Object area : areas) {
+                AreaOfLawType areaOfLaw = area instanceof AreaOfLawType type ? type : null;
+                appendSeparator(0, PIPE_SEPARATOR);
+                buffer.append("Name: ").append(textOf(areaOfLaw == null ? null : areaOfLaw.getName()))
+                    .append(", External Link: ")
+                    .append(textOf(areaOfLaw == null ? null : areaOfLaw.getExternalLink()))
+                    .append(", Description: ").append(NOT_AVAILABLE)
+                    .append(", Display Name: ")
+                    .append(textOf(areaOfLaw == null ? null : areaOfLaw.getDisplayName()))
+                    .append(", Display External Link: ").append(NOT_AVAILABLE);
+            }
+        }
+        return buffer.isEmpty() ? NO_AREAS_OF_LAW_AVAILABLE : buffer.toString();
+    }
+
+    private String courtAddresses(List<CourtAddress> addresses) {
+        buffer.setLength(0);
+        if (addresses == null || addresses.isEmpty()) {
+            return NO_ADDRESS_AVAILABLE;
+        }
+        for (CourtAddress address : addresses) {
+            appendSeparator(0, PIPE_SEPARATOR);
+            if (address == null) {
+                appendMissingAddress();
+                continue;
+            }
+            appendAddressStart(
+                address.getTownCity(), address.getPostcode(), address.getAddressLine1(), address.getAddressLine2(),
+                address.getAddressType(), address.getCounty()
+            );
+            int fieldsOfLawStart = buffer.length();
+            appendNames(fieldsOfLawStart, AREAS_OF_LAW_LABEL, address.getAreasOfLawForView());
+            appendNames(fieldsOfLawStart, COURTS_LABEL, address.getCourtTypesForView());
+            if (buffer.length() == fieldsOfLawStart) {
+                buffer.append(NOT_AVAILABLE);
+            }
+            appendAddressEnd(address.getEpimId());
+        }
+        return buffer.toString();
+    }
+
+    private String serviceCentreAddresses(List<ServiceCentreAddress> addresses) {
+        buffer.setLength(0);
+        if (addresses == null || addresses.isEmpty()) {
+            return NO_ADDRESS_AVAILABLE;
+        }
+        for (ServiceCentreAddress address : addresses) {
+            appendSeparator(0, PIPE_SEPARATOR);
+            if (address == null) {
+                appendMissingAddress();
+                continue;
+            }
+            appendAddressStart(
+                address.getTownCity(), address.getPostcode(), address.getAddressLine1(), address.getAddressLine2(),
+                address.getAddressType(), address.getCounty()
+            );
+            buffer.append(NOT_AVAILABLE);
+            appendAddressEnd(null);
+        }
+        return buffer.toString();
+    }
+
+    private void appendMissingAddress() {
+        appendAddressStart(null, null, null, null, null, null);
+        buffer.append(NOT_AVAILABLE);
+        appendAddressEnd(null);
+    }
+
+    private void appendAddressStart(String townCity, String postcode, String addressLine1, String addressLine2,
+                                    AddressType addressType, String county) {
+        buffer.append("Town: ").append(textOf(townCity))
+            .append(", Postcode: ").append(textOf(postcode))
+            .append(", Address: ");
+        int linesStart = buffer.length();
+        appendAddressLine(linesStart, addressLine1);
+        appendAddressLine(linesStart, addressLine2);
+        if (buffer.length() == linesStart) {
+            buffer.append("No address lines");
+        }
+        buffer.append(", Type: ").append(addressType == null ? NOT_AVAILABLE : addressType.name())
+            .append(", County: ").append(textOf(county))
+            .append(", ");
+    }
+
+    private void appendAddressLine(int linesStart, String line) {
+        if (line != null && !line.isBlank() && !NOT_AVAILABLE.equals(line)) {
+            appendSeparator(linesStart, ADDRESS_LINE_SEPARATOR);
+            buffer.append(line);
+        }
+    }
+
+    private void appendAddressEnd(String epimId) {
+        buffer.append(", Description: ").append(NOT_AVAILABLE)
+            .append(", EPIM ID: ").append(textOf(epimId));
+    }
+
+    private void appendNames(int partsStart, String label, List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        appendSeparator(partsStart, ADDRESS_LINE_SEPARATOR);
+        buffer.append(label).append(": ");
+        int namesStart = buffer.length();
+        for (Object value : values) {
+            appendSeparator(namesStart, PIPE_SEPARATOR);
+            buffer.append(nameOf(value));
+        }
+    }
+
+    private void appendSeparator(int start, String separator) {
+        if (buffer.length() > start) {
+            buffer.append(separator);
+        }
+    }
+
+    /**
+     * The name shown for an enriched reference data item, or the id itself when the list has not been enriched.
+     */
+    private static String nameOf(Object value) {
+        return switch (value) {
+            case AreaOfLawType areaOfLaw -> textOf(areaOfLaw.getName());
+            case CourtType courtType -> textOf(courtType.getName());
+            case ServiceArea serviceArea -> textOf(serviceArea.getName());
+            case UUID id -> id.toString();
+            case String text -> text;
+            case null, default -> NOT_AVAILABLE;
+        };
+    }
+
+    private static Boolean isOpen(Boolean open, Boolean openOnCath) {
+        if (open != null) {
+            return open;
+        }
+        return openOnCath != null ? openOnCath : Boolean.FALSE;
+    }
+
+    private static <T> T first(List<T> values) {
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value == null ? null : value.doubleValue();
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String textOf(String value) {
+        return value == null ? NOT_AVAILABLE : value;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.fact.data.api.utils;
 import lombok.extern.slf4j.Slf4j;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.node.JsonNodeType;
 import tools.jackson.dataformat.csv.CsvMapper;
@@ -32,27 +33,32 @@ import java.util.Map;
  */
 @Slf4j
 public class CsvUtil {
-    private static final String NAME = "name";
-    private static final String LAT = "lat";
-    private static final String LON = "lon";
-    private static final String SLUG = "slug";
-    private static final String TYPES = "types";
-    private static final String CCI_CODE = "cci_code";
-    private static final String MAGISTRATE_CODE = "magistrate_code";
-    private static final String AREAS_OF_LAW = "areas_of_law";
+    static final String NAME = "name";
+    static final String LAT = "lat";
+    static final String LON = "lon";
+    static final String NUMBER = "number";
+    static final String SLUG = "slug";
+    static final String TYPES = "types";
+    static final String CCI_CODE = "cci_code";
+    static final String MAGISTRATE_CODE = "magistrate_code";
+    static final String AREAS_OF_LAW = "areas_of_law";
     private static final String AREAS_OF_LAW_PATH = "areasOfLaw";
-    private static final String ADDRESSES = "addresses";
+    static final String ADDRESSES = "addresses";
     private static final String COURT_ADDRESSES = "courtAddresses";
     private static final String SERVICE_CENTRE_ADDRESSES = "serviceCentreAddresses";
     private static final String COURT_TYPES = "courtTypes";
     private static final String SERVICE_CENTRE_AREAS_OF_LAW = "serviceCentreAreasOfLaw";
-    private static final String DX_NUMBER = "dx_number";
-    private static final String NOT_AVAILABLE = "N/A";
-    private static final String PIPE_SEPARATOR = " | ";
-    private static final String NO_AREAS_OF_LAW_AVAILABLE = "No areas of law available";
-    private static final String NO_ADDRESS_AVAILABLE = "No address available";
-    private static final String AREAS_OF_LAW_LABEL = "Areas of Law";
-    private static final String COURTS_LABEL = "Courts";
+    static final String DX_NUMBER = "dx_number";
+    static final String OPEN = "open";
+    static final String NOT_AVAILABLE = "N/A";
+    static final String PIPE_SEPARATOR = " | ";
+    static final String NO_AREAS_OF_LAW_AVAILABLE = "No areas of law available";
+    static final String NO_ADDRESS_AVAILABLE = "No address available";
+    static final String AREAS_OF_LAW_LABEL = "Areas of Law";
+    static final String COURTS_LABEL = "Courts";
+    static final List<String> COLUMNS = List.of(
+        NAME, LAT, LON, NUMBER, CCI_CODE, MAGISTRATE_CODE, SLUG, TYPES, OPEN, DX_NUMBER, AREAS_OF_LAW, ADDRESSES
+    );
 
     private final CsvMapper csvMapper;
 
@@ -66,37 +72,44 @@ public class CsvUtil {
             .build();
     }
 
-    public String convertJsonToCsv(JsonNode jsonArrayNode) {
+    /**
+     * Render the CSV header line, to be written at the start of the file.
+     *
+     * @return the header line, including the line separator.
+     */
+    public String renderHeader() {
         CsvSchema schema = buildCsvSchema();
-        List<Map<String, Object>> flatList = new ArrayList<>();
-
-        for (JsonNode node : jsonArrayNode) {
-            flatList.add(flattenCourtNode(node));
-        }
+        return String.join(String.valueOf(schema.getColumnSeparator()), COLUMNS)
+            + String.valueOf(schema.getLineSeparator());
+    }
 
+    /**
+     * Render the CSV rows for the given locations, flattened straight from the entities by a
+     * {@link CsvRowFlattener}, so rendered rows can be stored and later joined under {@link #renderHeader()} to form
+     * the file.
+     *
+     * @param locations the {@link uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails} and
+     *                  {@link uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails} to render.
+     * @return the rendered rows, including their line separators, in the order of the locations given.
+     */
+    public List<String> renderRows(List<?> locations) {
+        CsvRowFlattener flattener = new CsvRowFlattener();
         try {
-            return csvMapper.writer(schema).writeValueAsString(flatList);
+            ObjectWriter rowWriter = csvMapper.writer(buildCsvSchema().withoutHeader());
+            List<String> rows = new ArrayList<>(locations.size());
+            for (Object location : locations) {
+                rows.add(rowWriter.writeValueAsString(flattener.flatten(location)));
+            }
+            return rows;
         } catch (JacksonException ex) {
             throw new JsonConvertException("Failed to convert JSON to CSV: " + ex.getMessage());
         }
     }
 
     private CsvSchema buildCsvSchema() {
-        return CsvSchema.builder()
-            .addColumn(NAME)
-            .addColumn(LAT)
-            .addColumn(LON)
-            .addColumn("number")
-            .addColumn(CCI_CODE)
-            .addColumn(MAGISTRATE_CODE)
-            .addColumn(SLUG)
-            .addColumn(TYPES)
-            .addColumn("open")
-            .addColumn(DX_NUMBER)
-            .addColumn(AREAS_OF_LAW)
-            .addColumn(ADDRESSES)
-            .build()
-            .withHeader();
+        CsvSchema.Builder schema = CsvSchema.builder();
+        COLUMNS.forEach(schema::addColumn);
+        return schema.build().withHeader();
     }
 
     public Map<String, Object> flattenCourtNode(JsonNode node) {
@@ -110,13 +123,13 @@ public class CsvUtil {
         flatMap.put(LAT, readDecimal(node, primaryAddress, LAT));
         flatMap.put(LON, readDecimal(node, primaryAddress, LON));
         JsonNode courtCode = getFirstArrayItem(node, "courtCodes");
-        flatMap.put("number", readInteger(courtCode, "crownCourtCode", "crown_court_code"));
+        flatMap.put(NUMBER, readInteger(courtCode, "crownCourtCode", "crown_court_code"));
         flatMap.put(CCI_CODE, readInteger(courtCode, "countyCourtCode", "county_court_code", CCI_CODE));
         flatMap.put(MAGISTRATE_CODE, readInteger(
             courtCode, "magistrateCourtCode", "magistrate_court_code", MAGISTRATE_CODE));
         flatMap.put(SLUG, asNodeText(node.path(SLUG), ""));
         flatMap.put(TYPES, flattenTypes(node));
-        flatMap.put("open", readBoolean(node, "open", "displayed", "openOnCath"));
+        flatMap.put(OPEN, readBoolean(node, OPEN, "displayed", "openOnCath"));
         flatMap.put(DX_NUMBER, flattenDxCodes(node));
 
         flatMap.put(AREAS_OF_LAW, flattenAreasOfLaw(
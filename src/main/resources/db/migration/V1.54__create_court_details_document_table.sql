@@ -0,0 +1,24 @@
+-- Pre-serialised details responses for courts and service centres. A document is only valid for the
+-- last_updated_at it was built from; the existing triggers bump last_updated_at whenever a child row changes,
+-- so an out of date document is simply never matched again and is replaced on the next read.
+CREATE TABLE court_details_document (
+  location_id UUID PRIMARY KEY,
+  location_type VARCHAR(50) NOT NULL,
+  last_updated_at TIMESTAMP NOT NULL,
+  document BYTEA NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION delete_court_details_document() RETURNS trigger AS $$
+BEGIN
+  DELETE FROM court_details_document WHERE location_id = OLD.id;
+  RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER court_delete_court_details_document_trg
+  AFTER DELETE ON court
+  FOR EACH ROW EXECUTE FUNCTION delete_court_details_document();
+
+CREATE TRIGGER service_centre_delete_court_details_document_trg
+  AFTER DELETE ON service_centre
+  FOR EACH ROW EXECUTE FUNCTION delete_court_details_document();
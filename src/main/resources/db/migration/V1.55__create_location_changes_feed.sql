@@ -0,0 +1,46 @@
+-- Support for the /changes/v1 feed. Each location has a single change row stamped with the id of the transaction
+-- that last changed or deleted it, and deleted locations keep theirs as a tombstone so consumers can remove them.
+-- The feed orders by that id and only reads changes from transactions older than every transaction still running,
+-- so a transaction that commits late can never land behind a cursor already handed out.
+CREATE TABLE location_change (
+  location_id UUID PRIMARY KEY,
+  location_type VARCHAR(50) NOT NULL,
+  change_xid BIGINT NOT NULL,
+  changed_at TIMESTAMP NOT NULL,
+  deleted BOOLEAN NOT NULL
+);
+
+-- Reading the feed from a cursor, and from a changedSince time, and pruning old tombstones.
+CREATE INDEX idx_location_change_xid_location_id ON location_change (change_xid, location_id);
+CREATE INDEX idx_location_change_changed_at_xid_location_id ON location_change (changed_at, change_xid, location_id);
+CREATE INDEX idx_location_change_deleted_changed_at ON location_change (changed_at) WHERE deleted;
+
+CREATE OR REPLACE FUNCTION record_location_change() RETURNS trigger AS $$
+BEGIN
+  INSERT INTO location_change (location_id, location_type, change_xid, changed_at, deleted)
+  VALUES (COALESCE(NEW.id, OLD.id), TG_ARGV[0], pg_current_xact_id()::text::bigint, NOW(), TG_OP = 'DELETE')
+  ON CONFLICT (location_id) DO UPDATE SET
+    location_type = EXCLUDED.location_type,
+    change_xid = EXCLUDED.change_xid,
+    changed_at = EXCLUDED.changed_at,
+    deleted = EXCLUDED.deleted;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER court_record_location_change_trg
+  AFTER INSERT OR UPDATE OR DELETE ON court
+  FOR EACH ROW EXECUTE FUNCTION record_location_change('COURT');
+
+CREATE TRIGGER service_centre_record_location_change_trg
+  AFTER INSERT OR UPDATE OR DELETE ON service_centre
+  FOR EACH ROW EXECUTE FUNCTION record_location_change('SERVICE_CENTRE');
+
+-- Every existing location starts at this migration's transaction.
+INSERT INTO location_change (location_id, location_type, change_xid, changed_at, deleted)
+SELECT id, 'COURT', pg_current_xact_id()::text::bigint, COALESCE(last_updated_at, NOW()), FALSE
+FROM court;
+
+INSERT INTO location_change (location_id, location_type, change_xid, changed_at, deleted)
+SELECT id, 'SERVICE_CENTRE', pg_current_xact_id()::text::bigint, COALESCE(last_updated_at, NOW()), FALSE
+FROM service_centre;
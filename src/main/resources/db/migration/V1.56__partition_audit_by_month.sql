@@ -0,0 +1,131 @@
+-- Range partition audit by the month of created_at (stored as UTC), so retention can drop whole months of
+-- expired audits instead of deleting them row by row. Monthly partitions are named audit_YYYY_MM; anything
+-- outside them lands in audit_default so an insert never fails for want of a partition.
+ALTER TABLE audit RENAME TO audit_unpartitioned;
+ALTER TABLE audit_unpartitioned RENAME CONSTRAINT audit_pkey TO audit_unpartitioned_pkey;
+
+UPDATE audit_unpartitioned
+SET created_at = NOW() AT TIME ZONE 'UTC'
+WHERE created_at IS NULL;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE audit (
+  id UUID NOT NULL,
+  subject_id UUID NOT NULL,
+  subject_type VARCHAR NOT NULL,
+  user_id UUID NOT NULL,
+  action_type VARCHAR,
+  action_entity VARCHAR,
+  action_data_diff JSONB,
+  created_at TIMESTAMP NOT NULL,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_default PARTITION OF audit DEFAULT;
+
+-- Create the partition for the month starting at month_start, returning whether it was created. Postgres refuses
+-- to create a month's partition while audit_default holds rows that belong in it, so in that case the default is
+-- detached, the partition created, the month's rows moved across and the default re-attached. Detaching takes an
+-- exclusive lock on audit, so audit inserts wait for the move to commit rather than failing for want of a partition.
+CREATE OR REPLACE FUNCTION create_audit_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+  partition_start DATE := date_trunc('month', month_start)::date;
+  partition_end DATE := (partition_start + INTERVAL '1 month')::date;
+  partition_name TEXT := 'audit_' || to_char(partition_start, 'YYYY_MM');
+  misplaced BOOLEAN;
+BEGIN
+  IF to_regclass(partition_name) IS NOT NULL THEN
+    RETURN FALSE;
+  END IF;
+  SELECT EXISTS (
+    SELECT 1 FROM audit_default WHERE created_at >= partition_start AND created_at < partition_end
+  ) INTO misplaced;
+  IF misplaced THEN
+    ALTER TABLE audit DETACH PARTITION audit_default;
+  END IF;
+  EXECUTE format(
+    'CREATE TABLE %I PARTITION OF audit FOR VALUES FROM (%L) TO (%L)',
+    partition_name, partition_start, partition_end
+  );
+  IF misplaced THEN
+    EXECUTE format(
+      'WITH moved AS ('
+        || 'DELETE FROM audit_default WHERE created_at >= %L AND created_at < %L '
+        || 'RETURNING id, subject_id, subject_type, user_id, action_type, action_entity, action_data_diff, created_at'
+        || ') INSERT INTO %I (id, subject_id, subject_type, user_id, action_type, action_entity, action_data_diff, '
+        || 'created_at) SELECT * FROM moved',
+      partition_start, partition_end, partition_name
+    );
+    ALTER TABLE audit ATTACH PARTITION audit_default DEFAULT;
+  END IF;
+  RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create the partitions for the current month and the given number of months ahead, and for any earlier month
+-- with audits stranded in the default partition, returning how many were created. Partitions are created by every
+-- instance at startup as well as by the scheduled job, so creation is serialised with a transaction level advisory
+-- lock rather than racing between the existence check and the create.
+CREATE OR REPLACE FUNCTION create_audit_partitions(months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+  current_month DATE := date_trunc('month', NOW() AT TIME ZONE 'UTC')::date;
+  stranded_month DATE;
+  created INTEGER := 0;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('create_audit_partitions'));
+  -- Read into an array first, as a loop over an open query on audit_default would stop it being detached.
+  FOREACH stranded_month IN ARRAY ARRAY(SELECT DISTINCT date_trunc('month', created_at)::date FROM audit_default) LOOP
+    IF create_audit_partition(stranded_month) THEN
+      created := created + 1;
+    END IF;
+  END LOOP;
+  FOR month_offset IN 0..months_ahead LOOP
+    IF create_audit_partition((current_month + make_interval(months => month_offset))::date) THEN
+      created := created + 1;
+    END IF;
+  END LOOP;
+  RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach and drop the monthly partitions holding only audits created before the cutoff, returning how many
+-- were dropped
+CREATE OR REPLACE FUNCTION drop_audit_partitions_before(cutoff TIMESTAMP) RETURNS INTEGER AS $$
+DECLARE
+  partition_name TEXT;
+  dropped INTEGER := 0;
+BEGIN
+  FOR partition_name IN
+    SELECT child.relname
+    FROM pg_inherits
+    JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+    WHERE pg_inherits.inhparent = 'audit'::regclass
+      AND child.relname ~ '^audit_[0-9]{4}_[0-9]{2}$'
+      AND to_date(substring(child.relname FROM 7), 'YYYY_MM') + INTERVAL '1 month' <= cutoff
+    ORDER BY child.relname
+  LOOP
+    EXECUTE format('ALTER TABLE audit DETACH PARTITION %I', partition_name);
+    EXECUTE format('DROP TABLE %I', partition_name);
+    dropped := dropped + 1;
+  END LOOP;
+  RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+  audit_month DATE;
+BEGIN
+  FOR audit_month IN SELECT DISTINCT date_trunc('month', created_at)::date FROM audit_unpartitioned LOOP
+    PERFORM create_audit_partition(audit_month);
+  END LOOP;
+END;
+$$;
+
+SELECT create_audit_partitions(3);
+
+INSERT INTO audit (id, subject_id, subject_type, user_id, action_type, action_entity, action_data_diff, created_at)
+SELECT id, subject_id, subject_type, user_id, action_type, action_entity, action_data_diff, created_at
+FROM audit_unpartitioned;
+
+DROP TABLE audit_unpartitioned;
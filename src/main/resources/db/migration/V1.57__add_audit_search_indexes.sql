@@ -0,0 +1,11 @@
+-- Indexes for the audit search. Searches by subject read (subject_type, subject_id, created_at) and the rest
+-- read created_at, both already in the newest-first order the audit screen pages through. Created on the
+-- partitioned parent, so every monthly partition gets them.
+CREATE INDEX IF NOT EXISTS idx_audit_subject_type_subject_id_created_at
+  ON audit (subject_type, subject_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_created_at ON audit (created_at DESC);
+
+-- Email filters match anywhere in the address, which only a trigram index can serve. The matching users are
+-- found first and the audits searched by user id.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
@@ -0,0 +1,30 @@
+-- Tell every replica when a page lock is taken, renewed or released, so any copy of it they hold in memory can
+-- be dropped. The payload is 'subject_type:subject_id:page'. Postgres only delivers notifications on commit, and
+-- folds identical ones within a transaction into one.
+CREATE OR REPLACE FUNCTION notify_lock_change() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP <> 'INSERT' THEN
+    PERFORM pg_notify('lock_changed', OLD.subject_type || ':' || OLD.subject_id || ':' || OLD.page);
+  END IF;
+  IF TG_OP <> 'DELETE' THEN
+    PERFORM pg_notify('lock_changed', NEW.subject_type || ':' || NEW.subject_id || ':' || NEW.page);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER lock_notify_change_trg
+  AFTER INSERT OR UPDATE OR DELETE ON lock
+  FOR EACH ROW EXECUTE FUNCTION notify_lock_change();
+
+-- A truncate has no rows to name, so it asks for every lock to be dropped
+CREATE OR REPLACE FUNCTION notify_lock_truncate() RETURNS trigger AS $$
+BEGIN
+  PERFORM pg_notify('lock_changed', '*');
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER lock_notify_truncate_trg
+  AFTER TRUNCATE ON lock
+  FOR EACH STATEMENT EXECUTE FUNCTION notify_lock_truncate();
@@ -0,0 +1,2 @@
+-- The expired locks job deletes by lock_acquired, so it can find expired locks without reading every lock
+CREATE INDEX IF NOT EXISTS idx_lock_lock_acquired ON lock (lock_acquired);
@@ -0,0 +1,31 @@
+-- Say what happened to the lock as well as which lock changed, so replicas can stream lock events to editors.
+-- The payload is now 'subject_type:subject_id:page:event:user_id', where the event is ACQUIRED, RENEWED,
+-- RELEASED or EXPIRED. A delete is a release unless the transaction says otherwise through fact.lock_change.
+CREATE OR REPLACE FUNCTION notify_lock_change() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    PERFORM pg_notify('lock_changed', OLD.subject_type || ':' || OLD.subject_id || ':' || OLD.page || ':'
+      || coalesce(nullif(current_setting('fact.lock_change', true), ''), 'RELEASED') || ':' || OLD.user_id);
+  ELSIF TG_OP = 'INSERT' OR OLD.user_id IS DISTINCT FROM NEW.user_id THEN
+    PERFORM pg_notify('lock_changed', NEW.subject_type || ':' || NEW.subject_id || ':' || NEW.page
+      || ':ACQUIRED:' || NEW.user_id);
+  ELSE
+    PERFORM pg_notify('lock_changed', NEW.subject_type || ':' || NEW.subject_id || ':' || NEW.page
+      || ':RENEWED:' || NEW.user_id);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Delete the locks acquired or last renewed before the cutoff, announcing them as expired rather than released
+CREATE OR REPLACE FUNCTION delete_expired_locks(cutoff TIMESTAMP) RETURNS INTEGER AS $$
+DECLARE
+  deleted INTEGER;
+BEGIN
+  PERFORM set_config('fact.lock_change', 'EXPIRED', true);
+  DELETE FROM lock WHERE lock_acquired < cutoff;
+  GET DIAGNOSTICS deleted = ROW_COUNT;
+  PERFORM set_config('fact.lock_change', '', true);
+  RETURN deleted;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,48 @@
+-- A single counter that moves whenever any reference data table changes. Each instance records the version its
+-- in-memory reference data was loaded at, and details documents are stored against the version they embed, so an
+-- instance never serves or stores a document built from reference data other than its own.
+CREATE TABLE reference_data_version (
+  id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+  version BIGINT NOT NULL
+);
+
+INSERT INTO reference_data_version (id, version) VALUES (TRUE, 1);
+
+CREATE OR REPLACE FUNCTION bump_reference_data_version() RETURNS trigger AS $$
+BEGIN
+  UPDATE reference_data_version SET version = version + 1;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER area_of_law_types_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON area_of_law_types
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER court_types_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON court_types
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER opening_hour_types_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON opening_hour_types
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER contact_description_types_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON contact_description_types
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER region_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON region
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER service_area_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON service_area
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+CREATE TRIGGER local_authority_types_reference_data_version_trg
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON local_authority_types
+  FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version();
+
+-- Existing documents were built before versions existed, so they are given a version no instance will hold.
+ALTER TABLE court_details_document ADD COLUMN reference_data_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE court_details_document ALTER COLUMN reference_data_version DROP DEFAULT;
@@ -0,0 +1,24 @@
+-- Rendered CSV rows for courts and service centres, so the scheduled export only renders the locations that
+-- changed since the last export, whichever instance runs it. A row is only valid for the last_updated_at and
+-- reference data version it was rendered from.
+CREATE TABLE location_csv_row (
+  location_id UUID PRIMARY KEY,
+  last_updated_at TIMESTAMP NOT NULL,
+  reference_data_version BIGINT NOT NULL,
+  csv_row TEXT NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION delete_location_csv_row() RETURNS trigger AS $$
+BEGIN
+  DELETE FROM location_csv_row WHERE location_id = OLD.id;
+  RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER court_delete_location_csv_row_trg
+  AFTER DELETE ON court
+  FOR EACH ROW EXECUTE FUNCTION delete_location_csv_row();
+
+CREATE TRIGGER service_centre_delete_location_csv_row_trg
+  AFTER DELETE ON service_centre
+  FOR EACH ROW EXECUTE FUNCTION delete_location_csv_row();
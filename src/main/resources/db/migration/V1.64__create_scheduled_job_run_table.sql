@@ -0,0 +1,8 @@
+-- The latest scheduled fire time each housekeeping job has been claimed for. A replica only runs a job if it can
+-- move the job's fire time forward, so a replica whose clock or scheduler runs late cannot repeat a run another
+-- replica has already finished.
+CREATE TABLE scheduled_job_run (
+  job_name VARCHAR(100) PRIMARY KEY,
+  fire_time TIMESTAMPTZ NOT NULL,
+  claimed_at TIMESTAMPTZ NOT NULL
+);
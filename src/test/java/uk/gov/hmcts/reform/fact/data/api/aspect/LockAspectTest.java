@@ -13,10 +13,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
-import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
+import uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockTimeoutCheck;
+import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
-import uk.gov.hmcts.reform.fact.data.api.services.LockService;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository.LockHolder;
+import uk.gov.hmcts.reform.fact.data.api.services.LockRegistry;
 
 import java.lang.reflect.Method;
 import java.time.ZonedDateTime;
@@ -26,18 +28,13 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class LockAspectTest {
 
     @Mock
-    private LockService lockService;
+    private LockRegistry lockRegistry;
 
     @Mock
     private JoinPoint joinPoint;
@@ -47,6 +44,8 @@ class LockAspectTest {
 
     private LockAspect validator;
 
+    private AuditUserContext auditUserContext;
+
     private final UUID courtId = UUID.randomUUID();
     private final UUID userId = UUID.randomUUID();
     private final UUID otherUserId = UUID.randomUUID();
@@ -54,7 +53,8 @@ class LockAspectTest {
 
     @BeforeEach
     void setUp() {
-        validator = new LockAspect(lockService);
+        auditUserContext = new AuditUserContext();
+        validator = new LockAspect(lockRegistry, new LockParameterBindings(), auditUserContext);
         ReflectionTestUtils.setField(validator, "lockTimeoutMinutes", 60L);
     }
 
@@ -62,29 +62,27 @@ class LockAspectTest {
     @DisplayName("Should allow operation when no lock exists")
     void shouldAllowWhenNoLockExists() {
         setupJoinPoint(courtId, page, userId);
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService, never()).deleteLock(any(), any(), any());
     }
 
     @Test
     @DisplayName("Should allow operation when same user owns the lock")
     void shouldAllowWhenSameUserOwnsLock() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(userId, ZonedDateTime.now().minusMinutes(30));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(userId, ZonedDateTime.now().minusMinutes(30));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService, never()).deleteLock(any(), any(), any());
     }
 
     @Test
     @DisplayName("Should throw 409 CONFLICT when lock is valid and held by another user")
     void shouldThrowConflictWhenLockIsValid() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(30));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(30));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         ResponseStatusException exception = assertThrows(
             ResponseStatusException.class,
@@ -94,37 +92,34 @@ class LockAspectTest {
         // Then
         assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
         assertEquals("Page locked by another user (30/60 min)", exception.getReason());
-        verify(lockService, never()).deleteLock(any(), any(), any());
     }
 
     @Test
-    @DisplayName("Should delete stale lock and allow operation when lock has exceeded timeout")
-    void shouldDeleteStaleLockAndAllow() {
+    @DisplayName("Should allow operation when lock has exceeded timeout")
+    void shouldAllowWhenLockHasExpired() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(61));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(61));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService).deleteLock(SubjectType.COURT, courtId, page);
     }
 
     @Test
-    @DisplayName("Should delete lock exactly at timeout threshold")
-    void shouldDeleteLockAtExactTimeout() {
+    @DisplayName("Should allow operation exactly at timeout threshold")
+    void shouldAllowAtExactTimeout() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(60));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(60));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService).deleteLock(SubjectType.COURT, courtId, page);
     }
 
     @Test
-    @DisplayName("Should not delete lock just before timeout threshold")
-    void shouldNotDeleteLockJustBeforeTimeout() {
+    @DisplayName("Should reject operation just before timeout threshold")
+    void shouldRejectJustBeforeTimeout() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(59));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(59));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         ResponseStatusException exception = assertThrows(
             ResponseStatusException.class,
@@ -132,18 +127,16 @@ class LockAspectTest {
         );
 
         assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
-        verify(lockService, never()).deleteLock(any(), any(), any());
     }
 
     @Test
     @DisplayName("Should handle very old stale locks")
     void shouldHandleVeryOldStaleLocks() {
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusHours(24));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusHours(24));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService).deleteLock(SubjectType.COURT, courtId, page);
     }
 
     @Test
@@ -151,11 +144,10 @@ class LockAspectTest {
     void shouldRespectCustomTimeout() {
         ReflectionTestUtils.setField(validator, "lockTimeoutMinutes", 15L);
         setupJoinPoint(courtId, page, userId);
-        Lock lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(20));
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(20));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
-        verify(lockService).deleteLock(SubjectType.COURT, courtId, page);
     }
 
     @Test
@@ -183,22 +175,48 @@ class LockAspectTest {
     }
 
     @Test
-    @DisplayName("Should throw IllegalArgumentException when userId parameter is missing")
-    void shouldThrowWhenUserIdMissing() {
+    @DisplayName("Should check the lock for the request's user when userId parameter is missing")
+    void shouldUseRequestUserWhenUserIdMissing() {
         setupJoinPointWithoutUserId(courtId, page);
+        auditUserContext.setUserId(userId);
+        LockHolder lock = createLock(userId, ZonedDateTime.now().minusMinutes(30));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
 
-        IllegalArgumentException exception = assertThrows(
-            IllegalArgumentException.class,
+        assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
+    }
+
+    @Test
+    @DisplayName("Should throw 409 CONFLICT when another user holds the lock and userId parameter is missing")
+    void shouldThrowConflictForRequestUserWhenUserIdMissing() {
+        setupJoinPointWithoutUserId(courtId, page);
+        auditUserContext.setUserId(userId);
+        LockHolder lock = createLock(otherUserId, ZonedDateTime.now().minusMinutes(30));
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.of(lock));
+
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
             () -> validator.validateLockTimeout(joinPoint)
         );
-        assertEquals("Required parameter not found: userId", exception.getMessage());
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should take subject type and page from the annotation")
+    void shouldUseSubjectTypeAndPageFromAnnotation() {
+        UUID serviceCentreId = UUID.randomUUID();
+        setupAnnotatedJoinPoint(serviceCentreId.toString());
+        auditUserContext.setUserId(userId);
+        when(lockRegistry.getHolder(SubjectType.SERVICE_CENTRE, serviceCentreId, Page.ADDRESS))
+            .thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
     }
 
     @Test
     @DisplayName("Should handle courtId as String and convert to UUID")
     void shouldHandleCourtIdAsString() {
         setupJoinPointWithStringCourtId(courtId.toString(), page, userId);
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
     }
@@ -207,39 +225,15 @@ class LockAspectTest {
     @DisplayName("Should handle page as String and convert to enum")
     void shouldHandlePageAsString() {
         setupJoinPointWithStringPage(courtId, "GENERAL", userId);
-        when(lockService.getPageLock(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
+        when(lockRegistry.getHolder(SubjectType.COURT, courtId, page)).thenReturn(Optional.empty());
 
         assertDoesNotThrow(() -> validator.validateLockTimeout(joinPoint));
     }
 
-    @Test
-    @DisplayName("Should call deleteExpiredLocks when LockCleanupCheck advice runs")
-    void shouldCleanupExpiredLocks() {
-        assertDoesNotThrow(() -> validator.lockCleanup(joinPoint));
-
-        verify(lockService, times(1)).deleteExpiredLocks();
-    }
-
-    @Test
-    @DisplayName("Should swallow exception when deleteExpiredLocks fails")
-    void shouldSwallowCleanupException() {
-        doThrow(new RuntimeException("cleanup failed")).when(lockService).deleteExpiredLocks();
-
-        assertDoesNotThrow(() -> validator.lockCleanup(joinPoint));
-
-        verify(lockService, times(1)).deleteExpiredLocks();
-    }
-
     // Helper methods
 
-    private Lock createLock(UUID userId, ZonedDateTime lockAcquired) {
-        Lock lock = new Lock();
-        lock.setUserId(userId);
-        lock.setLockAcquired(lockAcquired);
-        lock.setSubjectType(SubjectType.COURT);
-        lock.setSubjectId(courtId);
-        lock.setPage(page);
-        return lock;
+    private LockHolder createLock(UUID userId, ZonedDateTime lockAcquired) {
+        return new LockHolder(userId, lockAcquired);
     }
 
     private void setupJoinPoint(UUID courtId, Page page, UUID userId) {
@@ -314,6 +308,17 @@ class LockAspectTest {
         }
     }
 
+    private void setupAnnotatedJoinPoint(String serviceCentreId) {
+        try {
+            Method method = TestController.class.getMethod("annotatedMethod", String.class);
+            when(joinPoint.getSignature()).thenReturn(methodSignature);
+            when(methodSignature.getMethod()).thenReturn(method);
+            when(joinPoint.getArgs()).thenReturn(new Object[]{serviceCentreId});
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     // Test controller class to provide methods with proper annotations
     @SuppressWarnings("unused")
     static class TestController {
@@ -360,5 +365,10 @@ class LockAspectTest {
             @PathVariable("page") Page page) {
             // empty
         }
+
+        @LockTimeoutCheck(subjectType = SubjectType.SERVICE_CENTRE, subjectId = "serviceCentreId", page = Page.ADDRESS)
+        public void annotatedMethod(@PathVariable String serviceCentreId) {
+            // empty
+        }
     }
 }
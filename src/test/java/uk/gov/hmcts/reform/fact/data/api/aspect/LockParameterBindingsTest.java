@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.fact.data.api.aspect;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import uk.gov.hmcts.reform.fact.data.api.aspect.annotations.LockTimeoutCheck;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockParameterBindingsTest {
+
+    private static final UUID SUBJECT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String CONTROLLERS_PACKAGE = "uk.gov.hmcts.reform.fact.data.api.controllers";
+
+    private final LockParameterBindings bindings = new LockParameterBindings();
+
+    @Test
+    void scanningABeanBindsItsCheckedMethodsOnce() throws Exception {
+        Method method = LockedController.class.getMethod("update", SubjectType.class, String.class, String.class,
+                                                         UUID.class);
+
+        Object bean = new LockedController();
+        assertThat(bindings.postProcessBeforeInitialization(bean, "lockedController")).isSameAs(bean);
+
+        LockParameters parameters = bindings.get(method);
+        assertThat(bindings.get(method)).isSameAs(parameters);
+
+        Object[] args = {SubjectType.COURT, SUBJECT_ID.toString(), "general", USER_ID};
+        assertThat(parameters.subjectType().from(args)).isEqualTo(SubjectType.COURT);
+        assertThat(parameters.subjectId().from(args)).isEqualTo(SUBJECT_ID);
+        assertThat(parameters.page().from(args)).isEqualTo(Page.GENERAL);
+        assertThat(parameters.userId().from(args)).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void scanningABeanWithAMissingLockParameterFailsStartup() {
+        assertThatThrownBy(() -> bindings.postProcessBeforeInitialization(new MissingPageController(), "missing"))
+            .isInstanceOf(BeanInitializationException.class)
+            .hasMessage("Cannot check the page lock of missing.update: Required parameter not found: page");
+    }
+
+    @Test
+    void scanningABeanWithAWronglyTypedLockParameterFailsStartup() {
+        assertThatThrownBy(() -> bindings.postProcessBeforeInitialization(new WrongTypeController(), "wrong"))
+            .isInstanceOf(BeanInitializationException.class)
+            .hasMessageContaining("Parameter subjectId must be a UUID or a String, not a Integer");
+    }
+
+    @Test
+    void checkedMethodsNamingTheirSubjectAndPageBindOnlyTheSubjectId() throws Exception {
+        Method method = AdminController.class.getMethod("update", String.class);
+
+        LockParameters parameters = bindings.get(method);
+
+        Object[] args = {SUBJECT_ID.toString()};
+        assertThat(parameters.subjectType().from(args)).isEqualTo(SubjectType.SERVICE_CENTRE);
+        assertThat(parameters.subjectId().from(args)).isEqualTo(SUBJECT_ID);
+        assertThat(parameters.page().from(args)).isEqualTo(Page.ADDRESS);
+        assertThat(parameters.userId()).isNull();
+    }
+
+    @Test
+    void scanningABeanNamingAMissingSubjectIdFailsStartup() {
+        assertThatThrownBy(() -> bindings.postProcessBeforeInitialization(new MissingSubjectIdController(), "missing"))
+            .isInstanceOf(BeanInitializationException.class)
+            .hasMessage("Cannot check the page lock of missing.update: Required parameter not found: courtId");
+    }
+
+    @Test
+    void everyCheckedControllerMethodBinds() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+
+        List<Method> checked = new ArrayList<>();
+        for (BeanDefinition controller : scanner.findCandidateComponents(CONTROLLERS_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(controller.getBeanClassName(), getClass().getClassLoader());
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(LockTimeoutCheck.class)) {
+                    checked.add(method);
+                }
+            }
+        }
+
+        assertThat(checked).allSatisfy(method -> assertThat(bindings.get(method)).isNotNull());
+    }
+
+    @Test
+    void scanningABeanWithoutCheckedMethodsBindsNothing() {
+        Object bean = new Object();
+
+        assertThat(bindings.postProcessBeforeInitialization(bean, "plain")).isSameAs(bean);
+    }
+
+    @SuppressWarnings("unused")
+    static class LockedController {
+        @LockTimeoutCheck
+        public void update(
+            @PathVariable("subjectType") SubjectType subjectType,
+            @PathVariable("subjectId") String subjectId,
+            @PathVariable("page") String page,
+            @RequestParam("userId") UUID userId) {
+            // empty
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class MissingPageController {
+        @LockTimeoutCheck
+        public void update(
+            @PathVariable("subjectType") SubjectType subjectType,
+            @PathVariable("subjectId") UUID subjectId,
+            @PathVariable("userId") UUID userId) {
+            // empty
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class AdminController {
+        @LockTimeoutCheck(subjectType = SubjectType.SERVICE_CENTRE, subjectId = "serviceCentreId", page = Page.ADDRESS)
+        public void update(@PathVariable("serviceCentreId") String serviceCentreId) {
+            // empty
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class MissingSubjectIdController {
+        @LockTimeoutCheck(subjectType = SubjectType.COURT, subjectId = "courtId", page = Page.GENERAL)
+        public void update(@PathVariable("id") String id) {
+            // empty
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class WrongTypeController {
+        @LockTimeoutCheck
+        public void update(
+            @PathVariable("subjectType") SubjectType subjectType,
+            @PathVariable("subjectId") Integer subjectId,
+            @PathVariable("page") Page page,
+            @PathVariable("userId") UUID userId) {
+            // empty
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.config.properties.AuditConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAuditQueueTest {
+
+    @Mock
+    private AuditBatchWriter auditBatchWriter;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AuditConfigurationProperties auditConfiguration = new AuditConfigurationProperties();
+
+    @BeforeEach
+    void setUp() {
+        auditConfiguration.getAsync().setQueueCapacity(2);
+        auditConfiguration.getAsync().setOfferTimeout(Duration.ofMillis(10));
+    }
+
+    @Test
+    void enqueueQueuesAuditsWithoutWritingThem() {
+        AsyncAuditQueue queue = newQueue();
+
+        queue.enqueue(List.of(audit(), audit()));
+
+        verifyNoInteractions(dataSource, auditBatchWriter);
+        assertThat(meterRegistry.get(AsyncAuditQueue.QUEUE_SIZE_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void enqueueWritesOnTheCallingThreadWhenTheQueueStaysFull() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AsyncAuditQueue queue = newQueue();
+        Audit overflow = audit();
+
+        queue.enqueue(List.of(audit(), audit(), overflow));
+
+        verify(auditBatchWriter).insert(connection, List.of(overflow));
+        verify(connection).close();
+        assertThat(meterRegistry.get(AsyncAuditQueue.OVERFLOW_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void backgroundWriterWritesQueuedAuditsInBatches() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AsyncAuditQueue queue = newQueue();
+        List<Audit> audits = List.of(audit(), audit());
+        queue.enqueue(audits);
+
+        queue.start();
+
+        verify(auditBatchWriter, timeout(5000)).insert(connection, audits);
+        queue.stop();
+        assertThat(meterRegistry.get(AsyncAuditQueue.WRITE_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void stopWritesAuditsStillInTheQueue() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AsyncAuditQueue queue = newQueue();
+        List<Audit> audits = List.of(audit(), audit());
+        queue.enqueue(audits);
+
+        queue.stop();
+
+        verify(auditBatchWriter).insert(connection, audits);
+    }
+
+    @Test
+    void backgroundWriterRetriesAFailedBatchUntilItIsWritten() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        List<Audit> audits = List.of(audit(), audit());
+        doThrow(new SQLException("connection reset", "08006")).doNothing()
+            .when(auditBatchWriter).insert(connection, audits);
+        AsyncAuditQueue queue = newQueue();
+        queue.enqueue(audits);
+
+        queue.start();
+
+        verify(auditBatchWriter, timeout(5000).times(2)).insert(connection, audits);
+        queue.stop();
+        assertThat(meterRegistry.get(AsyncAuditQueue.RETRY_METRIC).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AsyncAuditQueue.FAILED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    void backgroundWriterCountsABatchTheDatabaseRejectsWithoutRetrying() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        List<Audit> audits = List.of(audit(), audit());
+        doThrow(new SQLException("value too long", "22001")).when(auditBatchWriter).insert(connection, audits);
+        AsyncAuditQueue queue = newQueue();
+        queue.enqueue(audits);
+
+        queue.start();
+
+        verify(auditBatchWriter, timeout(5000)).insert(connection, audits);
+        queue.stop();
+        verify(auditBatchWriter, times(1)).insert(connection, audits);
+        assertThat(meterRegistry.get(AsyncAuditQueue.RETRY_METRIC).counter().count()).isZero();
+        assertThat(meterRegistry.get(AsyncAuditQueue.FAILED_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void stopWritesABatchTheWriterWasStillRetrying() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        List<Audit> audits = List.of(audit(), audit());
+        doThrow(new SQLException("connection refused", "08001")).doNothing()
+            .when(auditBatchWriter).insert(connection, audits);
+        AsyncAuditQueue queue = newQueue();
+        queue.enqueue(audits);
+        queue.start();
+        verify(auditBatchWriter, timeout(5000)).insert(connection, audits);
+
+        queue.stop();
+
+        verify(auditBatchWriter, times(2)).insert(connection, audits);
+        assertThat(meterRegistry.get(AsyncAuditQueue.FAILED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    void failedWritesAreCountedRatherThanThrown() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        doThrow(new SQLException("insert failed")).when(auditBatchWriter).insert(any(), any());
+        AsyncAuditQueue queue = newQueue();
+        queue.enqueue(List.of(audit(), audit()));
+
+        queue.stop();
+
+        assertThat(meterRegistry.get(AsyncAuditQueue.FAILED_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    private AsyncAuditQueue newQueue() {
+        return new AsyncAuditQueue(auditBatchWriter, dataSource, auditConfiguration, meterRegistry);
+    }
+
+    private static Audit audit() {
+        return Audit.builder()
+            .subjectId(UUID.randomUUID())
+            .actionType(AuditActionType.INSERT)
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import tools.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditBatchWriterTest {
+
+    private static final UUID AUDIT_ID = UUID.randomUUID();
+    private static final UUID SUBJECT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditBatchWriter auditBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        auditBatchWriter = new AuditBatchWriter(entityManager, JsonMapper.builder().build(), meterRegistry);
+    }
+
+    @Test
+    void insertAddsEveryAuditToOneBatch() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        Audit audit = audit(AUDIT_ID, AuditActionType.UPDATE, List.of(new Change("name", "Old", "New")));
+
+        auditBatchWriter.insert(connection, List.of(audit, audit(null, AuditActionType.DELETE, null)));
+
+        verify(statement).setObject(1, AUDIT_ID);
+        verify(statement, times(2)).setObject(2, SUBJECT_ID);
+        verify(statement, times(2)).setString(3, SubjectType.COURT.name());
+        verify(statement).setString(5, AuditActionType.UPDATE.name());
+        verify(statement).setString(7, "[{\"field\":\"name\",\"oldValue\":\"Old\",\"newValue\":\"New\"}]");
+        verify(statement).setString(7, null);
+        verify(statement, times(2)).setObject(8, LocalDateTime.of(2025, 6, 1, 11, 0));
+        verify(statement, times(2)).addBatch();
+        verify(statement).executeBatch();
+        verify(statement).close();
+        assertThat(meterRegistry.get(AuditBatchWriter.BATCH_SIZE_METRIC).summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void insertInCurrentTransactionUsesTheSessionConnection() throws SQLException {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        doAnswer(invocation -> {
+            invocation.<Work>getArgument(0).execute(connection);
+            return null;
+        }).when(session).doWork(any());
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        auditBatchWriter.insertInCurrentTransaction(List.of(audit(AUDIT_ID, AuditActionType.INSERT, List.of())));
+
+        verify(statement).addBatch();
+        verify(statement).executeBatch();
+    }
+
+    @Test
+    void insertInCurrentTransactionDoesNothingWithoutAudits() {
+        auditBatchWriter.insertInCurrentTransaction(List.of());
+
+        verifyNoInteractions(entityManager);
+    }
+
+    private static Audit audit(UUID id, AuditActionType actionType, List<Change> diff) {
+        return Audit.builder()
+            .id(id)
+            .subjectId(SUBJECT_ID)
+            .subjectType(SubjectType.COURT)
+            .userId(USER_ID)
+            .actionType(actionType)
+            .actionEntity("Court")
+            .actionDataDiff(diff)
+            .createdAt(ZonedDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneId.of("Europe/London")))
+            .build();
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.fact.data.api.audit;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
+import uk.gov.hmcts.reform.fact.data.api.entities.AuditableEntity;
+import uk.gov.hmcts.reform.fact.data.api.entities.ContactDescriptionType;
+import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtContactDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreContactDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditDiffGeneratorTest {
+
+    private static final UUID COURT_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final AuditDiffGenerator auditDiffGenerator = new AuditDiffGenerator(objectMapper);
+
+    @Test
+    void generateDiffsRecordsEveryPropertyOfANewEntity() {
+        Court court = court();
+
+        List<Change> diffs = auditDiffGenerator.generateDiffs(null, court);
+
+        assertThat(diffs).containsExactlyInAnyOrderElementsOf(jsonDiffs(null, court));
+        assertThat(diffs).extracting(Change::field)
+            .contains("id", "name", "slug", "open")
+            .doesNotContain("courtId", "auditSubjectId", "auditSubjectType");
+        assertThat(diffs).filteredOn(change -> change.field().equals("id"))
+            .singleElement()
+            .isEqualTo(new Change("id", null, COURT_ID.toString()));
+    }
+
+    @Test
+    void generateDiffsRecordsOnlyChangedProperties() {
+        Court previous = court();
+        Court current = court();
+        current.setName("Court Name Updated");
+        current.setLastUpdatedAt(ZonedDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneId.of("UTC")));
+
+        List<Change> diffs = auditDiffGenerator.generateDiffs(previous, current);
+
+        assertThat(diffs).containsExactlyInAnyOrderElementsOf(jsonDiffs(previous, current));
+        assertThat(diffs).extracting(Change::field).containsExactly("lastUpdatedAt", "name");
+        assertThat(diffs.get(1)).isEqualTo(new Change("name", "Test Court", "Court Name Updated"));
+    }
+
+    @Test
+    void generateDiffsIgnoresValuesThatSerialiseTheSame() {
+        CourtAddress previous = address(new BigDecimal("51.5"));
+        CourtAddress current = address(new BigDecimal("51.50"));
+        current.setAreasOfLaw(new ArrayList<>(previous.getAreasOfLaw()));
+
+        assertThat(auditDiffGenerator.generateDiffs(previous, current)).isEmpty();
+        assertThat(jsonDiffs(previous, current)).isEmpty();
+    }
+
+    @Test
+    void generateDiffsUsesRenamedViewProperties() {
+        CourtAddress previous = address(BigDecimal.ONE);
+        CourtAddress current = address(BigDecimal.ONE);
+        current.setAreasOfLawDetails(List.of(AreaOfLawType.builder().id(UUID.randomUUID()).name("Adoption").build()));
+
+        List<Change> diffs = auditDiffGenerator.generateDiffs(previous, current);
+
+        assertThat(diffs).containsExactlyInAnyOrderElementsOf(jsonDiffs(previous, current));
+        assertThat(diffs).extracting(Change::field).containsExactly("areasOfLaw");
+    }
+
+    @Test
+    void generateDiffsLeavesOutNullPropertiesThatAreNotIncluded() {
+        CourtContactDetails previous = CourtContactDetails.builder()
+            .id(UUID.randomUUID())
+            .courtId(COURT_ID)
+            .courtContactDescriptionDetails(ContactDescriptionType.builder().name("Enquiries").build())
+            .build();
+        CourtContactDetails current = CourtContactDetails.builder()
+            .id(previous.getId())
+            .courtId(COURT_ID)
+            .email("court@example.com")
+            .build();
+
+        List<Change> diffs = auditDiffGenerator.generateDiffs(previous, current);
+
+        assertThat(diffs).containsExactlyInAnyOrderElementsOf(jsonDiffs(previous, current));
+        assertThat(diffs).extracting(Change::field).containsExactly("email");
+        assertThat(auditDiffGenerator.generateDiffs(null, current)).extracting(Change::field)
+            .doesNotContain("courtContactDescription");
+    }
+
+    @Test
+    void generateDiffsLeavesOutWriteOnlyProperties() {
+        ServiceCentreContactDetails contactDetails = ServiceCentreContactDetails.builder()
+            .id(UUID.randomUUID())
+            .serviceCentreContactDescriptionId(UUID.randomUUID())
+            .build();
+
+        List<Change> diffs = auditDiffGenerator.generateDiffs(null, contactDetails);
+
+        assertThat(diffs).containsExactlyInAnyOrderElementsOf(jsonDiffs(null, contactDetails));
+        assertThat(diffs).extracting(Change::field).doesNotContain("serviceCentreContactDescriptionId");
+    }
+
+    @Test
+    void generateDiffsFollowsTheMapperConfiguration() {
+        ObjectMapper snakeCaseMapper = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+        Court previous = court();
+        Court current = court();
+        current.setLastUpdatedAt(ZonedDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneId.of("UTC")));
+
+        List<Change> diffs = new AuditDiffGenerator(snakeCaseMapper).generateDiffs(previous, current);
+
+        assertThat(diffs).extracting(Change::field).containsExactly("last_updated_at");
+    }
+
+    /**
+     * The changes found by comparing the two entities' JSON, which the generator must match.
+     */
+    private List<Change> jsonDiffs(AuditableEntity previous, AuditableEntity current) {
+        TypeReference<Map<String, Serializable>> mapType = new TypeReference<>() {};
+        Map<String, Serializable> previousMap = objectMapper.readValue(
+            previous != null ? objectMapper.writeValueAsString(previous) : "{}", mapType);
+        Map<String, Serializable> currentMap = objectMapper.readValue(
+            objectMapper.writeValueAsString(current), mapType);
+        List<Change> diffs = new ArrayList<>();
+        currentMap.forEach((key, value) -> {
+            if (!previousMap.containsKey(key)) {
+                diffs.add(new Change(key, null, value));
+            } else if (!Objects.equals(previousMap.get(key), value)) {
+                diffs.add(new Change(key, previousMap.get(key), value));
+            }
+        });
+        return diffs;
+    }
+
+    private static Court court() {
+        return Court.builder()
+            .id(COURT_ID)
+            .name("Test Court")
+            .slug("test-court")
+            .open(Boolean.TRUE)
+            .regionId(UUID.fromString("2f5c4ae6-3a9b-4b5f-8ad5-7d0ff1ef6c43"))
+            .build();
+    }
+
+    private static CourtAddress address(BigDecimal lat) {
+        return CourtAddress.builder()
+            .id(UUID.fromString("0c1b7d3e-8f5a-4a57-9d0e-2b3f5e6a7c81"))
+            .courtId(COURT_ID)
+            .addressLine1("1 High Street")
+            .townCity("Town")
+            .postcode("AB1 2CD")
+            .lat(lat)
+            .addressType(AddressType.VISIT_US)
+            .areasOfLaw(List.of(UUID.fromString("6a2d8f4e-1b3c-4d5e-8f9a-0b1c2d3e4f50")))
+            .build();
+    }
+}
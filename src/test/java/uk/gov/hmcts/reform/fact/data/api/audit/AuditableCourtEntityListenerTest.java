@@ -1,33 +1,52 @@
 package uk.gov.hmcts.reform.fact.data.api.audit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
+import uk.gov.hmcts.reform.fact.data.api.entities.Region;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import tools.jackson.core.exc.StreamReadException;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class AuditableCourtEntityListenerTest {
@@ -39,108 +58,230 @@ class AuditableCourtEntityListenerTest {
     private ObjectMapper objectMapper = JsonMapper.builder().build();
 
     @Mock
-    private ApplicationContext applicationContext;
+    private AuditUserContext auditUserContext;
 
     @Mock
     private EntityManager entityManager;
 
     @Mock
-    private AuditUserContext auditUserContext;
+    private EntityManagerFactory entityManagerFactory;
 
-    @InjectMocks
-    private AuditableCourtEntityListener listener;
+    @Mock
+    private EntityPersister persister;
+
+    @Mock
+    private EventSource session;
+
+    @Mock
+    private AuditBatchWriter auditBatchWriter;
+
+    @Mock
+    private ObjectProvider<AsyncAuditQueue> asyncAuditQueueProvider;
+
+    @Mock
+    private AsyncAuditQueue asyncAuditQueue;
 
     @Captor
-    ArgumentCaptor<Audit> auditCaptor;
+    ArgumentCaptor<List<Audit>> auditsCaptor;
+
+    private AuditableCourtEntityListener listener;
 
     @BeforeEach
     void setUp() {
-        when(applicationContext.getBean(EntityManager.class)).thenReturn(entityManager);
-        lenient().when(applicationContext.getBean(AuditUserContext.class)).thenReturn(auditUserContext);
+        listener = new AuditableCourtEntityListener(new AuditDiffGenerator(objectMapper), auditUserContext,
+                                                    entityManager, entityManagerFactory, auditBatchWriter,
+                                                    asyncAuditQueueProvider);
         lenient().when(auditUserContext.requireUserId()).thenReturn(USER_ID);
-        listener.setApplicationContext(applicationContext);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
     }
 
     @Test
-    void shouldNotPersistAuditOnMissingEntityManager() {
-        when(applicationContext.getBean(EntityManager.class)).thenReturn(null);
-        Court court = createCourt();
-        assertThrows(IllegalStateException.class, () -> listener.beforePersist(court));
-        verify(entityManager, times(0)).persist(any(Audit.class));
-        verify(entityManager, times(0)).find(any(), any());
+    void shouldInsertAuditBeforeCommitOnPostInsert() {
+        listener.onPostInsert(insertEvent(createCourt()));
+
+        verifyNoInteractions(auditBatchWriter);
+        beforeCommit();
+
+        InOrder inOrder = inOrder(entityManager, auditBatchWriter);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(auditBatchWriter).insertInCurrentTransaction(auditsCaptor.capture());
+        Audit audit = auditsCaptor.getValue().getFirst();
+        assertEquals(AuditActionType.INSERT, audit.getActionType());
+        assertEquals(USER_ID, audit.getUserId());
+        assertThat(audit.getActionDataDiff()).extracting("field").contains("name", "slug");
     }
 
     @Test
-    void shouldNotPersistAuditIfPreviousStateLookupFails() {
-        Court court = createCourt();
+    void shouldBuildUpdateDiffFromHibernatePreviousState() throws Exception {
+        String json = objectMapper.writeValueAsString(createCourt());
+        Court courtPrevious = objectMapper.readValue(json, Court.class);
+        Court courtCurrent = objectMapper.readValue(json, Court.class);
+        courtCurrent.setName("Court Name Updated");
+        Object[] oldState = {"Test Court"};
+        when(persister.instantiate(COURT_ID, session)).thenReturn(courtPrevious);
 
-        when(entityManager.find(Audit.class, court.getId())).thenThrow(new RuntimeException());
+        listener.onPostUpdate(updateEvent(courtCurrent, oldState));
+        beforeCommit();
 
-        assertThrows(IllegalStateException.class, () -> listener.beforeUpdate(court));
-        verify(entityManager, times(0)).persist(any(Audit.class));
-        verify(entityManager, times(1)).find(Court.class, court.getId());
+        verify(persister).setValues(courtPrevious, oldState);
+        Audit audit = insertedAudit();
+        assertEquals(USER_ID, audit.getUserId());
+        assertEquals(COURT_ID, audit.getSubjectId());
+        assertEquals(SubjectType.COURT, audit.getSubjectType());
+        assertEquals(AuditActionType.UPDATE, audit.getActionType());
+        assertEquals(1, audit.getActionDataDiff().size());
+        assertEquals("name", audit.getActionDataDiff().getFirst().field());
+        verify(entityManager, never()).find(any(), any());
     }
 
     @Test
-    void shouldPersistAuditOnBeforePersist() {
-        Court court = createCourt();
-        listener.beforePersist(court);
-        verify(entityManager, times(1)).persist(any(Audit.class));
-        verify(entityManager, times(0)).find(any(), any());
+    void shouldAuditUpdateAgainstEmptyEntityWhenNoPreviousStateIsHeld() {
+        listener.onPostUpdate(updateEvent(createCourt(), null));
+        beforeCommit();
+
+        verifyNoInteractions(persister);
+        assertThat(insertedAudit().getActionDataDiff()).extracting("field").contains("name", "slug");
     }
 
     @Test
-    void shouldPersistAuditOnBeforeUpdate() {
-        Court court = createCourt();
-        listener.beforeUpdate(court);
-        verify(entityManager, times(1)).persist(any(Audit.class));
-        verify(entityManager, times(1)).find(Court.class, court.getId());
+    void shouldInsertAuditWithoutDiffOnPostDelete() {
+        PostDeleteEvent event = mock(PostDeleteEvent.class);
+        when(event.getEntity()).thenReturn(createCourt());
+
+        listener.onPostDelete(event);
+        beforeCommit();
+
+        Audit audit = insertedAudit();
+        assertEquals(AuditActionType.DELETE, audit.getActionType());
+        assertNull(audit.getActionDataDiff());
     }
 
     @Test
-    void shouldPersistAuditOnBeforeRemove() {
-        Court court = createCourt();
-        listener.beforeRemove(court);
-        verify(entityManager, times(1)).persist(any(Audit.class));
-        verify(entityManager, times(1)).find(Court.class, court.getId());
+    void shouldInsertAllAuditsOfTheTransactionInOneBatch() {
+        listener.onPostInsert(insertEvent(createCourt()));
+        listener.onPostInsert(insertEvent(createCourt()));
+
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        beforeCommit();
+
+        verify(auditBatchWriter, times(1)).insertInCurrentTransaction(auditsCaptor.capture());
+        assertThat(auditsCaptor.getValue()).hasSize(2);
     }
 
     @Test
-    void generateDiffsShouldReturnChangesWhenValuesDiffer() throws Exception {
-        String json = objectMapper.writeValueAsString(createCourt());
-        Court courtPrevious = objectMapper.readValue(json, Court.class);
-        Court courtCurrent = objectMapper.readValue(json, Court.class);
-        courtCurrent.setName("Court Name Updated");
+    void shouldQueueAuditsAfterCommitWhenAsyncIsEnabled() {
+        when(asyncAuditQueueProvider.getIfAvailable()).thenReturn(asyncAuditQueue);
+        listener.onPostInsert(insertEvent(createCourt()));
 
-        when(entityManager.find(Court.class, courtCurrent.getId())).thenReturn(courtPrevious);
-        listener.beforeUpdate(courtCurrent);
+        beforeCommit();
+        verify(entityManager).flush();
+        verifyNoInteractions(auditBatchWriter, asyncAuditQueue);
 
-        verify(entityManager, times(1)).persist(auditCaptor.capture());
-        verify(entityManager, times(1)).find(Court.class, courtCurrent.getId());
-        Audit audit = auditCaptor.getValue();
-        assertEquals(USER_ID, audit.getUserId());
-        assertEquals(COURT_ID, audit.getSubjectId());
-        assertEquals(SubjectType.COURT, audit.getSubjectType());
-        assertEquals(1, audit.getActionDataDiff().size());
-        assertEquals("name", audit.getActionDataDiff().getFirst().field());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(asyncAuditQueue).enqueue(auditsCaptor.capture());
+        assertThat(auditsCaptor.getValue()).singleElement()
+            .extracting(Audit::getActionType).isEqualTo(AuditActionType.INSERT);
+    }
+
+    @Test
+    void shouldNotQueueAuditsWhenTheTransactionRollsBack() {
+        lenient().when(asyncAuditQueueProvider.getIfAvailable()).thenReturn(asyncAuditQueue);
+        listener.onPostInsert(insertEvent(createCourt()));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(auditBatchWriter, asyncAuditQueue);
+        assertNull(TransactionSynchronizationManager.getResource(listener));
+    }
+
+    @Test
+    void shouldIgnoreEntitiesThatAreNotAuditable() {
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        when(event.getEntity()).thenReturn(new Region());
+
+        listener.onPostInsert(event);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        verifyNoInteractions(auditUserContext);
+    }
+
+    @Test
+    void shouldNotAuditWhenAuditIsSuppressed() {
+        when(auditUserContext.isAuditSuppressed()).thenReturn(true);
+
+        listener.onPostInsert(insertEvent(createCourt()));
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void shouldThrowWhenNoTransactionIsActive() {
+        TransactionSynchronizationManager.clearSynchronization();
+        PostInsertEvent event = insertEvent(createCourt());
+
+        assertThrows(IllegalStateException.class, () -> listener.onPostInsert(event));
+
+        TransactionSynchronizationManager.initSynchronization();
+        verifyNoInteractions(auditBatchWriter);
+    }
+
+    @Test
+    void shouldKeepPendingAuditsWithTheirTransactionWhileSuspended() {
+        listener.onPostInsert(insertEvent(createCourt()));
+        List<TransactionSynchronization> outer = TransactionSynchronizationManager.getSynchronizations();
+
+        outer.forEach(TransactionSynchronization::suspend);
+        assertNull(TransactionSynchronizationManager.getResource(listener));
+        outer.forEach(TransactionSynchronization::resume);
+
+        assertThat((List<?>) TransactionSynchronizationManager.getResource(listener)).hasSize(1);
     }
 
     @Test
     void shouldStillWriteAuditIfGenerateDiffFails() throws Exception {
-        String json = objectMapper.writeValueAsString(createCourt());
-        Court courtPrevious = objectMapper.readValue(json, Court.class);
-        Court courtCurrent = objectMapper.readValue(json, Court.class);
-        courtCurrent.setName("Court Name Updated");
+        Court court = createCourt();
+        court.setLastUpdatedAt(ZonedDateTime.now());
+        when(objectMapper.writeValueAsBytes(any())).thenThrow(new StreamReadException("test exception"));
+
+        listener.onPostInsert(insertEvent(court));
+        beforeCommit();
+
+        assertEquals(0, insertedAudit().getActionDataDiff().size());
+    }
 
-        when(entityManager.find(Court.class, courtCurrent.getId())).thenReturn(courtPrevious);
-        when(objectMapper.writeValueAsString(courtPrevious)).thenThrow(new StreamReadException("test exception"));
+    private PostInsertEvent insertEvent(Court court) {
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        when(event.getEntity()).thenReturn(court);
+        return event;
+    }
 
-        listener.beforeUpdate(courtCurrent);
+    private PostUpdateEvent updateEvent(Court court, Object[] oldState) {
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(court);
+        when(event.getOldState()).thenReturn(oldState);
+        lenient().when(event.getId()).thenReturn(court.getId());
+        lenient().when(event.getPersister()).thenReturn(persister);
+        lenient().when(event.getSession()).thenReturn(session);
+        return event;
+    }
+
+    private Audit insertedAudit() {
+        verify(auditBatchWriter).insertInCurrentTransaction(auditsCaptor.capture());
+        assertThat(auditsCaptor.getValue()).hasSize(1);
+        return auditsCaptor.getValue().getFirst();
+    }
 
-        verify(entityManager, times(1)).persist(auditCaptor.capture());
-        verify(entityManager, times(1)).find(Court.class, courtCurrent.getId());
-        Audit audit = auditCaptor.getValue();
-        assertEquals(0, audit.getActionDataDiff().size());
+    private void beforeCommit() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.beforeCommit(false));
     }
 
     private Court createCourt() {
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,12 +17,19 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidDateRangeException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+import uk.gov.hmcts.reform.fact.data.api.repositories.PageTotal;
+import uk.gov.hmcts.reform.fact.data.api.services.AuditExportService;
 import uk.gov.hmcts.reform.fact.data.api.services.AuditService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -31,8 +39,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class AuditControllerTest {
@@ -51,6 +62,9 @@ class AuditControllerTest {
     @Mock
     AuditService auditService;
 
+    @Mock
+    AuditExportService auditExportService;
+
     @InjectMocks
     private AuditController auditController;
 
@@ -67,7 +81,8 @@ class AuditControllerTest {
             isNull(),
             isNull(),
             isNull(),
-            isNull()
+            isNull(),
+            eq(PageTotal.EXACT)
         )).thenReturn(auditPage);
 
         ResponseEntity<Page<Audit>> response = auditController.getFilteredAndPaginatedAudits(
@@ -78,7 +93,8 @@ class AuditControllerTest {
             null,
             null,
             LocalDate.now().minusDays(1),
-            LocalDate.now()
+            LocalDate.now(),
+            PageTotal.EXACT
         );
 
         assertEquals(HttpStatus.OK, response.getStatusCode(), RESPONSE_STATUS_MISMATCH);
@@ -99,7 +115,8 @@ class AuditControllerTest {
                     null,
                     null,
                     fromDate,
-                    toDate
+                    toDate,
+                    PageTotal.EXACT
                 )
         );
     }
@@ -116,7 +133,58 @@ class AuditControllerTest {
                     SERVICE_CENTRE_ID.toString(),
                     null,
                     LocalDate.now().minusDays(1),
-                    LocalDate.now()
+                    LocalDate.now(),
+                    PageTotal.EXACT
+                )
+        );
+    }
+
+    @Test
+    void exportAuditsStreamsTheSearchAsAnAttachment() throws IOException {
+        LocalDate fromDate = LocalDate.now().minusDays(1);
+        AuditSearch search = AuditSearch.createdAfter(ZonedDateTime.now());
+        when(auditService.buildSearch(fromDate, null, null, COURT_ID.toString(), null, null))
+            .thenReturn(Optional.of(search));
+
+        ResponseEntity<StreamingResponseBody> response = auditController.exportAudits(
+            AuditExportService.Format.CSV, null, COURT_ID.toString(), null, null, fromDate, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), RESPONSE_STATUS_MISMATCH);
+        assertEquals(MediaType.parseMediaType("text/csv"), response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"audits.csv\"",
+                     response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        OutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(auditExportService).writeAudits(search, AuditExportService.Format.CSV, outputStream);
+    }
+
+    @Test
+    void exportAuditsWritesNoSearchWhenNoAuditCanMatch() throws IOException {
+        LocalDate fromDate = LocalDate.now();
+        when(auditService.buildSearch(fromDate, null, null, null, null, "nobody"))
+            .thenReturn(Optional.empty());
+
+        ResponseEntity<StreamingResponseBody> response = auditController.exportAudits(
+            AuditExportService.Format.NDJSON, null, null, null, "nobody", fromDate, null);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        verify(auditExportService).writeAudits(null, AuditExportService.Format.NDJSON, outputStream);
+    }
+
+    @Test
+    void exportAuditsThrowsInvalidParameterCombinationForBothSubjectIds() {
+        assertThrows(
+            InvalidParameterCombinationException.class, () ->
+                auditController.exportAudits(
+                    AuditExportService.Format.CSV,
+                    null,
+                    COURT_ID.toString(),
+                    SERVICE_CENTRE_ID.toString(),
+                    null,
+                    LocalDate.now(),
+                    null
                 )
         );
     }
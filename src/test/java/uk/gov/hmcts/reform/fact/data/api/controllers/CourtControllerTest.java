@@ -1,26 +1,42 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import uk.gov.hmcts.reform.fact.data.api.entities.AbstractCourtEntity;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.CourtService;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
 
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,27 +50,43 @@ class CourtControllerTest {
     private static final String UNKNOWN_COURT_SLUG = "missing-court";
     private static final String COURT_NAME_WITH_SPECIAL_CHARACTER = "King's Lynn Crown Court";
 
+    private static final long REFERENCE_DATA_VERSION = 3;
+    private static final ZonedDateTime LAST_UPDATED_AT = ZonedDateTime.of(2025, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
     private static final String REGION_ID = UUID.randomUUID().toString();
 
     private static final String RESPONSE_STATUS_MESSAGE = "Response status does not match";
     private static final String RESPONSE_BODY_MESSAGE = "Response body does not match";
 
+    private static final byte[] DOCUMENT = "{\"name\":\"Test Court\"}".getBytes(StandardCharsets.UTF_8);
+
     @Mock
     private CourtService courtService;
 
     @Mock
     private CourtDetailsViewService courtDetailsViewService;
 
+    @Mock
+    private CourtDetailsDocumentService courtDetailsDocumentService;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
     @InjectMocks
     private CourtController courtController;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(REFERENCE_DATA_VERSION));
+    }
+
     @Test
     void getCourtDetailsByIdReturns200() {
         CourtDetails courtDetails = createCourtDetails();
 
         when(courtService.getCourtDetailsById(COURT_ID)).thenReturn(courtDetails);
 
-        ResponseEntity<CourtDetails> response = courtController.getCourtDetailsById(COURT_ID.toString());
+        ResponseEntity<CourtDetails> response = courtController.getCourtDetailsById(COURT_ID.toString(), webRequest());
 
         assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(courtDetails);
@@ -65,17 +97,50 @@ class CourtControllerTest {
         when(courtService.getCourtDetailsById(UNKNOWN_COURT_ID)).thenThrow(new NotFoundException("Court not found"));
 
         assertThrows(NotFoundException.class, () ->
-            courtController.getCourtDetailsById(UNKNOWN_COURT_ID.toString())
+            courtController.getCourtDetailsById(UNKNOWN_COURT_ID.toString(), webRequest())
         );
     }
 
     @Test
     void getCourtDetailsByIdThrowsIllegalArgumentExceptionForInvalidUUID() {
         assertThrows(IllegalArgumentException.class, () ->
-            courtController.getCourtDetailsById(INVALID_UUID)
+            courtController.getCourtDetailsById(INVALID_UUID, webRequest())
         );
     }
 
+    @Test
+    void getCourtDetailsByIdReturnsValidatorHeaders() {
+        CourtDetails courtDetails = createCourtDetails();
+
+        when(courtService.getCourtLastUpdatedAtById(COURT_ID))
+            .thenReturn(new IdAndLastUpdatedAt(COURT_ID, LAST_UPDATED_AT));
+        when(courtService.getCourtDetailsById(COURT_ID)).thenReturn(courtDetails);
+
+        ResponseEntity<CourtDetails> response = courtController.getCourtDetailsById(COURT_ID.toString(), webRequest());
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(courtDetails);
+        assertThat(response.getHeaders().getETag()).isEqualTo(expectedETag());
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(LAST_UPDATED_AT.toInstant().toEpochMilli());
+    }
+
+    @Test
+    void getCourtDetailsByIdReturns304WhenETagMatches() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courts/" + COURT_ID + "/v1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, expectedETag());
+
+        when(courtService.getCourtLastUpdatedAtById(COURT_ID))
+            .thenReturn(new IdAndLastUpdatedAt(COURT_ID, LAST_UPDATED_AT));
+
+        ResponseEntity<CourtDetails> response = courtController.getCourtDetailsById(
+            COURT_ID.toString(), new ServletWebRequest(request, new MockHttpServletResponse())
+        );
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isNull();
+        verify(courtService, never()).getCourtDetailsById(COURT_ID);
+    }
+
     @Test
     void getCourtByIdReturns200() {
         Court court = createCourt();
@@ -133,21 +198,74 @@ class CourtControllerTest {
 
         when(courtService.getCourtDetailsBySlug(COURT_SLUG)).thenReturn(courtDetails);
         when(courtDetailsViewService.prepareDetailsView(courtDetails)).thenReturn(courtDetails);
+        stubDocumentFromLoader();
 
-        ResponseEntity<CourtDetails> response = courtController.getCourtDetailsBySlug(COURT_SLUG);
+        ResponseEntity<byte[]> response = courtController.getCourtDetailsBySlug(COURT_SLUG, webRequest());
 
         assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(courtDetails);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(DOCUMENT);
+        verify(courtDetailsViewService).prepareDetailsView(courtDetails);
+    }
+
+    @Test
+    void getCourtDetailsBySlugServesDocumentForCurrentVersion() {
+        IdAndLastUpdatedAt version = new IdAndLastUpdatedAt(COURT_ID, LAST_UPDATED_AT);
+        when(courtService.getCourtLastUpdatedAtBySlug(COURT_SLUG)).thenReturn(version);
+        when(courtDetailsDocumentService.getCourtDetailsDocument(eq(version), any())).thenReturn(DOCUMENT);
+
+        ResponseEntity<byte[]> response = courtController.getCourtDetailsBySlug(COURT_SLUG, webRequest());
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(DOCUMENT);
+        assertThat(response.getHeaders().getETag()).isEqualTo(expectedETag());
+        verify(courtService, never()).getCourtDetailsBySlug(COURT_SLUG);
     }
 
     @Test
     void getCourtDetailsBySlugThrowsNotFoundException() {
         when(courtService.getCourtDetailsBySlug(UNKNOWN_COURT_SLUG))
             .thenThrow(new NotFoundException("Court not found"));
+        stubDocumentFromLoader();
 
         assertThrows(NotFoundException.class, () ->
-            courtController.getCourtDetailsBySlug(UNKNOWN_COURT_SLUG)
+            courtController.getCourtDetailsBySlug(UNKNOWN_COURT_SLUG, webRequest())
+        );
+    }
+
+    @Test
+    void getCourtDetailsBySlugIgnoresIfModifiedSinceWithoutETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courts/slug/" + COURT_SLUG + "/v1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_UPDATED_AT.toInstant().toEpochMilli());
+
+        IdAndLastUpdatedAt version = new IdAndLastUpdatedAt(COURT_ID, LAST_UPDATED_AT);
+        when(courtService.getCourtLastUpdatedAtBySlug(COURT_SLUG)).thenReturn(version);
+        when(courtDetailsDocumentService.getCourtDetailsDocument(eq(version), any())).thenReturn(DOCUMENT);
+
+        ResponseEntity<byte[]> response = courtController.getCourtDetailsBySlug(
+            COURT_SLUG, new ServletWebRequest(request, new MockHttpServletResponse())
+        );
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    void getCourtDetailsBySlugReturns200WhenReferenceDataHasChanged() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courts/slug/" + COURT_SLUG + "/v1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, expectedETag());
+
+        IdAndLastUpdatedAt version = new IdAndLastUpdatedAt(COURT_ID, LAST_UPDATED_AT);
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(REFERENCE_DATA_VERSION + 1));
+        when(courtService.getCourtLastUpdatedAtBySlug(COURT_SLUG)).thenReturn(version);
+        when(courtDetailsDocumentService.getCourtDetailsDocument(eq(version), any())).thenReturn(DOCUMENT);
+
+        ResponseEntity<byte[]> response = courtController.getCourtDetailsBySlug(
+            COURT_SLUG, new ServletWebRequest(request, new MockHttpServletResponse())
         );
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(DOCUMENT);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(expectedETag());
     }
 
     @Test
@@ -235,6 +353,29 @@ class CourtControllerTest {
         return court;
     }
 
+    private void stubDocumentFromLoader() {
+        when(courtDetailsDocumentService.getCourtDetailsDocument(any(), any())).thenAnswer(invocation -> {
+            Supplier<CourtDetails> loader = invocation.getArgument(1);
+            loader.get();
+            return DOCUMENT;
+        });
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private static String expectedETag() {
+        return "W/\"" + COURT_ID + "-" + LAST_UPDATED_AT.toInstant().toEpochMilli()
+            + "-" + REFERENCE_DATA_VERSION + "\"";
+    }
+
+    private static ReferenceDataRegistry.Snapshot snapshot(long version) {
+        return new ReferenceDataRegistry.Snapshot(
+            version, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        );
+    }
+
     private CourtDetails createCourtDetails() {
         CourtDetails court = new CourtDetails();
         populateCourt(court);
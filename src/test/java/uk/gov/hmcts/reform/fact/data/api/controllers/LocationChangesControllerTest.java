@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.fact.data.api.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChanges;
+import uk.gov.hmcts.reform.fact.data.api.services.LocationChangesService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationChangesControllerTest {
+
+    private static final String RESPONSE_STATUS_MESSAGE = "Response status does not match";
+    private static final String RESPONSE_BODY_MESSAGE = "Response body does not match";
+
+    @Mock
+    private LocationChangesService locationChangesService;
+
+    @InjectMocks
+    private LocationChangesController locationChangesController;
+
+    @Test
+    void getChangesReturns200() {
+        LocationChanges changes = LocationChanges.builder()
+            .changes(List.of())
+            .nextCursor("cursor")
+            .hasMore(false)
+            .build();
+        when(locationChangesService.getChangesSince("2025-01-01T00:00:00Z", 500)).thenReturn(changes);
+
+        ResponseEntity<LocationChanges> response = locationChangesController.getChanges("2025-01-01T00:00:00Z", 500);
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).as(RESPONSE_BODY_MESSAGE).isEqualTo(changes);
+    }
+}
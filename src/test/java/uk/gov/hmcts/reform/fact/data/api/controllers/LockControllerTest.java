@@ -8,17 +8,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.services.LockEventService;
 import uk.gov.hmcts.reform.fact.data.api.services.LockService;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +42,9 @@ class LockControllerTest {
     @Mock
     private LockService lockService;
 
+    @Mock
+    private LockEventService lockEventService;
+
     @InjectMocks
     private LockController lockController;
 
@@ -118,6 +128,44 @@ class LockControllerTest {
         );
     }
 
+    @Test
+    void renewCourtLockReturns204() {
+        ResponseEntity<Void> response =
+            lockController.renewSubjectLock(SubjectType.COURT, COURT_ID.toString(), TEST_PAGE, USER_ID);
+
+        assertThat(response.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(lockService).renewLock(SubjectType.COURT, COURT_ID, TEST_PAGE, USER_ID);
+    }
+
+    @Test
+    void renewCourtLockPropagatesConflictWhenLockNotHeld() {
+        doThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Page lock not held by this user"))
+            .when(lockService).renewLock(SubjectType.COURT, COURT_ID, TEST_PAGE, USER_ID);
+
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class, () ->
+                lockController.renewSubjectLock(SubjectType.COURT, COURT_ID.toString(), TEST_PAGE, USER_ID)
+        );
+
+        assertThat(exception.getStatusCode()).as(RESPONSE_STATUS_MESSAGE).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamCourtLockEventsStartsWithTheActiveLocks() {
+        List<Lock> locks = List.of(new Lock());
+        SseEmitter emitter = new SseEmitter();
+        when(lockService.getAllSubjectLocks(SubjectType.COURT, COURT_ID)).thenReturn(locks);
+        when(lockEventService.subscribe(eq(SubjectType.COURT), eq(COURT_ID), any(Supplier.class)))
+            .thenAnswer(invocation -> {
+                assertThat(invocation.getArgument(2, Supplier.class).get()).isEqualTo(locks);
+                return emitter;
+            });
+
+        assertThat(lockController.streamSubjectLockEvents(SubjectType.COURT, COURT_ID.toString()))
+            .isSameAs(emitter);
+    }
+
     @Test
     void deleteCourtLockReturns204() {
         ResponseEntity<Void> response =
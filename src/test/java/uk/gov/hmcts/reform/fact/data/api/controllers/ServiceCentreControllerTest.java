@@ -1,26 +1,48 @@
 package uk.gov.hmcts.reform.fact.data.api.controllers;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+import uk.gov.hmcts.reform.fact.data.api.services.CourtDetailsDocumentService;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreDetailsViewService;
 import uk.gov.hmcts.reform.fact.data.api.services.ServiceCentreService;
 
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceCentreControllerTest {
 
     private static final UUID SERVICE_CENTRE_ID = UUID.randomUUID();
+    private static final String SERVICE_CENTRE_SLUG = "test-service-centre";
+    private static final long REFERENCE_DATA_VERSION = 3;
+    private static final ZonedDateTime LAST_UPDATED_AT = ZonedDateTime.of(2025, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+    private static final byte[] DOCUMENT = "{\"name\":\"Test Service Centre\"}".getBytes(StandardCharsets.UTF_8);
 
     @Mock
     private ServiceCentreService serviceCentreService;
@@ -28,20 +50,69 @@ class ServiceCentreControllerTest {
     @Mock
     private ServiceCentreDetailsViewService serviceCentreDetailsViewService;
 
+    @Mock
+    private CourtDetailsDocumentService courtDetailsDocumentService;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
     @InjectMocks
     private ServiceCentreController serviceCentreController;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(REFERENCE_DATA_VERSION));
+    }
+
     @Test
     void getServiceCentreDetailsByIdReturns200() {
         ServiceCentreDetails serviceCentreDetails = createServiceCentreDetails();
         when(serviceCentreService.getServiceCentreDetailsById(SERVICE_CENTRE_ID)).thenReturn(serviceCentreDetails);
         when(serviceCentreDetailsViewService.prepareDetailsView(serviceCentreDetails)).thenReturn(serviceCentreDetails);
+        stubDocumentFromLoader();
 
-        ResponseEntity<ServiceCentreDetails> response =
-            serviceCentreController.getServiceCentreDetailsById(SERVICE_CENTRE_ID.toString());
+        ResponseEntity<byte[]> response =
+            serviceCentreController.getServiceCentreDetailsById(SERVICE_CENTRE_ID.toString(), webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(serviceCentreDetails);
+        assertThat(response.getBody()).isEqualTo(DOCUMENT);
+        verify(serviceCentreDetailsViewService).prepareDetailsView(serviceCentreDetails);
+    }
+
+    @Test
+    void getServiceCentreDetailsBySlugReturnsValidatorHeaders() {
+        ServiceCentreDetails serviceCentreDetails = createServiceCentreDetails();
+        when(serviceCentreService.getServiceCentreLastUpdatedAtBySlug(SERVICE_CENTRE_SLUG))
+            .thenReturn(new IdAndLastUpdatedAt(SERVICE_CENTRE_ID, LAST_UPDATED_AT));
+        when(serviceCentreService.getServiceCentreDetailsBySlug(SERVICE_CENTRE_SLUG)).thenReturn(serviceCentreDetails);
+        when(serviceCentreDetailsViewService.prepareDetailsView(serviceCentreDetails)).thenReturn(serviceCentreDetails);
+        stubDocumentFromLoader();
+
+        ResponseEntity<byte[]> response =
+            serviceCentreController.getServiceCentreDetailsBySlug(SERVICE_CENTRE_SLUG, webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(DOCUMENT);
+        assertThat(response.getHeaders().getETag()).isEqualTo(expectedETag());
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(LAST_UPDATED_AT.toInstant().toEpochMilli());
+    }
+
+    @Test
+    void getServiceCentreDetailsByIdReturns304WhenETagMatches() {
+        MockHttpServletRequest request =
+            new MockHttpServletRequest("GET", "/service-centres/" + SERVICE_CENTRE_ID + "/v1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, expectedETag());
+        when(serviceCentreService.getServiceCentreLastUpdatedAtById(SERVICE_CENTRE_ID))
+            .thenReturn(new IdAndLastUpdatedAt(SERVICE_CENTRE_ID, LAST_UPDATED_AT));
+
+        ResponseEntity<byte[]> response = serviceCentreController.getServiceCentreDetailsById(
+            SERVICE_CENTRE_ID.toString(), new ServletWebRequest(request, new MockHttpServletResponse())
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(serviceCentreService, never()).getServiceCentreDetailsById(SERVICE_CENTRE_ID);
+        verify(courtDetailsDocumentService, never()).getServiceCentreDetailsDocument(any(), any());
     }
 
     @Test
@@ -91,6 +162,29 @@ class ServiceCentreControllerTest {
         assertThat(response.getBody()).isEqualTo(serviceCentre);
     }
 
+    private void stubDocumentFromLoader() {
+        when(courtDetailsDocumentService.getServiceCentreDetailsDocument(any(), any())).thenAnswer(invocation -> {
+            Supplier<ServiceCentreDetails> loader = invocation.getArgument(1);
+            loader.get();
+            return DOCUMENT;
+        });
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private static String expectedETag() {
+        return "W/\"" + SERVICE_CENTRE_ID + "-" + LAST_UPDATED_AT.toInstant().toEpochMilli()
+            + "-" + REFERENCE_DATA_VERSION + "\"";
+    }
+
+    private static ReferenceDataRegistry.Snapshot snapshot(long version) {
+        return new ReferenceDataRegistry.Snapshot(
+            version, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        );
+    }
+
     private ServiceCentre createServiceCentre() {
         return ServiceCentre.builder()
             .id(SERVICE_CENTRE_ID)
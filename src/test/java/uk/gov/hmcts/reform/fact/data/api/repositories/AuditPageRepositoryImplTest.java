@@ -0,0 +1,163 @@
+package uk.gov.hmcts.reform.fact.data.api.repositories;
+
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPageRepositoryImplTest {
+
+    private static final int PAGE_SIZE = 5;
+    private static final AuditSearch SEARCH = AuditSearch
+        .createdAfter(ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+        .withSubject(SubjectType.COURT, UUID.randomUUID());
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private CriteriaQuery<Audit> rowsCriteria;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private CriteriaQuery<Long> countCriteria;
+
+    @Mock
+    private TypedQuery<Audit> rowsQuery;
+
+    @Mock
+    private TypedQuery<Long> countQuery;
+
+    @Mock
+    private Query planQuery;
+
+    private AuditPageRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuditPageRepositoryImpl(entityManager);
+        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+    }
+
+    @Test
+    void searchDoesNotCountWhenTheFirstPageIsNotFull() {
+        stubRows(3);
+
+        Page<Audit> page = repository.search(SEARCH, page(0), PageTotal.EXACT);
+
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(rowsQuery).setMaxResults(PAGE_SIZE + 1);
+        verify(criteriaBuilder, never()).createQuery(Long.class);
+    }
+
+    @Test
+    void searchCountsExactlyWhenThereIsANextPage() {
+        stubRows(PAGE_SIZE + 1);
+        stubCount(42);
+
+        Page<Audit> page = repository.search(SEARCH, page(0), PageTotal.EXACT);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void searchWithoutTotalOnlyShowsThereIsANextPage() {
+        stubRows(PAGE_SIZE + 1);
+
+        Page<Audit> page = repository.search(SEARCH, page(1), PageTotal.NONE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(2L * PAGE_SIZE + 1);
+        assertThat(page.hasNext()).isTrue();
+        verify(rowsQuery).setFirstResult(PAGE_SIZE);
+        verify(criteriaBuilder, never()).createQuery(Long.class);
+        verify(entityManager, never()).createNativeQuery(anyString());
+    }
+
+    @Test
+    void searchUsesTheLargePlannerEstimateWithoutCounting() {
+        stubRows(PAGE_SIZE + 1);
+        stubPlan(250_000);
+
+        Page<Audit> page = repository.search(SEARCH, page(0), PageTotal.ESTIMATED);
+
+        assertThat(page.getTotalElements()).isEqualTo(250_000);
+        verify(entityManager).createNativeQuery(
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM audit WHERE created_at > :createdAfter"
+                + " AND subject_type = :subjectType AND subject_id = :subjectId"
+        );
+        verify(planQuery).setParameter("subjectType", "COURT");
+        verify(criteriaBuilder, never()).createQuery(Long.class);
+    }
+
+    @Test
+    void searchCountsExactlyWhenThePlannerEstimateIsSmall() {
+        stubRows(PAGE_SIZE + 1);
+        stubPlan(AuditPageRepositoryImpl.EXACT_COUNT_BELOW - 1);
+        stubCount(42);
+
+        Page<Audit> page = repository.search(SEARCH, page(0), PageTotal.ESTIMATED);
+
+        assertThat(page.getTotalElements()).isEqualTo(42);
+    }
+
+    private static PageRequest page(int pageNumber) {
+        return PageRequest.of(pageNumber, PAGE_SIZE, Sort.by("createdAt").descending());
+    }
+
+    private void stubRows(int rows) {
+        when(criteriaBuilder.createQuery(Audit.class)).thenReturn(rowsCriteria);
+        when(entityManager.createQuery(rowsCriteria)).thenReturn(rowsQuery);
+        when(rowsQuery.setFirstResult(anyInt())).thenReturn(rowsQuery);
+        when(rowsQuery.setMaxResults(anyInt())).thenReturn(rowsQuery);
+        when(rowsQuery.getResultList()).thenReturn(
+            IntStream.range(0, rows).mapToObj(i -> Audit.builder().id(UUID.randomUUID()).build()).toList()
+        );
+    }
+
+    private void stubCount(long count) {
+        when(criteriaBuilder.createQuery(Long.class)).thenReturn(countCriteria);
+        when(entityManager.createQuery(countCriteria)).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenReturn(count);
+    }
+
+    private void stubPlan(long planRows) {
+        when(entityManager.createNativeQuery(anyString())).thenReturn(planQuery);
+        when(planQuery.getSingleResult()).thenReturn(
+            "[{\"Plan\": {\"Node Type\": \"Append\", \"Plan Rows\": " + planRows
+                + ", \"Plans\": [{\"Node Type\": \"Seq Scan\", \"Plan Rows\": 1}]}}]"
+        );
+    }
+}
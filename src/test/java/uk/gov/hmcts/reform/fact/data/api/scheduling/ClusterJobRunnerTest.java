@@ -0,0 +1,205 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobRunnerTest {
+
+    private static final String JOB_NAME = "test-job";
+    private static final String CRON = "0 0 2 * * *";
+    private static final String TRY_LOCK = "select pg_try_advisory_lock(?, ?)";
+    private static final String UNLOCK = "select pg_advisory_unlock(?, ?)";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClusterJobRunner clusterJobRunner;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        clusterJobRunner = new ClusterJobRunner(dataSource, meterRegistry);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void runScheduledRunsJobAndReleasesLockWhenLockTaken() throws SQLException {
+        PreparedStatement tryLock = stubQuery(TRY_LOCK, true);
+        PreparedStatement claim = stubClaim(1);
+        PreparedStatement unlock = stubQuery(UNLOCK, true);
+        Runnable job = mock(Runnable.class);
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, job)).isTrue();
+
+        verify(job).run();
+        verify(tryLock).setInt(1, ClusterJobRunner.LOCK_NAMESPACE);
+        verify(tryLock).setInt(2, JOB_NAME.hashCode());
+        verify(claim).setString(1, JOB_NAME);
+        verify(unlock).setInt(2, JOB_NAME.hashCode());
+        verify(connection).close();
+        assertThat(timerCount("success")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledSkipsJobWhenAnotherReplicaHoldsTheLock() throws SQLException {
+        stubQuery(TRY_LOCK, false);
+        Runnable job = mock(Runnable.class);
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, job)).isFalse();
+
+        verify(job, never()).run();
+        verify(connection, never()).prepareStatement(UNLOCK);
+        verify(connection).close();
+        assertThat(timerCount("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledSkipsJobAndReleasesLockWhenFireTimeAlreadyClaimed() throws SQLException {
+        stubQuery(TRY_LOCK, true);
+        stubClaim(0);
+        stubQuery(UNLOCK, true);
+        Runnable job = mock(Runnable.class);
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, job)).isFalse();
+
+        verify(job, never()).run();
+        verify(connection).prepareStatement(UNLOCK);
+        assertThat(timerCount("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledRecordsFailureAndReleasesLockWhenFireTimeCannotBeClaimed() throws SQLException {
+        stubQuery(TRY_LOCK, true);
+        when(connection.prepareStatement(contains("scheduled_job_run"))).thenThrow(new SQLException("claim failed"));
+        stubQuery(UNLOCK, true);
+        Runnable job = mock(Runnable.class);
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, job)).isFalse();
+
+        verify(job, never()).run();
+        verify(connection).prepareStatement(UNLOCK);
+        assertThat(timerCount("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledRecordsFailureAndReleasesLockWhenJobThrows() throws SQLException {
+        stubQuery(TRY_LOCK, true);
+        stubClaim(1);
+        stubQuery(UNLOCK, true);
+
+        boolean ran = clusterJobRunner.runScheduled(JOB_NAME, CRON, () -> {
+            throw new IllegalStateException("job failure");
+        });
+
+        assertThat(ran).isTrue();
+        verify(connection).prepareStatement(UNLOCK);
+        assertThat(timerCount("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledAbortsConnectionWhenLockCannotBeReleased() throws SQLException {
+        stubQuery(TRY_LOCK, true);
+        stubClaim(1);
+        when(connection.prepareStatement(UNLOCK)).thenThrow(new SQLException("connection lost"));
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, () -> { })).isTrue();
+
+        verify(connection).abort(any(Executor.class));
+        assertThat(timerCount("success")).isEqualTo(1);
+    }
+
+    @Test
+    void runScheduledRecordsFailureWhenLockCannotBeTaken() throws SQLException {
+        when(connection.prepareStatement(TRY_LOCK)).thenThrow(new SQLException("database unavailable"));
+        Runnable job = mock(Runnable.class);
+
+        assertThat(clusterJobRunner.runScheduled(JOB_NAME, CRON, job)).isFalse();
+
+        verify(job, never()).run();
+        assertThat(timerCount("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void scheduledFireTimeIsTheLatestFireTimeAtOrBeforeNow() {
+        CronExpression daily = CronExpression.parse(CRON);
+
+        assertThat(ClusterJobRunner.scheduledFireTime(daily, at(2, 0, 0, 5_000_000)))
+            .isEqualTo(at(2, 0, 0, 0));
+        assertThat(ClusterJobRunner.scheduledFireTime(daily, at(2, 7, 30, 0)))
+            .isEqualTo(at(2, 0, 0, 0));
+        assertThat(ClusterJobRunner.scheduledFireTime(daily, at(1, 59, 0, 0)))
+            .isEqualTo(at(2, 0, 0, 0).minusDays(1));
+    }
+
+    @Test
+    void scheduledFireTimeAllowsForAnEarlyStart() {
+        CronExpression daily = CronExpression.parse(CRON);
+
+        assertThat(ClusterJobRunner.scheduledFireTime(daily, at(1, 59, 59, 990_000_000)))
+            .isEqualTo(at(2, 0, 0, 0));
+    }
+
+    @Test
+    void scheduledFireTimeResolvesFrequentSchedules() {
+        CronExpression everyMinute = CronExpression.parse("0 * * * * *");
+
+        assertThat(ClusterJobRunner.scheduledFireTime(everyMinute, at(14, 37, 12, 0)))
+            .isEqualTo(at(14, 37, 0, 0));
+    }
+
+    private static ZonedDateTime at(int hour, int minute, int second, int nanos) {
+        return ZonedDateTime.of(2026, 3, 10, hour, minute, second, nanos, ZoneOffset.UTC);
+    }
+
+    private PreparedStatement stubClaim(int rowsUpdated) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(contains("scheduled_job_run"))).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(rowsUpdated);
+        return statement;
+    }
+
+    private PreparedStatement stubQuery(String sql, boolean result) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(sql)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(result);
+        return statement;
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry.get(ClusterJobRunner.RUN_METRIC)
+            .tag("job", JOB_NAME)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+}
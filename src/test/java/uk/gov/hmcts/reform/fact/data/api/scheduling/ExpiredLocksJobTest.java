@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import uk.gov.hmcts.reform.fact.data.api.config.properties.SchedulingConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.services.LockService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredLocksJobTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withBean(ClusterJobRunner.class, () -> mock(ClusterJobRunner.class))
+        .withBean(LockService.class, () -> mock(LockService.class))
+        .withBean(SchedulingConfigurationProperties.class)
+        .withUserConfiguration(ExpiredLocksJob.class, ScheduledJobs.class);
+
+    @Mock
+    private ClusterJobRunner clusterJobRunner;
+
+    @Mock
+    private LockService lockService;
+
+    private final SchedulingConfigurationProperties properties = new SchedulingConfigurationProperties();
+
+    @Test
+    void deleteExpiredLocksRunsExpiredLocksOnItsSchedule() {
+        new ExpiredLocksJob(clusterJobRunner, properties, lockService).deleteExpiredLocks();
+
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+        verify(clusterJobRunner).runScheduled(eq(ExpiredLocksJob.EXPIRED_LOCKS), eq(properties.getExpiredLocksCron()),
+                                              job.capture());
+        job.getValue().run();
+        verify(lockService).deleteExpiredLocks();
+    }
+
+    @Test
+    void expiredLocksJobIsRegisteredUnderTheDefaultConfiguration() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(ExpiredLocksJob.class);
+            assertThat(context).doesNotHaveBean(ScheduledJobs.class);
+        });
+    }
+
+    @Test
+    void expiredLocksJobIsNotRegisteredWhenSwitchedOff() {
+        contextRunner
+            .withPropertyValues("fact.data-api.scheduling.expired-locks-enabled=false")
+            .run(context -> assertThat(context).doesNotHaveBean(ExpiredLocksJob.class));
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.fact.data.api.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.fact.data.api.config.properties.SchedulingConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.services.AuditService;
+import uk.gov.hmcts.reform.fact.data.api.services.CsvService;
+import uk.gov.hmcts.reform.fact.data.api.services.LocationChangesService;
+import uk.gov.hmcts.reform.fact.data.api.services.UserService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobsTest {
+
+    @Mock
+    private ClusterJobRunner clusterJobRunner;
+
+    @Mock
+    private CsvService csvService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private LocationChangesService locationChangesService;
+
+    private final SchedulingConfigurationProperties properties = new SchedulingConfigurationProperties();
+
+    private ScheduledJobs scheduledJobs;
+
+    @BeforeEach
+    void setUp() {
+        scheduledJobs = new ScheduledJobs(clusterJobRunner, properties, csvService, auditService, userService,
+                                          locationChangesService);
+    }
+
+    @Test
+    void exportCsvRunsCsvExportOnItsSchedule() {
+        scheduledJobs.exportCsv();
+
+        runCapturedJob(ScheduledJobs.CSV_EXPORT, properties.getCsvExportCron());
+        verify(csvService).createAndUploadCsv();
+    }
+
+    @Test
+    void removeExpiredAuditEntriesRunsAuditRetentionOnItsSchedule() {
+        scheduledJobs.removeExpiredAuditEntries();
+
+        runCapturedJob(ScheduledJobs.AUDIT_RETENTION, properties.getAuditRetentionCron());
+        verify(auditService).removeExpiredAuditEntries();
+    }
+
+    @Test
+    void createAuditPartitionsRunsAuditPartitionsOnItsSchedule() {
+        scheduledJobs.createAuditPartitions();
+
+        runCapturedJob(ScheduledJobs.AUDIT_PARTITIONS, properties.getAuditPartitionsCron());
+        verify(auditService).createAuditPartitions();
+    }
+
+    @Test
+    void deleteInactiveUsersRunsInactiveUsersOnItsSchedule() {
+        scheduledJobs.deleteInactiveUsers();
+
+        runCapturedJob(ScheduledJobs.INACTIVE_USERS, properties.getInactiveUsersCron());
+        verify(userService).deleteInactiveUsers();
+    }
+
+    @Test
+    void deleteExpiredTombstonesRunsTombstoneRetentionOnItsSchedule() {
+        scheduledJobs.deleteExpiredTombstones();
+
+        runCapturedJob(ScheduledJobs.TOMBSTONE_RETENTION, properties.getTombstoneRetentionCron());
+        verify(locationChangesService).deleteExpiredTombstones();
+    }
+
+    @Test
+    void jobsDoNotRunWorkDirectly() {
+        scheduledJobs.exportCsv();
+
+        verify(clusterJobRunner).runScheduled(eq(ScheduledJobs.CSV_EXPORT), eq(properties.getCsvExportCron()), any());
+        verifyNoInteractions(csvService);
+    }
+
+    private void runCapturedJob(String jobName, String cron) {
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+        verify(clusterJobRunner).runScheduled(eq(jobName), eq(cron), job.capture());
+        job.getValue().run();
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.fact.data.api.security;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -10,6 +11,7 @@ import static org.mockito.Mockito.when;
 import uk.gov.hmcts.reform.fact.data.api.audit.AuditUserContext;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.UsersDeletedEvent;
 
 import java.util.UUID;
 
@@ -161,6 +163,45 @@ class AuthServiceTest {
         verify(auditUserContext).setUserId(USER_ID);
     }
 
+    @Test
+    void isAdminLooksUpAnExistingUserOnlyOnce() {
+        setAdminAuthentication();
+        setRequest("POST", "/courts/v1", USER_ID.toString());
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        assertThat(authService.isAdmin()).isTrue();
+        assertThat(authService.isAdmin()).isTrue();
+
+        verify(userRepository).existsById(USER_ID);
+        verify(auditUserContext, times(2)).setUserId(USER_ID);
+    }
+
+    @Test
+    void isAdminLooksUpAMissingUserEveryTime() {
+        setAdminAuthentication();
+        setRequest("POST", "/courts/v1", USER_ID.toString());
+        when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.isAdmin()).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> authService.isAdmin()).isInstanceOf(NotFoundException.class);
+
+        verify(userRepository, times(2)).existsById(USER_ID);
+    }
+
+    @Test
+    void isAdminLooksUpTheUserAgainAfterUsersAreDeleted() {
+        setAdminAuthentication();
+        setRequest("POST", "/courts/v1", USER_ID.toString());
+        when(userRepository.existsById(USER_ID)).thenReturn(true, false);
+
+        assertThat(authService.isAdmin()).isTrue();
+        authService.onUsersDeleted(new UsersDeletedEvent(1));
+
+        assertThatThrownBy(() -> authService.isAdmin())
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("No user found for user id: " + USER_ID);
+    }
+
     @Test
     void isAdminSuppressesAuditForCathLinkEndpoint() {
         assertAuditSuppressedFor("POST", "/courts/v1/link");
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreDetailsRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AllLocationDetailsExportServiceTest {
+
+    @Mock
+    private CourtDetailsRepository courtDetailsRepository;
+
+    @Mock
+    private ServiceCentreDetailsRepository serviceCentreDetailsRepository;
+
+    @Mock
+    private CourtService courtService;
+
+    @Mock
+    private ServiceCentreService serviceCentreService;
+
+    @Mock
+    private CourtDetailsViewService courtDetailsViewService;
+
+    @Mock
+    private ServiceCentreDetailsViewService serviceCentreDetailsViewService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AllLocationDetailsExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        exportService = new AllLocationDetailsExportService(
+            courtDetailsRepository,
+            serviceCentreDetailsRepository,
+            courtService,
+            serviceCentreService,
+            courtDetailsViewService,
+            serviceCentreDetailsViewService,
+            entityManager,
+            JsonMapper.builder().build(),
+            transactionManager
+        );
+    }
+
+    @Test
+    void writeAllLocationDetailsWritesOneLinePerLocationInChunks() {
+        List<CourtDetails> courts = IntStream.range(0, 101)
+            .mapToObj(i -> CourtDetails.builder().id(UUID.randomUUID()).name("Court " + i).build())
+            .toList();
+        ServiceCentreDetails serviceCentre = ServiceCentreDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Service Centre")
+            .build();
+        List<NameAndId> courtNamesAndIds = courts.stream()
+            .map(court -> new NameAndId(court.getName(), court.getId()))
+            .sorted(Comparator.comparing(NameAndId::name).thenComparing(NameAndId::id))
+            .toList();
+        when(courtDetailsRepository.findNamesAndIdsAfter(any(), any(), any()))
+            .thenAnswer(invocation -> pageAfter(courtNamesAndIds, invocation.getArgument(0),
+                                                invocation.getArgument(1), invocation.getArgument(2)));
+        when(serviceCentreDetailsRepository.findNamesAndIdsAfter(any(), any(), any()))
+            .thenReturn(List.of(new NameAndId(serviceCentre.getName(), serviceCentre.getId())));
+        Map<UUID, CourtDetails> courtsById = courts.stream()
+            .collect(Collectors.toMap(CourtDetails::getId, Function.identity()));
+        when(courtService.getCourtDetailsByIds(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(courtsById::get).toList();
+        });
+        when(courtDetailsViewService.prepareDetailsViews(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(serviceCentreService.getServiceCentreDetailsByIds(List.of(serviceCentre.getId())))
+            .thenReturn(List.of(serviceCentre));
+        when(serviceCentreDetailsViewService.prepareDetailsViews(any())).thenReturn(List.of(serviceCentre));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.writeAllLocationDetails(outputStream);
+
+        ArgumentCaptor<List<UUID>> chunks = ArgumentCaptor.captor();
+        verify(courtService, times(2)).getCourtDetailsByIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(100, 1);
+        verify(entityManager, times(3)).clear();
+        verify(transactionManager, times(3)).commit(any());
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(102);
+        assertThat(lines.getFirst()).contains("\"locationType\":\"COURT\"").contains("\"name\":\"Court 0\"");
+        assertThat(lines.get(100)).contains("\"name\":\"" + courtNamesAndIds.getLast().name() + "\"");
+        assertThat(lines.getLast())
+            .contains("\"locationType\":\"SERVICE_CENTRE\"")
+            .contains("\"name\":\"Service Centre\"");
+    }
+
+    @Test
+    void writeAllLocationDetailsWritesNothingWhenThereAreNoLocations() {
+        when(courtDetailsRepository.findNamesAndIdsAfter(any(), any(), any())).thenReturn(List.of());
+        when(serviceCentreDetailsRepository.findNamesAndIdsAfter(any(), any(), any())).thenReturn(List.of());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.writeAllLocationDetails(outputStream);
+
+        assertThat(outputStream.size()).isZero();
+        verify(courtService, never()).getCourtDetailsByIds(any());
+    }
+
+    @Test
+    void writeAllLocationDetailsThrowsUncheckedWhenTheClientDisconnects() {
+        CourtDetails court = CourtDetails.builder().id(UUID.randomUUID()).name("Court").build();
+        when(courtDetailsRepository.findNamesAndIdsAfter(any(), any(), any()))
+            .thenReturn(List.of(new NameAndId(court.getName(), court.getId())));
+        when(courtService.getCourtDetailsByIds(any())).thenReturn(List.of(court));
+        when(courtDetailsViewService.prepareDetailsViews(any())).thenReturn(List.of(court));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.writeAllLocationDetails(disconnected))
+            .isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static List<NameAndId> pageAfter(List<NameAndId> namesAndIds, String name, UUID id, Limit limit) {
+        return namesAndIds.stream()
+            .filter(nameAndId -> nameAndId.name().compareTo(name) > 0
+                || nameAndId.name().equals(name) && nameAndId.id().compareTo(id) > 0)
+            .limit(limit.max())
+            .toList();
+    }
+}
@@ -29,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -574,20 +575,17 @@ class AllLocationServiceTest {
         when(serviceCentreDetailsRepository.findAll()).thenReturn(List.of(
             serviceCentreDetails
         ));
-        when(courtDetailsViewService.prepareDetailsView(any(CourtDetails.class))).thenAnswer(
-            invocation -> invocation.getArgument(0)
-        );
-        when(serviceCentreDetailsViewService.prepareDetailsView(any(ServiceCentreDetails.class))).thenAnswer(
-            invocation -> invocation.getArgument(0)
-        );
+        when(courtDetailsViewService.prepareDetailsViews(List.of(courtDetails))).thenReturn(List.of(courtDetails));
+        when(serviceCentreDetailsViewService.prepareDetailsViews(List.of(serviceCentreDetails)))
+            .thenReturn(List.of(serviceCentreDetails));
 
         List<AllLocationDetails> result = allLocationService.getAllLocationDetails();
 
         assertThat(result)
             .extracting(AllLocationDetails::getLocationType)
             .containsExactly("COURT", "SERVICE_CENTRE");
-        verify(courtDetailsViewService).prepareDetailsView(courtDetails);
-        verify(serviceCentreDetailsViewService).prepareDetailsView(serviceCentreDetails);
+        verify(courtDetailsViewService, never()).prepareDetailsView(any(CourtDetails.class));
+        verify(serviceCentreDetailsViewService, never()).prepareDetailsView(any(ServiceCentreDetails.class));
     }
 
     private Court buildCourt(String name, boolean open) {
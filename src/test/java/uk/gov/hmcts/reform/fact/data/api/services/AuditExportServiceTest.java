@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.config.properties.AuditConfigurationProperties;
+import uk.gov.hmcts.reform.fact.data.api.entities.Audit;
+import uk.gov.hmcts.reform.fact.data.api.entities.User;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AuditActionType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Change;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceTest {
+
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2025, 3, 1, 9, 30, 0, 0, ZoneOffset.UTC);
+    private static final AuditSearch SEARCH = AuditSearch.createdAfter(CREATED_AT.minusDays(1));
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Audit> query;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AuditConfigurationProperties auditConfiguration = new AuditConfigurationProperties();
+
+    private AuditExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        auditConfiguration.getExport().setPageSize(2);
+        exportService = new AuditExportService(entityManager, JsonMapper.builder().build(), auditConfiguration,
+                                               transactionManager);
+    }
+
+    @Test
+    void writeAuditsWritesOneJsonLinePerAuditAPageAtATime() {
+        List<Audit> audits = List.of(audit("first@justice.gov.uk"), audit("second@justice.gov.uk"),
+                                     audit("third@justice.gov.uk"));
+        stubQuery(audits.subList(0, 2), audits.subList(2, 3));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.writeAudits(SEARCH, AuditExportService.Format.NDJSON, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.getFirst())
+            .startsWith("{")
+            .contains("\"id\":\"" + audits.getFirst().getId() + "\"")
+            .contains("first@justice.gov.uk");
+        verify(query, times(2)).setMaxResults(2);
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void writeAuditsWritesCsvHeaderAndARowPerAudit() {
+        Audit audit = audit("csv@justice.gov.uk");
+        stubQuery(List.of(audit));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.writeAudits(SEARCH, AuditExportService.Format.CSV, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).containsExactly(
+            String.join(",", AuditExportService.CSV_COLUMNS),
+            audit.getId() + ",2025-03-01T09:30:00Z,COURT," + audit.getSubjectId() + "," + audit.getUserId()
+                + ",csv@justice.gov.uk,UPDATE,Court,"
+                + "\"[{\"\"field\"\":\"\"name\"\",\"\"oldValue\"\":\"\"Old\"\",\"\"newValue\"\":\"\"New\"\"}]\""
+        );
+        verify(entityManager).clear();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void writeAuditsWithoutSearchWritesOnlyTheHeader() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.writeAudits(null, AuditExportService.Format.CSV, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo(String.join(",", AuditExportService.CSV_COLUMNS) + "\n");
+        verifyNoInteractions(entityManager, transactionManager);
+    }
+
+    @Test
+    void writeAuditsReadsAnEmptyPageAfterAFullLastPage() {
+        stubQuery(List.of(audit("first@justice.gov.uk"), audit("second@justice.gov.uk")), List.of());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.writeAudits(SEARCH, AuditExportService.Format.NDJSON, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).lines()).hasSize(2);
+        verify(query, times(2)).getResultList();
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void stubQuery(List<Audit> page, List<Audit>... nextPages) {
+        when(entityManager.createQuery(any(CriteriaQuery.class))).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(page, nextPages);
+    }
+
+    private static Audit audit(String email) {
+        UUID userId = UUID.randomUUID();
+        return Audit.builder()
+            .id(UUID.randomUUID())
+            .subjectId(UUID.randomUUID())
+            .subjectType(SubjectType.COURT)
+            .userId(userId)
+            .user(User.builder().id(userId).email(email).build())
+            .actionType(AuditActionType.UPDATE)
+            .actionEntity("Court")
+            .actionDataDiff(List.of(new Change("name", "Old", "New")))
+            .createdAt(CREATED_AT)
+            .build();
+    }
+}
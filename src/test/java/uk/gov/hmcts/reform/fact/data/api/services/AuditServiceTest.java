@@ -1,12 +1,16 @@
 package uk.gov.hmcts.reform.fact.data.api.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.hmcts.reform.fact.data.api.config.properties.AuditConfigurationProperties;
@@ -18,8 +22,12 @@ import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditSearch;
+import uk.gov.hmcts.reform.fact.data.api.repositories.PageTotal;
+import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -29,6 +37,8 @@ import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -63,6 +73,10 @@ class AuditServiceTest {
     @Mock
     private AuditRepository auditRepository;
     @Mock
+    private UserRepository userRepository;
+    @Mock
+    private HousekeepingService housekeepingService;
+    @Mock
     private CourtService courtService;
     @Mock
     private ServiceCentreService serviceCentreService;
@@ -75,13 +89,13 @@ class AuditServiceTest {
     // simple paged queries
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCreatedAtAfter() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCreatedAtAfter() {
 
-        when(auditRepository.findByCreatedAtAfter(
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -92,24 +106,26 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                 null
+                 null,
+                 PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findByCreatedAtAfter(
-            eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCreatedAtBetween() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCreatedAtBetween() {
 
-        when(auditRepository.findByCreatedAtBetween(
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -120,25 +136,26 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findByCreatedAtBetween(
-            eq(fromDateTime), eq(toDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCourtIdAndCreatedAtAfter() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCourtIdAndCreatedAtAfter() {
 
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-                 eq(COURT_ID),
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -149,26 +166,26 @@ class AuditServiceTest {
                 null,
                 COURT_ID.toString(),
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-            eq(COURT_ID), eq(SubjectType.COURT), eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCourtIdAndCreatedAtBetween() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCourtIdAndCreatedAtBetween() {
 
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtBetween(
-                 eq(COURT_ID),
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -179,26 +196,29 @@ class AuditServiceTest {
                 null,
                 COURT_ID.toString(),
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtBetween(
-            eq(COURT_ID), eq(SubjectType.COURT), eq(fromDateTime), eq(toDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     // complex paged queries (that have email matching as well)
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCreatedAtAfterAndEmailAddressLike() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCreatedAtAfterAndEmailUsers() {
 
-        when(auditRepository.findByCreatedAtAfterAndEmailAddressLike(
-                 eq(fromDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, null, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -209,25 +229,27 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findByCreatedAtAfterAndEmailAddressLike(
-            eq(fromDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, null, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCreatedAtBetweenAndEmailAddressLike() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCreatedAtBetweenAndEmailUsers() {
 
-        when(auditRepository.findByCreatedAtBetweenAndEmailAddressLike(
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, null, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -238,26 +260,27 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findByCreatedAtBetweenAndEmailAddressLike(
-            eq(fromDateTime), eq(toDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, null, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCourtIdAndCreatedAtAfterAndEmailAddressLike() {
+    void getFilteredAndPaginatedAuditsShouldSearchByCourtIdAndCreatedAtAfterAndEmailUsers() {
 
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-                 eq(COURT_ID),
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -268,27 +291,27 @@ class AuditServiceTest {
                 null,
                 COURT_ID.toString(),
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-            eq(COURT_ID), eq(SubjectType.COURT), eq(fromDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByCourtIdAndCreatedAtBetweenAndEmailAddressLike() {
-
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-                 eq(COURT_ID),
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+    void getFilteredAndPaginatedAuditsShouldSearchByCourtIdAndCreatedAtBetweenAndEmailUsers() {
+
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, COURT_ID, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -299,40 +322,76 @@ class AuditServiceTest {
                 null,
                 COURT_ID.toString(),
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-            eq(COURT_ID), eq(SubjectType.COURT), eq(fromDateTime), eq(toDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, COURT_ID, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
     void removeExpiredAuditEntriesShouldUserPropertiesAndCallDeleteAllBeforeCreatedDate() {
         int retentionDays = 365;
-        doNothing().when(auditRepository).deleteAllByCreatedAtBefore(any(ZonedDateTime.class));
         when(auditConfigurationProperties.getRetentionDays()).thenReturn(retentionDays);
 
         auditService.removeExpiredAuditEntries();
 
-        verify(auditRepository).deleteAllByCreatedAtBefore(any(ZonedDateTime.class));
+        verify(housekeepingService).deleteAuditsCreatedBefore(any(ZonedDateTime.class));
         verify(auditConfigurationProperties).getRetentionDays();
     }
 
+    @Test
+    void removeExpiredAuditEntriesShouldDropExpiredPartitionsBeforeDeletingTheRemainder() {
+        when(auditConfigurationProperties.getRetentionDays()).thenReturn(30);
+        when(auditRepository.dropAuditPartitionsBefore(any(LocalDateTime.class))).thenReturn(2);
+
+        auditService.removeExpiredAuditEntries();
+
+        ArgumentCaptor<LocalDateTime> partitionCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<ZonedDateTime> deleteCutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        InOrder inOrder = inOrder(auditRepository, housekeepingService);
+        inOrder.verify(auditRepository).dropAuditPartitionsBefore(partitionCutoff.capture());
+        inOrder.verify(housekeepingService).deleteAuditsCreatedBefore(deleteCutoff.capture());
+        verify(auditRepository, never()).createAuditPartitions(anyInt());
+        assertThat(deleteCutoff.getValue().getOffset()).isEqualTo(ZoneOffset.UTC);
+        assertThat(partitionCutoff.getValue()).isEqualTo(deleteCutoff.getValue().toLocalDateTime());
+        assertThat(deleteCutoff.getValue())
+            .isBetween(ZonedDateTime.now(ZoneOffset.UTC).minusDays(30).minusMinutes(1),
+                       ZonedDateTime.now(ZoneOffset.UTC).minusDays(30));
+    }
+
+    @Test
+    void createAuditPartitionsShouldCreateTheComingMonths() {
+        when(auditRepository.createAuditPartitions(AuditService.PARTITION_MONTHS_AHEAD)).thenReturn(1);
+
+        assertThat(auditService.createAuditPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    void onApplicationReadyShouldCreateAuditPartitionsWithoutFailingStartup() {
+        when(auditRepository.createAuditPartitions(AuditService.PARTITION_MONTHS_AHEAD))
+            .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatCode(() -> auditService.onApplicationReady()).doesNotThrowAnyException();
+        verify(auditRepository).createAuditPartitions(AuditService.PARTITION_MONTHS_AHEAD);
+    }
+
 
     // edge case tests
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindByServiceCentreIdAndCreatedAtAfter() {
+    void getFilteredAndPaginatedAuditsShouldSearchByServiceCentreIdAndCreatedAtAfter() {
 
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-                 eq(SERVICE_CENTRE_ID),
-                 eq(SubjectType.SERVICE_CENTRE),
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.SERVICE_CENTRE, SERVICE_CENTRE_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -343,12 +402,15 @@ class AuditServiceTest {
                 null,
                 null,
                 SERVICE_CENTRE_ID.toString(),
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-            eq(SERVICE_CENTRE_ID), eq(SubjectType.SERVICE_CENTRE), eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.SERVICE_CENTRE, SERVICE_CENTRE_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
@@ -363,7 +425,8 @@ class AuditServiceTest {
                 null,
                 COURT_ID.toString(),
                 SERVICE_CENTRE_ID.toString(),
-                null
+                null,
+                PageTotal.EXACT
             )
         );
     }
@@ -372,19 +435,41 @@ class AuditServiceTest {
     void shouldThrowNullPointerExceptionWhenFromDateIsNull() {
         assertThrows(
             NullPointerException.class, () -> {
-                auditService.getFilteredAndPaginatedAudits(0, 1, null, null, null,null, null, null);
+                auditService.getFilteredAndPaginatedAudits(0, 1, null, null, null,null, null, null, PageTotal.EXACT);
             }
         );
     }
 
+    @Test
+    void getFilteredAndPaginatedAuditsShouldReturnEmptyPageWithoutSearchingWhenNoUserMatchesEmail() {
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of());
+
+        Page<Audit> result =
+            auditService.getFilteredAndPaginatedAudits(
+                PAGE_NUMBER,
+                PAGE_SIZE,
+                fromDate,
+                null,
+                null,
+                COURT_ID.toString(),
+                null,
+                EMAIL,
+                PageTotal.EXACT
+            );
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getPageable().getPageSize()).isEqualTo(PAGE_SIZE);
+        verifyNoInteractions(auditRepository);
+    }
+
     @Test
     void shouldCallSimpleQueryForBlankEmail() {
 
-        when(auditRepository.findByCreatedAtAfter(
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -395,7 +480,8 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                ""
+                "",
+                PageTotal.EXACT
             );
         assertThat(result.getContent()).hasSize(1);
 
@@ -408,13 +494,17 @@ class AuditServiceTest {
                 null,
                 null,
                 null,
-                " "
+                " ",
+                PageTotal.EXACT
             );
         assertThat(result.getContent()).hasSize(1);
 
-        verify(auditRepository, times(2)).findByCreatedAtAfter(
-            eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository, times(2)).search(
+            eq(new AuditSearch(fromDateTime, null, null, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -478,13 +568,12 @@ class AuditServiceTest {
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindBySubjectTypeAndCreatedAtAfterWhenOnlySubjectTypeProvided() {
-        when(auditRepository.findBySubjectTypeAndCreatedAtAfter(
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+    void getFilteredAndPaginatedAuditsShouldSearchBySubjectTypeAndCreatedAtAfterWhenOnlySubjectTypeProvided() {
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -495,24 +584,25 @@ class AuditServiceTest {
                 SubjectType.COURT,
                 null,
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectTypeAndCreatedAtAfter(
-            eq(SubjectType.COURT), eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void getFilteredAndPaginatedAuditsShouldCallFindBySubjectTypeAndCreatedAtBetweenWhenSubjectTypeAndToDateProvided() {
-        when(auditRepository.findBySubjectTypeAndCreatedAtBetween(
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+    void getFilteredAndPaginatedAuditsShouldSearchBySubjectTypeAndCreatedAtBetweenWhenSubjectTypeAndToDateProvided() {
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -523,24 +613,26 @@ class AuditServiceTest {
                 SubjectType.COURT,
                 null,
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectTypeAndCreatedAtBetween(
-            eq(SubjectType.COURT), eq(fromDateTime), eq(toDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void shouldCallFindBySubjectTypeAndCreatedAtAfterAndEmailAddressLikeWhenSubjectTypeAndEmailProvided() {
-        when(auditRepository.findBySubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-                 eq(SubjectType.SERVICE_CENTRE),
-                 eq(fromDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+    void shouldSearchBySubjectTypeAndCreatedAtAfterAndEmailUsersWhenSubjectTypeAndEmailProvided() {
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.SERVICE_CENTRE, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -551,25 +643,26 @@ class AuditServiceTest {
                 SubjectType.SERVICE_CENTRE,
                 null,
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectTypeAndCreatedAtAfterAndEmailAddressLike(
-            eq(SubjectType.SERVICE_CENTRE), eq(fromDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.SERVICE_CENTRE, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
-    void shouldCallFindBySubjectTypeAndCreatedAtBetweenAndEmailAddressLikeWhenAllFiltersProvided() {
-        when(auditRepository.findBySubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-                 eq(SubjectType.SERVICE_CENTRE),
-                 eq(fromDateTime),
-                 eq(toDateTime),
-                 eq(EMAIL),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+    void shouldSearchBySubjectTypeAndCreatedAtBetweenAndEmailUsersWhenAllFiltersProvided() {
+        when(userRepository.findIdsByEmailContainingIgnoreCase(EMAIL)).thenReturn(List.of(USER_ID));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.SERVICE_CENTRE, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -580,23 +673,25 @@ class AuditServiceTest {
                 SubjectType.SERVICE_CENTRE,
                 null,
                 null,
-                EMAIL
+                EMAIL,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectTypeAndCreatedAtBetweenAndEmailAddressLike(
-            eq(SubjectType.SERVICE_CENTRE), eq(fromDateTime), eq(toDateTime), eq(EMAIL), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, toDateTime, SubjectType.SERVICE_CENTRE, null, List.of(USER_ID))),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
     void getFilteredAndPaginatedAuditsShouldIgnoreBlankEmailForSubjectTypeAndUseSimpleSubjectTypeQuery() {
-        when(auditRepository.findBySubjectTypeAndCreatedAtAfter(
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> firstResult =
             auditService.getFilteredAndPaginatedAudits(
@@ -607,7 +702,8 @@ class AuditServiceTest {
                 SubjectType.COURT,
                 null,
                 null,
-                ""
+                "",
+                PageTotal.EXACT
             );
 
         Page<Audit> secondResult =
@@ -619,25 +715,26 @@ class AuditServiceTest {
                 SubjectType.COURT,
                 null,
                 null,
-                " "
+                " ",
+                PageTotal.EXACT
             );
 
         assertThat(firstResult.getContent()).hasSize(1);
         assertThat(secondResult.getContent()).hasSize(1);
-        verify(auditRepository, times(2)).findBySubjectTypeAndCreatedAtAfter(
-            eq(SubjectType.COURT), eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository, times(2)).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, null, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
     @Test
     void getFilteredAndPaginatedAuditsShouldPrioritiseCourtIdOverSubjectTypeWhenBothProvided() {
-        when(auditRepository.findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-                 eq(COURT_ID),
-                 eq(SubjectType.COURT),
-                 eq(fromDateTime),
-                 any(Pageable.class)
-             )
-        ).thenReturn(new PageImpl<>(List.of(createAudit())));
+        when(auditRepository.search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
+        )).thenReturn(new PageImpl<>(List.of(createAudit())));
 
         Page<Audit> result =
             auditService.getFilteredAndPaginatedAudits(
@@ -648,12 +745,15 @@ class AuditServiceTest {
                 SubjectType.SERVICE_CENTRE,
                 COURT_ID.toString(),
                 null,
-                null
+                null,
+                PageTotal.EXACT
             );
 
         assertThat(result.getContent()).hasSize(1);
-        verify(auditRepository).findBySubjectIdAndSubjectTypeAndCreatedAtAfter(
-            eq(COURT_ID), eq(SubjectType.COURT), eq(fromDateTime), any(Pageable.class)
+        verify(auditRepository).search(
+            eq(new AuditSearch(fromDateTime, null, SubjectType.COURT, COURT_ID, null)),
+            any(Pageable.class),
+            eq(PageTotal.EXACT)
         );
     }
 
@@ -4,6 +4,9 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.options.BlockBlobOutputStreamOptions;
+import com.azure.storage.blob.specialized.BlobOutputStream;
+import com.azure.storage.blob.specialized.BlockBlobClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,6 +45,12 @@ class AzureBlobServiceTest {
     @Mock
     private BlobClient blobClient;
 
+    @Mock
+    private BlockBlobClient blockBlobClient;
+
+    @Mock
+    private BlobOutputStream blobOutputStream;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -136,4 +146,41 @@ class AzureBlobServiceTest {
 
         verify(blobClient, never()).setHttpHeaders(org.mockito.ArgumentMatchers.any(BlobHttpHeaders.class));
     }
+
+    @Test
+    void uploadStreamShouldStageWrittenContentAndCommitOnClose() throws IOException {
+        when(blobClient.getBlockBlobClient()).thenReturn(blockBlobClient);
+        when(blockBlobClient.getBlobOutputStream(any(BlockBlobOutputStreamOptions.class)))
+            .thenReturn(blobOutputStream);
+        when(blobClient.getBlobUrl()).thenReturn(BLOB_URL);
+        byte[] content = "h1\nvalue".getBytes(StandardCharsets.UTF_8);
+
+        String result =
+            azureBlobService.uploadStream(IMAGE_ID, "text/csv", outputStream -> outputStream.write(content));
+
+        assertThat(result).isEqualTo(BLOB_URL);
+        verify(blobOutputStream).write(content);
+        verify(blobOutputStream).close();
+
+        ArgumentCaptor<BlockBlobOutputStreamOptions> optionsCaptor =
+            ArgumentCaptor.forClass(BlockBlobOutputStreamOptions.class);
+        verify(blockBlobClient).getBlobOutputStream(optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().getHeaders().getContentType()).isEqualTo("text/csv");
+    }
+
+    @Test
+    void uploadStreamShouldNotCommitWhenWriterFails() throws IOException {
+        when(blobClient.getBlockBlobClient()).thenReturn(blockBlobClient);
+        when(blockBlobClient.getBlobOutputStream(any(BlockBlobOutputStreamOptions.class)))
+            .thenReturn(blobOutputStream);
+
+        assertThrows(IOException.class, () ->
+            azureBlobService.uploadStream(IMAGE_ID, "text/csv", outputStream -> {
+                throw new IOException("Write failure");
+            })
+        );
+
+        verify(blobOutputStream, never()).close();
+        verify(blobClient, never()).getBlobUrl();
+    }
 }
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetailsDocument;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourtDetailsDocumentServiceTest {
+
+    private static final UUID LOCATION_ID = UUID.randomUUID();
+    private static final ZonedDateTime LAST_UPDATED_AT =
+        ZonedDateTime.of(2025, 6, 1, 10, 30, 0, 0, ZoneId.of("Europe/London"));
+    private static final LocalDateTime LAST_UPDATED_AT_UTC = LocalDateTime.of(2025, 6, 1, 9, 30);
+
+    @Mock
+    private CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+
+    @Mock
+    private CourtDetailsDocumentWriter courtDetailsDocumentWriter;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    private CourtDetailsDocumentService courtDetailsDocumentService;
+
+    @BeforeEach
+    void setup() {
+        courtDetailsDocumentService = new CourtDetailsDocumentService(
+            courtDetailsDocumentRepository, courtDetailsDocumentWriter, referenceDataRegistry,
+            JsonMapper.builder().build()
+        );
+    }
+
+    @Test
+    void getCourtDetailsDocumentReturnsStoredDocumentWithoutLoading() {
+        byte[] stored = "{\"name\":\"Stored Court\"}".getBytes(StandardCharsets.UTF_8);
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(2));
+        when(courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT))
+            .thenReturn(Optional.of(document(stored, 2)));
+        @SuppressWarnings("unchecked")
+        Supplier<CourtDetails> loader = mock(Supplier.class);
+
+        byte[] result = courtDetailsDocumentService.getCourtDetailsDocument(version(), loader);
+
+        assertThat(result).isSameAs(stored);
+        verifyNoInteractions(loader, courtDetailsDocumentWriter);
+    }
+
+    @Test
+    void getCourtDetailsDocumentBuildsAndQueuesDocumentWhenMissing() {
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(2));
+        when(courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT))
+            .thenReturn(Optional.empty());
+
+        byte[] result = courtDetailsDocumentService.getCourtDetailsDocument(version(), () -> court("Test Court"));
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"name\":\"Test Court\"");
+        verify(courtDetailsDocumentWriter).store(LOCATION_ID, SubjectType.COURT, LAST_UPDATED_AT_UTC, 2, result);
+    }
+
+    @Test
+    void getCourtDetailsDocumentRebuildsDocumentFromOlderReferenceData() {
+        byte[] stored = "{\"name\":\"Stored Court\"}".getBytes(StandardCharsets.UTF_8);
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(2));
+        when(courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT))
+            .thenReturn(Optional.of(document(stored, 1)));
+
+        byte[] result = courtDetailsDocumentService.getCourtDetailsDocument(version(), () -> court("Test Court"));
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"name\":\"Test Court\"");
+        verify(courtDetailsDocumentWriter).store(LOCATION_ID, SubjectType.COURT, LAST_UPDATED_AT_UTC, 2, result);
+    }
+
+    @Test
+    void getCourtDetailsDocumentReloadsReferenceDataOlderThanTheStoredDocument() {
+        byte[] stored = "{\"name\":\"Stored Court\"}".getBytes(StandardCharsets.UTF_8);
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(2));
+        when(referenceDataRegistry.reloadIfOlderThan(3)).thenReturn(snapshot(3));
+        when(courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT))
+            .thenReturn(Optional.of(document(stored, 3)));
+
+        byte[] result = courtDetailsDocumentService.getCourtDetailsDocument(version(), () -> court("Test Court"));
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"name\":\"Test Court\"");
+        verify(courtDetailsDocumentWriter).store(LOCATION_ID, SubjectType.COURT, LAST_UPDATED_AT_UTC, 3, result);
+    }
+
+    @Test
+    void getServiceCentreDetailsDocumentStoresAgainstServiceCentreType() {
+        ServiceCentreDetails serviceCentreDetails = ServiceCentreDetails.builder()
+            .id(LOCATION_ID)
+            .name("Test Service Centre")
+            .build();
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(2));
+        when(courtDetailsDocumentRepository.findByLocationIdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT))
+            .thenReturn(Optional.empty());
+
+        byte[] result =
+            courtDetailsDocumentService.getServiceCentreDetailsDocument(version(), () -> serviceCentreDetails);
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"name\":\"Test Service Centre\"");
+        verify(courtDetailsDocumentWriter)
+            .store(eq(LOCATION_ID), eq(SubjectType.SERVICE_CENTRE), any(), anyLong(), any());
+    }
+
+    @Test
+    void getCourtDetailsDocumentSkipsStoreWhenVersionUnknown() {
+        byte[] result = courtDetailsDocumentService.getCourtDetailsDocument(null, () -> court("Test Court"));
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"name\":\"Test Court\"");
+        verifyNoInteractions(courtDetailsDocumentRepository, courtDetailsDocumentWriter, referenceDataRegistry);
+    }
+
+    private static IdAndLastUpdatedAt version() {
+        return new IdAndLastUpdatedAt(LOCATION_ID, LAST_UPDATED_AT);
+    }
+
+    private static CourtDetails court(String name) {
+        CourtDetails courtDetails = new CourtDetails();
+        courtDetails.setName(name);
+        return courtDetails;
+    }
+
+    private static CourtDetailsDocument document(byte[] document, long referenceDataVersion) {
+        return CourtDetailsDocument.builder()
+            .locationId(LOCATION_ID)
+            .referenceDataVersion(referenceDataVersion)
+            .document(document)
+            .build();
+    }
+
+    private static ReferenceDataRegistry.Snapshot snapshot(long version) {
+        return new ReferenceDataRegistry.Snapshot(
+            version, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsDocumentRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CourtDetailsDocumentWriterTest {
+
+    private static final UUID LOCATION_ID = UUID.randomUUID();
+    private static final LocalDateTime LAST_UPDATED_AT = LocalDateTime.of(2025, 6, 1, 9, 30);
+    private static final byte[] DOCUMENT = {1, 2, 3};
+
+    @Mock
+    private CourtDetailsDocumentRepository courtDetailsDocumentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CourtDetailsDocumentWriter courtDetailsDocumentWriter;
+
+    @BeforeEach
+    void setup() {
+        courtDetailsDocumentWriter = new CourtDetailsDocumentWriter(courtDetailsDocumentRepository, transactionManager);
+    }
+
+    @Test
+    void storeUpsertsTheDocumentInTheBackground() throws Exception {
+        courtDetailsDocumentWriter.store(LOCATION_ID, SubjectType.COURT, LAST_UPDATED_AT, 2, DOCUMENT);
+        courtDetailsDocumentWriter.stop();
+
+        verify(courtDetailsDocumentRepository).upsertDocument(LOCATION_ID, "COURT", LAST_UPDATED_AT, 2, DOCUMENT);
+    }
+
+    @Test
+    void storeDoesNotFailWhenTheDocumentCannotBeStored() throws Exception {
+        doThrow(new IllegalStateException("database unavailable"))
+            .when(courtDetailsDocumentRepository).upsertDocument(any(), anyString(), any(), anyLong(), any());
+
+        assertThatCode(() -> courtDetailsDocumentWriter.store(
+            LOCATION_ID, SubjectType.COURT, LAST_UPDATED_AT, 2, DOCUMENT
+        )).doesNotThrowAnyException();
+        courtDetailsDocumentWriter.stop();
+
+        verify(courtDetailsDocumentRepository).upsertDocument(LOCATION_ID, "COURT", LAST_UPDATED_AT, 2, DOCUMENT);
+    }
+}
@@ -16,11 +16,14 @@ import uk.gov.hmcts.reform.fact.data.api.entities.CourtOpeningHours;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
 import uk.gov.hmcts.reform.fact.data.api.entities.OpeningHourType;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -222,4 +225,60 @@ class CourtDetailsViewServiceTest {
         assertThat(counterServiceOpeningHours.getCourtTypeDetails().get(1).getId()).isEqualTo(courtTypeId2);
         assertThat(counterServiceOpeningHours.getCourtTypeDetails().get(1).getName()).isNull();
     }
+
+    @Test
+    void prepareDetailsViewsResolvesTypesOnceAcrossAllCourts() {
+        UUID areaId = UUID.randomUUID();
+        UUID missingAreaId = UUID.randomUUID();
+        UUID courtTypeId = UUID.randomUUID();
+
+        CourtAddress address = new CourtAddress();
+        address.setAreasOfLaw(List.of(areaId, missingAreaId));
+        address.setCourtTypes(List.of(courtTypeId));
+        CourtDetails firstCourt = new CourtDetails();
+        firstCourt.setCourtAddresses(List.of(address));
+
+        CourtAreasOfLaw courtAreasOfLaw = new CourtAreasOfLaw();
+        courtAreasOfLaw.setAreasOfLaw(List.of(missingAreaId, areaId));
+        CourtCounterServiceOpeningHours counterServiceOpeningHours = new CourtCounterServiceOpeningHours();
+        counterServiceOpeningHours.setCourtTypes(List.of(courtTypeId));
+        CourtDetails secondCourt = new CourtDetails();
+        secondCourt.setCourtAreasOfLaw(List.of(courtAreasOfLaw));
+        secondCourt.setCourtCounterServiceOpeningHours(List.of(counterServiceOpeningHours));
+
+        AreaOfLawType areaOfLawType = new AreaOfLawType();
+        areaOfLawType.setId(areaId);
+        areaOfLawType.setName("Civil");
+        CourtType courtType = new CourtType();
+        courtType.setId(courtTypeId);
+        courtType.setName("Crown Court");
+
+        when(typesService.getAllAreasOfLawTypesByIds(List.of(areaId, missingAreaId)))
+            .thenReturn(List.of(areaOfLawType));
+        when(typesService.getAllCourtTypesByIds(List.of(courtTypeId)))
+            .thenReturn(List.of(courtType));
+
+        List<CourtDetails> result = courtDetailsViewService.prepareDetailsViews(
+            Arrays.asList(firstCourt, null, secondCourt)
+        );
+
+        assertThat(result).containsExactly(firstCourt, secondCourt);
+        assertThat(address.getAreasOfLawDetails().get(0)).isSameAs(areaOfLawType);
+        assertThat(courtAreasOfLaw.getAreasOfLawDetails().get(1)).isSameAs(areaOfLawType);
+        assertThat(courtAreasOfLaw.getAreasOfLawDetails().get(0))
+            .isSameAs(address.getAreasOfLawDetails().get(1))
+            .extracting(AreaOfLawType::getId)
+            .isEqualTo(missingAreaId);
+        assertThat(address.getCourtTypeDetails()).containsExactly(courtType);
+        assertThat(counterServiceOpeningHours.getCourtTypeDetails()).containsExactly(courtType);
+        verify(typesService, times(1)).getAllAreasOfLawTypesByIds(anyList());
+        verify(typesService, times(1)).getAllCourtTypesByIds(anyList());
+    }
+
+    @Test
+    void prepareDetailsViewsReturnsEmptyListForEmptyInput() {
+        assertThat(courtDetailsViewService.prepareDetailsViews(List.of())).isEmpty();
+        assertThat(courtDetailsViewService.prepareDetailsViews(null)).isEmpty();
+        verifyNoInteractions(typesService);
+    }
 }
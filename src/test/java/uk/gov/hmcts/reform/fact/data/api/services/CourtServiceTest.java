@@ -17,18 +17,18 @@ import uk.gov.hmcts.reform.fact.data.api.clients.SlackClient;
 import uk.gov.hmcts.reform.fact.data.api.entities.Court;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.Region;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
-import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtDetailsRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
 import feign.FeignException;
 import feign.Request;
 import feign.RequestTemplate;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -55,10 +55,7 @@ class CourtServiceTest {
     private CourtRepository courtRepository;
 
     @Mock
-    private AuditRepository auditRepository;
-
-    @Mock
-    private UserRepository userRepository;
+    private HousekeepingService housekeepingService;
 
     @Mock
     private CourtDetailsRepository courtDetailsRepository;
@@ -751,8 +748,9 @@ class CourtServiceTest {
 
         assertThat(deleted).isEqualTo(1);
         verify(courtRepository).findByNameStartingWithIgnoreCase("Example");
-        verify(userRepository).removeCourtFromAllFavourites(courtId);
+        verify(housekeepingService).removeCourtsFromFavourites(List.of(courtId));
         verify(courtRepository).deleteAllInBatch(courts);
+        verify(housekeepingService).deleteAuditsOfSubjects(List.of(courtId));
     }
 
     @Test
@@ -785,6 +783,30 @@ class CourtServiceTest {
         assertThat(exception.getMessage()).isEqualTo("Court not found, ID: " + courtId);
     }
 
+    @Test
+    void getCourtLastUpdatedAtByIdReturnsVersionWhenFound() {
+        UUID courtId = UUID.randomUUID();
+        IdAndLastUpdatedAt version = new IdAndLastUpdatedAt(courtId, ZonedDateTime.now());
+
+        when(courtRepository.findIdAndLastUpdatedAtById(courtId)).thenReturn(Optional.of(version));
+
+        assertThat(courtService.getCourtLastUpdatedAtById(courtId)).isEqualTo(version);
+    }
+
+    @Test
+    void getCourtLastUpdatedAtBySlugThrowsNotFoundExceptionWhenCourtDoesNotExist() {
+        String courtSlug = "missing-court";
+
+        when(courtRepository.findIdAndLastUpdatedAtBySlug(courtSlug)).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+            NotFoundException.class, () ->
+                courtService.getCourtLastUpdatedAtBySlug(courtSlug)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo("Court not found, slug: " + courtSlug);
+    }
+
     @Test
     void getCourtDetailsBySlugReturnsCourtDetailsWhenFound() {
         String courtSlug = "test-court";
@@ -836,6 +858,19 @@ class CourtServiceTest {
             .isEqualTo(courtDetailsList);
     }
 
+    @Test
+    void getCourtDetailsByIdsReturnsCourtsInRequestedOrderSkippingUnknownIds() {
+        CourtDetails first = new CourtDetails();
+        first.setId(UUID.randomUUID());
+        CourtDetails second = new CourtDetails();
+        second.setId(UUID.randomUUID());
+        List<UUID> ids = List.of(second.getId(), UUID.randomUUID(), first.getId());
+
+        when(courtDetailsRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+        assertThat(courtService.getCourtDetailsByIds(ids)).containsExactly(second, first);
+    }
+
     @Test
     void getAllCourtNameAndIdsReturnsRepositoryResults() {
         NameAndId first = new NameAndId("Court A", UUID.randomUUID());
@@ -859,4 +894,13 @@ class CourtServiceTest {
         assertThat(result).isEmpty();
         verify(courtRepository).findAllNameAndId();
     }
+
+    @Test
+    void getAllCourtLastUpdatedAtsReturnsRepositoryResults() {
+        List<IdAndLastUpdatedAt> expected = List.of(new IdAndLastUpdatedAt(UUID.randomUUID(), ZonedDateTime.now()));
+
+        when(courtRepository.findAllIdAndLastUpdatedAtByOrderByNameAsc()).thenReturn(expected);
+
+        assertThat(courtService.getAllCourtLastUpdatedAts()).isEqualTo(expected);
+    }
 }
@@ -1,26 +1,47 @@
 package uk.gov.hmcts.reform.fact.data.api.services;
 
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import uk.gov.hmcts.reform.fact.data.api.clients.SlackClient;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.AzureUploadException;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.CsvCreationException;
-import uk.gov.hmcts.reform.fact.data.api.models.StringMultipartFile;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.LocationCsvRow;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.LocationCsvRowVersion;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationCsvRowRepository;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +49,7 @@ import static org.mockito.Mockito.when;
 class CsvServiceTest {
 
     private static final String CSV_FILE_NAME = "courts-and-tribunals-data.csv";
+    private static final ZonedDateTime LAST_UPDATED_AT = ZonedDateTime.of(2025, 6, 1, 10, 0, 0, 0, ZoneOffset.UTC);
 
     @Mock
     private CourtService courtService;
@@ -45,34 +67,41 @@ class CsvServiceTest {
     private AzureBlobService azureBlobService;
 
     @Mock
-    private SlackClient slackClient;
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private LocationCsvRowRepository locationCsvRowRepository;
 
-    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SlackClient slackClient;
 
     @Test
-    void uploadCsvToAzureBlobShouldUseConfiguredContainerName() {
+    void uploadCsvToAzureBlobShouldUseConfiguredContainerName() throws Exception {
         CsvService csvService = buildService();
         List<String> actions = new ArrayList<>();
-        StringMultipartFile csvFile = new StringMultipartFile(CSV_FILE_NAME, CSV_FILE_NAME, "text/csv", "h1\nvalue");
+        AzureBlobService.BlobContentWriter csvWriter = outputStream -> outputStream.write(1);
 
-        csvService.uploadCsvToAzureBlob(actions, csvFile);
+        csvService.uploadCsvToAzureBlob(actions, csvWriter);
 
-        verify(azureBlobService).uploadFile(CSV_FILE_NAME, csvFile);
+        verify(azureBlobService).uploadStream(CSV_FILE_NAME, "text/csv", csvWriter);
         assertThat(actions).isEmpty();
     }
 
     @Test
-    void uploadCsvToAzureBlobShouldAppendActionAndThrowWhenUploadFails() {
+    void uploadCsvToAzureBlobShouldAppendActionAndThrowWhenUploadFails() throws Exception {
         CsvService csvService = buildService();
         List<String> actions = new ArrayList<>();
-        StringMultipartFile csvFile = new StringMultipartFile(CSV_FILE_NAME, CSV_FILE_NAME, "text/csv", "h1\nvalue");
+        AzureBlobService.BlobContentWriter csvWriter = outputStream -> outputStream.write(1);
 
-        doThrow(new RuntimeException("azure failure"))
+        doThrow(new IOException("azure failure"))
             .when(azureBlobService)
-            .uploadFile(CSV_FILE_NAME, csvFile);
+            .uploadStream(CSV_FILE_NAME, "text/csv", csvWriter);
 
         AzureUploadException exception = assertThrows(AzureUploadException.class, () ->
-            csvService.uploadCsvToAzureBlob(actions, csvFile)
+            csvService.uploadCsvToAzureBlob(actions, csvWriter)
         );
 
         assertThat(exception.getMessage()).isEqualTo("Failed to upload CSV file to Azure Blob Storage");
@@ -80,37 +109,134 @@ class CsvServiceTest {
     }
 
     @Test
-    void createAndUploadCsvShouldCreateAndUploadWithoutSlackMessageOnSuccess() {
+    void createAndUploadCsvShouldCreateAndUploadWithoutSlackMessageOnSuccess() throws Exception {
         CsvService csvService = buildService();
-        when(courtService.getAllCourtDetails()).thenReturn(Collections.emptyList());
-        when(serviceCentreService.getAllServiceCentreDetails()).thenReturn(Collections.emptyList());
+        ByteArrayOutputStream uploaded = streamUploadsTo();
+        when(courtService.getAllCourtLastUpdatedAts()).thenReturn(Collections.emptyList());
+        when(serviceCentreService.getAllServiceCentreLastUpdatedAts()).thenReturn(Collections.emptyList());
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(1));
 
         csvService.createAndUploadCsv();
 
-        verify(azureBlobService)
-            .uploadFile(org.mockito.ArgumentMatchers.eq(CSV_FILE_NAME), any(StringMultipartFile.class));
+        verify(azureBlobService).uploadStream(eq(CSV_FILE_NAME), eq("text/csv"), any());
+        assertThat(uploaded.toString(StandardCharsets.UTF_8)).startsWith("name,lat,lon");
         verify(slackClient, never()).sendSlackMessage(any());
     }
 
     @Test
-    void createAndUploadCsvShouldSendSlackMessageAndThrowWhenCsvCreationFails() {
+    void createAndUploadCsvShouldLoadLocationsInChunksAndWriteThemInNameOrder() throws Exception {
+        CsvService csvService = buildService();
+        ByteArrayOutputStream uploaded = streamUploadsTo();
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(1));
+        Map<UUID, CourtDetails> courts = stubCourts(IntStream.range(0, 101)
+            .mapToObj(i -> court(String.format("Court %03d", i)))
+            .toList());
+        ServiceCentreDetails serviceCentre = ServiceCentreDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Service Centre")
+            .lastUpdatedAt(LAST_UPDATED_AT)
+            .build();
+        when(serviceCentreService.getAllServiceCentreLastUpdatedAts())
+            .thenReturn(List.of(new IdAndLastUpdatedAt(serviceCentre.getId(), LAST_UPDATED_AT)));
+        when(serviceCentreService.getServiceCentreDetailsByIds(any())).thenReturn(List.of(serviceCentre));
+        when(serviceCentreDetailsViewService.prepareDetailsViews(any())).thenReturn(List.of(serviceCentre));
+
+        csvService.createAndUploadCsv();
+
+        ArgumentCaptor<List<UUID>> chunks = ArgumentCaptor.captor();
+        verify(courtService, times(2)).getCourtDetailsByIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(100, 1);
+
+        List<String> lines = uploaded.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(courts).hasSize(101);
+        assertThat(lines).hasSize(103);
+        for (int i = 0; i < 101; i++) {
+            assertThat(lines.get(i + 1)).contains(String.format("Court %03d", i));
+        }
+        assertThat(lines.get(102)).contains("Service Centre");
+    }
+
+    @Test
+    void createAndUploadCsvShouldOnlyRenderLocationsChangedSincePreviousRun() throws Exception {
+        ByteArrayOutputStream uploaded = streamUploadsTo();
+        CourtDetails first = court("Court A");
+        CourtDetails second = court("Court B");
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(1));
+        Map<UUID, CourtDetails> courts = stubCourts(List.of(first, second));
+        buildService().createAndUploadCsv();
+        String previousCsv = uploaded.toString(StandardCharsets.UTF_8);
+        uploaded.reset();
+
+        // A new instance, as the next export may run on any replica.
+        CsvService csvService = buildService();
+
+        CourtDetails renamed = court("Court B (renamed)");
+        renamed.setId(second.getId());
+        renamed.setLastUpdatedAt(LAST_UPDATED_AT.plusMinutes(5));
+        courts.put(renamed.getId(), renamed);
+        csvService.createAndUploadCsv();
+
+        verify(courtService).getCourtDetailsByIds(List.of(first.getId(), second.getId()));
+        verify(courtService).getCourtDetailsByIds(List.of(second.getId()));
+        String csv = uploaded.toString(StandardCharsets.UTF_8);
+        assertThat(csv.lines()).hasSize(3);
+        assertThat(csv.lines().skip(1).toList().getFirst()).isEqualTo(previousCsv.lines().skip(1).toList().getFirst());
+        assertThat(csv.lines().toList().getLast()).contains("Court B (renamed)");
+    }
+
+    @Test
+    void createAndUploadCsvShouldRenderEveryLocationAgainWhenReferenceDataIsReloaded() throws Exception {
+        CsvService csvService = buildService();
+        streamUploadsTo();
+        CourtDetails court = court("Court A");
+        stubCourts(List.of(court));
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(1), snapshot(2));
+
+        csvService.createAndUploadCsv();
+        csvService.createAndUploadCsv();
+
+        verify(courtService, times(2)).getCourtDetailsByIds(List.of(court.getId()));
+    }
+
+    @Test
+    void createAndUploadCsvShouldDropRowsOfDeletedLocations() throws Exception {
+        CsvService csvService = buildService();
+        ByteArrayOutputStream uploaded = streamUploadsTo();
+        CourtDetails first = court("Court A");
+        CourtDetails second = court("Court B");
+        when(referenceDataRegistry.getSnapshot()).thenReturn(snapshot(1));
+        Map<UUID, CourtDetails> courts = stubCourts(List.of(first, second));
+        csvService.createAndUploadCsv();
+        uploaded.reset();
+
+        courts.remove(second.getId());
+        csvService.createAndUploadCsv();
+
+        String csv = uploaded.toString(StandardCharsets.UTF_8);
+        assertThat(csv.lines()).hasSize(2);
+        assertThat(csv).contains("Court A").doesNotContain("Court B");
+    }
+
+    @Test
+    void createAndUploadCsvShouldSendSlackMessageAndThrowWhenCsvCreationFails() throws Exception {
         CsvService csvService = buildService();
-        when(courtService.getAllCourtDetails()).thenThrow(new RuntimeException("court failure"));
+        streamUploadsTo();
+        when(courtService.getAllCourtLastUpdatedAts()).thenThrow(new RuntimeException("court failure"));
 
         CsvCreationException exception = assertThrows(CsvCreationException.class, csvService::createAndUploadCsv);
 
         assertThat(exception.getMessage()).isEqualTo("Failed to create CSV file");
         verify(slackClient).sendSlackMessage(contains("Failed to create CSV file. Check App insights."));
+        verify(slackClient, never())
+            .sendSlackMessage(contains("Failed to upload CSV file to Azure Blob Storage. Check App insights."));
     }
 
     @Test
-    void createAndUploadCsvShouldSendSlackMessageAndThrowWhenUploadFails() {
+    void createAndUploadCsvShouldSendSlackMessageAndThrowWhenUploadFails() throws Exception {
         CsvService csvService = buildService();
-        when(courtService.getAllCourtDetails()).thenReturn(Collections.emptyList());
-        when(serviceCentreService.getAllServiceCentreDetails()).thenReturn(Collections.emptyList());
         doThrow(new RuntimeException("azure failure"))
             .when(azureBlobService)
-            .uploadFile(org.mockito.ArgumentMatchers.eq(CSV_FILE_NAME), any(StringMultipartFile.class));
+            .uploadStream(eq(CSV_FILE_NAME), eq("text/csv"), any());
 
         AzureUploadException exception = assertThrows(AzureUploadException.class, csvService::createAndUploadCsv);
 
@@ -119,6 +245,70 @@ class CsvServiceTest {
             .sendSlackMessage(contains("Failed to upload CSV file to Azure Blob Storage. Check App insights."));
     }
 
+    /**
+     * Stub the court lookups from a mutable map, so tests can change or remove courts between runs.
+     */
+    private Map<UUID, CourtDetails> stubCourts(List<CourtDetails> initialCourts) {
+        Map<UUID, CourtDetails> courts = new LinkedHashMap<>();
+        initialCourts.forEach(court -> courts.put(court.getId(), court));
+        when(courtService.getAllCourtLastUpdatedAts()).thenAnswer(invocation -> courts.values().stream()
+            .map(court -> new IdAndLastUpdatedAt(court.getId(), court.getLastUpdatedAt()))
+            .toList());
+        when(courtService.getCourtDetailsByIds(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(courts::get).toList();
+        });
+        when(courtDetailsViewService.prepareDetailsViews(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        stubStoredRows();
+        return courts;
+    }
+
+    /**
+     * Back the stored CSV rows with a map, as the table would be.
+     */
+    private void stubStoredRows() {
+        Map<UUID, LocationCsvRow> rows = new LinkedHashMap<>();
+        when(locationCsvRowRepository.findAllVersionsBy()).thenAnswer(invocation -> rows.values().stream()
+            .map(row -> new LocationCsvRowVersion(
+                row.getLocationId(), row.getLastUpdatedAt(), row.getReferenceDataVersion()
+            ))
+            .toList());
+        doAnswer(invocation -> {
+            LocalDateTime lastUpdatedAt = invocation.getArgument(1);
+            rows.put(invocation.getArgument(0), LocationCsvRow.builder()
+                .locationId(invocation.getArgument(0))
+                .lastUpdatedAt(lastUpdatedAt.atZone(ZoneOffset.UTC))
+                .referenceDataVersion(invocation.getArgument(2))
+                .csvRow(invocation.getArgument(3))
+                .build());
+            return null;
+        }).when(locationCsvRowRepository).upsertRow(any(), any(), anyLong(), anyString());
+        when(locationCsvRowRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private static CourtDetails court(String name) {
+        return CourtDetails.builder().id(UUID.randomUUID()).name(name).lastUpdatedAt(LAST_UPDATED_AT).build();
+    }
+
+    private static ReferenceDataRegistry.Snapshot snapshot(long version) {
+        return new ReferenceDataRegistry.Snapshot(
+            version, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), List.of()
+        );
+    }
+
+    private ByteArrayOutputStream streamUploadsTo() throws Exception {
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        when(azureBlobService.uploadStream(eq(CSV_FILE_NAME), eq("text/csv"), any())).thenAnswer(invocation -> {
+            AzureBlobService.BlobContentWriter csvWriter = invocation.getArgument(2);
+            csvWriter.write(uploaded);
+            return "http://example.com/blob";
+        });
+        return uploaded;
+    }
+
     private CsvService buildService() {
         return new CsvService(
             courtService,
@@ -126,7 +316,9 @@ class CsvServiceTest {
             serviceCentreService,
             serviceCentreDetailsViewService,
             azureBlobService,
-            objectMapper,
+            referenceDataRegistry,
+            locationCsvRowRepository,
+            transactionManager,
             slackClient
         );
     }
@@ -0,0 +1,163 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationChangesRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HousekeepingServiceTest {
+
+    private static final ZonedDateTime CUTOFF = ZonedDateTime.of(2025, 1, 1, 1, 0, 0, 0, ZoneId.of("Europe/Paris"));
+    private static final LocalDateTime UTC_CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LockRepository lockRepository;
+
+    @Mock
+    private LocationChangesRepository locationChangesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HousekeepingService housekeepingService;
+
+    @BeforeEach
+    void setUp() {
+        housekeepingService = new HousekeepingService(auditRepository, userRepository, lockRepository,
+                                                      locationChangesRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void deleteAuditsCreatedBeforeRepeatsFullBatchesUntilOneIsShort() {
+        when(auditRepository.deleteBatchCreatedBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE))
+            .thenReturn(HousekeepingService.BATCH_SIZE, HousekeepingService.BATCH_SIZE, 5);
+
+        int deleted = housekeepingService.deleteAuditsCreatedBefore(CUTOFF);
+
+        assertThat(deleted).isEqualTo(2 * HousekeepingService.BATCH_SIZE + 5);
+        verify(auditRepository, times(3)).deleteBatchCreatedBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE);
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(rows(HousekeepingService.EXPIRED_AUDITS)).isEqualTo(2 * HousekeepingService.BATCH_SIZE + 5);
+        assertThat(timerCount(HousekeepingService.EXPIRED_AUDITS)).isEqualTo(1);
+    }
+
+    @Test
+    void deleteUsersLastLoggedInBeforeStopsAfterAnEmptyBatch() {
+        when(userRepository.deleteBatchByLastLoginBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE)).thenReturn(0);
+
+        assertThat(housekeepingService.deleteUsersLastLoggedInBefore(CUTOFF)).isZero();
+
+        verify(userRepository).deleteBatchByLastLoginBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE);
+        assertThat(rows(HousekeepingService.INACTIVE_USERS)).isZero();
+        assertThat(timerCount(HousekeepingService.INACTIVE_USERS)).isEqualTo(1);
+    }
+
+    @Test
+    void deleteTombstonesBeforeDeletesInBatches() {
+        when(locationChangesRepository.deleteBatchOfTombstonesBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE))
+            .thenReturn(HousekeepingService.BATCH_SIZE, 2);
+
+        assertThat(housekeepingService.deleteTombstonesBefore(CUTOFF)).isEqualTo(HousekeepingService.BATCH_SIZE + 2);
+
+        verify(locationChangesRepository, times(2))
+            .deleteBatchOfTombstonesBefore(UTC_CUTOFF, HousekeepingService.BATCH_SIZE);
+        assertThat(rows(HousekeepingService.EXPIRED_TOMBSTONES)).isEqualTo(HousekeepingService.BATCH_SIZE + 2);
+    }
+
+    @Test
+    void deleteAuditsOfSubjectsSplitsDistinctIdsIntoChunks() {
+        List<UUID> ids = IntStream.range(0, HousekeepingService.BATCH_SIZE + 1)
+            .mapToObj(i -> UUID.randomUUID())
+            .toList();
+        List<UUID> withDuplicate = new ArrayList<>(ids);
+        withDuplicate.add(ids.getFirst());
+        List<List<UUID>> chunks = new ArrayList<>();
+        when(auditRepository.deleteAllBySubjectIdIn(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            chunks.add(List.copyOf(chunk));
+            return chunk.size() * 2;
+        });
+
+        int deleted = housekeepingService.deleteAuditsOfSubjects(withDuplicate);
+
+        assertThat(deleted).isEqualTo(2 * (HousekeepingService.BATCH_SIZE + 1));
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.getFirst()).hasSize(HousekeepingService.BATCH_SIZE);
+        assertThat(chunks.get(1)).containsExactly(ids.getLast());
+        assertThat(rows(HousekeepingService.SUBJECT_AUDITS)).isEqualTo(2 * (HousekeepingService.BATCH_SIZE + 1));
+    }
+
+    @Test
+    void removeFromFavouritesUsesOneStatementForAllIds() {
+        List<UUID> courtIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> serviceCentreIds = List.of(UUID.randomUUID());
+        when(userRepository.removeCourtsFromAllFavourites(courtIds)).thenReturn(3);
+        when(userRepository.removeServiceCentresFromAllFavourites(serviceCentreIds)).thenReturn(1);
+
+        assertThat(housekeepingService.removeCourtsFromFavourites(courtIds)).isEqualTo(3);
+        assertThat(housekeepingService.removeServiceCentresFromFavourites(serviceCentreIds)).isEqualTo(1);
+
+        assertThat(rows(HousekeepingService.FAVOURITE_COURTS)).isEqualTo(3);
+        assertThat(rows(HousekeepingService.FAVOURITE_SERVICE_CENTRES)).isEqualTo(1);
+    }
+
+    @Test
+    void deleteLocksAcquiredBeforeUsesOneStatementAndCountsTheLocks() {
+        when(lockRepository.deleteExpiredLocks(UTC_CUTOFF)).thenReturn(4);
+
+        assertThat(housekeepingService.deleteLocksAcquiredBefore(CUTOFF)).isEqualTo(4);
+
+        verify(transactionManager).commit(any());
+        assertThat(rows(HousekeepingService.EXPIRED_LOCKS)).isEqualTo(4);
+        assertThat(timerCount(HousekeepingService.EXPIRED_LOCKS)).isEqualTo(1);
+    }
+
+    @Test
+    void noIdsRunNoStatements() {
+        assertThat(housekeepingService.deleteAuditsOfSubjects(List.of())).isZero();
+
+        verify(auditRepository, never()).deleteAllBySubjectIdIn(anyList());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private double rows(String operation) {
+        return meterRegistry.get(HousekeepingService.ROWS_METRIC).tag("operation", operation).counter().count();
+    }
+
+    private long timerCount(String operation) {
+        return meterRegistry.get(HousekeepingService.DELETE_METRIC).tag("operation", operation).timer().count();
+    }
+}
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChange;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChangeRow;
+import uk.gov.hmcts.reform.fact.data.api.dto.LocationChanges;
+import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.InvalidParameterCombinationException;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocationChangesRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.LocationChangesService.Cursor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationChangesServiceTest {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 3, 4, 5, 6, 7, 123_456_000);
+
+    @Mock
+    private LocationChangesRepository locationChangesRepository;
+
+    @Mock
+    private HousekeepingService housekeepingService;
+
+    @InjectMocks
+    private LocationChangesService locationChangesService;
+
+    @Test
+    void getChangesSinceStartsFromBeginningWhenSinceMissing() {
+        when(locationChangesRepository.findChangesAfter(BEGINNING, 0L, MIN_ID, 11)).thenReturn(List.of());
+
+        LocationChanges result = locationChangesService.getChangesSince(null, 10);
+
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.getHasMore()).isFalse();
+        assertThat(Cursor.parse(result.getNextCursor())).isEqualTo(new Cursor(BEGINNING, 0L, MIN_ID));
+    }
+
+    @Test
+    void getChangesSinceReadsTimestampAsUtc() {
+        locationChangesService.getChangesSince("2025-01-01T12:00:00+01:00", 10);
+
+        verify(locationChangesRepository).findChangesAfter(LocalDateTime.of(2025, 1, 1, 11, 0), 0L, MIN_ID, 11);
+    }
+
+    @Test
+    void getChangesSinceReturnsPageAndCursorAfterLastChange() {
+        UUID courtId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        UUID extraId = UUID.randomUUID();
+        when(locationChangesRepository.findChangesAfter(BEGINNING, 0L, MIN_ID, 3)).thenReturn(List.of(
+            row(courtId, "COURT", "Test Court", false, CHANGED_AT, 100L),
+            row(deletedId, "SERVICE_CENTRE", null, true, CHANGED_AT.minusSeconds(1), 101L),
+            row(extraId, "COURT", "Other Court", false, CHANGED_AT.plusSeconds(2), 102L)
+        ));
+
+        LocationChanges result = locationChangesService.getChangesSince(null, 2);
+
+        assertThat(result.getHasMore()).isTrue();
+        assertThat(result.getChanges())
+            .extracting(LocationChange::getId, LocationChange::getDeleted)
+            .containsExactly(
+                tuple(courtId, false),
+                tuple(deletedId, true)
+            );
+        assertThat(result.getChanges().getFirst().getChangedAt()).isEqualTo(CHANGED_AT.atZone(ZoneOffset.UTC));
+        assertThat(Cursor.parse(result.getNextCursor())).isEqualTo(new Cursor(BEGINNING, 101L, deletedId));
+    }
+
+    @Test
+    void getChangesSinceKeepsTheStartTimeInTheCursor() {
+        UUID courtId = UUID.randomUUID();
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 11, 0);
+        when(locationChangesRepository.findChangesAfter(since, 0L, MIN_ID, 11))
+            .thenReturn(List.of(row(courtId, "COURT", "Test Court", false, CHANGED_AT, 100L)));
+
+        LocationChanges result = locationChangesService.getChangesSince("2025-01-01T11:00:00Z", 10);
+
+        assertThat(Cursor.parse(result.getNextCursor())).isEqualTo(new Cursor(since, 100L, courtId));
+    }
+
+    @Test
+    void getChangesSinceResumesFromCursor() {
+        UUID lastSeenId = UUID.randomUUID();
+        String cursor = new Cursor(BEGINNING, 42L, lastSeenId).encode();
+        when(locationChangesRepository.findChangesAfter(BEGINNING, 42L, lastSeenId, 6)).thenReturn(List.of());
+
+        LocationChanges result = locationChangesService.getChangesSince(cursor, 5);
+
+        assertThat(result.getNextCursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    void getChangesSinceRejectsInvalidSince() {
+        assertThatThrownBy(() -> locationChangesService.getChangesSince("not-a-cursor", 10))
+            .isInstanceOf(InvalidParameterCombinationException.class)
+            .hasMessageContaining("since must be an ISO-8601 timestamp");
+        assertThatThrownBy(() -> locationChangesService.getChangesSince("2025-13-01T00:00:00Z", 10))
+            .isInstanceOf(InvalidParameterCombinationException.class);
+    }
+
+    @Test
+    void deleteExpiredTombstonesDeletesTombstonesOlderThanTheRetentionPeriod() {
+        ReflectionTestUtils.setField(locationChangesService, "tombstoneRetentionDays", 90L);
+        when(housekeepingService.deleteTombstonesBefore(any())).thenReturn(4);
+
+        assertThat(locationChangesService.deleteExpiredTombstones()).isEqualTo(4);
+
+        ArgumentCaptor<ZonedDateTime> cutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(housekeepingService).deleteTombstonesBefore(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(
+            ZonedDateTime.now(ZoneOffset.UTC).minusDays(90).minusMinutes(1),
+            ZonedDateTime.now(ZoneOffset.UTC).minusDays(90)
+        );
+    }
+
+    private static LocationChangeRow row(UUID id, String locationType, String name, boolean deleted,
+                                         LocalDateTime changedAt, long changeXid) {
+        return new LocationChangeRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getLocationType() {
+                return locationType;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getSlug() {
+                return null;
+            }
+
+            @Override
+            public Boolean getDeleted() {
+                return deleted;
+            }
+
+            @Override
+            public LocalDateTime getChangedAt() {
+                return changedAt;
+            }
+
+            @Override
+            public Long getChangeXid() {
+                return changeXid;
+            }
+        };
+    }
+}
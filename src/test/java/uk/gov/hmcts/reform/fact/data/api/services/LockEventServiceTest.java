@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.dto.LockEvent;
+import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockEventServiceTest {
+
+    private static final UUID COURT_ID = UUID.randomUUID();
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+
+    private LockEventService lockEventService;
+
+    @BeforeEach
+    void setUp() {
+        lockEventService = new LockEventService(sender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockEventService.stop();
+    }
+
+    @Test
+    void subscribeFollowsTheSubjectUntilTheStreamEnds() throws Exception {
+        SseEmitter emitter = lockEventService.subscribe(SubjectType.COURT, COURT_ID, List::of);
+
+        lockEventService.onLockEvent(event(COURT_ID));
+        awaitSent();
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isEqualTo(1);
+
+        emitter.complete();
+        lockEventService.onLockEvent(event(COURT_ID));
+        awaitSent();
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isZero();
+    }
+
+    @Test
+    void subscribeDoesNotFollowASubjectWhoseLocksCannotBeRead() {
+        assertThatThrownBy(() -> lockEventService.subscribe(SubjectType.COURT, COURT_ID, () -> {
+            throw new NotFoundException("Court not found");
+        })).isInstanceOf(NotFoundException.class);
+
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isZero();
+    }
+
+    @Test
+    void eventsForOtherSubjectsAreNotSent() throws Exception {
+        SseEmitter emitter = lockEventService.subscribe(SubjectType.COURT, COURT_ID, () -> List.of(new Lock()));
+        emitter.complete();
+
+        lockEventService.onLockEvent(event(UUID.randomUUID()));
+        awaitSent();
+
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void listenerConnectingResendsTheActiveLocks() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        lockEventService.subscribe(SubjectType.COURT, COURT_ID, () -> {
+            reads.incrementAndGet();
+            return List.of();
+        });
+
+        lockEventService.onLockListenerConnected(new LockListenerConnectedEvent());
+        awaitSent();
+
+        assertThat(reads).hasValue(2);
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void listenerConnectingEndsStreamsWhoseLocksCannotBeRead() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        lockEventService.subscribe(SubjectType.COURT, COURT_ID, () -> {
+            if (reads.incrementAndGet() > 1) {
+                throw new NotFoundException("Court not found");
+            }
+            return List.of();
+        });
+
+        lockEventService.onLockListenerConnected(new LockListenerConnectedEvent());
+        awaitSent();
+
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isZero();
+    }
+
+    @Test
+    void stopEndsEveryStreamAndIgnoresLaterEvents() {
+        lockEventService.subscribe(SubjectType.COURT, COURT_ID, List::of);
+
+        lockEventService.stop();
+        lockEventService.onLockEvent(event(COURT_ID));
+
+        assertThat(lockEventService.subscribers(SubjectType.COURT, COURT_ID)).isZero();
+        assertThat(sender.isShutdown()).isTrue();
+    }
+
+    private void awaitSent() throws Exception {
+        sender.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static LockEvent event(UUID subjectId) {
+        return new LockEvent(SubjectType.COURT, subjectId, Page.GENERAL, LockEvent.Type.ACQUIRED, UUID.randomUUID());
+    }
+}
@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import uk.gov.hmcts.reform.fact.data.api.dto.LockEvent;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.SubjectType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository.LockHolder;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LockRegistryTest {
+
+    private static final UUID COURT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LockHolder HOLDER = new LockHolder(USER_ID, ZonedDateTime.now(ZoneOffset.UTC));
+    private static final String RELEASED = "COURT:" + COURT_ID + ":GENERAL:RELEASED:" + USER_ID;
+
+    @Mock
+    private LockRepository lockRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LockRegistry lockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        lockRegistry = new LockRegistry(lockRepository, eventPublisher, dataSource);
+    }
+
+    @Test
+    void getHolderReadsTheDatabaseEveryTimeWhenNotListening() {
+        stubHolder(Optional.of(HOLDER));
+
+        assertThat(getHolder()).contains(HOLDER);
+        assertThat(getHolder()).contains(HOLDER);
+
+        verify(lockRepository, times(2))
+            .findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    @Test
+    void getHolderKeepsWhatItReadsWhileListening() {
+        lockRegistry.listenerStarted();
+        stubHolder(Optional.empty());
+
+        assertThat(getHolder()).isEmpty();
+        assertThat(getHolder()).isEmpty();
+
+        verify(lockRepository).findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    @Test
+    void announcedChangeDropsTheEntry() {
+        lockRegistry.listenerStarted();
+        stubHolder(Optional.empty());
+        getHolder();
+
+        lockRegistry.onLockChange(RELEASED);
+        getHolder();
+
+        verify(lockRepository, times(2))
+            .findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    @Test
+    void announcedChangeIsPublishedAsALockEvent() {
+        lockRegistry.onLockChange(RELEASED);
+
+        verify(eventPublisher).publishEvent(
+            new LockEvent(SubjectType.COURT, COURT_ID, Page.GENERAL, LockEvent.Type.RELEASED, USER_ID)
+        );
+    }
+
+    @Test
+    void listenerStartingIsPublished() {
+        lockRegistry.listenerStarted();
+
+        verify(eventPublisher).publishEvent(new LockListenerConnectedEvent());
+    }
+
+    @Test
+    void announcementNotSayingWhatHappenedPublishesNothing() {
+        lockRegistry.onLockChange("COURT:" + COURT_ID + ":GENERAL");
+        lockRegistry.onLockChange("*");
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void announcementNotNamingALockDropsEveryEntry() {
+        lockRegistry.listenerStarted();
+        stubHolder(Optional.empty());
+        getHolder();
+
+        lockRegistry.onLockChange("*");
+        getHolder();
+
+        verify(lockRepository, times(2))
+            .findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    @Test
+    void changeAnnouncedWhileLoadingIsNotKept() {
+        lockRegistry.listenerStarted();
+        when(lockRepository.findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL))
+            .thenAnswer(invocation -> {
+                lockRegistry.onLockChange(RELEASED);
+                return Optional.empty();
+            })
+            .thenReturn(Optional.of(HOLDER));
+
+        assertThat(getHolder()).isEmpty();
+        assertThat(getHolder()).contains(HOLDER);
+    }
+
+    @Test
+    void losingTheListenerDropsEveryEntryAndStopsKeepingThem() {
+        lockRegistry.listenerStarted();
+        stubHolder(Optional.empty());
+        getHolder();
+
+        lockRegistry.listenerLost();
+        getHolder();
+        getHolder();
+
+        assertThat(lockRegistry.isListening()).isFalse();
+        verify(lockRepository, times(3))
+            .findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    private Optional<LockHolder> getHolder() {
+        return lockRegistry.getHolder(SubjectType.COURT, COURT_ID, Page.GENERAL);
+    }
+
+    private void stubHolder(Optional<LockHolder> holder) {
+        when(lockRepository.findHolderBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, COURT_ID, Page.GENERAL))
+            .thenReturn(holder);
+    }
+}
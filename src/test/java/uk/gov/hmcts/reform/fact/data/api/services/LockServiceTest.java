@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.fact.data.api.services;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +20,7 @@ import uk.gov.hmcts.reform.fact.data.api.entities.Lock;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.Page;
 import uk.gov.hmcts.reform.fact.data.api.repositories.LockRepository;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +51,9 @@ class LockServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private HousekeepingService housekeepingService;
+
     @InjectMocks
     private LockService lockService;
 
@@ -135,6 +141,28 @@ class LockServiceTest {
         verify(lockRepository).findBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, courtId, page);
     }
 
+    @Test
+    void getPageLockShouldIgnoreAnExpiredLock() {
+        Page page = Page.GENERAL;
+        lock.setLockAcquired(ZonedDateTime.now().minusMinutes(31));
+        when(courtService.getCourtById(courtId)).thenReturn(court);
+        when(lockRepository.findBySubjectTypeAndSubjectIdAndPage(SubjectType.COURT, courtId, page))
+            .thenReturn(Optional.of(lock));
+
+        assertTrue(lockService.getPageLock(SubjectType.COURT, courtId, page).isEmpty());
+    }
+
+    @Test
+    void getLocksByCourtIdShouldLeaveOutExpiredLocks() {
+        Lock expired = new Lock();
+        expired.setLockAcquired(ZonedDateTime.now().minusMinutes(31));
+        when(courtService.getCourtById(courtId)).thenReturn(court);
+        when(lockRepository.findAllBySubjectTypeAndSubjectId(SubjectType.COURT, courtId))
+            .thenReturn(List.of(lock, expired));
+
+        assertEquals(List.of(lock), lockService.getAllSubjectLocks(SubjectType.COURT, courtId));
+    }
+
     @Test
     void createLockShouldCreateLock() {
         UUID lockId = UUID.randomUUID();
@@ -225,6 +253,42 @@ class LockServiceTest {
             lockService.createOrUpdateLock(SubjectType.COURT, courtId, Page.GENERAL, userId));
     }
 
+    @Test
+    void renewLockShouldRenewWithASingleUpdate() {
+        ArgumentCaptor<ZonedDateTime> lockAcquired = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> expiryThreshold = ArgumentCaptor.forClass(ZonedDateTime.class);
+        when(lockRepository.renewLock(
+            eq(SubjectType.COURT.name()),
+            eq(courtId),
+            eq(Page.GENERAL.name()),
+            eq(userId),
+            lockAcquired.capture(),
+            expiryThreshold.capture()
+        )).thenReturn(1);
+
+        lockService.renewLock(SubjectType.COURT, courtId, Page.GENERAL, userId);
+
+        assertEquals(Duration.ofMinutes(30), Duration.between(expiryThreshold.getValue(), lockAcquired.getValue()));
+        verifyNoInteractions(courtService, userService);
+    }
+
+    @Test
+    void renewLockShouldThrowConflictWhenLockNotHeldByUser() {
+        when(lockRepository.renewLock(
+            eq(SubjectType.COURT.name()),
+            eq(courtId),
+            eq(Page.GENERAL.name()),
+            eq(userId),
+            any(ZonedDateTime.class),
+            any(ZonedDateTime.class)
+        )).thenReturn(0);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+            lockService.renewLock(SubjectType.COURT, courtId, Page.GENERAL, userId));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    }
+
     @Test
     void deleteLockShouldDeleteLock() {
         Page page = Page.GENERAL;
@@ -307,8 +371,13 @@ class LockServiceTest {
 
     @Test
     void deleteExpiredLocksShouldDeleteLocksBeforeConfiguredTimeout() {
-        lockService.deleteExpiredLocks();
+        when(housekeepingService.deleteLocksAcquiredBefore(any(ZonedDateTime.class))).thenReturn(2);
+        ZonedDateTime expected = ZonedDateTime.now().minusMinutes(30);
+
+        assertEquals(2, lockService.deleteExpiredLocks());
 
-        verify(lockRepository).deleteByLockAcquiredBefore(any(ZonedDateTime.class));
+        ArgumentCaptor<ZonedDateTime> cutoff = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(housekeepingService).deleteLocksAcquiredBefore(cutoff.capture());
+        assertTrue(Duration.between(expected, cutoff.getValue()).abs().toSeconds() < 5);
     }
 }
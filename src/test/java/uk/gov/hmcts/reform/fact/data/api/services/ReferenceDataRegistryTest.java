@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.fact.data.api.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
+import uk.gov.hmcts.reform.fact.data.api.repositories.AreaOfLawTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ContactDescriptionTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.CourtTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.LocalAuthorityTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.OpeningHoursTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ReferenceDataVersionRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.reform.fact.data.api.services.ReferenceDataRegistry.Snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private AreaOfLawTypeRepository areaOfLawTypeRepository;
+
+    @Mock
+    private CourtTypeRepository courtTypeRepository;
+
+    @Mock
+    private OpeningHoursTypeRepository openingHoursTypeRepository;
+
+    @Mock
+    private ContactDescriptionTypeRepository contactDescriptionTypeRepository;
+
+    @Mock
+    private RegionRepository regionRepository;
+
+    @Mock
+    private ServiceAreaRepository serviceAreaRepository;
+
+    @Mock
+    private LocalAuthorityTypeRepository localAuthorityTypeRepository;
+
+    @Mock
+    private ReferenceDataVersionRepository referenceDataVersionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @BeforeEach
+    void setup() {
+        referenceDataRegistry = new ReferenceDataRegistry(
+            areaOfLawTypeRepository,
+            courtTypeRepository,
+            openingHoursTypeRepository,
+            contactDescriptionTypeRepository,
+            regionRepository,
+            serviceAreaRepository,
+            localAuthorityTypeRepository,
+            referenceDataVersionRepository,
+            transactionManager
+        );
+    }
+
+    @Test
+    void getSnapshotLoadsOnceAndIndexesById() {
+        CourtType courtType = CourtType.builder().id(UUID.randomUUID()).name("Crown Court").build();
+        when(courtTypeRepository.findAll()).thenReturn(List.of(courtType));
+
+        Snapshot first = referenceDataRegistry.getSnapshot();
+        Snapshot second = referenceDataRegistry.getSnapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.courtTypes()).containsEntry(courtType.getId(), courtType);
+        verify(courtTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getSnapshotRecordsTheVersionItWasLoadedAt() {
+        when(referenceDataVersionRepository.findCurrentVersion()).thenReturn(7L);
+
+        assertThat(referenceDataRegistry.getSnapshot().version()).isEqualTo(7L);
+    }
+
+    @Test
+    void reloadIfOlderThanOnlyReloadsAnOlderSnapshot() {
+        when(referenceDataVersionRepository.findCurrentVersion()).thenReturn(3L, 4L);
+
+        Snapshot current = referenceDataRegistry.getSnapshot();
+        assertThat(referenceDataRegistry.reloadIfOlderThan(3L)).isSameAs(current);
+
+        assertThat(referenceDataRegistry.reloadIfOlderThan(4L).version()).isEqualTo(4L);
+        verify(referenceDataVersionRepository, times(2)).findCurrentVersion();
+    }
+
+    @Test
+    void snapshotMapsAreImmutable() {
+        Map<UUID, CourtType> courtTypes = referenceDataRegistry.getSnapshot().courtTypes();
+
+        assertThatThrownBy(() -> courtTypes.put(UUID.randomUUID(), new CourtType()))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void onApplicationReadyDoesNotFailStartupWhenLoadFails() {
+        when(courtTypeRepository.findAll()).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatCode(() -> referenceDataRegistry.onApplicationReady()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void findAllByIdPreservesRequestOrderAndSkipsUnknownAndDuplicateIds() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        Map<UUID, String> values = Map.of(firstId, "first", secondId, "second");
+
+        List<String> result = Snapshot.findAllById(
+            values,
+            Arrays.asList(secondId, UUID.randomUUID(), null, firstId, secondId)
+        );
+
+        assertThat(result).containsExactly("second", "first");
+    }
+
+    @Test
+    void findAllByIdReturnsEmptyListForNullIds() {
+        assertThat(Snapshot.findAllById(Map.of(), null)).isEmpty();
+    }
+}
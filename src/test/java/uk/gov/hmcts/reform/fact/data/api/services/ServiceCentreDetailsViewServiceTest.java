@@ -11,12 +11,14 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAreasOfLaw;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreContactDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
-import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
 
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -26,9 +28,6 @@ class ServiceCentreDetailsViewServiceTest {
     @Mock
     private TypesService typesService;
 
-    @Mock
-    private ServiceAreaRepository serviceAreaRepository;
-
     @InjectMocks
     private ServiceCentreDetailsViewService serviceCentreDetailsViewService;
 
@@ -38,7 +37,6 @@ class ServiceCentreDetailsViewServiceTest {
 
         assertThat(result).isNull();
         verifyNoInteractions(typesService);
-        verifyNoInteractions(serviceAreaRepository);
     }
 
     @Test
@@ -52,7 +50,6 @@ class ServiceCentreDetailsViewServiceTest {
 
         assertThat(result).isSameAs(serviceCentreDetails);
         verifyNoInteractions(typesService);
-        verifyNoInteractions(serviceAreaRepository);
     }
 
     @Test
@@ -66,7 +63,7 @@ class ServiceCentreDetailsViewServiceTest {
             .nameCy("Teulu")
             .build();
 
-        when(serviceAreaRepository.findAllById(List.of(serviceAreaId1, serviceAreaId2)))
+        when(typesService.getServiceAreasByIds(List.of(serviceAreaId1, serviceAreaId2)))
             .thenReturn(List.of(serviceArea));
 
         ServiceCentreDetails serviceCentreDetails = ServiceCentreDetails.builder()
@@ -208,4 +205,38 @@ class ServiceCentreDetailsViewServiceTest {
         assertThat(areasOfLaw1.getAreasOfLawDetails()).containsExactly(areaOfLawType);
         assertThat(areasOfLaw2.getAreasOfLawDetails()).containsExactly(areaOfLawType);
     }
+
+    @Test
+    void prepareDetailsViewsSharesResolvedTypesAndStubsAcrossServiceCentres() {
+        UUID serviceAreaId = UUID.randomUUID();
+        UUID missingServiceAreaId = UUID.randomUUID();
+
+        ServiceArea serviceArea = ServiceArea.builder()
+            .id(serviceAreaId)
+            .name("Family")
+            .build();
+
+        when(typesService.getServiceAreasByIds(List.of(serviceAreaId, missingServiceAreaId)))
+            .thenReturn(List.of(serviceArea));
+
+        ServiceCentreDetails first = ServiceCentreDetails.builder()
+            .serviceAreaIds(List.of(serviceAreaId, missingServiceAreaId))
+            .build();
+        ServiceCentreDetails second = ServiceCentreDetails.builder()
+            .serviceAreaIds(List.of(missingServiceAreaId, serviceAreaId))
+            .build();
+
+        List<ServiceCentreDetails> result = serviceCentreDetailsViewService.prepareDetailsViews(
+            List.of(first, second)
+        );
+
+        assertThat(result).containsExactly(first, second);
+        assertThat(first.getServiceAreaDetails().get(0)).isSameAs(serviceArea);
+        assertThat(second.getServiceAreaDetails().get(1)).isSameAs(serviceArea);
+        assertThat(second.getServiceAreaDetails().get(0))
+            .isSameAs(first.getServiceAreaDetails().get(1))
+            .extracting(ServiceArea::getId)
+            .isEqualTo(missingServiceAreaId);
+        verify(typesService, times(1)).getServiceAreasByIds(anyList());
+    }
 }
@@ -10,14 +10,14 @@ import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentre;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.CatchmentType;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.IdAndLastUpdatedAt;
 import uk.gov.hmcts.reform.fact.data.api.entities.types.NameAndId;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
-import uk.gov.hmcts.reform.fact.data.api.repositories.AuditRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreDetailsRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreRepository;
-import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -36,10 +36,7 @@ class ServiceCentreServiceTest {
     private ServiceCentreRepository serviceCentreRepository;
 
     @Mock
-    private AuditRepository auditRepository;
-
-    @Mock
-    private UserRepository userRepository;
+    private HousekeepingService housekeepingService;
 
     @Mock
     private ServiceCentreDetailsRepository serviceCentreDetailsRepository;
@@ -133,6 +130,30 @@ class ServiceCentreServiceTest {
         assertThat(exception.getMessage()).isEqualTo("Service centre not found, slug: missing-service-centre");
     }
 
+    @Test
+    void getServiceCentreLastUpdatedAtBySlugReturnsVersionWhenFound() {
+        IdAndLastUpdatedAt version = new IdAndLastUpdatedAt(UUID.randomUUID(), ZonedDateTime.now());
+
+        when(serviceCentreRepository.findIdAndLastUpdatedAtBySlug("test-service-centre"))
+            .thenReturn(Optional.of(version));
+
+        assertThat(serviceCentreService.getServiceCentreLastUpdatedAtBySlug("test-service-centre"))
+            .isEqualTo(version);
+    }
+
+    @Test
+    void getServiceCentreLastUpdatedAtByIdThrowsNotFoundWhenMissing() {
+        UUID serviceCentreId = UUID.randomUUID();
+        when(serviceCentreRepository.findIdAndLastUpdatedAtById(serviceCentreId)).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(
+            NotFoundException.class,
+            () -> serviceCentreService.getServiceCentreLastUpdatedAtById(serviceCentreId)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo("Service centre not found, ID: " + serviceCentreId);
+    }
+
     @Test
     void getServiceCentreByNameReturnsServiceCentre() {
         ServiceCentre serviceCentre = ServiceCentre.builder().name("Bulk Scan Centre").build();
@@ -236,8 +257,8 @@ class ServiceCentreServiceTest {
         long deleted = serviceCentreService.deleteServiceCentresByNamePrefix("SC Delete", true);
 
         assertThat(deleted).isEqualTo(2);
-        verify(userRepository).removeServiceCentreFromAllFavourites(first.getId());
-        verify(userRepository).removeServiceCentreFromAllFavourites(second.getId());
+        verify(housekeepingService).deleteAuditsOfSubjects(List.of(first.getId(), second.getId()));
+        verify(housekeepingService).removeServiceCentresFromFavourites(List.of(first.getId(), second.getId()));
         verify(serviceCentreRepository).deleteAllInBatch(serviceCentres);
     }
 
@@ -264,4 +285,24 @@ class ServiceCentreServiceTest {
         assertThat(result).isEmpty();
         verify(serviceCentreRepository).findAllNameAndId();
     }
+
+    @Test
+    void getAllServiceCentreLastUpdatedAtsReturnsRepositoryResults() {
+        List<IdAndLastUpdatedAt> expected = List.of(new IdAndLastUpdatedAt(UUID.randomUUID(), ZonedDateTime.now()));
+
+        when(serviceCentreRepository.findAllIdAndLastUpdatedAtByOrderByNameAsc()).thenReturn(expected);
+
+        assertThat(serviceCentreService.getAllServiceCentreLastUpdatedAts()).isEqualTo(expected);
+    }
+
+    @Test
+    void getServiceCentreDetailsByIdsReturnsServiceCentresInRequestedOrder() {
+        ServiceCentreDetails first = ServiceCentreDetails.builder().id(UUID.randomUUID()).build();
+        ServiceCentreDetails second = ServiceCentreDetails.builder().id(UUID.randomUUID()).build();
+        List<UUID> ids = List.of(second.getId(), first.getId());
+
+        when(serviceCentreDetailsRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+        assertThat(serviceCentreService.getServiceCentreDetailsByIds(ids)).containsExactly(second, first);
+    }
 }
@@ -3,9 +3,9 @@ package uk.gov.hmcts.reform.fact.data.api.services;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
 import uk.gov.hmcts.reform.fact.data.api.entities.ContactDescriptionType;
 import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
@@ -13,11 +13,13 @@ import uk.gov.hmcts.reform.fact.data.api.entities.LocalAuthorityType;
 import uk.gov.hmcts.reform.fact.data.api.entities.OpeningHourType;
 import uk.gov.hmcts.reform.fact.data.api.entities.Region;
 import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.fact.data.api.repositories.AreaOfLawTypeRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ContactDescriptionTypeRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.CourtTypeRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.LocalAuthorityTypeRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.OpeningHoursTypeRepository;
+import uk.gov.hmcts.reform.fact.data.api.repositories.ReferenceDataVersionRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.RegionRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceAreaRepository;
 
@@ -25,6 +27,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,7 +56,12 @@ class TypesServiceTest {
     @Mock
     private LocalAuthorityTypeRepository localAuthorityTypeRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ReferenceDataVersionRepository referenceDataVersionRepository;
+
     private TypesService typesService;
 
     private List<AreaOfLawType> areaOfLawTypes;
@@ -64,6 +74,18 @@ class TypesServiceTest {
 
     @BeforeEach
     void setup() {
+        typesService = new TypesService(new ReferenceDataRegistry(
+            areaOfLawTypeRepository,
+            courtTypeRepository,
+            openingHoursTypeRepository,
+            contactDescriptionTypeRepository,
+            regionRepository,
+            serviceAreaRepository,
+            localAuthorityTypeRepository,
+            referenceDataVersionRepository,
+            transactionManager
+        ));
+
         areaOfLawTypes = List.of(
             AreaOfLawType.builder()
                 .id(UUID.randomUUID())
@@ -128,7 +150,7 @@ class TypesServiceTest {
     @Test
     void getAllAreasOfLawTypesByIdsReturnsAreasOfLawTypesWhenFound() {
         List<UUID> ids = List.of(areaOfLawTypes.get(0).getId());
-        when(areaOfLawTypeRepository.findAllById(ids)).thenReturn(areaOfLawTypes);
+        when(areaOfLawTypeRepository.findAll()).thenReturn(areaOfLawTypes);
 
         List<AreaOfLawType> result = typesService.getAllAreasOfLawTypesByIds(ids);
 
@@ -138,13 +160,64 @@ class TypesServiceTest {
     @Test
     void getAllAreasOfLawTypesByIdsReturnsEmptyListWhenNoneFound() {
         List<UUID> ids = List.of(UUID.randomUUID());
-        when(areaOfLawTypeRepository.findAllById(ids)).thenReturn(List.of());
+        when(areaOfLawTypeRepository.findAll()).thenReturn(areaOfLawTypes);
 
         List<AreaOfLawType> result = typesService.getAllAreasOfLawTypesByIds(ids);
 
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getCourtTypeByIdReturnsCourtTypeWhenFound() {
+        when(courtTypeRepository.findAll()).thenReturn(courtTypes);
+
+        CourtType result = typesService.getCourtTypeById(courtTypes.get(0).getId());
+
+        assertThat(result).isEqualTo(courtTypes.get(0));
+    }
+
+    @Test
+    void getCourtTypeByIdThrowsNotFoundExceptionWhenMissing() {
+        UUID courtTypeId = UUID.randomUUID();
+
+        NotFoundException exception = assertThrows(
+            NotFoundException.class, () -> typesService.getCourtTypeById(courtTypeId)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo("Court type with ID " + courtTypeId + " not found");
+    }
+
+    @Test
+    void getServiceAreasByIdsReturnsServiceAreasWhenFound() {
+        when(serviceAreaRepository.findAll()).thenReturn(serviceAreas);
+
+        List<ServiceArea> result = typesService.getServiceAreasByIds(List.of(serviceAreas.get(0).getId()));
+
+        assertThat(result).isEqualTo(serviceAreas);
+    }
+
+    @Test
+    void lookupsAreServedFromMemoryAfterFirstLoad() {
+        when(areaOfLawTypeRepository.findAll()).thenReturn(areaOfLawTypes);
+
+        typesService.getAreaOfLawTypes();
+        typesService.getAllAreasOfLawTypesByIds(List.of(areaOfLawTypes.get(0).getId()));
+        typesService.getCourtTypes();
+
+        verify(areaOfLawTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void reloadReferenceDataReadsFromRepositoriesAgain() {
+        when(areaOfLawTypeRepository.findAll()).thenReturn(List.of(), areaOfLawTypes);
+
+        assertThat(typesService.getAreaOfLawTypes()).isEmpty();
+
+        typesService.reloadReferenceData();
+
+        assertThat(typesService.getAreaOfLawTypes()).isEqualTo(areaOfLawTypes);
+    }
+
     @Test
     void getCourtTypesReturnsCourtTypesWhenFound() {
         when(courtTypeRepository.findAll()).thenReturn(courtTypes);
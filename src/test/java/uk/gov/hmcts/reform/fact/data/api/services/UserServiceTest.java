@@ -1,13 +1,17 @@
 package uk.gov.hmcts.reform.fact.data.api.services;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.fact.data.api.dto.AllLocation;
 import uk.gov.hmcts.reform.fact.data.api.dto.FavouriteReference;
 import uk.gov.hmcts.reform.fact.data.api.dto.FavouriteStatus;
@@ -23,6 +27,8 @@ import uk.gov.hmcts.reform.fact.data.api.repositories.ServiceCentreRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository;
 import uk.gov.hmcts.reform.fact.data.api.repositories.UserRepository.FavouriteLocationReference;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +38,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,178 +60,78 @@ class UserServiceTest {
     @Mock
     private ServiceCentreRepository serviceCentreRepository;
 
+    @Mock
+    private HousekeepingService housekeepingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
-    @Test
-    void createOrUpdateUserShouldSaveUserWithCurrentLoginTime() {
-        User user = new User();
-        user.setRole(UserRole.ADMIN);
-        ZonedDateTime beforeSave = ZonedDateTime.now();
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userService, "lastLoginDebounceMinutes", 15L);
+    }
 
-        when(userRepository.save(user)).thenReturn(user);
+    @Test
+    void createOrUpdateUserShouldUpsertWithCurrentLoginTimeAndDebounceThreshold() {
+        User user = createUser("login@justice.gov.uk", UUID.randomUUID(), UserRole.ADMIN, null);
+        User stored = createUser("login@justice.gov.uk", user.getSsoId(), UserRole.ADMIN, ZonedDateTime.now());
+        ArgumentCaptor<LocalDateTime> lastLogin = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> lastLoginBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime beforeLogin = LocalDateTime.now(ZoneOffset.UTC);
+        when(userRepository.upsertLogin(any(UUID.class), isNull(), eq("login@justice.gov.uk"), eq(user.getSsoId()),
+                                        eq("ADMIN"), lastLogin.capture(), lastLoginBefore.capture()))
+            .thenReturn(Optional.of(stored));
 
         User result = userService.createOrUpdateLastLoginUser(user);
 
-        assertThat(result.getLastLogin()).isNotNull();
-        assertThat(result.getLastLogin()).isAfterOrEqualTo(beforeSave);
+        assertThat(result).isSameAs(stored);
+        assertThat(lastLogin.getValue()).isAfterOrEqualTo(beforeLogin);
+        assertThat(lastLoginBefore.getValue()).isEqualTo(lastLogin.getValue().minusMinutes(15));
     }
 
     @Test
-    void createOrUpdateUserShouldSaveViewerRole() {
-        User user = new User();
-        user.setRole(UserRole.VIEWER);
-
-        when(userRepository.save(user)).thenReturn(user);
+    void createOrUpdateUserShouldMatchByIdAndPassTheViewerRole() {
+        User user = createUser("viewer@justice.gov.uk", UUID.randomUUID(), UserRole.VIEWER, null);
+        user.setId(USER_ID);
+        when(userRepository.upsertLogin(any(UUID.class), eq(USER_ID), eq("viewer@justice.gov.uk"),
+                                        eq(user.getSsoId()), eq("VIEWER"), any(), any()))
+            .thenReturn(Optional.of(user));
 
         User result = userService.createOrUpdateLastLoginUser(user);
 
         assertThat(result.getRole()).isEqualTo(UserRole.VIEWER);
-        verify(userRepository).save(user);
     }
 
     @Test
-    void createOrUpdateUserShouldThrowExceptionWhenSaveFails() {
-        User user = new User();
-        user.setRole(UserRole.ADMIN);
-        when(userRepository.save(any())).thenThrow(new RuntimeException("Database error"));
+    void createOrUpdateUserShouldKeepTheExistingRoleWhenNoneIsGiven() {
+        User user = createUser("norole@justice.gov.uk", UUID.randomUUID(), null, null);
+        when(userRepository.upsertLogin(any(UUID.class), isNull(), eq("norole@justice.gov.uk"),
+                                        eq(user.getSsoId()), isNull(), any(), any()))
+            .thenReturn(Optional.of(user));
 
-        assertThrows(RuntimeException.class, () -> userService.createOrUpdateLastLoginUser(user));
+        assertThat(userService.createOrUpdateLastLoginUser(user)).isSameAs(user);
     }
 
     @Test
-    void updateExistingUserShouldPreserveEmailAndSsoidButUpdateLastLogin() {
-        UUID userId = UUID.randomUUID();
-        UUID existingSsoId = UUID.randomUUID();
-
-        User existingUser = new User();
-        existingUser.setId(userId);
-        existingUser.setEmail("existing@email.com");
-        existingUser.setSsoId(existingSsoId);
-        existingUser.setRole(UserRole.ADMIN);
-        List<UUID> favouriteCourts = List.of(UUID.randomUUID());
-        List<UUID> favouriteServiceCentres = List.of(UUID.randomUUID());
-        existingUser.setFavouriteCourts(favouriteCourts);
-        existingUser.setFavouriteServiceCentres(favouriteServiceCentres);
-
-        User updatedUser = new User();
-        updatedUser.setId(userId);
-        updatedUser.setEmail("new@email.com");
-        updatedUser.setSsoId(UUID.randomUUID());
-        updatedUser.setRole(UserRole.SUPER_ADMIN);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            assertThat(savedUser.getId()).isEqualTo(userId);
-            assertThat(savedUser.getEmail()).isEqualTo("existing@email.com");
-            assertThat(savedUser.getSsoId()).isEqualTo(existingSsoId);
-            assertThat(savedUser.getRole()).isEqualTo(UserRole.SUPER_ADMIN);
-            assertThat(savedUser.getFavouriteCourts()).isEqualTo(favouriteCourts);
-            assertThat(savedUser.getFavouriteServiceCentres()).isEqualTo(favouriteServiceCentres);
-            assertThat(savedUser.getLastLogin()).isNotNull();
-            return savedUser;
-        });
-
-        userService.createOrUpdateLastLoginUser(updatedUser);
-    }
+    void createOrUpdateUserShouldThrowNotFoundWhenTheUserIsDeletedWhileLoggingIn() {
+        User user = createUser("deleted@justice.gov.uk", UUID.randomUUID(), UserRole.ADMIN, null);
+        when(userRepository.upsertLogin(any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Optional.empty());
 
-    @Test
-    void updateExistingUserShouldPreserveEmailAndUpdateLastLoginWhenIdExists() {
-        UUID userId = UUID.randomUUID();
-        String existingEmail = "existing@email.com";
-        UUID existingSsoId = UUID.randomUUID();
-
-        User existingUser = new User();
-        existingUser.setId(userId);
-        existingUser.setEmail(existingEmail);
-        existingUser.setSsoId(existingSsoId);
-        existingUser.setRole(UserRole.ADMIN);
-
-        User updatedUser = new User();
-        updatedUser.setId(userId);
-        updatedUser.setEmail("new@email.com");
-        updatedUser.setSsoId(UUID.randomUUID());
-        updatedUser.setRole(UserRole.SUPER_ADMIN);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            assertThat(savedUser.getId()).isEqualTo(userId);
-            assertThat(savedUser.getEmail()).isEqualTo(existingEmail);
-            assertThat(savedUser.getSsoId()).isEqualTo(existingSsoId);
-            assertThat(savedUser.getRole()).isEqualTo(UserRole.SUPER_ADMIN);
-            assertThat(savedUser.getLastLogin()).isNotNull();
-            return savedUser;
-        });
-
-        userService.createOrUpdateLastLoginUser(updatedUser);
+        assertThrows(NotFoundException.class, () -> userService.createOrUpdateLastLoginUser(user));
     }
 
     @Test
-    void updateExistingUserShouldPreserveEmailAndUpdateLastLoginWhenEmailExists() {
-        UUID existingId = UUID.randomUUID();
-        String existingEmail = "existing@email.com";
-        UUID existingSsoId = UUID.randomUUID();
-
-        User existingUser = new User();
-        existingUser.setId(existingId);
-        existingUser.setEmail(existingEmail);
-        existingUser.setSsoId(existingSsoId);
-        existingUser.setRole(UserRole.ADMIN);
-
-        User updatedUser = new User();
-        updatedUser.setEmail(existingEmail);
-        updatedUser.setSsoId(UUID.randomUUID());
-        updatedUser.setRole(UserRole.SUPER_ADMIN);
-
-        when(userRepository.findByEmail(existingEmail)).thenReturn(Optional.of(existingUser));
-
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            assertThat(savedUser.getId()).isEqualTo(existingId);
-            assertThat(savedUser.getEmail()).isEqualTo(existingEmail);
-            assertThat(savedUser.getSsoId()).isEqualTo(existingSsoId);
-            assertThat(savedUser.getRole()).isEqualTo(UserRole.SUPER_ADMIN);
-            assertThat(savedUser.getLastLogin()).isNotNull();
-            return savedUser;
-        });
-
-        userService.createOrUpdateLastLoginUser(updatedUser);
-    }
+    void createOrUpdateUserShouldThrowExceptionWhenUpsertFails() {
+        User user = createUser("error@justice.gov.uk", UUID.randomUUID(), UserRole.ADMIN, null);
+        when(userRepository.upsertLogin(any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new RuntimeException("Database error"));
 
-    @Test
-    void updateExistingUserShouldPreserveSsoIdAndUpdateLastLoginWhenSsoIdExists() {
-        UUID existingId = UUID.randomUUID();
-        String existingEmail = "existing@email.com";
-        UUID existingSsoId = UUID.randomUUID();
-
-        User existingUser = new User();
-        existingUser.setId(existingId);
-        existingUser.setEmail(existingEmail);
-        existingUser.setSsoId(existingSsoId);
-        existingUser.setRole(UserRole.ADMIN);
-
-        User updatedUser = new User();
-        updatedUser.setSsoId(existingSsoId);
-        updatedUser.setEmail("new@email.com");
-        updatedUser.setRole(UserRole.SUPER_ADMIN);
-
-        when(userRepository.findBySsoId(existingSsoId)).thenReturn(Optional.of(existingUser));
-
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-            User savedUser = invocation.getArgument(0);
-            assertThat(savedUser.getId()).isEqualTo(existingId);
-            assertThat(savedUser.getEmail()).isEqualTo(existingEmail);
-            assertThat(savedUser.getSsoId()).isEqualTo(existingSsoId);
-            assertThat(savedUser.getRole()).isEqualTo(UserRole.SUPER_ADMIN);
-            assertThat(savedUser.getLastLogin()).isNotNull();
-            return savedUser;
-        });
-
-        userService.createOrUpdateLastLoginUser(updatedUser);
+        assertThrows(RuntimeException.class, () -> userService.createOrUpdateLastLoginUser(user));
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -431,14 +339,13 @@ class UserServiceTest {
 
     @Test
     void deleteInactiveUsersShouldRemoveUsersNotLoggedInWithinRetentionPeriod() {
-        List<User> inactiveUsers = List.of(new User());
-
-        when(userRepository.deleteAllByLastLoginBefore(any())).thenReturn(inactiveUsers);
+        when(housekeepingService.deleteUsersLastLoggedInBefore(any())).thenReturn(1);
 
         final int deletedUsers = userService.deleteInactiveUsers();
 
         assertThat(deletedUsers).isEqualTo(1);
-        verify(userRepository).deleteAllByLastLoginBefore(any());
+        verify(housekeepingService).deleteUsersLastLoggedInBefore(any());
+        verify(eventPublisher).publishEvent(new UsersDeletedEvent(1));
     }
 
     private User createUser(String email, UUID ssoId, UserRole role, ZonedDateTime lastLogin) {
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.fact.data.api.utils;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.reform.fact.data.api.entities.AreaOfLawType;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtCodes;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtCounterServiceOpeningHours;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDxCode;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtType;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAddress;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreAreasOfLaw;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.types.AddressType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowFlattenerTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+    private final CsvUtil csvUtil = new CsvUtil();
+    private final CsvRowFlattener flattener = new CsvRowFlattener();
+
+    @Test
+    void flattenMatchesJsonPathForEnrichedCourt() {
+        CourtDetails court = enrichedCourt();
+
+        assertThat(flattener.flatten(court)).isEqualTo(csvUtil.flattenCourtNode(mapper.valueToTree(court)));
+    }
+
+    @Test
+    void flattenMatchesJsonPathForCourtWithIdsOnlyAndNullEntries() {
+        CourtAddress address = CourtAddress.builder()
+            .addressLine1(" ")
+            .areasOfLaw(Arrays.asList(UUID.randomUUID(), null))
+            .courtTypes(List.of())
+            .build();
+        CourtDetails court = CourtDetails.builder()
+            .openOnCath(true)
+            .courtAddresses(Arrays.asList(address, null))
+            .courtCodes(Arrays.asList((CourtCodes) null))
+            .courtDxCodes(Arrays.asList(CourtDxCode.builder().dxCode("N/A").build(), null))
+            .courtAreasOfLaw(Arrays.asList(
+                CourtAreasOfLaw.builder().areasOfLaw(Arrays.asList(UUID.randomUUID(), null)).build(),
+                null
+            ))
+            .courtCounterServiceOpeningHours(List.of(
+                CourtCounterServiceOpeningHours.builder().courtTypes(List.of(UUID.randomUUID())).build()
+            ))
+            .build();
+
+        assertThat(flattener.flatten(court)).isEqualTo(csvUtil.flattenCourtNode(mapper.valueToTree(court)));
+    }
+
+    @Test
+    void flattenMatchesJsonPathForEmptyCourt() {
+        CourtDetails court = new CourtDetails();
+
+        assertThat(flattener.flatten(court)).isEqualTo(csvUtil.flattenCourtNode(mapper.valueToTree(court)));
+    }
+
+    @Test
+    void flattenMatchesJsonPathForServiceCentre() {
+        ServiceCentreDetails serviceCentre = serviceCentre();
+
+        assertThat(flattener.flatten(serviceCentre))
+            .isEqualTo(csvUtil.flattenCourtNode(mapper.valueToTree(serviceCentre)));
+    }
+
+    @Test
+    void flattenMatchesJsonPathForServiceCentreWithServiceAreaIds() {
+        ServiceCentreDetails serviceCentre = ServiceCentreDetails.builder()
+            .name("Unenriched Service Centre")
+            .open(false)
+            .serviceAreaIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+            .serviceCentreAddresses(Arrays.asList((ServiceCentreAddress) null))
+            .serviceCentreAreasOfLaw(List.of())
+            .build();
+
+        assertThat(flattener.flatten(serviceCentre))
+            .isEqualTo(csvUtil.flattenCourtNode(mapper.valueToTree(serviceCentre)));
+    }
+
+    @Test
+    void flattenReusesTheRowWithoutLeakingValuesBetweenRows() {
+        Map<String, Object> courtRow = flattener.flatten(enrichedCourt());
+        Map<String, Object> serviceCentreRow = flattener.flatten(serviceCentre());
+
+        assertThat(serviceCentreRow).isSameAs(courtRow);
+        assertThat(serviceCentreRow)
+            .containsKeys(CsvUtil.COLUMNS.toArray(String[]::new))
+            .containsEntry(CsvUtil.NUMBER, null)
+            .containsEntry(CsvUtil.DX_NUMBER, "");
+    }
+
+    private static CourtDetails enrichedCourt() {
+        AreaOfLawType family = AreaOfLawType.builder()
+            .id(UUID.randomUUID())
+            .name("Family")
+            .externalLink("https://example.com/family")
+            .displayName("Family law")
+            .build();
+        AreaOfLawType crime = AreaOfLawType.builder().id(UUID.randomUUID()).name("Crime").build();
+        CourtType crown = CourtType.builder().id(UUID.randomUUID()).name("Crown Court").build();
+        CourtType county = CourtType.builder().id(UUID.randomUUID()).name("County Court").build();
+
+        return CourtDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Test Court, \"Main\" Building")
+            .slug("test-court")
+            .open(true)
+            .courtAddresses(List.of(
+                CourtAddress.builder()
+                    .addressLine1("1 High Street")
+                    .addressLine2("Floor 2")
+                    .townCity("London")
+                    .county("Greater London")
+                    .postcode("SW1A 1AA")
+                    .epimId("123456")
+                    .lat(new BigDecimal("51.5014"))
+                    .lon(new BigDecimal("-0.1419"))
+                    .addressType(AddressType.VISIT_US)
+                    .areasOfLawDetails(List.of(family, crime))
+                    .courtTypeDetails(List.of(crown, county))
+                    .build(),
+                CourtAddress.builder()
+                    .addressLine1("PO Box 1")
+                    .postcode("SW1A 2AA")
+                    .addressType(AddressType.WRITE_TO_US)
+                    .courtTypeDetails(List.of(crown))
+                    .build()
+            ))
+            .courtCodes(List.of(
+                CourtCodes.builder().crownCourtCode(401).countyCourtCode(123).magistrateCourtCode(2345).build()
+            ))
+            .courtDxCodes(List.of(
+                CourtDxCode.builder().dxCode("DX 123 London").build(),
+                CourtDxCode.builder().dxCode("DX 456 London").build()
+            ))
+            .courtAreasOfLaw(List.of(
+                CourtAreasOfLaw.builder().areasOfLawDetails(List.of(family, crime)).build()
+            ))
+            .build();
+    }
+
+    private static ServiceCentreDetails serviceCentre() {
+        return ServiceCentreDetails.builder()
+            .id(UUID.randomUUID())
+            .name("Test Service Centre")
+            .slug("test-service-centre")
+            .serviceAreaDetails(Arrays.asList(
+                ServiceArea.builder().name("Money claims").build(),
+                ServiceArea.builder().build(),
+                null
+            ))
+            .serviceCentreAddresses(List.of(
+                ServiceCentreAddress.builder()
+                    .addressLine2("Only line 2")
+                    .townCity("Birmingham")
+                    .postcode("B1 1AA")
+                    .lat(new BigDecimal("52.4862"))
+                    .lon(new BigDecimal("-1.8904"))
+                    .addressType(AddressType.VISIT_OR_CONTACT_US)
+                    .build()
+            ))
+            .serviceCentreAreasOfLaw(List.of(
+                ServiceCentreAreasOfLaw.builder()
+                    .areasOfLawDetails(List.of(AreaOfLawType.builder().name("Money claims").build()))
+                    .build()
+            ))
+            .build();
+    }
+}
@@ -7,9 +7,13 @@ import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fact.data.api.entities.CourtDetails;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceArea;
+import uk.gov.hmcts.reform.fact.data.api.entities.ServiceCentreDetails;
 import uk.gov.hmcts.reform.fact.data.api.errorhandling.exceptions.JsonConvertException;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -256,19 +260,32 @@ class CsvUtilTest {
     }
 
     @Test
-    void shouldConvertJsonToCsv() {
-        ArrayNode root = mapper.createArrayNode();
-        ObjectNode court = root.addObject();
-        court.put("name", "Test Court");
-        court.put("slug", "test-court");
-
-        String csv = csvUtil.convertJsonToCsv(root);
-
-        assertThat(csv)
-            .contains("name,lat,lon,number,cci_code,magistrate_code,slug,types,open,dx_number,areas_of_law,addresses");
-        assertThat(csv)
-            .contains("Test Court")
-            .contains("test-court");
+    void shouldRenderHeaderAndRows() {
+        CourtDetails court = CourtDetails.builder().name("Test Court, \"Main\"").slug("test-court").build();
+        ServiceCentreDetails serviceCentre = ServiceCentreDetails.builder()
+            .name("Test Service Centre")
+            .serviceAreaDetails(List.of(ServiceArea.builder().name("Money claims").build()))
+            .build();
+
+        List<String> rows = csvUtil.renderRows(List.of(court, serviceCentre));
+
+        assertThat(csvUtil.renderHeader())
+            .isEqualTo("name,lat,lon,number,cci_code,magistrate_code,slug,types,open,dx_number,areas_of_law,"
+                           + "addresses\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0))
+            .startsWith("\"Test Court, \"\"Main\"\"\"")
+            .contains("test-court")
+            .endsWith("\n");
+        assertThat(rows.get(1))
+            .contains("Test Service Centre")
+            .contains("Money claims");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenRenderingUnknownLocationType() {
+        assertThatThrownBy(() -> csvUtil.renderRows(List.of("not a location")))
+            .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -393,10 +410,7 @@ class CsvUtilTest {
             tools.jackson.dataformat.csv.CsvSchema.class)))
             .thenThrow(new JacksonException("Mock failure") {});
 
-        ArrayNode root = mapper.createArrayNode();
-        root.addObject();
-
-        assertThatThrownBy(() -> utilWithMock.convertJsonToCsv(root))
+        assertThatThrownBy(() -> utilWithMock.renderRows(List.of(new CourtDetails())))
             .isInstanceOf(JsonConvertException.class)
             .hasMessageContaining("Failed to convert JSON to CSV: Mock failure");
     }